@@ -4,29 +4,29 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import com.shoxys.budgetbuddy_backend.Controllers.TransactionController;
-import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-/** Assembles Transaction entities into HATEOAS EntityModel with relevant links. */
+/** Assembles transaction views into HATEOAS EntityModel with relevant links. */
 @Component
 public class TransactionModelAssembler
-    implements RepresentationModelAssembler<Transaction, EntityModel<Transaction>> {
+    implements RepresentationModelAssembler<TransactionView, EntityModel<TransactionView>> {
   private static final Logger logger = LoggerFactory.getLogger(TransactionModelAssembler.class);
 
   /**
-   * Converts a Transaction entity into an EntityModel with HATEOAS links.
+   * Converts a transaction view into an EntityModel with HATEOAS links.
    *
-   * @param transaction the transaction entity
+   * @param transaction the transaction view
    * @return the EntityModel with self and collection links
    */
   @Override
-  public EntityModel<Transaction> toModel(Transaction transaction) {
+  public EntityModel<TransactionView> toModel(TransactionView transaction) {
     logger.debug("Assembling HATEOAS model for transaction ID: {}", transaction.getId());
-    EntityModel<Transaction> model =
+    EntityModel<TransactionView> model =
         EntityModel.of(
             transaction,
             // Self link
@@ -26,6 +26,7 @@ public final class Constants {
   public static final String JWT_HEADER = "Authorization";
   public static final String JWT_PREFIX = "Bearer ";
   public static final String JWT_COOKIE_NAME = "jwt";
+  public static final String JWT_USER_ID_CLAIM = "uid";
   public static final String COOKIE_PATH = "/";
   public static final long COOKIE_MAX_AGE_SECONDS = 7 * 24 * 60 * 60; // 7 days
   public static final String COOKIE_SAME_SITE = "Lax";
@@ -36,21 +37,34 @@ public final class Constants {
   public static final String CSV_DELIMITER = ",";
   public static final String CSV_CONTENT_TYPE = "text/csv";
   public static final String CSV_FILE_EXTENSION = ".csv";
-  public static final List<DateTimeFormatter> CSV_DATE_FORMATTERS =
+  public static final int CSV_IMPORT_BATCH_SIZE = 500;
+  public static final int CSV_IMPORT_QUEUE_CAPACITY = 2 * CSV_IMPORT_BATCH_SIZE;
+  public static final int CSV_DATE_SAMPLE_ROWS = 20;
+  public static final int TRANSACTION_FINGERPRINT_LENGTH = 64;
+  public static final int TRANSACTION_EXPORT_FLUSH_ROWS = 500;
+  public static final String TRANSACTION_EXPORT_FILE_NAME = "transactions";
+  public static final int TRANSACTION_DELETE_CHUNK_SIZE = 1000;
+  public static final int TRANSACTION_BATCH_MAX_OPERATIONS = 200;
+  public static final List<String> CSV_DATE_PATTERNS =
       List.of(
-          DateTimeFormatter.ofPattern("d MMM yy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("dd/MM/yyyy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("d/MM/yyyy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("dd-MM-yyyy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("d-MM-yyyy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("MM/dd/yyyy", Locale.ENGLISH),
-          DateTimeFormatter.ofPattern("M/d/yyyy", Locale.ENGLISH));
+          "d MMM yy",
+          "dd/MM/yyyy",
+          "d/MM/yyyy",
+          "dd-MM-yyyy",
+          "d-MM-yyyy",
+          "yyyy-MM-dd",
+          "MM/dd/yyyy",
+          "M/d/yyyy");
+  public static final List<DateTimeFormatter> CSV_DATE_FORMATTERS =
+      CSV_DATE_PATTERNS.stream()
+          .map(pattern -> DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH))
+          .toList();
 
   // Validation constraints
   public static final String MIN_BALANCE = "0.01";
   public static final int MAX_BALANCE_INTEGER_DIGITS = 12;
   public static final int MAX_BALANCE_FRACTION_DIGITS = 2;
+  public static final int ROLLUP_SUM_PRECISION = 15;
   public static final int MAX_ACCOUNT_NAME_LENGTH = 100;
   public static final int MAX_EMAIL_LENGTH = 255;
   public static final int MIN_PASSWORD_LENGTH = 8;
@@ -60,6 +74,10 @@ public final class Constants {
   public static final int MAX_TITLE_LENGTH = 100;
   public static final int MAX_IMAGE_REF_LENGTH = 255;
   public static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+  public static final int MAX_TIME_ZONE_LENGTH = 64;
+  public static final int MAX_SPENDING_INSIGHTS_LENGTH = 4000;
+  public static final int INSIGHT_STATS_HASH_LENGTH = 64;
+  public static final int MAX_PAGE_SIZE = 100;
 
   // Exception messages
   public static final String ACCOUNT_NOT_FOUND = "Account not found for specified user";
@@ -0,0 +1,175 @@
+package com.shoxys.budgetbuddy_backend.Config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/** Configures the shared executors used for background and parallel work. */
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+  private static final Logger logger = LoggerFactory.getLogger(ExecutorConfig.class);
+
+  @Value("${csv.import.parallelism:0}")
+  private int csvImportParallelism;
+
+  @Value("${dashboard.overview.parallelism:4}")
+  private int dashboardOverviewParallelism;
+
+  @Value("${dashboard.overview.queue-capacity:32}")
+  private int dashboardOverviewQueueCapacity;
+
+  @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+  private int jdbcPoolSize;
+
+  @Value("${mvc.async.threads:8}")
+  private int mvcAsyncThreads;
+
+  @Value("${insights.refresh.threads:2}")
+  private int insightRefreshThreads;
+
+  @Value("${insights.refresh.queue-capacity:100}")
+  private int insightRefreshQueueCapacity;
+
+  @Value("${password.hashing.threads:0}")
+  private int passwordHashingThreads;
+
+  @Value("${password.hashing.queue-capacity:32}")
+  private int passwordHashingQueueCapacity;
+
+  /**
+   * Executor that converts CSV rows into transactions during imports. Sized to the number of
+   * available processors unless {@code csv.import.parallelism} is set, since row conversion is
+   * CPU-bound.
+   *
+   * @return the CSV import executor
+   */
+  @Bean(name = "csvImportExecutor", destroyMethod = "shutdown")
+  public ExecutorService csvImportExecutor() {
+    int threads =
+        csvImportParallelism > 0
+            ? csvImportParallelism
+            : Runtime.getRuntime().availableProcessors();
+    logger.info("Configuring CSV import executor with {} threads", threads);
+    return Executors.newFixedThreadPool(
+        threads, Thread.ofPlatform().name("csv-import-", 0).daemon(true).factory());
+  }
+
+  /**
+   * Executor that runs the independent queries of a dashboard overview concurrently. Each panel
+   * holds a JDBC connection while it runs, so {@code dashboard.overview.parallelism} is capped at
+   * half the connection pool, leaving the rest for request threads. The queue is bounded by {@code
+   * dashboard.overview.queue-capacity}; once it is full the request thread builds the panel itself,
+   * which slows new overviews down instead of letting them pile up.
+   *
+   * @return the dashboard executor
+   */
+  @Bean(name = "dashboardExecutor", destroyMethod = "shutdown")
+  public ThreadPoolExecutor dashboardExecutor() {
+    int connectionLimit = Math.max(1, jdbcPoolSize / 2);
+    int threads = Math.min(Math.max(1, dashboardOverviewParallelism), connectionLimit);
+    if (threads < dashboardOverviewParallelism) {
+      logger.warn(
+          "Dashboard parallelism {} exceeds half the JDBC pool size {}, using {} threads",
+          dashboardOverviewParallelism,
+          jdbcPoolSize,
+          threads);
+    }
+    int queueCapacity = Math.max(1, dashboardOverviewQueueCapacity);
+    logger.info(
+        "Configuring dashboard executor with {} threads and queue capacity {}",
+        threads,
+        queueCapacity);
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("dashboard-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Executor that regenerates spending insights in the background. Each task mostly waits on the
+   * upstream insight API, so a small pool sized by {@code insights.refresh.threads} is enough. The
+   * queue is bounded by {@code insights.refresh.queue-capacity} and rejects further refreshes once
+   * full; a rejected refresh is retried on the user's next dashboard load.
+   *
+   * @return the insight refresh executor
+   */
+  @Bean(name = "insightRefreshExecutor", destroyMethod = "shutdown")
+  public ThreadPoolExecutor insightRefreshExecutor() {
+    int threads = Math.max(1, insightRefreshThreads);
+    int queueCapacity = Math.max(1, insightRefreshQueueCapacity);
+    logger.info(
+        "Configuring insight refresh executor with {} threads and queue capacity {}",
+        threads,
+        queueCapacity);
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("insight-refresh-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * Executor that hashes and verifies passwords. Hashing is deliberately CPU-heavy, so the pool is
+   * capped at half the available processors unless {@code password.hashing.threads} is set, leaving
+   * the rest for ordinary requests. The queue is bounded by {@code password.hashing.queue-capacity}
+   * and rejects further work once full rather than letting login bursts pile up.
+   *
+   * @return the password hashing executor
+   */
+  @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+  public ThreadPoolExecutor passwordHashingExecutor() {
+    int threads =
+        passwordHashingThreads > 0
+            ? passwordHashingThreads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    int queueCapacity = Math.max(1, passwordHashingQueueCapacity);
+    logger.info(
+        "Configuring password hashing executor with {} threads and queue capacity {}",
+        threads,
+        queueCapacity);
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * Executor that runs asynchronous MVC work, such as writing streamed transaction exports. Each
+   * stream holds a database connection while it runs, so {@code mvc.async.threads} should stay
+   * below the JDBC connection pool size; further requests queue until a thread is free.
+   *
+   * @return the MVC async executor
+   */
+  @Bean(name = "mvcAsyncExecutor")
+  public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+    int threads = Math.max(1, mvcAsyncThreads);
+    logger.info("Configuring MVC async executor with {} threads", threads);
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setThreadNamePrefix("mvc-async-");
+    executor.setDaemon(true);
+    return executor;
+  }
+}
@@ -0,0 +1,93 @@
+package com.shoxys.budgetbuddy_backend.Config;
+
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Services.MonthlyRollupService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the monthly rollups from the transactions table at startup. Runs when the application is
+ * started with {@code --rebuild-rollups}, and as a one-off backfill while the {@code
+ * monthly_rollups} entry of the {@code data_backfills} table is pending. The entry is marked
+ * completed only after every user has been rebuilt, so the decision does not depend on what the
+ * rollup table happens to contain once requests are being served. Each user is rebuilt in a
+ * separate database transaction.
+ */
+@Component
+public class MonthlyRollupRebuildRunner implements ApplicationRunner {
+  public static final String REBUILD_OPTION = "rebuild-rollups";
+  static final String BACKFILL_NAME = "monthly_rollups";
+  private static final Logger logger = LoggerFactory.getLogger(MonthlyRollupRebuildRunner.class);
+  private static final String SELECT_PENDING =
+      "SELECT COUNT(*) FROM data_backfills WHERE name = ? AND completed_on IS NULL";
+  private static final String MARK_COMPLETED =
+      "UPDATE data_backfills SET completed_on = ? WHERE name = ? AND completed_on IS NULL";
+
+  private final MonthlyRollupService monthlyRollupService;
+  private final UserRepo userRepo;
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean migrationsEnabled;
+
+  public MonthlyRollupRebuildRunner(
+      MonthlyRollupService monthlyRollupService,
+      UserRepo userRepo,
+      JdbcTemplate jdbcTemplate,
+      @Value("${schema.migration.enabled:true}") boolean migrationsEnabled) {
+    this.monthlyRollupService = monthlyRollupService;
+    this.userRepo = userRepo;
+    this.jdbcTemplate = jdbcTemplate;
+    this.migrationsEnabled = migrationsEnabled;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (args.containsOption(REBUILD_OPTION)) {
+      logger.info("Rebuilding monthly rollups as requested by --{}", REBUILD_OPTION);
+      rebuildAll();
+      markBackfillCompleted();
+    } else if (isBackfillPending()) {
+      logger.info("Monthly rollup backfill is pending, rebuilding from existing transactions");
+      rebuildAll();
+      markBackfillCompleted();
+    }
+  }
+
+  /**
+   * Rebuilds the monthly rollups of every user.
+   *
+   * @return the number of users rebuilt
+   */
+  public int rebuildAll() {
+    int users = 0;
+    long rows = 0;
+    for (Long userId : userRepo.findAllIds()) {
+      rows += monthlyRollupService.rebuild(userId);
+      users++;
+    }
+    logger.info("Rebuilt {} monthly rollup rows for {} users", rows, users);
+    return users;
+  }
+
+  // The data_backfills table is created by the migrations, so without them there is nothing to
+  // track and the rollups are only rebuilt on request.
+  private boolean isBackfillPending() {
+    if (!migrationsEnabled) {
+      return false;
+    }
+    Integer pending = jdbcTemplate.queryForObject(SELECT_PENDING, Integer.class, BACKFILL_NAME);
+    return pending != null && pending > 0;
+  }
+
+  private void markBackfillCompleted() {
+    if (migrationsEnabled) {
+      jdbcTemplate.update(MARK_COMPLETED, Timestamp.from(Instant.now()), BACKFILL_NAME);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.shoxys.budgetbuddy_backend.Config;
+
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the versioned schema migrations at startup, before the JPA entity manager factory is
+ * created, so Hibernate validates against an up-to-date schema. Disabled with {@code
+ * schema.migration.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(
+    name = "schema.migration.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class SchemaMigrationConfig {
+  private static final String MIGRATION_LOCATION = "classpath:db/migration/";
+
+  @Bean(initMethod = "migrate")
+  public SchemaMigrator schemaMigrator(DataSource dataSource) {
+    return new SchemaMigrator(dataSource, MIGRATION_LOCATION);
+  }
+
+  @Bean
+  public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependency() {
+    return new EntityManagerFactoryDependsOnPostProcessor("schemaMigrator");
+  }
+}
@@ -0,0 +1,161 @@
+package com.shoxys.budgetbuddy_backend.Config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Applies versioned SQL migrations from the classpath in version order, recording each applied
+ * version in the {@code schema_version} table so it runs exactly once per database. Migration files
+ * are named {@code V<version>__<description>.sql}, hold {@code ;}-separated statements and {@code
+ * --} line comments, and must not use {@code ;} inside string literals.
+ *
+ * <p>Databases that ran with {@code ddl-auto=update} may already have a column or index that a
+ * migration adds, because Hibernate created it from the entity mapping. A statement that fails only
+ * because its column or index already exists is skipped, so such databases are adopted as they are.
+ */
+public class SchemaMigrator {
+  private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+  private static final Pattern MIGRATION_FILE = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+  private static final String CREATE_HISTORY_TABLE =
+      """
+      CREATE TABLE IF NOT EXISTS schema_version (
+          version INT NOT NULL PRIMARY KEY,
+          description VARCHAR(200) NOT NULL,
+          installed_on TIMESTAMP NOT NULL
+      )
+      """;
+  // MySQL ER_DUP_FIELDNAME and ER_DUP_KEYNAME, H2 DUPLICATE_COLUMN_NAME_1 and
+  // INDEX_ALREADY_EXISTS_1.
+  private static final Set<Integer> ALREADY_EXISTS_ERROR_CODES = Set.of(1060, 1061, 42121, 42111);
+  private static final String SELECT_APPLIED = "SELECT version FROM schema_version";
+  private static final String INSERT_APPLIED =
+      "INSERT INTO schema_version (version, description, installed_on) VALUES (?, ?, ?)";
+
+  private final DataSource dataSource;
+  private final String location;
+
+  /**
+   * Constructs a SchemaMigrator.
+   *
+   * @param dataSource the data source to migrate
+   * @param location the classpath location of the migration files, ending with a slash
+   */
+  public SchemaMigrator(DataSource dataSource, String location) {
+    this.dataSource = dataSource;
+    this.location = location;
+  }
+
+  /**
+   * Applies all migrations that have not yet been recorded as applied.
+   *
+   * @return the number of migrations applied
+   * @throws IllegalStateException if a migration cannot be read or fails to apply
+   */
+  public int migrate() {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(CREATE_HISTORY_TABLE);
+    Set<Integer> applied = new HashSet<>(jdbcTemplate.queryForList(SELECT_APPLIED, Integer.class));
+    int count = 0;
+    for (Migration migration : loadMigrations()) {
+      if (applied.contains(migration.version)) {
+        continue;
+      }
+      logger.info("Applying schema migration V{}: {}", migration.version, migration.description);
+      try (Connection connection = dataSource.getConnection()) {
+        applyMigration(connection, migration);
+      } catch (IOException | SQLException | RuntimeException e) {
+        logger.error("Schema migration V{} failed: {}", migration.version, e.getMessage(), e);
+        throw new IllegalStateException("Schema migration V" + migration.version + " failed", e);
+      }
+      jdbcTemplate.update(
+          INSERT_APPLIED, migration.version, migration.description, Timestamp.from(Instant.now()));
+      count++;
+    }
+    logger.info("Schema is up to date, {} migrations applied", count);
+    return count;
+  }
+
+  private void applyMigration(Connection connection, Migration migration)
+      throws IOException, SQLException {
+    StringBuilder script = new StringBuilder();
+    for (String line : migration.resource.getContentAsString(StandardCharsets.UTF_8).split("\\R")) {
+      if (!line.strip().startsWith(ScriptUtils.DEFAULT_COMMENT_PREFIX)) {
+        script.append(line).append('\n');
+      }
+    }
+    try (Statement statement = connection.createStatement()) {
+      for (String sql : script.toString().split(ScriptUtils.DEFAULT_STATEMENT_SEPARATOR)) {
+        if (sql.isBlank()) {
+          continue;
+        }
+        try {
+          statement.execute(sql);
+        } catch (SQLException e) {
+          if (!ALREADY_EXISTS_ERROR_CODES.contains(e.getErrorCode())) {
+            throw e;
+          }
+          logger.warn(
+              "Skipping statement of schema migration V{}, object already exists: {}",
+              migration.version,
+              e.getMessage());
+        }
+      }
+    }
+  }
+
+  private List<Migration> loadMigrations() {
+    Resource[] resources;
+    try {
+      resources = new PathMatchingResourcePatternResolver().getResources(location + "V*__*.sql");
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read schema migrations from " + location, e);
+    }
+    List<Migration> migrations = new ArrayList<>();
+    Set<Integer> versions = new HashSet<>();
+    for (Resource resource : resources) {
+      Matcher matcher = MIGRATION_FILE.matcher(String.valueOf(resource.getFilename()));
+      if (!matcher.matches()) {
+        logger.warn("Ignoring unrecognised migration file: {}", resource.getFilename());
+        continue;
+      }
+      int version = Integer.parseInt(matcher.group(1));
+      if (!versions.add(version)) {
+        throw new IllegalStateException("Duplicate schema migration version: V" + version);
+      }
+      migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), resource));
+    }
+    migrations.sort(Comparator.comparingInt(migration -> migration.version));
+    return migrations;
+  }
+
+  private static final class Migration {
+    private final int version;
+    private final String description;
+    private final Resource resource;
+
+    private Migration(int version, String description, Resource resource) {
+      this.version = version;
+      this.description = description;
+      this.resource = resource;
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package com.shoxys.budgetbuddy_backend.Config;
 
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetailsService;
+import com.shoxys.budgetbuddy_backend.Security.BCryptWorkFactorCalibrator;
+import com.shoxys.budgetbuddy_backend.Security.BoundedPasswordEncoder;
 import com.shoxys.budgetbuddy_backend.Security.JwtAuthFilter;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +21,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -75,10 +79,37 @@ public class SecurityConfig {
     return source;
   }
 
+  /**
+   * Creates the password encoder: BCrypt at a strength calibrated to {@code
+   * password.hashing.target-ms} on this machine, run on the bounded password hashing executor.
+   *
+   * @param passwordHashingExecutor the executor hashing runs on
+   * @param targetMillis the target time per hash; 0 or less skips calibration
+   * @param minStrength the lowest BCrypt strength, also used when calibration is skipped
+   * @param maxStrength the highest BCrypt strength
+   * @param maxWaitMillis how long a caller waits for a queued hash
+   * @param retryAfterSeconds the Retry-After value returned when hashing is saturated
+   * @return the password encoder
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    logger.debug("Creating BCryptPasswordEncoder");
-    return new BCryptPasswordEncoder();
+  public BoundedPasswordEncoder passwordEncoder(
+      @Qualifier("passwordHashingExecutor") ThreadPoolExecutor passwordHashingExecutor,
+      @Value("${password.hashing.target-ms:250}") long targetMillis,
+      @Value("${password.hashing.min-strength:10}") int minStrength,
+      @Value("${password.hashing.max-strength:14}") int maxStrength,
+      @Value("${password.hashing.max-wait-ms:5000}") long maxWaitMillis,
+      @Value("${password.hashing.retry-after-seconds:2}") long retryAfterSeconds) {
+    int strength =
+        targetMillis > 0
+            ? BCryptWorkFactorCalibrator.calibrate(
+                Duration.ofMillis(targetMillis), minStrength, maxStrength)
+            : minStrength;
+    logger.debug("Creating BCryptPasswordEncoder with strength {}", strength);
+    return new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(strength),
+        passwordHashingExecutor,
+        Duration.ofMillis(maxWaitMillis),
+        retryAfterSeconds);
   }
 
   @Bean
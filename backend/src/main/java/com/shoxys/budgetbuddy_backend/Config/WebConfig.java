@@ -1,10 +1,17 @@
 package com.shoxys.budgetbuddy_backend.Config;
 
+import com.shoxys.budgetbuddy_backend.Security.AuthenticatedUserArgumentResolver;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,10 +24,31 @@ public class WebConfig implements WebMvcConfigurer {
   @Value("${file.upload-dir:uploads/}")
   private String uploadDir;
 
+  private final ObjectProvider<AsyncTaskExecutor> mvcAsyncExecutor;
+
+  public WebConfig(
+      @Qualifier("mvcAsyncExecutor") ObjectProvider<AsyncTaskExecutor> mvcAsyncExecutor) {
+    this.mvcAsyncExecutor = mvcAsyncExecutor;
+  }
+
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     logger.info("Configuring resource handler for uploads at: {}", uploadDir);
     registry.addResourceHandler("/uploads/**").addResourceLocations("file:" + uploadDir);
     logger.debug("Resource handler configured for /uploads/**");
   }
+
+  @Override
+  public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+    resolvers.add(new AuthenticatedUserArgumentResolver());
+  }
+
+  /**
+   * Runs asynchronous request handling, such as streaming responses, on the bounded MVC async
+   * executor when it is available, instead of a new thread per request.
+   */
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    mvcAsyncExecutor.ifAvailable(configurer::setTaskExecutor);
+  }
 }
@@ -3,14 +3,13 @@ package com.shoxys.budgetbuddy_backend.Controllers;
 import com.shoxys.budgetbuddy_backend.Config.Constants;
 import com.shoxys.budgetbuddy_backend.DTOs.Account.UpdateAccountRequest;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
-import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
+import com.shoxys.budgetbuddy_backend.Security.AuthenticatedUser;
 import com.shoxys.budgetbuddy_backend.Services.AccountService;
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /** Handles HTTP requests for managing user accounts. */
@@ -28,22 +27,21 @@ public class AccountController {
   /**
    * Updates an account's balance and details for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param request the account update request
    * @return a response indicating success or unauthorized status
    */
   @PostMapping("/update")
   public ResponseEntity<String> updateAccount(
-      @AuthenticationPrincipal AppUserDetails userDetails,
-      @Valid @RequestBody UpdateAccountRequest request) {
-    if (userDetails == null) {
+      AuthenticatedUser currentUser, @Valid @RequestBody UpdateAccountRequest request) {
+    if (currentUser == null) {
       logger.warn("Unauthorized account update attempt");
       return ResponseEntity.status(401).body("User is not authenticated");
     }
-    String username = userDetails.getUsername();
+    String username = currentUser.getEmail();
     logger.info("Updating account for user: {}, account ID: {}", username, request.getId());
     accountService.upsertAccountBalance(
-        username,
+        currentUser.getId(),
         request.getId(),
         request.getName(),
         request.getAccountType(),
@@ -55,25 +53,25 @@ public class AccountController {
   /**
    * Retrieves the balance for a specific account of the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param name the account name
    * @param accountType the type of account (e.g., CHECKING, SAVINGS)
    * @return the account balance or zero if not found
    */
   @GetMapping("/balance")
   public ResponseEntity<BigDecimal> getAccountBalance(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+      AuthenticatedUser currentUser,
       @RequestParam String name,
       @RequestParam AccountType accountType) {
-    if (userDetails == null) {
+    if (currentUser == null) {
       logger.warn("Unauthorized balance request");
       return ResponseEntity.status(401).body(null);
     }
-    String username = userDetails.getUsername();
+    String username = currentUser.getEmail();
     logger.info(
         "Fetching balance for user: {}, account: {}, type: {}", username, name, accountType);
     try {
-      BigDecimal balance = accountService.getAccountBalance(username, name, accountType);
+      BigDecimal balance = accountService.getAccountBalance(currentUser.getId(), name, accountType);
       if (balance != null) {
         logger.info("Balance retrieved for user: {}, account: {}", username, name);
         return ResponseEntity.ok(balance);
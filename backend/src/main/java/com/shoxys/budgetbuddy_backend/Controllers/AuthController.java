@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -57,6 +58,11 @@ public class AuthController {
         | EmailExistsException e) {
       logger.error("Registration failed for email {}: {}", request.getEmail(), e.getMessage());
       return ResponseEntity.badRequest().body(new RegisterResponse(e.getMessage(), false));
+    } catch (PasswordHashingBusyException e) {
+      logger.warn("Registration rejected, password hashing busy: {}", request.getEmail());
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+          .body(new RegisterResponse(e.getMessage(), false));
     } catch (Exception e) {
       logger.error(
           "Server error during registration for email {}: {}", request.getEmail(), e.getMessage());
@@ -84,6 +90,11 @@ public class AuthController {
     } catch (InvalidEmailFormatException | MissingFieldException | InvalidCredentialsException e) {
       logger.error("Login failed for email {}: {}", request.getEmail(), e.getMessage());
       return ResponseEntity.badRequest().body(new AuthResponse(null, e.getMessage()));
+    } catch (PasswordHashingBusyException e) {
+      logger.warn("Login rejected, password hashing busy: {}", request.getEmail());
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+          .body(new AuthResponse(null, e.getMessage()));
     } catch (Exception e) {
       logger.error(
           "Server error during login for email {}: {}", request.getEmail(), e.getMessage());
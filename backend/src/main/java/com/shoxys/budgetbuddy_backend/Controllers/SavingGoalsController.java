@@ -1,18 +1,18 @@
 package com.shoxys.budgetbuddy_backend.Controllers;
 
 import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionPage;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsResponse;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalRequest;
-import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
-import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
+import com.shoxys.budgetbuddy_backend.Security.AuthenticatedUser;
 import com.shoxys.budgetbuddy_backend.Services.SavingGoalService;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /** Handles HTTP requests for managing saving goals. */
@@ -29,15 +29,15 @@ public class SavingGoalsController {
   /**
    * Retrieves pending saving goals for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @return a list of pending saving goals
    */
   @GetMapping("/pending")
-  public ResponseEntity<List<SavingGoal>> getPendingGoals(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<List<SavingGoalView>> getPendingGoals(AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching pending goals for user: {}", username);
-    List<SavingGoal> goals = savingGoalService.getPendingSavingGoalsForUser(username);
+    List<SavingGoalView> goals =
+        savingGoalService.getPendingSavingGoalsForUser(currentUser.getId());
     logger.info("Retrieved {} pending goals for user: {}", goals.size(), username);
     return ResponseEntity.ok(goals);
   }
@@ -45,15 +45,15 @@ public class SavingGoalsController {
   /**
    * Retrieves completed saving goals for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @return a list of completed saving goals
    */
   @GetMapping("/completed")
-  public ResponseEntity<List<SavingGoal>> getCompleteGoals(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<List<SavingGoalView>> getCompleteGoals(AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching completed goals for user: {}", username);
-    List<SavingGoal> goals = savingGoalService.getCompleteSavingGoalsForUser(username);
+    List<SavingGoalView> goals =
+        savingGoalService.getCompleteSavingGoalsForUser(currentUser.getId());
     logger.info("Retrieved {} completed goals for user: {}", goals.size(), username);
     return ResponseEntity.ok(goals);
   }
@@ -61,16 +61,15 @@ public class SavingGoalsController {
   /**
    * Retrieves the title of a saving goal by ID for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the saving goal ID
    * @return the goal title
    */
   @GetMapping("/{id}/title")
-  public ResponseEntity<String> getGoalTitle(
-      @AuthenticationPrincipal AppUserDetails userDetails, @PathVariable long id) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<String> getGoalTitle(AuthenticatedUser currentUser, @PathVariable long id) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching goal title for user: {}, goal ID: {}", username, id);
-    String title = savingGoalService.getSavingGoalTitleById(username, id);
+    String title = savingGoalService.getSavingGoalTitleById(currentUser.getId(), id);
     logger.info("Retrieved goal title for user: {}, goal ID: {}", username, id);
     return ResponseEntity.ok(title);
   }
@@ -78,16 +77,16 @@ public class SavingGoalsController {
   /**
    * Retrieves a saving goal by ID for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the saving goal ID
    * @return the saving goal
    */
   @GetMapping("/{id}")
-  public ResponseEntity<SavingGoal> getGoalById(
-      @AuthenticationPrincipal AppUserDetails userDetails, @PathVariable long id) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<SavingGoalView> getGoalById(
+      AuthenticatedUser currentUser, @PathVariable long id) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching goal for user: {}, goal ID: {}", username, id);
-    SavingGoal goal = savingGoalService.getSavingGoalById(username, id);
+    SavingGoalView goal = savingGoalService.getSavingGoalById(currentUser.getId(), id);
     logger.info("Retrieved goal for user: {}, goal ID: {}", username, id);
     return ResponseEntity.ok(goal);
   }
@@ -95,35 +94,62 @@ public class SavingGoalsController {
   /**
    * Retrieves statistics for the authenticated user's saving goals.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @return the goal statistics
    */
   @GetMapping("/stats")
-  public ResponseEntity<GoalStatsResponse> getGoalStats(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<GoalStatsResponse> getGoalStats(AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching goal stats for user: {}", username);
-    GoalStatsResponse stats = savingGoalService.getGoalStatsForUser(username);
+    GoalStatsResponse stats = savingGoalService.getGoalStatsForUser(currentUser.getId());
     logger.info("Retrieved goal stats for user: {}", username);
     return ResponseEntity.ok(stats);
   }
 
+  /**
+   * Retrieves a page of a saving goal's contribution history for the authenticated user, newest
+   * first.
+   *
+   * @param currentUser the authenticated user
+   * @param id the saving goal ID
+   * @param cursor the next cursor from the previous page, or absent for the first page
+   * @param size the page size
+   * @return the page of contributions and the cursor for the next page
+   */
+  @GetMapping("/{id}/contributions")
+  public ResponseEntity<GoalContributionPage> getContributionHistory(
+      AuthenticatedUser currentUser,
+      @PathVariable long id,
+      @RequestParam(required = false) Long cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    String username = validateUserDetails(currentUser);
+    logger.info("Fetching contribution history for user: {}, goal ID: {}", username, id);
+    GoalContributionPage page =
+        savingGoalService.getContributionHistory(currentUser.getId(), id, cursor, size);
+    logger.info(
+        "Retrieved {} contributions for user: {}, goal ID: {}",
+        page.getContent().size(),
+        username,
+        id);
+    return ResponseEntity.ok(page);
+  }
+
   /**
    * Updates the contribution for a saving goal.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the saving goal ID
    * @param request the contribution request
    * @return a response indicating success
    */
   @PutMapping("/{id}/contribute")
   public ResponseEntity<String> updateContributionForGoal(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+      AuthenticatedUser currentUser,
       @PathVariable long id,
       @Valid @RequestBody GoalContributionRequest request) {
-    String username = validateUserDetails(userDetails);
+    String username = validateUserDetails(currentUser);
     logger.info("Updating contribution for user: {}, goal ID: {}", username, id);
-    savingGoalService.updateContributionForSavingGoal(username, id, request);
+    savingGoalService.updateContributionForSavingGoal(currentUser.getId(), id, request);
     logger.info("Contribution updated for user: {}, goal ID: {}", username, id);
     return ResponseEntity.ok("Goal contribution successfully updated");
   }
@@ -131,17 +157,16 @@ public class SavingGoalsController {
   /**
    * Creates a new saving goal for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param request the saving goal request
    * @return the created saving goal
    */
   @PostMapping
-  public ResponseEntity<SavingGoal> createNewGoal(
-      @AuthenticationPrincipal AppUserDetails userDetails,
-      @Valid @RequestBody SavingGoalRequest request) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<SavingGoalView> createNewGoal(
+      AuthenticatedUser currentUser, @Valid @RequestBody SavingGoalRequest request) {
+    String username = validateUserDetails(currentUser);
     logger.info("Creating new goal for user: {}", username);
-    SavingGoal goal = savingGoalService.createSavingGoal(username, request);
+    SavingGoalView goal = savingGoalService.createSavingGoal(currentUser.getId(), request);
     logger.info("Created goal for user: {}, goal ID: {}", username, goal.getId());
     return ResponseEntity.ok(goal);
   }
@@ -149,19 +174,19 @@ public class SavingGoalsController {
   /**
    * Updates an existing saving goal for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the saving goal ID
    * @param request the saving goal request
    * @return the updated saving goal
    */
   @PutMapping("/{id}/update")
-  public ResponseEntity<SavingGoal> updateGoal(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+  public ResponseEntity<SavingGoalView> updateGoal(
+      AuthenticatedUser currentUser,
       @PathVariable long id,
       @Valid @RequestBody SavingGoalRequest request) {
-    String username = validateUserDetails(userDetails);
+    String username = validateUserDetails(currentUser);
     logger.info("Updating goal for user: {}, goal ID: {}", username, id);
-    SavingGoal goal = savingGoalService.updateSavingGoal(username, id, request);
+    SavingGoalView goal = savingGoalService.updateSavingGoal(currentUser.getId(), id, request);
     logger.info("Updated goal for user: {}, goal ID: {}", username, id);
     return ResponseEntity.ok(goal);
   }
@@ -169,24 +194,23 @@ public class SavingGoalsController {
   /**
    * Deletes a saving goal for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the saving goal ID
    */
   @DeleteMapping("/{id}/delete")
-  public ResponseEntity<Void> deleteGoal(
-      @AuthenticationPrincipal AppUserDetails userDetails, @PathVariable long id) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<Void> deleteGoal(AuthenticatedUser currentUser, @PathVariable long id) {
+    String username = validateUserDetails(currentUser);
     logger.info("Deleting goal for user: {}, goal ID: {}", username, id);
-    savingGoalService.deleteSavingGoal(username, id);
+    savingGoalService.deleteSavingGoal(currentUser.getId(), id);
     logger.info("Deleted goal for user: {}, goal ID: {}", username, id);
     return ResponseEntity.ok().build();
   }
 
-  private String validateUserDetails(AppUserDetails userDetails) {
-    if (userDetails == null) {
+  private String validateUserDetails(AuthenticatedUser currentUser) {
+    if (currentUser == null) {
       logger.warn("Unauthorized saving goals request");
       throw new IllegalStateException("User is not authenticated");
     }
-    return userDetails.getUsername();
+    return currentUser.getEmail();
   }
 }
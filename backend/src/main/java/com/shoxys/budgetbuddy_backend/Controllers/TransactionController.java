@@ -1,15 +1,25 @@
 package com.shoxys.budgetbuddy_backend.Controllers;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 import com.shoxys.budgetbuddy_backend.Assembler.TransactionModelAssembler;
 import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.CsvImportSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursorPage;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
-import com.shoxys.budgetbuddy_backend.Entities.Transaction;
-import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Enums.ExportFormat;
+import com.shoxys.budgetbuddy_backend.Enums.TimeFrame;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionOrder;
 import com.shoxys.budgetbuddy_backend.Exceptions.TransactionNotFoundException;
-import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
+import com.shoxys.budgetbuddy_backend.Security.AuthenticatedUser;
+import com.shoxys.budgetbuddy_backend.Services.TransactionBatchService;
+import com.shoxys.budgetbuddy_backend.Services.TransactionExportService;
 import com.shoxys.budgetbuddy_backend.Services.TransactionService;
-import com.shoxys.budgetbuddy_backend.Services.UserService;
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,11 +29,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /** Handles HTTP requests for managing transactions. */
 @RestController
@@ -31,96 +46,128 @@ import org.springframework.web.multipart.MultipartFile;
 public class TransactionController {
   private static final Logger logger = LoggerFactory.getLogger(TransactionController.class);
   private final TransactionService transactionService;
-  private final UserService userService;
+  private final TransactionBatchService transactionBatchService;
+  private final TransactionExportService transactionExportService;
   private final TransactionModelAssembler transactionModelAssembler;
 
   public TransactionController(
       TransactionService transactionService,
-      UserService userService,
+      TransactionBatchService transactionBatchService,
+      TransactionExportService transactionExportService,
       TransactionModelAssembler transactionModelAssembler) {
     this.transactionService = transactionService;
-    this.userService = userService;
+    this.transactionBatchService = transactionBatchService;
+    this.transactionExportService = transactionExportService;
     this.transactionModelAssembler = transactionModelAssembler;
   }
 
   /**
-   * Retrieves all transactions for the authenticated user.
+   * Streams all transactions for the authenticated user as a JSON array.
    *
-   * @param userDetails the authenticated user's details
-   * @return a list of transactions
+   * @param currentUser the authenticated user
+   * @return a streamed JSON array of transactions
    */
   @GetMapping("/")
-  public ResponseEntity<List<Transaction>> getAllTransactionsForUser(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
-    logger.info("Fetching all transactions for user: {}", username);
-    long userId = userService.getUserIdByEmail(username);
-    List<Transaction> transactions = transactionService.getAllTransactionsByUserId(userId);
-    logger.info("Retrieved {} transactions for user: {}", transactions.size(), username);
-    return ResponseEntity.ok(transactions);
+  public ResponseEntity<StreamingResponseBody> getAllTransactionsForUser(
+      AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
+    logger.info("Streaming all transactions for user: {}", username);
+    return stream(currentUser, TransactionOrder.UNSORTED, ExportFormat.JSON);
   }
 
   /**
    * Retrieves transactions for the authenticated user within a time frame.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param startDate the start date of the time frame
    * @param endDate the end date of the time frame
    * @return a list of transactions
    */
   @GetMapping("/timeframe")
-  public ResponseEntity<List<Transaction>> getTransactionsForUserInTimeFrame(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+  public ResponseEntity<List<TransactionView>> getTransactionsForUserInTimeFrame(
+      AuthenticatedUser currentUser,
       @RequestParam LocalDate startDate,
       @RequestParam LocalDate endDate) {
-    String username = validateUserDetails(userDetails);
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching transactions for user: {}, from {} to {}", username, startDate, endDate);
-    long userId = userService.getUserIdByEmail(username);
-    List<Transaction> transactions =
-        transactionService.getTransactionsByUserIdInTimeFrame(userId, startDate, endDate);
+    List<TransactionView> transactions =
+        transactionService.getTransactionsByUserIdInTimeFrame(
+            currentUser.getId(), startDate, endDate);
     logger.info("Retrieved {} transactions for user: {}", transactions.size(), username);
     return ResponseEntity.ok(transactions);
   }
 
   /**
-   * Retrieves all transactions for the authenticated user, sorted by oldest first.
+   * Streams all transactions for the authenticated user as a JSON array, sorted by oldest first.
    *
-   * @param userDetails the authenticated user's details
-   * @return a list of transactions
+   * @param currentUser the authenticated user
+   * @return a streamed JSON array of transactions
    */
   @GetMapping("/oldest")
-  public ResponseEntity<List<Transaction>> getAllOldestTransactionsForUser(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
-    logger.info("Fetching oldest transactions for user: {}", username);
-    long userId = userService.getUserIdByEmail(username);
-    List<Transaction> transactions =
-        transactionService.getAllTransactionsByUserIdSortedOldest(userId);
-    logger.info("Retrieved {} oldest transactions for user: {}", transactions.size(), username);
-    return ResponseEntity.ok(transactions);
+  public ResponseEntity<StreamingResponseBody> getAllOldestTransactionsForUser(
+      AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
+    logger.info("Streaming oldest transactions for user: {}", username);
+    return stream(currentUser, TransactionOrder.OLDEST_FIRST, ExportFormat.JSON);
   }
 
   /**
-   * Retrieves all transactions for the authenticated user, sorted by newest first.
+   * Streams all transactions for the authenticated user as a JSON array, sorted by newest first.
    *
-   * @param userDetails the authenticated user's details
-   * @return a list of transactions
+   * @param currentUser the authenticated user
+   * @return a streamed JSON array of transactions
    */
   @GetMapping("/newest")
-  public ResponseEntity<List<Transaction>> getAllNewestTransactionsForUser(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
-    logger.info("Fetching newest transactions for user: {}", username);
-    long userId = userService.getUserIdByEmail(username);
-    List<Transaction> transactions = transactionService.getTransactionsByUserIdSortedNewest(userId);
-    logger.info("Retrieved {} newest transactions for user: {}", transactions.size(), username);
-    return ResponseEntity.ok(transactions);
+  public ResponseEntity<StreamingResponseBody> getAllNewestTransactionsForUser(
+      AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
+    logger.info("Streaming newest transactions for user: {}", username);
+    return stream(currentUser, TransactionOrder.NEWEST_FIRST, ExportFormat.JSON);
+  }
+
+  /**
+   * Exports all transactions for the authenticated user as a file download.
+   *
+   * @param currentUser the authenticated user
+   * @param format the export format: "csv", "ndjson" or "json"
+   * @param sort the sort order (e.g., "date,desc")
+   * @return the streamed export, or 400 if the format is not supported
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportTransactions(
+      AuthenticatedUser currentUser,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(defaultValue = "date,desc") String sort) {
+    String username = validateUserDetails(currentUser);
+    logger.info(
+        "Exporting transactions for user: {}, format: {}, sort: {}", username, format, sort);
+    ExportFormat exportFormat;
+    try {
+      exportFormat = ExportFormat.fromString(format);
+    } catch (IllegalArgumentException e) {
+      logger.error("Invalid export format for user: {}: {}", username, e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+    TransactionOrder order =
+        "date,asc".equalsIgnoreCase(sort)
+            ? TransactionOrder.OLDEST_FIRST
+            : TransactionOrder.NEWEST_FIRST;
+    ResponseEntity<StreamingResponseBody> response = stream(currentUser, order, exportFormat);
+    return ResponseEntity.ok()
+        .headers(response.getHeaders())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename(Constants.TRANSACTION_EXPORT_FILE_NAME + exportFormat.getFileExtension())
+                .build()
+                .toString())
+        .body(response.getBody());
   }
 
   /**
    * Retrieves paginated transactions for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param page the page number
    * @param size the page size
    * @param sort the sort order (e.g., "date,desc")
@@ -128,13 +175,13 @@ public class TransactionController {
    * @return a paged model of transactions
    */
   @GetMapping("/paginated")
-  public ResponseEntity<PagedModel<EntityModel<Transaction>>> getTransactionsPaginated(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+  public ResponseEntity<PagedModel<EntityModel<TransactionView>>> getTransactionsPaginated(
+      AuthenticatedUser currentUser,
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size,
       @RequestParam(defaultValue = "date,desc") String sort,
-      PagedResourcesAssembler<Transaction> pagedResourcesAssembler) {
-    String username = validateUserDetails(userDetails);
+      PagedResourcesAssembler<TransactionView> pagedResourcesAssembler) {
+    String username = validateUserDetails(currentUser);
     logger.info(
         "Fetching paginated transactions for user: {}, page: {}, size: {}, sort: {}",
         username,
@@ -142,10 +189,10 @@ public class TransactionController {
         size,
         sort);
     try {
-      User user = userService.getUserByEmail(username);
-      Page<Transaction> transactions =
-          transactionService.getTransactionsByUserIdPaginated(user.getId(), page, size, sort);
-      PagedModel<EntityModel<Transaction>> pagedModel =
+      Page<TransactionView> transactions =
+          transactionService.getTransactionsByUserIdPaginated(
+              currentUser.getId(), page, size, sort);
+      PagedModel<EntityModel<TransactionView>> pagedModel =
           pagedResourcesAssembler.toModel(transactions, transactionModelAssembler);
       logger.info(
           "Retrieved {} transactions for user: {}", transactions.getContent().size(), username);
@@ -160,21 +207,91 @@ public class TransactionController {
     }
   }
 
+  /**
+   * Retrieves a page of transactions for the authenticated user by keyset pagination. Pages are
+   * addressed by opaque continuation tokens carried in the next and prev links, and the page
+   * metadata, with the total count, is only included when {@code includeTotal} is set.
+   *
+   * @param currentUser the authenticated user
+   * @param cursor the continuation token from a next or prev link, or null for the first page
+   * @param size the page size
+   * @param sort the sort order of the first page (e.g., "date,desc")
+   * @param includeTotal whether to include the total number of transactions
+   * @return a paged model of transactions with next and prev links
+   */
+  @GetMapping("/cursor")
+  public ResponseEntity<PagedModel<EntityModel<TransactionView>>> getTransactionsByCursor(
+      AuthenticatedUser currentUser,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "date,desc") String sort,
+      @RequestParam(defaultValue = "false") boolean includeTotal) {
+    String username = validateUserDetails(currentUser);
+    logger.info(
+        "Fetching transactions by cursor for user: {}, size: {}, sort: {}", username, size, sort);
+    try {
+      TransactionCursorPage page =
+          transactionService.getTransactionsByUserIdCursor(
+              currentUser.getId(), cursor, size, sort, includeTotal);
+      List<EntityModel<TransactionView>> content =
+          page.getContent().stream().map(transactionModelAssembler::toModel).toList();
+      PageMetadata metadata =
+          page.getTotalElements() != null
+              ? new PageMetadata(size, 0, page.getTotalElements())
+              : null;
+      PagedModel<EntityModel<TransactionView>> pagedModel =
+          PagedModel.of(
+              content,
+              metadata,
+              linkTo(
+                      methodOn(TransactionController.class)
+                          .getTransactionsByCursor(null, cursor, size, sort, includeTotal))
+                  .withSelfRel());
+      if (page.getNextCursor() != null) {
+        pagedModel.add(
+            linkTo(
+                    methodOn(TransactionController.class)
+                        .getTransactionsByCursor(
+                            null, page.getNextCursor(), size, sort, includeTotal))
+                .withRel(IanaLinkRelations.NEXT));
+      }
+      if (page.getPrevCursor() != null) {
+        pagedModel.add(
+            linkTo(
+                    methodOn(TransactionController.class)
+                        .getTransactionsByCursor(
+                            null, page.getPrevCursor(), size, sort, includeTotal))
+                .withRel(IanaLinkRelations.PREV));
+      }
+      logger.info("Retrieved {} transactions for user: {}", content.size(), username);
+      return ResponseEntity.ok(pagedModel);
+    } catch (IllegalArgumentException e) {
+      logger.error("Invalid cursor parameters for user: {}: {}", username, e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * Retrieves a transaction summary for the authenticated user by time frame.
    *
-   * @param userDetails the authenticated user's details
-   * @param timeFrame the time frame for the summary
-   * @return the transaction summary
+   * @param currentUser the authenticated user
+   * @param timeFrame the time frame for the summary, such as "30days" or "all"
+   * @return the transaction summary, or 400 if the time frame is not supported
    */
   @GetMapping("/summary")
   public ResponseEntity<TransactionSummaryResponse> getUserTransactionSummary(
-      @AuthenticationPrincipal AppUserDetails userDetails, @RequestParam String timeFrame) {
-    String username = validateUserDetails(userDetails);
+      AuthenticatedUser currentUser, @RequestParam String timeFrame) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching transaction summary for user: {}, timeFrame: {}", username, timeFrame);
-    long userId = userService.getUserIdByEmail(username);
+    TimeFrame frame;
+    try {
+      frame = TimeFrame.fromString(timeFrame);
+    } catch (IllegalArgumentException e) {
+      logger.error("Invalid time frame for user: {}: {}", username, e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
     TransactionSummaryResponse summary =
-        transactionService.getTransactionSummaryByTimeFrame(userId, timeFrame);
+        transactionService.getTransactionSummaryByTimeFrame(currentUser.getId(), frame);
     logger.info("Retrieved transaction summary for user: {}", username);
     return ResponseEntity.ok(summary);
   }
@@ -182,15 +299,14 @@ public class TransactionController {
   /**
    * Retrieves the current balance for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @return the current balance
    */
   @GetMapping("/current-balance")
-  public ResponseEntity<BigDecimal> getCurrentBalance(
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<BigDecimal> getCurrentBalance(AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching current balance for user: {}", username);
-    BigDecimal balance = transactionService.getCurrentBalanceByUser(username);
+    BigDecimal balance = transactionService.getCurrentBalanceByUser(currentUser.getId());
     logger.info("Retrieved current balance for user: {}", username);
     return ResponseEntity.ok(balance);
   }
@@ -198,17 +314,16 @@ public class TransactionController {
   /**
    * Adds a new transaction for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param request the transaction request
    * @return the created transaction
    */
   @PostMapping
-  public ResponseEntity<Transaction> addTransaction(
-      @AuthenticationPrincipal AppUserDetails userDetails,
-      @Valid @RequestBody TransactionRequest request) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<TransactionView> addTransaction(
+      AuthenticatedUser currentUser, @Valid @RequestBody TransactionRequest request) {
+    String username = validateUserDetails(currentUser);
     logger.info("Adding transaction for user: {}", username);
-    Transaction transaction = transactionService.addTransaction(username, request);
+    TransactionView transaction = transactionService.addTransaction(currentUser.getId(), request);
     logger.info("Added transaction for user: {}, ID: {}", username, transaction.getId());
     return ResponseEntity.ok(transaction);
   }
@@ -216,19 +331,20 @@ public class TransactionController {
   /**
    * Updates an existing transaction for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the transaction ID
    * @param request the transaction request
    * @return the updated transaction
    */
   @PutMapping("/{id}")
-  public ResponseEntity<Transaction> updateTransaction(
-      @AuthenticationPrincipal AppUserDetails userDetails,
+  public ResponseEntity<TransactionView> updateTransaction(
+      AuthenticatedUser currentUser,
       @PathVariable long id,
       @Valid @RequestBody TransactionRequest request) {
-    String username = validateUserDetails(userDetails);
+    String username = validateUserDetails(currentUser);
     logger.info("Updating transaction for user: {}, ID: {}", username, id);
-    Transaction transaction = transactionService.updateTransaction(username, id, request);
+    TransactionView transaction =
+        transactionService.updateTransaction(currentUser.getId(), id, request);
     logger.info("Updated transaction for user: {}, ID: {}", username, id);
     return ResponseEntity.ok(transaction);
   }
@@ -236,16 +352,16 @@ public class TransactionController {
   /**
    * Deletes a transaction for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the transaction ID
    * @return a response indicating success
    */
   @DeleteMapping("/{id}")
   public ResponseEntity<String> deleteTransaction(
-      @AuthenticationPrincipal AppUserDetails userDetails, @PathVariable long id) {
-    String username = validateUserDetails(userDetails);
+      AuthenticatedUser currentUser, @PathVariable long id) {
+    String username = validateUserDetails(currentUser);
     logger.info("Deleting transaction for user: {}, ID: {}", username, id);
-    transactionService.deleteTransaction(username, id);
+    transactionService.deleteTransaction(currentUser.getId(), id);
     logger.info("Deleted transaction for user: {}, ID: {}", username, id);
     return ResponseEntity.ok("Successfully deleted transaction");
   }
@@ -253,35 +369,57 @@ public class TransactionController {
   /**
    * Deletes multiple transactions for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param ids the list of transaction IDs
-   * @return a response indicating success
+   * @return a response reporting how many transactions were deleted
    */
   @DeleteMapping("/delete-selected")
   public ResponseEntity<String> deleteMultipleTransactions(
-      @AuthenticationPrincipal AppUserDetails userDetails, @RequestBody List<Long> ids) {
-    String username = validateUserDetails(userDetails);
+      AuthenticatedUser currentUser, @RequestBody List<Long> ids) {
+    String username = validateUserDetails(currentUser);
     logger.info("Deleting {} transactions for user: {}", ids.size(), username);
-    transactionService.deleteTransactionsById(username, ids);
-    logger.info("Deleted {} transactions for user: {}", ids.size(), username);
-    return ResponseEntity.ok("Deleted " + ids.size() + " transactions");
+    int deleted = transactionService.deleteTransactionsById(currentUser.getId(), ids);
+    logger.info("Deleted {} transactions for user: {}", deleted, username);
+    return ResponseEntity.ok("Deleted " + deleted + " transactions");
+  }
+
+  /**
+   * Applies a batch of transaction creates, updates and deletes for the authenticated user in one
+   * database transaction. Operations that fail are reported individually without rejecting the rest
+   * of the batch.
+   *
+   * @param currentUser the authenticated user
+   * @param request the batch of operations
+   * @return the number of succeeded and failed operations with a result for each
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<TransactionBatchResponse> applyBatch(
+      AuthenticatedUser currentUser, @Valid @RequestBody TransactionBatchRequest request) {
+    String username = validateUserDetails(currentUser);
+    logger.info("Applying transaction batch for user: {}", username);
+    TransactionBatchResponse response =
+        transactionBatchService.applyBatch(currentUser.getId(), request.getOperations());
+    logger.info(
+        "Applied batch for user: {}, succeeded: {}, failed: {}",
+        username,
+        response.getSucceeded(),
+        response.getFailed());
+    return ResponseEntity.ok(response);
   }
 
   /**
    * Imports transactions from CSV files for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param files the CSV files to import
    * @return a response indicating success or failure
    */
   @PostMapping("/upload")
   public ResponseEntity<String> importTransactions(
-      @RequestParam("files") MultipartFile[] files,
-      @AuthenticationPrincipal AppUserDetails userDetails) {
-    String username = validateUserDetails(userDetails);
+      @RequestParam("files") MultipartFile[] files, AuthenticatedUser currentUser) {
+    String username = validateUserDetails(currentUser);
     logger.info("Importing {} CSV files for user: {}", files.length, username);
     try {
-      User user = userService.getUserByEmail(username);
       for (MultipartFile file : files) {
         if (file.isEmpty()) {
           logger.warn("Skipping empty file: {}", file.getOriginalFilename());
@@ -289,8 +427,13 @@ public class TransactionController {
         }
         logger.info(
             "Importing file: {}, size: {} bytes", file.getOriginalFilename(), file.getSize());
-        transactionService.importMultipleCSVs(user.getId(), file);
-        logger.info("Imported file: {}", file.getOriginalFilename());
+        CsvImportSummary summary = transactionService.importMultipleCSVs(currentUser.getId(), file);
+        logger.info(
+            "Imported file: {}, inserted: {}, rejected: {}, duplicates skipped: {}",
+            file.getOriginalFilename(),
+            summary.getInserted(),
+            summary.getRejected(),
+            summary.getDuplicatesSkipped());
       }
       logger.info("All CSVs processed for user: {}", username);
       return ResponseEntity.ok("All CSVs imported successfully");
@@ -307,17 +450,17 @@ public class TransactionController {
   /**
    * Retrieves a transaction by ID for the authenticated user.
    *
-   * @param userDetails the authenticated user's details
+   * @param currentUser the authenticated user
    * @param id the transaction ID
    * @return the transaction as an entity model
    */
   @GetMapping("/{id}")
-  public ResponseEntity<EntityModel<Transaction>> getTransactionById(
-      @AuthenticationPrincipal AppUserDetails userDetails, @PathVariable Long id) {
-    String username = validateUserDetails(userDetails);
+  public ResponseEntity<EntityModel<TransactionView>> getTransactionById(
+      AuthenticatedUser currentUser, @PathVariable Long id) {
+    String username = validateUserDetails(currentUser);
     logger.info("Fetching transaction for user: {}, ID: {}", username, id);
     try {
-      Transaction transaction = transactionService.getTransactionById(username, id);
+      TransactionView transaction = transactionService.getTransactionById(currentUser.getId(), id);
       logger.info("Retrieved transaction for user: {}, ID: {}", username, id);
       return ResponseEntity.ok(transactionModelAssembler.toModel(transaction));
     } catch (TransactionNotFoundException e) {
@@ -326,11 +469,20 @@ public class TransactionController {
     }
   }
 
-  private String validateUserDetails(AppUserDetails userDetails) {
-    if (userDetails == null) {
+  private ResponseEntity<StreamingResponseBody> stream(
+      AuthenticatedUser currentUser, TransactionOrder order, ExportFormat format) {
+    long userId = currentUser.getId();
+    StreamingResponseBody body = out -> transactionExportService.export(userId, order, format, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getMediaType()))
+        .body(body);
+  }
+
+  private String validateUserDetails(AuthenticatedUser currentUser) {
+    if (currentUser == null) {
       logger.warn("Unauthorized transaction request");
       throw new IllegalStateException("User is not authenticated");
     }
-    return userDetails.getUsername();
+    return currentUser.getEmail();
   }
 }
@@ -4,6 +4,7 @@ import com.shoxys.budgetbuddy_backend.Config.Constants;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.AuthResponse;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.ChangePasswordRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateEmailRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateTimeZoneRequest;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
 import com.shoxys.budgetbuddy_backend.Services.UserService;
@@ -88,6 +89,24 @@ public class UserSettingsController {
     return ResponseEntity.ok(authResponse);
   }
 
+  /**
+   * Updates the time zone used to resolve calendar months for the authenticated user's summaries.
+   *
+   * @param userDetails the authenticated user's details
+   * @param request the time zone update request
+   * @return a response indicating success
+   */
+  @PutMapping("/update-time-zone")
+  public ResponseEntity<String> updateTimeZone(
+      @AuthenticationPrincipal AppUserDetails userDetails,
+      @Valid @RequestBody UpdateTimeZoneRequest request) {
+    String username = validateUserDetails(userDetails);
+    logger.info("Updating time zone for user: {}", username);
+    userService.updateTimeZone(username, request);
+    logger.info("Time zone updated for user: {} to {}", username, request.getTimeZone());
+    return ResponseEntity.ok("Time zone updated successfully");
+  }
+
   /**
    * Deletes the authenticated user's account and clears the JWT cookie.
    *
@@ -0,0 +1,51 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Account;
+
+import java.math.BigDecimal;
+
+/** An account's stored balance next to the balance derived from the records it is built from. */
+public class AccountBalanceCheck {
+  private Long accountId;
+  private BigDecimal balance;
+  private BigDecimal expectedBalance;
+
+  public AccountBalanceCheck() {}
+
+  public AccountBalanceCheck(Long accountId, BigDecimal balance, BigDecimal expectedBalance) {
+    this.accountId = accountId;
+    this.balance = balance;
+    this.expectedBalance = expectedBalance != null ? expectedBalance : BigDecimal.ZERO;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public void setBalance(BigDecimal balance) {
+    this.balance = balance;
+  }
+
+  public BigDecimal getExpectedBalance() {
+    return expectedBalance;
+  }
+
+  public void setExpectedBalance(BigDecimal expectedBalance) {
+    this.expectedBalance = expectedBalance;
+  }
+
+  /**
+   * Returns whether the stored balance equals the derived balance.
+   *
+   * @return true if the balances are equal by value
+   */
+  public boolean isConsistent() {
+    return balance != null && balance.compareTo(expectedBalance) == 0;
+  }
+}
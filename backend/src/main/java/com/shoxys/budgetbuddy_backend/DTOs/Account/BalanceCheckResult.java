@@ -0,0 +1,40 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Account;
+
+/** Result of a balance consistency check across accounts. */
+public class BalanceCheckResult {
+  private long checked;
+  private long mismatched;
+  private long repaired;
+
+  public BalanceCheckResult() {}
+
+  public BalanceCheckResult(long checked, long mismatched, long repaired) {
+    this.checked = checked;
+    this.mismatched = mismatched;
+    this.repaired = repaired;
+  }
+
+  public long getChecked() {
+    return checked;
+  }
+
+  public void setChecked(long checked) {
+    this.checked = checked;
+  }
+
+  public long getMismatched() {
+    return mismatched;
+  }
+
+  public void setMismatched(long mismatched) {
+    this.mismatched = mismatched;
+  }
+
+  public long getRepaired() {
+    return repaired;
+  }
+
+  public void setRepaired(long repaired) {
+    this.repaired = repaired;
+  }
+}
@@ -0,0 +1,28 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Auth;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/** Request object for updating the time zone used for a user's calendar-based summaries. */
+public class UpdateTimeZoneRequest {
+  @NotBlank(message = "Time zone is required")
+  @Size(
+      max = Constants.MAX_TIME_ZONE_LENGTH,
+      message = "Time zone cannot exceed " + Constants.MAX_TIME_ZONE_LENGTH + " characters")
+  private String timeZone;
+
+  public UpdateTimeZoneRequest(String timeZone) {
+    this.timeZone = timeZone;
+  }
+
+  public UpdateTimeZoneRequest() {}
+
+  public String getTimeZone() {
+    return timeZone;
+  }
+
+  public void setTimeZone(String timeZone) {
+    this.timeZone = timeZone;
+  }
+}
@@ -0,0 +1,91 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Dashboard;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/** Represents every dashboard panel for a user, built in a single request. */
+public class DashboardOverview {
+  private BigDecimal totalBalance;
+  private List<AccountSummary> accountsSummary;
+  private NetworthResponse networth;
+  private List<SpendingInsight> spendingInsights;
+  private List<SavingGoalSummary> savingGoals;
+  private List<IncomeExpenseSummary> incomeExpenseSummary;
+  private IncomeTrend incomeTrend;
+  private List<ExpenseAnalysis> expenseAnalysis;
+  private List<RecentTransactions> recentTransactions;
+
+  public DashboardOverview() {}
+
+  public BigDecimal getTotalBalance() {
+    return totalBalance;
+  }
+
+  public void setTotalBalance(BigDecimal totalBalance) {
+    this.totalBalance = totalBalance;
+  }
+
+  public List<AccountSummary> getAccountsSummary() {
+    return accountsSummary;
+  }
+
+  public void setAccountsSummary(List<AccountSummary> accountsSummary) {
+    this.accountsSummary = accountsSummary;
+  }
+
+  public NetworthResponse getNetworth() {
+    return networth;
+  }
+
+  public void setNetworth(NetworthResponse networth) {
+    this.networth = networth;
+  }
+
+  public List<SpendingInsight> getSpendingInsights() {
+    return spendingInsights;
+  }
+
+  public void setSpendingInsights(List<SpendingInsight> spendingInsights) {
+    this.spendingInsights = spendingInsights;
+  }
+
+  public List<SavingGoalSummary> getSavingGoals() {
+    return savingGoals;
+  }
+
+  public void setSavingGoals(List<SavingGoalSummary> savingGoals) {
+    this.savingGoals = savingGoals;
+  }
+
+  public List<IncomeExpenseSummary> getIncomeExpenseSummary() {
+    return incomeExpenseSummary;
+  }
+
+  public void setIncomeExpenseSummary(List<IncomeExpenseSummary> incomeExpenseSummary) {
+    this.incomeExpenseSummary = incomeExpenseSummary;
+  }
+
+  public IncomeTrend getIncomeTrend() {
+    return incomeTrend;
+  }
+
+  public void setIncomeTrend(IncomeTrend incomeTrend) {
+    this.incomeTrend = incomeTrend;
+  }
+
+  public List<ExpenseAnalysis> getExpenseAnalysis() {
+    return expenseAnalysis;
+  }
+
+  public void setExpenseAnalysis(List<ExpenseAnalysis> expenseAnalysis) {
+    this.expenseAnalysis = expenseAnalysis;
+  }
+
+  public List<RecentTransactions> getRecentTransactions() {
+    return recentTransactions;
+  }
+
+  public void setRecentTransactions(List<RecentTransactions> recentTransactions) {
+    this.recentTransactions = recentTransactions;
+  }
+}
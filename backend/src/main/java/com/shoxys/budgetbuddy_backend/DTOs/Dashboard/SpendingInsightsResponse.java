@@ -0,0 +1,58 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Dashboard;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spending insights for dashboard display with their freshness. Insights are fresh when they were
+ * generated from the user's current spending summary; stale insights are the last ones generated
+ * and are shown while a refresh runs in the background.
+ */
+public class SpendingInsightsResponse {
+  private List<SpendingInsight> insights;
+  private boolean fresh;
+  private boolean refreshing;
+  private Instant generatedAt;
+
+  public SpendingInsightsResponse() {}
+
+  public SpendingInsightsResponse(
+      List<SpendingInsight> insights, boolean fresh, boolean refreshing, Instant generatedAt) {
+    this.insights = insights;
+    this.fresh = fresh;
+    this.refreshing = refreshing;
+    this.generatedAt = generatedAt;
+  }
+
+  public List<SpendingInsight> getInsights() {
+    return insights;
+  }
+
+  public void setInsights(List<SpendingInsight> insights) {
+    this.insights = insights;
+  }
+
+  public boolean isFresh() {
+    return fresh;
+  }
+
+  public void setFresh(boolean fresh) {
+    this.fresh = fresh;
+  }
+
+  public boolean isRefreshing() {
+    return refreshing;
+  }
+
+  public void setRefreshing(boolean refreshing) {
+    this.refreshing = refreshing;
+  }
+
+  public Instant getGeneratedAt() {
+    return generatedAt;
+  }
+
+  public void setGeneratedAt(Instant generatedAt) {
+    this.generatedAt = generatedAt;
+  }
+}
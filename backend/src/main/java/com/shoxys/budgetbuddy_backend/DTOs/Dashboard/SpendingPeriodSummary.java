@@ -0,0 +1,47 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Dashboard;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Summary of a user's money over one period: spending per category as positive amounts, and total
+ * income. Used as input to the local insight engine.
+ */
+public class SpendingPeriodSummary {
+  private Map<String, BigDecimal> spendingByCategory;
+  private BigDecimal income;
+
+  public SpendingPeriodSummary() {}
+
+  public SpendingPeriodSummary(Map<String, BigDecimal> spendingByCategory, BigDecimal income) {
+    this.spendingByCategory = spendingByCategory;
+    this.income = income;
+  }
+
+  public Map<String, BigDecimal> getSpendingByCategory() {
+    return spendingByCategory;
+  }
+
+  public void setSpendingByCategory(Map<String, BigDecimal> spendingByCategory) {
+    this.spendingByCategory = spendingByCategory;
+  }
+
+  public BigDecimal getIncome() {
+    return income;
+  }
+
+  public void setIncome(BigDecimal income) {
+    this.income = income;
+  }
+
+  /**
+   * Returns the total spending across all categories.
+   *
+   * @return the total spending, zero when there was none
+   */
+  public BigDecimal getTotalSpending() {
+    return spendingByCategory == null
+        ? BigDecimal.ZERO
+        : spendingByCategory.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+}
@@ -0,0 +1,40 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+/** Result of a check of saving goal totals against their contribution ledger. */
+public class ContributionCheckResult {
+  private long checked;
+  private long mismatched;
+  private long repaired;
+
+  public ContributionCheckResult() {}
+
+  public ContributionCheckResult(long checked, long mismatched, long repaired) {
+    this.checked = checked;
+    this.mismatched = mismatched;
+    this.repaired = repaired;
+  }
+
+  public long getChecked() {
+    return checked;
+  }
+
+  public void setChecked(long checked) {
+    this.checked = checked;
+  }
+
+  public long getMismatched() {
+    return mismatched;
+  }
+
+  public void setMismatched(long mismatched) {
+    this.mismatched = mismatched;
+  }
+
+  public long getRepaired() {
+    return repaired;
+  }
+
+  public void setRepaired(long repaired) {
+    this.repaired = repaired;
+  }
+}
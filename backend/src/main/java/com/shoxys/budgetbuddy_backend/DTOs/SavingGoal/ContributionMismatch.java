@@ -0,0 +1,53 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+import java.math.BigDecimal;
+
+/**
+ * A saving goal whose stored contributed amount differs from the sum of its contribution ledger.
+ */
+public class ContributionMismatch {
+  private Long goalId;
+  private BigDecimal contributed;
+  private BigDecimal ledgerTotal;
+
+  public ContributionMismatch() {}
+
+  public ContributionMismatch(Long goalId, BigDecimal contributed, BigDecimal ledgerTotal) {
+    this.goalId = goalId;
+    this.contributed = contributed != null ? contributed : BigDecimal.ZERO;
+    this.ledgerTotal = ledgerTotal != null ? ledgerTotal : BigDecimal.ZERO;
+  }
+
+  public Long getGoalId() {
+    return goalId;
+  }
+
+  public void setGoalId(Long goalId) {
+    this.goalId = goalId;
+  }
+
+  public BigDecimal getContributed() {
+    return contributed;
+  }
+
+  public void setContributed(BigDecimal contributed) {
+    this.contributed = contributed;
+  }
+
+  public BigDecimal getLedgerTotal() {
+    return ledgerTotal;
+  }
+
+  public void setLedgerTotal(BigDecimal ledgerTotal) {
+    this.ledgerTotal = ledgerTotal;
+  }
+
+  /**
+   * Returns the amount a ledger entry must add for the ledger to agree with the goal.
+   *
+   * @return the contributed amount minus the ledger total
+   */
+  public BigDecimal getDifference() {
+    return contributed.subtract(ledgerTotal);
+  }
+}
@@ -0,0 +1,35 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+import java.util.List;
+
+/**
+ * One page of a saving goal's contribution history, newest first, with the cursor for the next page
+ * or null on the last page.
+ */
+public class GoalContributionPage {
+  private List<GoalContributionView> content;
+  private Long nextCursor;
+
+  public GoalContributionPage() {}
+
+  public GoalContributionPage(List<GoalContributionView> content, Long nextCursor) {
+    this.content = content;
+    this.nextCursor = nextCursor;
+  }
+
+  public List<GoalContributionView> getContent() {
+    return content;
+  }
+
+  public void setContent(List<GoalContributionView> content) {
+    this.content = content;
+  }
+
+  public Long getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(Long nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
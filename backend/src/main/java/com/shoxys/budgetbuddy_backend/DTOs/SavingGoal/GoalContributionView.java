@@ -0,0 +1,55 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/** Response object for one entry in a saving goal's contribution history. */
+public class GoalContributionView {
+  private Long id;
+  private BigDecimal amount;
+  private ContributionType type;
+  private Instant createdAt;
+
+  public GoalContributionView() {}
+
+  public GoalContributionView(
+      Long id, BigDecimal amount, ContributionType type, Instant createdAt) {
+    this.id = id;
+    this.amount = amount;
+    this.type = type;
+    this.createdAt = createdAt;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public ContributionType getType() {
+    return type;
+  }
+
+  public void setType(ContributionType type) {
+    this.type = type;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
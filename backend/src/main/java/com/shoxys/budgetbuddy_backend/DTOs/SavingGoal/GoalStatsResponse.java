@@ -1,10 +1,17 @@
 package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
 
+import java.math.BigDecimal;
 import java.util.List;
 
-/** Response object containing a list of saving goal statistics. */
+/**
+ * Response object containing a list of saving goal statistics, with the target and contributed
+ * totals across all goals and the average progress towards each goal's target as a percentage.
+ */
 public class GoalStatsResponse {
   private List<GoalStat> goalStats;
+  private BigDecimal totalTarget;
+  private BigDecimal totalContributed;
+  private int averageProgressPercent;
 
   public GoalStatsResponse() {}
 
@@ -12,6 +19,17 @@ public class GoalStatsResponse {
     this.goalStats = goalStats;
   }
 
+  public GoalStatsResponse(
+      List<GoalStat> goalStats,
+      BigDecimal totalTarget,
+      BigDecimal totalContributed,
+      int averageProgressPercent) {
+    this.goalStats = goalStats;
+    this.totalTarget = totalTarget;
+    this.totalContributed = totalContributed;
+    this.averageProgressPercent = averageProgressPercent;
+  }
+
   public List<GoalStat> getGoalStats() {
     return goalStats;
   }
@@ -19,4 +37,28 @@ public class GoalStatsResponse {
   public void setGoalStats(List<GoalStat> goalStats) {
     this.goalStats = goalStats;
   }
+
+  public BigDecimal getTotalTarget() {
+    return totalTarget;
+  }
+
+  public void setTotalTarget(BigDecimal totalTarget) {
+    this.totalTarget = totalTarget;
+  }
+
+  public BigDecimal getTotalContributed() {
+    return totalContributed;
+  }
+
+  public void setTotalContributed(BigDecimal totalContributed) {
+    this.totalContributed = totalContributed;
+  }
+
+  public int getAverageProgressPercent() {
+    return averageProgressPercent;
+  }
+
+  public void setAverageProgressPercent(int averageProgressPercent) {
+    this.averageProgressPercent = averageProgressPercent;
+  }
 }
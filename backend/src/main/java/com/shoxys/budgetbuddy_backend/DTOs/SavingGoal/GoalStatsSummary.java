@@ -0,0 +1,94 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate figures over all of a user's saving goals: counts by status, target and contributed
+ * totals, and the average progress towards the target. Selected in a single row by a repository
+ * constructor expression; missing sums, which occur when the user has no goals, are read as zero.
+ */
+public class GoalStatsSummary {
+  private long totalCount;
+  private long completedCount;
+  private long inProgressCount;
+  private long overdueCount;
+  private BigDecimal totalTarget;
+  private BigDecimal totalContributed;
+  private double averageProgress;
+
+  public GoalStatsSummary() {}
+
+  public GoalStatsSummary(
+      Long totalCount,
+      Long completedCount,
+      Long inProgressCount,
+      Long overdueCount,
+      BigDecimal totalTarget,
+      BigDecimal totalContributed,
+      Double averageProgress) {
+    this.totalCount = totalCount == null ? 0 : totalCount;
+    this.completedCount = completedCount == null ? 0 : completedCount;
+    this.inProgressCount = inProgressCount == null ? 0 : inProgressCount;
+    this.overdueCount = overdueCount == null ? 0 : overdueCount;
+    this.totalTarget = totalTarget == null ? BigDecimal.ZERO : totalTarget;
+    this.totalContributed = totalContributed == null ? BigDecimal.ZERO : totalContributed;
+    this.averageProgress = averageProgress == null ? 0 : averageProgress;
+  }
+
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  public void setTotalCount(long totalCount) {
+    this.totalCount = totalCount;
+  }
+
+  public long getCompletedCount() {
+    return completedCount;
+  }
+
+  public void setCompletedCount(long completedCount) {
+    this.completedCount = completedCount;
+  }
+
+  public long getInProgressCount() {
+    return inProgressCount;
+  }
+
+  public void setInProgressCount(long inProgressCount) {
+    this.inProgressCount = inProgressCount;
+  }
+
+  public long getOverdueCount() {
+    return overdueCount;
+  }
+
+  public void setOverdueCount(long overdueCount) {
+    this.overdueCount = overdueCount;
+  }
+
+  public BigDecimal getTotalTarget() {
+    return totalTarget;
+  }
+
+  public void setTotalTarget(BigDecimal totalTarget) {
+    this.totalTarget = totalTarget;
+  }
+
+  public BigDecimal getTotalContributed() {
+    return totalContributed;
+  }
+
+  public void setTotalContributed(BigDecimal totalContributed) {
+    this.totalContributed = totalContributed;
+  }
+
+  /** Returns the mean fraction of each goal's target contributed, capped at 1 per goal. */
+  public double getAverageProgress() {
+    return averageProgress;
+  }
+
+  public void setAverageProgress(double averageProgress) {
+    this.averageProgress = averageProgress;
+  }
+}
@@ -0,0 +1,114 @@
+package com.shoxys.budgetbuddy_backend.DTOs.SavingGoal;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read view of a saving goal, holding only the columns the API returns. Repository queries select
+ * it directly with a constructor expression, so listing goals loads no entities.
+ */
+public class SavingGoalView {
+  private Long id;
+  private String title;
+  private BigDecimal target;
+  private BigDecimal contributed;
+  private LocalDate date;
+  private String imageRef;
+  private Long accountId;
+
+  public SavingGoalView() {}
+
+  public SavingGoalView(
+      Long id,
+      String title,
+      BigDecimal target,
+      BigDecimal contributed,
+      LocalDate date,
+      String imageRef,
+      Long accountId) {
+    this.id = id;
+    this.title = title;
+    this.target = target;
+    this.contributed = contributed;
+    this.date = date;
+    this.imageRef = imageRef;
+    this.accountId = accountId;
+  }
+
+  /**
+   * Creates a view of a saving goal entity.
+   *
+   * @param goal the saving goal entity
+   * @return the view
+   */
+  public static SavingGoalView from(SavingGoal goal) {
+    Account account = goal.getAccount();
+    return new SavingGoalView(
+        goal.getId(),
+        goal.getTitle(),
+        goal.getTarget(),
+        goal.getContributed(),
+        goal.getDate(),
+        goal.getImageRef(),
+        account != null ? account.getId() : null);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public BigDecimal getTarget() {
+    return target;
+  }
+
+  public void setTarget(BigDecimal target) {
+    this.target = target;
+  }
+
+  public BigDecimal getContributed() {
+    return contributed;
+  }
+
+  public void setContributed(BigDecimal contributed) {
+    this.contributed = contributed;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public void setDate(LocalDate date) {
+    this.date = date;
+  }
+
+  public String getImageRef() {
+    return imageRef;
+  }
+
+  public void setImageRef(String imageRef) {
+    this.imageRef = imageRef;
+  }
+
+  /** Returns the ID of the goal savings account, or null if the goal has none. */
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+}
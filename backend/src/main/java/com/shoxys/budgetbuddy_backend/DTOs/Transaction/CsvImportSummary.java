@@ -0,0 +1,64 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+/**
+ * Summary of a CSV import, including row counts, how many rows were skipped as duplicates of
+ * already imported transactions, and the time taken to process the file.
+ */
+public class CsvImportSummary {
+  private long rowsRead;
+  private long inserted;
+  private long rejected;
+  private long duplicatesSkipped;
+  private long elapsedMillis;
+
+  public CsvImportSummary() {}
+
+  public CsvImportSummary(
+      long rowsRead, long inserted, long rejected, long duplicatesSkipped, long elapsedMillis) {
+    this.rowsRead = rowsRead;
+    this.inserted = inserted;
+    this.rejected = rejected;
+    this.duplicatesSkipped = duplicatesSkipped;
+    this.elapsedMillis = elapsedMillis;
+  }
+
+  public long getRowsRead() {
+    return rowsRead;
+  }
+
+  public void setRowsRead(long rowsRead) {
+    this.rowsRead = rowsRead;
+  }
+
+  public long getInserted() {
+    return inserted;
+  }
+
+  public void setInserted(long inserted) {
+    this.inserted = inserted;
+  }
+
+  public long getRejected() {
+    return rejected;
+  }
+
+  public void setRejected(long rejected) {
+    this.rejected = rejected;
+  }
+
+  public long getDuplicatesSkipped() {
+    return duplicatesSkipped;
+  }
+
+  public void setDuplicatesSkipped(long duplicatesSkipped) {
+    this.duplicatesSkipped = duplicatesSkipped;
+  }
+
+  public long getElapsedMillis() {
+    return elapsedMillis;
+  }
+
+  public void setElapsedMillis(long elapsedMillis) {
+    this.elapsedMillis = elapsedMillis;
+  }
+}
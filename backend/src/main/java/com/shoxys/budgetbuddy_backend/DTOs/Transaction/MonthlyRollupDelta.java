@@ -0,0 +1,131 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A change to one monthly rollup row: the amounts and transaction count to add to the totals of a
+ * user's month, category and account kind. Removals are expressed as negated deltas.
+ */
+public class MonthlyRollupDelta {
+  private final long userId;
+  private final LocalDate monthStart;
+  private final String category;
+  private final boolean spending;
+  private BigDecimal creditSum;
+  private BigDecimal debitSum;
+  private long transactionCount;
+
+  public MonthlyRollupDelta(
+      long userId,
+      LocalDate monthStart,
+      String category,
+      boolean spending,
+      BigDecimal creditSum,
+      BigDecimal debitSum,
+      long transactionCount) {
+    this.userId = userId;
+    this.monthStart = monthStart.withDayOfMonth(1);
+    this.category = category;
+    this.spending = spending;
+    this.creditSum = creditSum != null ? creditSum : BigDecimal.ZERO;
+    this.debitSum = debitSum != null ? debitSum : BigDecimal.ZERO;
+    this.transactionCount = transactionCount;
+  }
+
+  /**
+   * Creates the delta for a single transaction amount, counted as a credit when positive and a
+   * debit when negative.
+   *
+   * @param userId the ID of the owning user
+   * @param date the transaction date
+   * @param category the transaction category
+   * @param spending whether the transaction belongs to the spending account
+   * @param amount the signed transaction amount
+   * @return the delta adding the transaction to its rollup row
+   */
+  public static MonthlyRollupDelta of(
+      long userId, LocalDate date, String category, boolean spending, BigDecimal amount) {
+    BigDecimal credit = amount.signum() > 0 ? amount : BigDecimal.ZERO;
+    BigDecimal debit = amount.signum() < 0 ? amount : BigDecimal.ZERO;
+    return new MonthlyRollupDelta(userId, date, category, spending, credit, debit, 1);
+  }
+
+  /**
+   * Returns a delta that undoes this one.
+   *
+   * @return the negated delta
+   */
+  public MonthlyRollupDelta negate() {
+    return new MonthlyRollupDelta(
+        userId,
+        monthStart,
+        category,
+        spending,
+        creditSum.negate(),
+        debitSum.negate(),
+        -transactionCount);
+  }
+
+  /**
+   * Adds another delta for the same rollup row into this one.
+   *
+   * @param other the delta to merge, which must have the same key
+   */
+  public void merge(MonthlyRollupDelta other) {
+    if (!rowKey().equals(other.rowKey())) {
+      throw new IllegalArgumentException("Cannot merge deltas for different rollup rows");
+    }
+    creditSum = creditSum.add(other.creditSum);
+    debitSum = debitSum.add(other.debitSum);
+    transactionCount += other.transactionCount;
+  }
+
+  /**
+   * Returns the key of the rollup row this delta applies to, suitable for grouping deltas.
+   *
+   * @return the user ID, month start, category and account kind
+   */
+  public List<Object> rowKey() {
+    return Arrays.asList(userId, monthStart, category, spending);
+  }
+
+  /**
+   * Returns whether applying this delta would leave its rollup row unchanged.
+   *
+   * @return true if the amounts and count are all zero
+   */
+  public boolean isEmpty() {
+    return transactionCount == 0 && creditSum.signum() == 0 && debitSum.signum() == 0;
+  }
+
+  public long getUserId() {
+    return userId;
+  }
+
+  public LocalDate getMonthStart() {
+    return monthStart;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public boolean isSpending() {
+    return spending;
+  }
+
+  public BigDecimal getCreditSum() {
+    return creditSum;
+  }
+
+  public BigDecimal getDebitSum() {
+    return debitSum;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+}
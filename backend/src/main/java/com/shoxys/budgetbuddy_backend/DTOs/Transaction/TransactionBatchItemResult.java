@@ -0,0 +1,87 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import com.shoxys.budgetbuddy_backend.Enums.BatchOperationType;
+
+/**
+ * Outcome of a single operation in a transaction batch, identified by its position in the request.
+ * Failed operations carry an error message; successful creates and updates carry the resulting
+ * transaction.
+ */
+public class TransactionBatchItemResult {
+  private int index;
+  private BatchOperationType operation;
+  private Long id;
+  private boolean success;
+  private String error;
+  private TransactionView transaction;
+
+  public TransactionBatchItemResult() {}
+
+  public TransactionBatchItemResult(
+      int index,
+      BatchOperationType operation,
+      Long id,
+      boolean success,
+      String error,
+      TransactionView transaction) {
+    this.index = index;
+    this.operation = operation;
+    this.id = id;
+    this.success = success;
+    this.error = error;
+    this.transaction = transaction;
+  }
+
+  public static TransactionBatchItemResult failed(
+      int index, BatchOperationType operation, Long id, String error) {
+    return new TransactionBatchItemResult(index, operation, id, false, error, null);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public BatchOperationType getOperation() {
+    return operation;
+  }
+
+  public void setOperation(BatchOperationType operation) {
+    this.operation = operation;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public boolean isSuccess() {
+    return success;
+  }
+
+  public void setSuccess(boolean success) {
+    this.success = success;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  public TransactionView getTransaction() {
+    return transaction;
+  }
+
+  public void setTransaction(TransactionView transaction) {
+    this.transaction = transaction;
+  }
+}
@@ -0,0 +1,51 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import com.shoxys.budgetbuddy_backend.Enums.BatchOperationType;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A single operation within a transaction batch. Creates carry a transaction, updates carry an ID
+ * and a transaction, and deletes carry an ID. The transaction is validated per operation, so one
+ * invalid item fails on its own instead of rejecting the whole batch.
+ */
+public class TransactionBatchOperation {
+  @NotNull(message = "Operation is required")
+  private BatchOperationType operation;
+
+  private Long id;
+
+  private TransactionRequest transaction;
+
+  public TransactionBatchOperation() {}
+
+  public TransactionBatchOperation(
+      BatchOperationType operation, Long id, TransactionRequest transaction) {
+    this.operation = operation;
+    this.id = id;
+    this.transaction = transaction;
+  }
+
+  public BatchOperationType getOperation() {
+    return operation;
+  }
+
+  public void setOperation(BatchOperationType operation) {
+    this.operation = operation;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public TransactionRequest getTransaction() {
+    return transaction;
+  }
+
+  public void setTransaction(TransactionRequest transaction) {
+    this.transaction = transaction;
+  }
+}
@@ -0,0 +1,33 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/** Request object for applying several transaction operations in one request. */
+public class TransactionBatchRequest {
+  @NotEmpty(message = "Operations are required")
+  @Size(
+      max = Constants.TRANSACTION_BATCH_MAX_OPERATIONS,
+      message =
+          "A batch cannot contain more than "
+              + Constants.TRANSACTION_BATCH_MAX_OPERATIONS
+              + " operations")
+  private List<@Valid TransactionBatchOperation> operations;
+
+  public TransactionBatchRequest() {}
+
+  public TransactionBatchRequest(List<TransactionBatchOperation> operations) {
+    this.operations = operations;
+  }
+
+  public List<TransactionBatchOperation> getOperations() {
+    return operations;
+  }
+
+  public void setOperations(List<TransactionBatchOperation> operations) {
+    this.operations = operations;
+  }
+}
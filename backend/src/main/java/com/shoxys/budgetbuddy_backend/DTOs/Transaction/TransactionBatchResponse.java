@@ -0,0 +1,43 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import java.util.List;
+
+/** Response object for a transaction batch, with per-operation results in request order. */
+public class TransactionBatchResponse {
+  private int succeeded;
+  private int failed;
+  private List<TransactionBatchItemResult> results;
+
+  public TransactionBatchResponse() {}
+
+  public TransactionBatchResponse(
+      int succeeded, int failed, List<TransactionBatchItemResult> results) {
+    this.succeeded = succeeded;
+    this.failed = failed;
+    this.results = results;
+  }
+
+  public int getSucceeded() {
+    return succeeded;
+  }
+
+  public void setSucceeded(int succeeded) {
+    this.succeeded = succeeded;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<TransactionBatchItemResult> getResults() {
+    return results;
+  }
+
+  public void setResults(List<TransactionBatchItemResult> results) {
+    this.results = results;
+  }
+}
@@ -0,0 +1,87 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a user's transactions ordered by {@code (date, id)}, exchanged with clients as an
+ * opaque continuation token. A cursor names the row a page starts after, the sort direction of the
+ * listing, and whether the page runs forwards from that row (next) or backwards (previous).
+ */
+public final class TransactionCursor {
+  private static final String VERSION = "1";
+  private static final String SEPARATOR = ":";
+
+  private final LocalDate date;
+  private final long id;
+  private final boolean ascending;
+  private final boolean forward;
+
+  public TransactionCursor(LocalDate date, long id, boolean ascending, boolean forward) {
+    this.date = date;
+    this.id = id;
+    this.ascending = ascending;
+    this.forward = forward;
+  }
+
+  /**
+   * Decodes a continuation token.
+   *
+   * @param token the token returned with a previous page
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static TransactionCursor decode(String token) {
+    try {
+      String[] parts =
+          new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+      if (parts.length != 5 || !VERSION.equals(parts[0])) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new TransactionCursor(
+          LocalDate.parse(parts[3]),
+          Long.parseLong(parts[4]),
+          "a".equals(parts[1]),
+          "n".equals(parts[2]));
+    } catch (DateTimeParseException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque, URL-safe continuation token.
+   *
+   * @return the token
+   */
+  public String encode() {
+    String value =
+        String.join(
+            SEPARATOR,
+            VERSION,
+            ascending ? "a" : "d",
+            forward ? "n" : "p",
+            date.toString(),
+            Long.toString(id));
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public boolean isAscending() {
+    return ascending;
+  }
+
+  public boolean isForward() {
+    return forward;
+  }
+}
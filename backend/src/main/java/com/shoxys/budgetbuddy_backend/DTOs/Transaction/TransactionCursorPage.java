@@ -0,0 +1,59 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import java.util.List;
+
+/**
+ * A page of transactions fetched by keyset pagination, with the continuation tokens of the
+ * neighbouring pages and, if requested, the user's total transaction count.
+ */
+public class TransactionCursorPage {
+  private List<TransactionView> content;
+  private String nextCursor;
+  private String prevCursor;
+  private Long totalElements;
+
+  public TransactionCursorPage() {}
+
+  public TransactionCursorPage(
+      List<TransactionView> content, String nextCursor, String prevCursor, Long totalElements) {
+    this.content = content;
+    this.nextCursor = nextCursor;
+    this.prevCursor = prevCursor;
+    this.totalElements = totalElements;
+  }
+
+  public List<TransactionView> getContent() {
+    return content;
+  }
+
+  public void setContent(List<TransactionView> content) {
+    this.content = content;
+  }
+
+  /** Returns the token of the following page, or null if this is the last page. */
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  /** Returns the token of the preceding page, or null if this is the first page. */
+  public String getPrevCursor() {
+    return prevCursor;
+  }
+
+  public void setPrevCursor(String prevCursor) {
+    this.prevCursor = prevCursor;
+  }
+
+  /** Returns the user's total number of transactions, or null if it was not requested. */
+  public Long getTotalElements() {
+    return totalElements;
+  }
+
+  public void setTotalElements(Long totalElements) {
+    this.totalElements = totalElements;
+  }
+}
@@ -1,26 +1,38 @@
 package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
 
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
-/** Response object summarizing transaction data, including count and date range. */
+/**
+ * Response object summarizing transaction data over a time frame: count, date range, credit and
+ * debit totals, and the average transaction size. Debits are summed as negative amounts, as in the
+ * monthly rollups.
+ */
 public class TransactionSummaryResponse {
-  private Integer count;
+  private Long count;
   private LocalDate earliest;
   private LocalDate latest;
+  private BigDecimal creditSum;
+  private BigDecimal debitSum;
 
   public TransactionSummaryResponse() {}
 
-  public TransactionSummaryResponse(Integer count, LocalDate earliest, LocalDate latest) {
+  public TransactionSummaryResponse(
+      Long count, LocalDate earliest, LocalDate latest, BigDecimal creditSum, BigDecimal debitSum) {
     this.count = count;
     this.earliest = earliest;
     this.latest = latest;
+    this.creditSum = creditSum;
+    this.debitSum = debitSum;
   }
 
-  public Integer getCount() {
+  public Long getCount() {
     return count;
   }
 
-  public void setCount(Integer count) {
+  public void setCount(Long count) {
     this.count = count;
   }
 
@@ -39,4 +51,35 @@ public class TransactionSummaryResponse {
   public void setLatest(LocalDate latest) {
     this.latest = latest;
   }
+
+  public BigDecimal getCreditSum() {
+    return creditSum;
+  }
+
+  public void setCreditSum(BigDecimal creditSum) {
+    this.creditSum = creditSum;
+  }
+
+  public BigDecimal getDebitSum() {
+    return debitSum;
+  }
+
+  public void setDebitSum(BigDecimal debitSum) {
+    this.debitSum = debitSum;
+  }
+
+  /**
+   * Returns the average absolute transaction amount, derived from the credit and debit totals.
+   *
+   * @return the average amount rounded to cents, or null when there are no transactions
+   */
+  public BigDecimal getAverageAmount() {
+    if (count == null || count == 0 || creditSum == null || debitSum == null) {
+      return null;
+    }
+    return creditSum
+        .subtract(debitSum)
+        .divide(
+            BigDecimal.valueOf(count), Constants.MAX_BALANCE_FRACTION_DIGITS, RoundingMode.HALF_UP);
+  }
 }
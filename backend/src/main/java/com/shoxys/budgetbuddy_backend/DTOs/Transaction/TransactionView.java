@@ -0,0 +1,154 @@
+package com.shoxys.budgetbuddy_backend.DTOs.Transaction;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * Read view of a transaction, holding only the columns the API returns. Repository queries select
+ * it directly with a constructor expression, so listing transactions loads no entities and no user
+ * rows, and only the name of the account is joined in.
+ */
+@Relation(collectionRelation = "transactionList", itemRelation = "transaction")
+public class TransactionView {
+  private Long id;
+  private LocalDate date;
+  private BigDecimal amount;
+  private String description;
+  private String category;
+  private String merchant;
+  private BigDecimal balanceAtTransaction;
+  private SourceType source;
+  private Long accountId;
+  private String accountName;
+
+  public TransactionView() {}
+
+  public TransactionView(
+      Long id,
+      LocalDate date,
+      BigDecimal amount,
+      String description,
+      String category,
+      String merchant,
+      BigDecimal balanceAtTransaction,
+      SourceType source,
+      Long accountId,
+      String accountName) {
+    this.id = id;
+    this.date = date;
+    this.amount = amount;
+    this.description = description;
+    this.category = category;
+    this.merchant = merchant;
+    this.balanceAtTransaction = balanceAtTransaction;
+    this.source = source;
+    this.accountId = accountId;
+    this.accountName = accountName;
+  }
+
+  /**
+   * Creates a view of a transaction entity. The account, if any, must be loaded.
+   *
+   * @param transaction the transaction entity
+   * @return the view
+   */
+  public static TransactionView from(Transaction transaction) {
+    Account account = transaction.getAccount();
+    return new TransactionView(
+        transaction.getId(),
+        transaction.getDate(),
+        transaction.getAmount(),
+        transaction.getDescription(),
+        transaction.getCategory(),
+        transaction.getMerchant(),
+        transaction.getBalanceAtTransaction(),
+        transaction.getSource(),
+        account != null ? account.getId() : null,
+        account != null ? account.getName() : null);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  public void setDate(LocalDate date) {
+    this.date = date;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public String getMerchant() {
+    return merchant;
+  }
+
+  public void setMerchant(String merchant) {
+    this.merchant = merchant;
+  }
+
+  public BigDecimal getBalanceAtTransaction() {
+    return balanceAtTransaction;
+  }
+
+  public void setBalanceAtTransaction(BigDecimal balanceAtTransaction) {
+    this.balanceAtTransaction = balanceAtTransaction;
+  }
+
+  public SourceType getSource() {
+    return source;
+  }
+
+  public void setSource(SourceType source) {
+    this.source = source;
+  }
+
+  /** Returns the ID of the account the transaction is posted to, or null if it has none. */
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public String getAccountName() {
+    return accountName;
+  }
+
+  public void setAccountName(String accountName) {
+    this.accountName = accountName;
+  }
+}
@@ -49,15 +49,27 @@ public class Account {
       scale = Constants.MAX_BALANCE_FRACTION_DIGITS)
   private BigDecimal balance;
 
+  /**
+   * The balance before any of the account's transactions. The balance always equals this plus the
+   * sum of the transaction amounts; it is re-anchored whenever the balance is set outright.
+   */
+  @Column(
+      name = "opening_balance",
+      nullable = false,
+      precision = Constants.MAX_BALANCE_INTEGER_DIGITS,
+      scale = Constants.MAX_BALANCE_FRACTION_DIGITS)
+  private BigDecimal openingBalance;
+
   @Column(nullable = false)
   private boolean isManual;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", referencedColumnName = "id")
   private User user;
 
   public Account() {
     this.balance = BigDecimal.ZERO;
+    this.openingBalance = BigDecimal.ZERO;
   }
 
   public Account(
@@ -71,6 +83,7 @@ public class Account {
     this.type = type;
     this.accountNo = accountNo;
     this.balance = balance;
+    this.openingBalance = balance;
     this.isManual = isManual;
     this.user = user;
   }
@@ -115,6 +128,14 @@ public class Account {
     this.balance = balance;
   }
 
+  public BigDecimal getOpeningBalance() {
+    return openingBalance;
+  }
+
+  public void setOpeningBalance(BigDecimal openingBalance) {
+    this.openingBalance = openingBalance;
+  }
+
   public boolean isManual() {
     return isManual;
   }
@@ -0,0 +1,93 @@
+package com.shoxys.budgetbuddy_backend.Entities;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Entity recording one change to a saving goal's contributed amount. Entries are only ever
+ * appended, so a goal's contributed amount equals the sum of its entries and the entries form its
+ * contribution history. They are removed by the database together with their goal.
+ */
+@Entity
+@Table(
+    name = "goal_contributions",
+    indexes = @Index(name = "idx_goal_contributions_goal_id", columnList = "goal_id, id"))
+public class GoalContribution {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "goal_id", referencedColumnName = "id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private SavingGoal goal;
+
+  @Column(
+      nullable = false,
+      precision = Constants.MAX_BALANCE_INTEGER_DIGITS,
+      scale = Constants.MAX_BALANCE_FRACTION_DIGITS)
+  private BigDecimal amount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ContributionType type;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  public GoalContribution() {}
+
+  public GoalContribution(
+      SavingGoal goal, BigDecimal amount, ContributionType type, Instant createdAt) {
+    this.goal = goal;
+    this.amount = amount;
+    this.type = type;
+    this.createdAt = createdAt;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public SavingGoal getGoal() {
+    return goal;
+  }
+
+  public void setGoal(SavingGoal goal) {
+    this.goal = goal;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public ContributionType getType() {
+    return type;
+  }
+
+  public void setType(ContributionType type) {
+    this.type = type;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
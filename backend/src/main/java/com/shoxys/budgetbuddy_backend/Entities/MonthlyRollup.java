@@ -0,0 +1,119 @@
+package com.shoxys.budgetbuddy_backend.Entities;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entity holding a user's transaction totals for one calendar month and category, split by whether
+ * the transactions belong to the spending account. Rows are maintained incrementally as
+ * transactions are written and can be rebuilt from the transactions table at any time.
+ */
+@Entity
+@Table(
+    name = "monthly_rollups",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_monthly_rollups_user_month_category",
+            columnNames = {"user_id", "month_start", "category", "spending"}))
+public class MonthlyRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
+  private User user;
+
+  @Column(name = "month_start", nullable = false)
+  private LocalDate monthStart;
+
+  @Column(nullable = false)
+  private String category;
+
+  @Column(nullable = false)
+  private boolean spending;
+
+  @Column(
+      nullable = false,
+      precision = Constants.ROLLUP_SUM_PRECISION,
+      scale = Constants.MAX_BALANCE_FRACTION_DIGITS)
+  private BigDecimal creditSum;
+
+  @Column(
+      nullable = false,
+      precision = Constants.ROLLUP_SUM_PRECISION,
+      scale = Constants.MAX_BALANCE_FRACTION_DIGITS)
+  private BigDecimal debitSum;
+
+  @Column(nullable = false)
+  private long transactionCount;
+
+  public MonthlyRollup() {}
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public void setUser(User user) {
+    this.user = user;
+  }
+
+  public LocalDate getMonthStart() {
+    return monthStart;
+  }
+
+  public void setMonthStart(LocalDate monthStart) {
+    this.monthStart = monthStart;
+  }
+
+  public String getCategory() {
+    return category;
+  }
+
+  public void setCategory(String category) {
+    this.category = category;
+  }
+
+  public boolean isSpending() {
+    return spending;
+  }
+
+  public void setSpending(boolean spending) {
+    this.spending = spending;
+  }
+
+  public BigDecimal getCreditSum() {
+    return creditSum;
+  }
+
+  public void setCreditSum(BigDecimal creditSum) {
+    this.creditSum = creditSum;
+  }
+
+  public BigDecimal getDebitSum() {
+    return debitSum;
+  }
+
+  public void setDebitSum(BigDecimal debitSum) {
+    this.debitSum = debitSum;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public void setTransactionCount(long transactionCount) {
+    this.transactionCount = transactionCount;
+  }
+}
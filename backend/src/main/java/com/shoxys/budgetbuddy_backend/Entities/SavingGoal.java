@@ -70,11 +70,11 @@ public class SavingGoal {
   @Column(nullable = true)
   private String imageRef;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "account_id", referencedColumnName = "id")
   private Account account;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", referencedColumnName = "id")
   private User user;
 
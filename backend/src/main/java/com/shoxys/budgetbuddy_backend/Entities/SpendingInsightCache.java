@@ -0,0 +1,86 @@
+package com.shoxys.budgetbuddy_backend.Entities;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Entity holding the spending insights last generated for a user, together with a hash of the
+ * spending summary they were generated from. A stored hash that no longer matches the user's
+ * current summary marks the insights as stale.
+ */
+@Entity
+@Table(
+    name = "spending_insight_cache",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_spending_insight_cache_user",
+            columnNames = {"user_id"}))
+public class SpendingInsightCache {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
+  private User user;
+
+  @Column(name = "stats_hash", nullable = false, length = Constants.INSIGHT_STATS_HASH_LENGTH)
+  private String statsHash;
+
+  @Column(nullable = false, length = Constants.MAX_SPENDING_INSIGHTS_LENGTH)
+  private String insights;
+
+  @Column(name = "generated_at", nullable = false)
+  private Instant generatedAt;
+
+  public SpendingInsightCache() {}
+
+  public SpendingInsightCache(User user, String statsHash, String insights, Instant generatedAt) {
+    this.user = user;
+    this.statsHash = statsHash;
+    this.insights = insights;
+    this.generatedAt = generatedAt;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public void setUser(User user) {
+    this.user = user;
+  }
+
+  public String getStatsHash() {
+    return statsHash;
+  }
+
+  public void setStatsHash(String statsHash) {
+    this.statsHash = statsHash;
+  }
+
+  public String getInsights() {
+    return insights;
+  }
+
+  public void setInsights(String insights) {
+    this.insights = insights;
+  }
+
+  public Instant getGeneratedAt() {
+    return generatedAt;
+  }
+
+  public void setGeneratedAt(Instant generatedAt) {
+    this.generatedAt = generatedAt;
+  }
+}
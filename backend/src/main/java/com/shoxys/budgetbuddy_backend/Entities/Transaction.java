@@ -9,7 +9,16 @@ import java.time.LocalDate;
 
 /** Entity representing a financial transaction linked to an account and user. */
 @Entity
-@Table(name = "transactions")
+@Table(
+    name = "transactions",
+    indexes = {
+      @Index(name = "idx_transactions_user_date", columnList = "user_id, date"),
+      @Index(
+          name = "idx_transactions_user_category_amount",
+          columnList = "user_id, category, amount"),
+      @Index(name = "idx_transactions_account_date", columnList = "account_id, date"),
+      @Index(name = "idx_transactions_user_fingerprint", columnList = "user_id, fingerprint")
+    })
 public class Transaction {
 
   @Id
@@ -83,11 +92,14 @@ public class Transaction {
   @Column(nullable = false)
   private SourceType source;
 
-  @ManyToOne
+  @Column(length = Constants.TRANSACTION_FINGERPRINT_LENGTH)
+  private String fingerprint;
+
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "account_id", referencedColumnName = "id")
   private Account account;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", referencedColumnName = "id")
   private User user;
 
@@ -123,6 +135,7 @@ public class Transaction {
     this.merchant = other.merchant;
     this.balanceAtTransaction = other.balanceAtTransaction;
     this.source = other.source;
+    this.fingerprint = other.fingerprint;
     this.account = other.account;
     this.user = other.user;
   }
@@ -199,6 +212,14 @@ public class Transaction {
     this.source = source;
   }
 
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
   public Account getAccount() {
     return account;
   }
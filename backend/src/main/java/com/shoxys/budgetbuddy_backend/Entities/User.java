@@ -1,6 +1,7 @@
 package com.shoxys.budgetbuddy_backend.Entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.shoxys.budgetbuddy_backend.Config.Constants;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -9,6 +10,7 @@ import java.util.List;
 /** Entity representing a user of the BudgetBuddy application. */
 @Entity
 @Table(name = "users")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
 
   @Id
@@ -36,6 +38,12 @@ public class User {
   @Column(nullable = false)
   private String hashedPassword;
 
+  @Size(
+      max = Constants.MAX_TIME_ZONE_LENGTH,
+      message = "Time zone cannot exceed " + Constants.MAX_TIME_ZONE_LENGTH + " characters")
+  @Column(length = Constants.MAX_TIME_ZONE_LENGTH)
+  private String timeZone;
+
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
   @JsonIgnore
   private List<Transaction> transactions;
@@ -48,6 +56,14 @@ public class User {
   @JsonIgnore
   private List<SavingGoal> savingGoals;
 
+  @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+  @JsonIgnore
+  private List<MonthlyRollup> monthlyRollups;
+
+  @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+  @JsonIgnore
+  private List<SpendingInsightCache> spendingInsightCaches;
+
   public User() {}
 
   public User(String email, String hashedPassword) {
@@ -79,6 +95,14 @@ public class User {
     this.hashedPassword = hashedPassword;
   }
 
+  public String getTimeZone() {
+    return timeZone;
+  }
+
+  public void setTimeZone(String timeZone) {
+    this.timeZone = timeZone;
+  }
+
   public List<Transaction> getTransactions() {
     return transactions;
   }
@@ -102,4 +126,20 @@ public class User {
   public void setSavingGoals(List<SavingGoal> savingGoals) {
     this.savingGoals = savingGoals;
   }
+
+  public List<MonthlyRollup> getMonthlyRollups() {
+    return monthlyRollups;
+  }
+
+  public void setMonthlyRollups(List<MonthlyRollup> monthlyRollups) {
+    this.monthlyRollups = monthlyRollups;
+  }
+
+  public List<SpendingInsightCache> getSpendingInsightCaches() {
+    return spendingInsightCaches;
+  }
+
+  public void setSpendingInsightCaches(List<SpendingInsightCache> spendingInsightCaches) {
+    this.spendingInsightCaches = spendingInsightCaches;
+  }
 }
@@ -0,0 +1,8 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+/** Defines the operations a transaction batch request can apply to a single transaction. */
+public enum BatchOperationType {
+  CREATE,
+  UPDATE,
+  DELETE
+}
@@ -0,0 +1,13 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+/**
+ * Defines the kinds of entries in the saving goal contribution ledger: the amount a goal was
+ * created with, a later contribution, the reset of a completed goal's progress, and a correction
+ * appended by the ledger reconciler.
+ */
+public enum ContributionType {
+  INITIAL,
+  CONTRIBUTION,
+  RESET,
+  ADJUSTMENT
+}
@@ -0,0 +1,44 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+import java.util.Locale;
+
+/** Defines the formats transactions can be exported in, with their media types. */
+public enum ExportFormat {
+  JSON("application/json", ".json"),
+  NDJSON("application/x-ndjson", ".ndjson"),
+  CSV("text/csv", ".csv");
+
+  private final String mediaType;
+  private final String fileExtension;
+
+  ExportFormat(String mediaType, String fileExtension) {
+    this.mediaType = mediaType;
+    this.fileExtension = fileExtension;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  /**
+   * Parses a format name, ignoring case.
+   *
+   * @param value the format name, such as "csv"
+   * @return the export format
+   * @throws IllegalArgumentException if the value is not a supported format
+   */
+  public static ExportFormat fromString(String value) {
+    if (value != null) {
+      for (ExportFormat format : values()) {
+        if (format.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+          return format;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unsupported export format: " + value);
+  }
+}
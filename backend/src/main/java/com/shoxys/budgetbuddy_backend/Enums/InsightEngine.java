@@ -0,0 +1,32 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+import java.util.Locale;
+
+/**
+ * Defines how spending insights are generated. {@link #GEMINI} serves insights from the Gemini API,
+ * {@link #LOCAL} generates them in-process from rules and never calls the API, and {@link #HYBRID}
+ * serves local insights immediately and replaces them with Gemini insights once those are ready.
+ */
+public enum InsightEngine {
+  GEMINI,
+  LOCAL,
+  HYBRID;
+
+  /**
+   * Parses an engine name, ignoring case.
+   *
+   * @param value the engine name, such as "local"
+   * @return the insight engine
+   * @throws IllegalArgumentException if the value is not a supported engine
+   */
+  public static InsightEngine fromString(String value) {
+    if (value != null) {
+      for (InsightEngine engine : values()) {
+        if (engine.name().equals(value.trim().toUpperCase(Locale.ROOT))) {
+          return engine;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unsupported insight engine: " + value);
+  }
+}
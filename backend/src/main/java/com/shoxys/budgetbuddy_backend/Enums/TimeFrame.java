@@ -0,0 +1,77 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Defines the time frames transactions can be listed and summarized over, with the codes clients
+ * pass for them. Rolling frames end today; the weekly frame covers the current Monday-to-Sunday
+ * week.
+ */
+public enum TimeFrame {
+  WEEKLY("weekly"),
+  LAST_7_DAYS("7days"),
+  LAST_30_DAYS("30days"),
+  LAST_60_DAYS("60days"),
+  LAST_90_DAYS("90days"),
+  ALL_TIME("all");
+
+  private final String code;
+
+  TimeFrame(String code) {
+    this.code = code;
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  /**
+   * Returns the first day of this time frame.
+   *
+   * @param today the current date
+   * @return the first day, or null for {@link #ALL_TIME}, which has no lower bound
+   */
+  public LocalDate getStartDate(LocalDate today) {
+    return switch (this) {
+      case WEEKLY -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case LAST_7_DAYS -> today.minusDays(7);
+      case LAST_30_DAYS -> today.minusDays(30);
+      case LAST_60_DAYS -> today.minusDays(60);
+      case LAST_90_DAYS -> today.minusDays(90);
+      case ALL_TIME -> null;
+    };
+  }
+
+  /**
+   * Returns the last day of this time frame.
+   *
+   * @param today the current date
+   * @return the last day
+   */
+  public LocalDate getEndDate(LocalDate today) {
+    return this == WEEKLY ? getStartDate(today).plusDays(6) : today;
+  }
+
+  /**
+   * Parses a time frame code, ignoring case.
+   *
+   * @param value the code, such as "30days", or the enum name
+   * @return the time frame
+   * @throws IllegalArgumentException if the value is not a supported time frame
+   */
+  public static TimeFrame fromString(String value) {
+    if (value != null) {
+      String normalized = value.trim().toLowerCase(Locale.ROOT);
+      for (TimeFrame timeFrame : values()) {
+        if (timeFrame.code.equals(normalized)
+            || timeFrame.name().toLowerCase(Locale.ROOT).equals(normalized)) {
+          return timeFrame;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unsupported time frame: " + value);
+  }
+}
@@ -0,0 +1,8 @@
+package com.shoxys.budgetbuddy_backend.Enums;
+
+/** Defines the orders in which a user's full transaction history can be streamed. */
+public enum TransactionOrder {
+  UNSORTED,
+  OLDEST_FIRST,
+  NEWEST_FIRST
+}
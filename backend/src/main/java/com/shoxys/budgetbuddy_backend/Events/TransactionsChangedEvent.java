@@ -0,0 +1,17 @@
+package com.shoxys.budgetbuddy_backend.Events;
+
+/**
+ * Published when a user's transactions are created, updated, deleted or imported, so data derived
+ * from them can be refreshed once the change commits.
+ */
+public class TransactionsChangedEvent {
+  private final long userId;
+
+  public TransactionsChangedEvent(long userId) {
+    this.userId = userId;
+  }
+
+  public long getUserId() {
+    return userId;
+  }
+}
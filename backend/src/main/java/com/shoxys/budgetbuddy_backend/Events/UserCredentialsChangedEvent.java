@@ -0,0 +1,17 @@
+package com.shoxys.budgetbuddy_backend.Events;
+
+/**
+ * Published when a user's email or password changes or the account is deleted, so principals cached
+ * for the user's existing tokens are dropped once the change commits.
+ */
+public class UserCredentialsChangedEvent {
+  private final String email;
+
+  public UserCredentialsChangedEvent(String email) {
+    this.email = email;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+}
@@ -0,0 +1,11 @@
+package com.shoxys.budgetbuddy_backend.Exceptions;
+
+/**
+ * Exception thrown when the panels of a dashboard overview cannot all be built within the
+ * configured time limit.
+ */
+public class DashboardUnavailableException extends RuntimeException {
+  public DashboardUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -192,6 +193,37 @@ public class GlobalExceptionHandler {
         .body(new ErrorResponse(message, HttpStatus.NOT_FOUND));
   }
 
+  /**
+   * Handles PasswordHashingBusyException, returning a 503 response with a Retry-After header.
+   *
+   * @param ex the exception
+   * @return ResponseEntity with ErrorResponse
+   */
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(
+      PasswordHashingBusyException ex) {
+    String message = truncateMessage(ex.getMessage());
+    log.warn("Password hashing busy: {}", message);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(new ErrorResponse(message, HttpStatus.SERVICE_UNAVAILABLE));
+  }
+
+  /**
+   * Handles DashboardUnavailableException, returning a 503 response.
+   *
+   * @param ex the exception
+   * @return ResponseEntity with ErrorResponse
+   */
+  @ExceptionHandler(DashboardUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleDashboardUnavailableException(
+      DashboardUnavailableException ex) {
+    String message = truncateMessage(ex.getMessage());
+    log.warn("Dashboard unavailable: {}", message);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .body(new ErrorResponse(message, HttpStatus.SERVICE_UNAVAILABLE));
+  }
+
   /**
    * Handles IllegalArgumentException, returning a 400 response.
    *
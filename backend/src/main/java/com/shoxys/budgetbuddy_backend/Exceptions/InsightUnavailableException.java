@@ -0,0 +1,11 @@
+package com.shoxys.budgetbuddy_backend.Exceptions;
+
+/**
+ * Exception thrown when an insight API call is not attempted because the circuit breaker is open or
+ * the maximum number of concurrent calls is already in flight.
+ */
+public class InsightUnavailableException extends RuntimeException {
+  public InsightUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,18 @@
+package com.shoxys.budgetbuddy_backend.Exceptions;
+
+/**
+ * Exception thrown when the password hashing executor is saturated and a hash or verification
+ * cannot be started in time.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public PasswordHashingBusyException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -1,11 +1,17 @@
 package com.shoxys.budgetbuddy_backend.Repo;
 
+import com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.AccountSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.BreakdownItem;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +20,7 @@ import org.springframework.data.repository.query.Param;
  * Repository interface for managing {@link AccountRepo} entities, providing CRUD operations and
  * custom queries for retrieving and updating accounts based on user and account type.
  */
-public interface AccountRepo extends CrudRepository<Account, Long> {
+public interface AccountRepo extends CrudRepository<Account, Long>, AccountRepoCustom {
 
   /**
    * Calculates the total balance of all accounts for a given user.
@@ -26,20 +32,27 @@ public interface AccountRepo extends CrudRepository<Account, Long> {
   BigDecimal findTotalBalanceByUserId(@Param("userId") Long userId);
 
   /**
-   * Retrieves all accounts for a user, including type, name, and balance.
+   * Retrieves the ID, type, name, and balance of all accounts for a user, selecting only those
+   * columns.
    *
    * @param userId the ID of the user
-   * @return a list of accounts, or an empty list if none are found
+   * @return a list of account summaries, or an empty list if none are found
    */
-  List<Account> findAccountsTypeNameBalanceByUserId(long userId);
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Dashboard.AccountSummary(a.id, a.type,"
+          + " a.name, a.balance) FROM Account a WHERE a.user.id = :userId")
+  List<AccountSummary> findAccountsTypeNameBalanceByUserId(@Param("userId") long userId);
 
   /**
-   * Retrieves all accounts for a user, including name and balance.
+   * Retrieves the name and balance of all accounts for a user, selecting only those columns.
    *
    * @param userId the ID of the user
-   * @return a list of accounts, or an empty list if none are found
+   * @return a list of net worth breakdown items, or an empty list if none are found
    */
-  List<Account> findAccountsNameBalanceByUserId(long userId);
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Dashboard.BreakdownItem(a.name, a.balance)"
+          + " FROM Account a WHERE a.user.id = :userId")
+  List<BreakdownItem> findAccountsNameBalanceByUserId(@Param("userId") long userId);
 
   /**
    * Retrieves all accounts associated with a user.
@@ -76,4 +89,69 @@ public interface AccountRepo extends CrudRepository<Account, Long> {
    * @return an {@code Optional} containing the account, or empty if not found
    */
   Optional<Account> findByUserAndNameAndType(User user, String name, AccountType accountType);
+
+  /**
+   * Finds an account by user and bank account number.
+   *
+   * @param user the user entity
+   * @param accountNo the bank account number
+   * @return an {@code Optional} containing the account, or empty if not found
+   */
+  Optional<Account> findByUserAndAccountNo(User user, Integer accountNo);
+
+  /**
+   * Retrieves a page of accounts other than goal savings accounts after a cursor, in ID order, each
+   * with its opening balance plus the sum of its transaction amounts as the expected balance.
+   *
+   * @param afterId only accounts with a larger ID are returned
+   * @param goalSavings the goal savings account type, which is excluded
+   * @param pageable the page size, with the page number always 0
+   * @return the accounts' stored and expected balances
+   */
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck(a.id,"
+          + " a.balance, a.openingBalance + COALESCE(SUM(t.amount), 0)) FROM Account a"
+          + " LEFT JOIN Transaction t ON t.account = a WHERE a.id > :afterId"
+          + " AND a.type <> :goalSavings GROUP BY a.id, a.balance, a.openingBalance"
+          + " ORDER BY a.id")
+  List<AccountBalanceCheck> findTransactionBalanceChecks(
+      @Param("afterId") Long afterId,
+      @Param("goalSavings") AccountType goalSavings,
+      Pageable pageable);
+
+  /**
+   * Retrieves a page of goal savings accounts after a cursor, in ID order, each with the total
+   * contributed to its owner's saving goals as the expected balance.
+   *
+   * @param afterId only accounts with a larger ID are returned
+   * @param goalSavings the goal savings account type
+   * @param pageable the page size, with the page number always 0
+   * @return the accounts' stored and expected balances
+   */
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck(a.id,"
+          + " a.balance, SUM(g.contributed)) FROM Account a"
+          + " LEFT JOIN SavingGoal g ON g.user = a.user WHERE a.id > :afterId"
+          + " AND a.type = :goalSavings GROUP BY a.id, a.balance ORDER BY a.id")
+  List<AccountBalanceCheck> findGoalSavingsBalanceChecks(
+      @Param("afterId") Long afterId,
+      @Param("goalSavings") AccountType goalSavings,
+      Pageable pageable);
+
+  /**
+   * Overwrites an account's balance if it still holds the value it was checked against, so a repair
+   * never discards a change committed after the check.
+   *
+   * @param id the account ID
+   * @param expected the stored balance seen by the check
+   * @param balance the new balance
+   * @return the number of accounts updated, 0 if the balance has changed since the check
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE Account a SET a.balance = :balance WHERE a.id = :id AND a.balance = :expected")
+  int repairBalance(
+      @Param("id") Long id,
+      @Param("expected") BigDecimal expected,
+      @Param("balance") BigDecimal balance);
 }
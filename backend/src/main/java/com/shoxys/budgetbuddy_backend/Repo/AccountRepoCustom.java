@@ -0,0 +1,33 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for {@link Account} balance updates that must be applied atomically in
+ * the database rather than through a read-modify-write of the entity.
+ */
+public interface AccountRepoCustom {
+
+  /**
+   * Adds a delta to an account's balance with a single {@code UPDATE ... SET balance = balance +
+   * delta} and refreshes the given entity with the stored result.
+   *
+   * @param account the account to update
+   * @param delta the amount to add, negative to subtract
+   * @return the account's balance after the update
+   */
+  BigDecimal applyBalanceDelta(Account account, BigDecimal delta);
+
+  /**
+   * Adds a delta to an account's balance only if the result is not negative, with a single {@code
+   * UPDATE ... SET balance = balance + delta WHERE balance + delta >= 0}, and refreshes the given
+   * entity with the stored result.
+   *
+   * @param account the account to update
+   * @param delta the amount to add, negative to subtract
+   * @return the account's balance after the update, or empty if it would have gone negative
+   */
+  Optional<BigDecimal> applyNonNegativeBalanceDelta(Account account, BigDecimal delta);
+}
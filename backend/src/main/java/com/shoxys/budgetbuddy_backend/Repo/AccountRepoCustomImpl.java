@@ -0,0 +1,81 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JPA-backed implementation of {@link AccountRepoCustom}. Pending changes are flushed before the
+ * update so the increment applies on top of them, and the entity is refreshed afterwards so it is
+ * not written back with a stale balance.
+ */
+public class AccountRepoCustomImpl implements AccountRepoCustom {
+  private static final Logger logger = LoggerFactory.getLogger(AccountRepoCustomImpl.class);
+  private static final String APPLY_DELTA_JPQL =
+      "UPDATE Account a SET a.balance = a.balance + :delta WHERE a.id = :id";
+  private static final String APPLY_NON_NEGATIVE_DELTA_JPQL =
+      APPLY_DELTA_JPQL + " AND a.balance + :delta >= 0";
+  private static final String SELECT_BALANCE_JPQL =
+      "SELECT a.balance FROM Account a WHERE a.id = :id";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public BigDecimal applyBalanceDelta(Account account, BigDecimal delta) {
+    logger.debug("Applying balance delta: {} to account ID: {}", delta, account.getId());
+    if (update(APPLY_DELTA_JPQL, account, delta) == 0) {
+      throw notFound(account);
+    }
+    return refreshBalance(account);
+  }
+
+  @Override
+  @Transactional
+  public Optional<BigDecimal> applyNonNegativeBalanceDelta(Account account, BigDecimal delta) {
+    logger.debug(
+        "Applying non-negative balance delta: {} to account ID: {}", delta, account.getId());
+    if (update(APPLY_NON_NEGATIVE_DELTA_JPQL, account, delta) == 0) {
+      if (entityManager.find(Account.class, account.getId()) == null) {
+        throw notFound(account);
+      }
+      logger.debug("Balance delta: {} would overdraw account ID: {}", delta, account.getId());
+      return Optional.empty();
+    }
+    return Optional.of(refreshBalance(account));
+  }
+
+  private int update(String jpql, Account account, BigDecimal delta) {
+    entityManager.flush();
+    return entityManager
+        .createQuery(jpql)
+        .setParameter("delta", delta)
+        .setParameter("id", account.getId())
+        .executeUpdate();
+  }
+
+  private BigDecimal refreshBalance(Account account) {
+    if (entityManager.contains(account)) {
+      entityManager.refresh(account);
+    } else {
+      account.setBalance(
+          entityManager
+              .createQuery(SELECT_BALANCE_JPQL, BigDecimal.class)
+              .setParameter("id", account.getId())
+              .getSingleResult());
+    }
+    logger.debug("Account ID: {} balance is now: {}", account.getId(), account.getBalance());
+    return account.getBalance();
+  }
+
+  private AccountNotFoundException notFound(Account account) {
+    logger.error("Account not found for balance update: {}", account.getId());
+    return new AccountNotFoundException("Account not found: " + account.getId());
+  }
+}
@@ -0,0 +1,46 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionMismatch;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView;
+import com.shoxys.budgetbuddy_backend.Entities.GoalContribution;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for the append-only {@link GoalContribution} ledger, providing a goal's
+ * contribution history and a comparison of the ledger with the goals' stored totals.
+ */
+public interface GoalContributionRepo extends JpaRepository<GoalContribution, Long> {
+
+  /**
+   * Retrieves a page of a goal's contribution history older than a cursor, newest first. Uses the
+   * (goal_id, id) index, so the cost does not grow with how far back the page is.
+   *
+   * @param goalId the saving goal ID
+   * @param beforeId only entries with a smaller ID are returned
+   * @param pageable the page size, with the page number always 0
+   * @return the entries, or an empty list if none exist
+   */
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView(c.id,"
+          + " c.amount, c.type, c.createdAt) FROM GoalContribution c"
+          + " WHERE c.goal.id = :goalId AND c.id < :beforeId ORDER BY c.id DESC")
+  List<GoalContributionView> findHistoryBefore(
+      @Param("goalId") Long goalId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+  /**
+   * Retrieves every saving goal whose contributed amount differs from the sum of its ledger
+   * entries.
+   *
+   * @return the mismatched goals, or an empty list if the ledger agrees with every goal
+   */
+  @Query(
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionMismatch(g.id,"
+          + " g.contributed, SUM(c.amount)) FROM SavingGoal g"
+          + " LEFT JOIN GoalContribution c ON c.goal = g GROUP BY g.id, g.contributed"
+          + " HAVING g.contributed <> COALESCE(SUM(c.amount), 0)")
+  List<ContributionMismatch> findContributionMismatches();
+}
@@ -0,0 +1,85 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.ExpenseAnalysis;
+import com.shoxys.budgetbuddy_backend.Entities.MonthlyRollup;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for reading {@link MonthlyRollup} totals. Dashboard aggregates are served
+ * from these rows, which are far fewer than the transactions they summarize.
+ */
+@Repository
+public interface MonthlyRollupRepo
+    extends JpaRepository<MonthlyRollup, Long>, MonthlyRollupRepoCustom {
+
+  /**
+   * Sums a user's credits and debits per month and account kind within a half-open range of month
+   * start dates.
+   *
+   * @param userId the ID of the user
+   * @param start the first month start of the range, inclusive
+   * @param end the end of the range, exclusive
+   * @return rows of month start, spending flag, credit sum and debit sum
+   */
+  @Query(
+      "SELECT r.monthStart, r.spending, SUM(r.creditSum), SUM(r.debitSum) "
+          + "FROM MonthlyRollup r "
+          + "WHERE r.user.id = ?1 AND r.monthStart >= ?2 AND r.monthStart < ?3 "
+          + "GROUP BY r.monthStart, r.spending")
+  List<Object[]> sumByMonthAndSpending(
+      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+  /**
+   * Sums a user's credits per month within a half-open range of month start dates.
+   *
+   * @param userId the ID of the user
+   * @param start the first month start of the range, inclusive
+   * @param end the end of the range, exclusive
+   * @return rows of month start and credit sum, ordered by month
+   */
+  @Query(
+      "SELECT r.monthStart, SUM(r.creditSum) "
+          + "FROM MonthlyRollup r "
+          + "WHERE r.user.id = ?1 AND r.monthStart >= ?2 AND r.monthStart < ?3 "
+          + "GROUP BY r.monthStart "
+          + "ORDER BY r.monthStart")
+  List<Object[]> sumCreditByMonth(
+      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+  /**
+   * Retrieves the top 5 expense categories by total debit amount for a user, excluding transfers.
+   *
+   * @param userId the ID of the user
+   * @return a list of up to 5 expense analysis DTOs
+   */
+  @Query(
+      value =
+          """
+        SELECT category, SUM(debit_sum) AS total_amount
+        FROM monthly_rollups r
+        WHERE r.user_id = ?1
+          AND LOWER(category) NOT LIKE '%transfer%'
+        GROUP BY category
+        HAVING SUM(debit_sum) < 0
+        ORDER BY total_amount ASC
+        LIMIT 5
+        """,
+      nativeQuery = true)
+  List<ExpenseAnalysis> findTop5ExpenseCategoriesByAmount(@Param("userId") Long userId);
+
+  /**
+   * Deletes every rollup row of a user, ahead of rebuilding them.
+   *
+   * @param userId the ID of the user
+   * @return the number of rows deleted
+   */
+  @Modifying
+  @Query("DELETE FROM MonthlyRollup r WHERE r.user.id = ?1")
+  int deleteAllByUserId(@Param("userId") Long userId);
+}
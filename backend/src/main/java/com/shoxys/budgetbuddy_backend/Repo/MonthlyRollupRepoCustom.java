@@ -0,0 +1,21 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import com.shoxys.budgetbuddy_backend.Entities.MonthlyRollup;
+import java.util.List;
+
+/**
+ * Custom repository fragment for {@link MonthlyRollup} writes that add to existing totals rather
+ * than replace them.
+ */
+public interface MonthlyRollupRepoCustom {
+
+  /**
+   * Adds each delta to its rollup row in a single JDBC batch, creating rows that do not exist yet,
+   * and removes rows of the affected users that no longer count any transactions.
+   *
+   * @param deltas the deltas to apply, at most one per rollup row
+   * @return the number of deltas applied
+   */
+  int applyDeltas(List<MonthlyRollupDelta> deltas);
+}
@@ -0,0 +1,67 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import java.sql.Date;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC-backed implementation of {@link MonthlyRollupRepoCustom}. Each delta is applied with an
+ * upsert that increments the stored totals in place, so concurrent writers for the same month and
+ * category never overwrite each other's changes. The increments are bound a second time for the
+ * update clause rather than read back with the deprecated {@code VALUES()} function. Runs inside
+ * the caller's transaction.
+ */
+public class MonthlyRollupRepoCustomImpl implements MonthlyRollupRepoCustom {
+  private static final Logger logger = LoggerFactory.getLogger(MonthlyRollupRepoCustomImpl.class);
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO monthly_rollups
+        (user_id, month_start, category, spending, credit_sum, debit_sum, transaction_count)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      ON DUPLICATE KEY UPDATE
+        credit_sum = credit_sum + ?,
+        debit_sum = debit_sum + ?,
+        transaction_count = transaction_count + ?
+      """;
+  private static final String DELETE_EMPTY_SQL =
+      "DELETE FROM monthly_rollups WHERE user_id = ? AND transaction_count <= 0";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public MonthlyRollupRepoCustomImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public int applyDeltas(List<MonthlyRollupDelta> deltas) {
+    if (deltas == null || deltas.isEmpty()) {
+      return 0;
+    }
+    logger.debug("Applying {} monthly rollup deltas", deltas.size());
+    jdbcTemplate.batchUpdate(
+        UPSERT_SQL,
+        deltas,
+        deltas.size(),
+        (ps, delta) -> {
+          ps.setLong(1, delta.getUserId());
+          ps.setDate(2, Date.valueOf(delta.getMonthStart()));
+          ps.setString(3, delta.getCategory());
+          ps.setBoolean(4, delta.isSpending());
+          ps.setBigDecimal(5, delta.getCreditSum());
+          ps.setBigDecimal(6, delta.getDebitSum());
+          ps.setLong(7, delta.getTransactionCount());
+          ps.setBigDecimal(8, delta.getCreditSum());
+          ps.setBigDecimal(9, delta.getDebitSum());
+          ps.setLong(10, delta.getTransactionCount());
+        });
+    deltas.stream()
+        .filter(delta -> delta.getTransactionCount() < 0)
+        .map(MonthlyRollupDelta::getUserId)
+        .distinct()
+        .forEach(userId -> jdbcTemplate.update(DELETE_EMPTY_SQL, userId));
+    return deltas.size();
+  }
+}
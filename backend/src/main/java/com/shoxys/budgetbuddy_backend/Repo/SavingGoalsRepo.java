@@ -1,12 +1,16 @@
 package com.shoxys.budgetbuddy_backend.Repo;
 
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
 import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +21,14 @@ import org.springframework.data.repository.query.Param;
  */
 public interface SavingGoalsRepo extends JpaRepository<SavingGoal, Long> {
 
+  /**
+   * Selects {@link SavingGoalView} rows: the goal's own columns and its account's ID, without
+   * loading entities.
+   */
+  String VIEW_SELECT =
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView(g.id, g.title,"
+          + " g.target, g.contributed, g.date, g.imageRef, g.account.id) FROM SavingGoal g";
+
   /**
    * Retrieves the top 3 saving goals for a user, ordered by target amount in descending order.
    *
@@ -32,24 +44,30 @@ public interface SavingGoalsRepo extends JpaRepository<SavingGoal, Long> {
    * @param user the user entity
    * @return the title of the saving goal, or null if not found
    */
+  @Query("SELECT sg.title FROM SavingGoal sg WHERE sg.id = :id AND sg.user = :user")
   String findTitleForSavingGoalByIdAndUser(@Param("id") long id, @Param("user") User user);
 
   /**
-   * Deletes a saving goal by its ID and associated user.
+   * Finds a saving goal by its ID and associated user.
    *
    * @param id the saving goal ID
    * @param user the user entity
+   * @return an {@code Optional} containing the saving goal, or empty if not found
    */
-  void deleteSavingGoalByIdAndUser(@Param("id") long id, @Param("user") User user);
+  Optional<SavingGoal> findSavingGoalByIdAndUser(@Param("id") long id, @Param("user") User user);
 
   /**
-   * Finds a saving goal by its ID and associated user.
+   * Finds a saving goal by its ID and associated user and locks its row until the surrounding
+   * transaction ends. Contributions update the row, so they wait for the lock and the contributed
+   * amount read here stays current until the caller commits.
    *
    * @param id the saving goal ID
    * @param user the user entity
-   * @return an {@code Optional} containing the saving goal, or empty if not found
+   * @return an {@code Optional} containing the locked saving goal, or empty if not found
    */
-  Optional<SavingGoal> findSavingGoalByIdAndUser(@Param("id") long id, @Param("user") User user);
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<SavingGoal> findLockedSavingGoalByIdAndUser(
+      @Param("id") long id, @Param("user") User user);
 
   /**
    * Updates the contributed amount for a saving goal by adding the specified amount.
@@ -57,12 +75,13 @@ public interface SavingGoalsRepo extends JpaRepository<SavingGoal, Long> {
    * @param user the user entity
    * @param goalId the saving goal ID
    * @param contributed the amount to add to the existing contribution
+   * @return the number of goals updated, 0 if the user has no goal with that ID
    */
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Modifying(flushAutomatically = true)
   @Transactional
   @Query(
       "UPDATE SavingGoal sg SET sg.contributed = COALESCE(sg.contributed, 0) + ?3 WHERE sg.user = ?1 AND sg.id = ?2")
-  void updateSavingGoalContribution(
+  int updateSavingGoalContribution(
       @Param("user") User user,
       @Param("goalId") Long goalId,
       @Param("contributed") BigDecimal contributed);
@@ -77,59 +96,50 @@ public interface SavingGoalsRepo extends JpaRepository<SavingGoal, Long> {
   BigDecimal sumContributionsByUser(@Param("user") User user);
 
   /**
-   * Counts the total number of saving goals for a user.
-   *
-   * @param user the user entity
-   * @return the number of saving goals
-   */
-  @Query("SELECT COUNT(g) FROM SavingGoal g WHERE g.user = ?1")
-  int findCountSavingGoalsByUser(@Param("user") User user);
-
-  /**
-   * Counts the number of in-progress saving goals (target not yet reached) for a user.
-   *
-   * @param user the user entity
-   * @return the number of in-progress saving goals
-   */
-  @Query("SELECT COUNT(g) FROM SavingGoal g WHERE g.target > g.contributed AND g.user = ?1")
-  int findCountInProgressSavingGoalsByUser(@Param("user") User user);
-
-  /**
-   * Counts the number of overdue saving goals (target not reached and past due date) for a user.
+   * Summarizes all of a user's saving goals in one row: the total, completed, in-progress and
+   * overdue counts, the target and contributed totals, and the average progress, with each goal's
+   * progress capped at its target.
    *
    * @param user the user entity
-   * @return the number of overdue saving goals
+   * @return the summary; counts are zero and sums null when the user has no goals
    */
   @Query(
-      "SELECT COUNT(g) FROM SavingGoal g WHERE g.target > g.contributed AND g.user = ?1 AND g.date < CURDATE()")
-  int findCountOverdueSavingGoalsByUser(@Param("user") User user);
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsSummary(COUNT(g),"
+          + " SUM(CASE WHEN g.target <= g.contributed THEN 1 ELSE 0 END),"
+          + " SUM(CASE WHEN g.target > g.contributed THEN 1 ELSE 0 END),"
+          + " SUM(CASE WHEN g.target > g.contributed AND g.date < CURRENT_DATE THEN 1 ELSE 0 END),"
+          + " SUM(g.target), SUM(g.contributed),"
+          + " AVG(CASE WHEN g.target <= g.contributed THEN 1.0 ELSE g.contributed / g.target END))"
+          + " FROM SavingGoal g WHERE g.user = ?1")
+  GoalStatsSummary summarizeSavingGoalsByUser(@Param("user") User user);
 
   /**
-   * Counts the number of completed saving goals (target reached) for a user.
+   * Retrieves all pending saving goals (target not yet reached) for a user.
    *
    * @param user the user entity
-   * @return the number of completed saving goals
+   * @return a list of pending saving goal views, or an empty list if none exist
    */
-  @Query("SELECT COUNT(g) FROM SavingGoal g WHERE g.target <= g.contributed AND g.user = ?1")
-  int findCountCompletedSavingGoalsByUser(@Param("user") User user);
+  @Query(VIEW_SELECT + " WHERE g.target > g.contributed AND g.user = ?1")
+  List<SavingGoalView> findPendingSavingGoalsForUser(@Param("user") User user);
 
   /**
-   * Retrieves all pending saving goals (target not yet reached) for a user.
+   * Retrieves all completed saving goals (target reached) for a user.
    *
    * @param user the user entity
-   * @return a list of pending saving goals, or an empty list if none exist
+   * @return a list of completed saving goal views, or an empty list if none exist
    */
-  @Query("SELECT g FROM SavingGoal g WHERE g.target > g.contributed AND g.user = ?1")
-  List<SavingGoal> findPendingSavingGoalsForUser(@Param("user") User user);
+  @Query(VIEW_SELECT + " WHERE g.target <= g.contributed AND g.user = ?1")
+  List<SavingGoalView> findCompletedSavingGoalsForUser(@Param("user") User user);
 
   /**
-   * Retrieves all completed saving goals (target reached) for a user.
+   * Finds a view of a saving goal by its ID and associated user.
    *
+   * @param id the saving goal ID
    * @param user the user entity
-   * @return a list of completed saving goals, or an empty list if none exist
+   * @return an {@code Optional} containing the saving goal view, or empty if not found
    */
-  @Query("SELECT g FROM SavingGoal g WHERE g.target <= g.contributed AND g.user = ?1")
-  List<SavingGoal> findCompletedSavingGoalsForUser(@Param("user") User user);
+  @Query(VIEW_SELECT + " WHERE g.id = :id AND g.user = :user")
+  Optional<SavingGoalView> findViewByIdAndUser(@Param("id") long id, @Param("user") User user);
 
   /**
    * Checks if a saving goal exists by its ID and associated user.
@@ -0,0 +1,19 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.Entities.SpendingInsightCache;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** Repository interface for the stored {@link SpendingInsightCache} of each user. */
+@Repository
+public interface SpendingInsightCacheRepo extends JpaRepository<SpendingInsightCache, Long> {
+
+  /**
+   * Finds the stored insights of a user.
+   *
+   * @param userId the ID of the user
+   * @return the stored insights, or empty if none have been generated yet
+   */
+  Optional<SpendingInsightCache> findByUser_Id(Long userId);
+}
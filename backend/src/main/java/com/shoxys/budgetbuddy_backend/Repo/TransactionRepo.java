@@ -2,16 +2,21 @@ package com.shoxys.budgetbuddy_backend.Repo;
 
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.ExpenseAnalysis;
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.RecentTransactions;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,123 +27,178 @@ import org.springframework.stereotype.Repository;
  * date ranges.
  */
 @Repository
-public interface TransactionRepo extends JpaRepository<Transaction, Long> {
+public interface TransactionRepo extends JpaRepository<Transaction, Long>, TransactionRepoCustom {
 
   /**
-   * Retrieves all transactions for a user.
+   * Selects {@link TransactionView} rows: the transaction's own columns plus its account's ID and
+   * name, without loading entities or the user.
+   */
+  String VIEW_SELECT =
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView(t.id, t.date,"
+          + " t.amount, t.description, t.category, t.merchant, t.balanceAtTransaction, t.source,"
+          + " a.id, a.name) FROM Transaction t LEFT JOIN t.account a";
+
+  /** Counts a user's transactions, for the total of a page of views. */
+  String COUNT_BY_USER = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId";
+
+  /**
+   * Aggregates a user's transactions into a {@link TransactionSummaryResponse} in one pass: count,
+   * date range, and credit and debit totals.
+   */
+  String SUMMARY_SELECT =
+      "SELECT new com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse("
+          + "COUNT(t), MIN(t.date), MAX(t.date),"
+          + " COALESCE(SUM(CASE WHEN t.amount > 0 THEN t.amount END), 0),"
+          + " COALESCE(SUM(CASE WHEN t.amount < 0 THEN t.amount END), 0))"
+          + " FROM Transaction t WHERE t.user.id = :userId";
+
+  /**
+   * Retrieves views of a user's transactions within a date range.
    *
    * @param userId the ID of the user
-   * @return a list of transactions, or an empty list if none exist
+   * @param startDate the start date of the range
+   * @param endDate the end date of the range
+   * @return a list of transaction views, or an empty list if none exist
    */
-  List<Transaction> findByUser_Id(@Param("userId") Long userId);
+  @Query(VIEW_SELECT + " WHERE t.user.id = :userId AND t.date BETWEEN :startDate AND :endDate")
+  List<TransactionView> findByUserIdAndDateBetween(
+      @Param("userId") Long userId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
 
   /**
-   * Retrieves transactions for a user within a date range using a native query.
+   * Summarizes a user's transactions within a date range.
    *
    * @param userId the ID of the user
    * @param startDate the start date of the range
    * @param endDate the end date of the range
-   * @return a list of transactions, or an empty list if none exist
+   * @return the summary; its count is zero and its dates null if no transactions match
    */
-  @Query(
-      value = "SELECT * FROM transactions WHERE user_id = ?1 AND date BETWEEN ?2 AND ?3",
-      nativeQuery = true)
-  List<Transaction> findByUserIdAndDateBetween(
+  @Query(SUMMARY_SELECT + " AND t.date BETWEEN :startDate AND :endDate")
+  TransactionSummaryResponse summarizeByUserIdAndDateBetween(
       @Param("userId") Long userId,
       @Param("startDate") LocalDate startDate,
       @Param("endDate") LocalDate endDate);
 
   /**
-   * Retrieves paginated transactions for a user, ordered by date ascending.
+   * Summarizes a user's transactions dated on or before a given day.
+   *
+   * @param userId the ID of the user
+   * @param endDate the last date to include
+   * @return the summary; its count is zero and its dates null if no transactions match
+   */
+  @Query(SUMMARY_SELECT + " AND t.date <= :endDate")
+  TransactionSummaryResponse summarizeByUserIdUpTo(
+      @Param("userId") Long userId, @Param("endDate") LocalDate endDate);
+
+  /**
+   * Retrieves a page of views of a user's transactions, ordered by date ascending.
    *
    * @param userId the ID of the user
    * @param pageable pagination information
-   * @return a page of transactions
+   * @return a page of transaction views
    */
-  Page<Transaction> findByUser_IdOrderByDateAsc(
+  @Query(
+      value = VIEW_SELECT + " WHERE t.user.id = :userId ORDER BY t.date ASC",
+      countQuery = COUNT_BY_USER)
+  Page<TransactionView> findByUser_IdOrderByDateAsc(
       @Param("userId") Long userId, @Param("pageable") Pageable pageable);
 
   /**
-   * Retrieves paginated transactions for a user, ordered by date descending.
+   * Retrieves a page of views of a user's transactions, ordered by date descending.
    *
    * @param userId the ID of the user
    * @param pageable pagination information
-   * @return a page of transactions
+   * @return a page of transaction views
    */
-  Page<Transaction> findByUser_IdOrderByDateDesc(
+  @Query(
+      value = VIEW_SELECT + " WHERE t.user.id = :userId ORDER BY t.date DESC",
+      countQuery = COUNT_BY_USER)
+  Page<TransactionView> findByUser_IdOrderByDateDesc(
       @Param("userId") Long userId, @Param("pageable") Pageable pageable);
 
   /**
-   * Retrieves all transactions for a user, ordered by date ascending.
+   * Retrieves views of a user's first transactions in keyset order, newest first. Returns a list so
+   * no count query is issued.
    *
    * @param userId the ID of the user
-   * @return a list of transactions, or an empty list if none exist
+   * @param pageable the number of rows to fetch
+   * @return a list of transaction views, or an empty list if none exist
    */
-  List<Transaction> findByUser_IdOrderByDateAsc(@Param("userId") Long userId);
+  @Query(VIEW_SELECT + " WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+  List<TransactionView> findByUser_IdOrderByDateDescIdDesc(
+      @Param("userId") Long userId, Pageable pageable);
 
   /**
-   * Retrieves all transactions for a user, ordered by date descending.
+   * Retrieves views of a user's first transactions in keyset order, oldest first. Returns a list so
+   * no count query is issued.
    *
    * @param userId the ID of the user
-   * @return a list of transactions, or an empty list if none exist
+   * @param pageable the number of rows to fetch
+   * @return a list of transaction views, or an empty list if none exist
    */
-  List<Transaction> findByUser_IdOrderByDateDesc(@Param("userId") Long userId);
+  @Query(VIEW_SELECT + " WHERE t.user.id = :userId ORDER BY t.date ASC, t.id ASC")
+  List<TransactionView> findByUser_IdOrderByDateAscIdAsc(
+      @Param("userId") Long userId, Pageable pageable);
 
   /**
-   * Retrieves all transactions for an account, ordered by date descending.
+   * Retrieves the user's transactions that come before a {@code (date, id)} position, newest first.
+   * Seeks on the (user_id, date) index, so the cost does not grow with the position.
    *
-   * @param account the account entity
-   * @return a list of transactions, or an empty list if none exist
+   * @param userId the ID of the user
+   * @param date the date of the row to seek from
+   * @param id the ID of the row to seek from
+   * @param pageable the number of rows to fetch
+   * @return a list of transaction views, or an empty list if none exist
    */
-  List<Transaction> findByAccountOrderByDateDesc(@Param("account") Account account);
+  @Query(
+      VIEW_SELECT
+          + " WHERE t.user.id = :userId"
+          + " AND (t.date < :date OR (t.date = :date AND t.id < :id))"
+          + " ORDER BY t.date DESC, t.id DESC")
+  List<TransactionView> findPageBefore(
+      @Param("userId") Long userId,
+      @Param("date") LocalDate date,
+      @Param("id") Long id,
+      Pageable pageable);
 
   /**
-   * Calculates the total credit amount for a user's spending account transactions this month.
+   * Retrieves the user's transactions that come after a {@code (date, id)} position, oldest first.
+   * Seeks on the (user_id, date) index, so the cost does not grow with the position.
    *
    * @param userId the ID of the user
-   * @return the sum of credit amounts, or null if none exist
+   * @param date the date of the row to seek from
+   * @param id the ID of the row to seek from
+   * @param pageable the number of rows to fetch
+   * @return a list of transaction views, or an empty list if none exist
    */
   @Query(
-      value =
-          """
-        SELECT SUM(t.amount)
-        FROM transactions t
-        JOIN accounts a ON t.account_id = a.id
-        WHERE t.user_id = ?1
-          AND a.type = 'SPENDING'
-          AND t.amount > 0
-          AND MONTH(t.date) = MONTH(CURRENT_DATE())
-          AND YEAR(t.date) = YEAR(CURRENT_DATE())
-        """,
-      nativeQuery = true)
-  BigDecimal getTotalCreditThisMonth(@Param("userId") Long userId);
+      VIEW_SELECT
+          + " WHERE t.user.id = :userId"
+          + " AND (t.date > :date OR (t.date = :date AND t.id > :id))"
+          + " ORDER BY t.date ASC, t.id ASC")
+  List<TransactionView> findPageAfter(
+      @Param("userId") Long userId,
+      @Param("date") LocalDate date,
+      @Param("id") Long id,
+      Pageable pageable);
 
   /**
-   * Calculates the total credit amount for a user within a date range.
+   * Counts a user's transactions.
    *
    * @param userId the ID of the user
-   * @param start the start date of the range
-   * @param end the end date of the range
-   * @return the sum of credit amounts, or null if none exist
+   * @return the number of transactions
    */
-  @Query(
-      value =
-          """
-        SELECT SUM(t.amount)
-        FROM transactions t
-        WHERE t.user_id = ?1
-          AND t.amount > 0
-          AND t.date BETWEEN ?2 AND ?3
-        """,
-      nativeQuery = true)
-  BigDecimal getTotalCreditBetween(
-      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
+  long countByUser_Id(Long userId);
 
   /**
-   * Calculates the total debit amount for a user's spending account transactions this month.
+   * Calculates the total credit amount for a user's spending account transactions within a
+   * half-open date range, such as a calendar month resolved in the user's time zone.
    *
    * @param userId the ID of the user
-   * @return the sum of debit amounts, or null if none exist
+   * @param start the first date of the range, inclusive
+   * @param end the end of the range, exclusive
+   * @return the sum of credit amounts, or null if none exist
    */
   @Query(
       value =
@@ -148,19 +208,21 @@ public interface TransactionRepo extends JpaRepository<Transaction, Long> {
         JOIN accounts a ON t.account_id = a.id
         WHERE t.user_id = ?1
           AND a.type = 'SPENDING'
-          AND t.amount < 0
-          AND MONTH(t.date) = MONTH(CURRENT_DATE())
-          AND YEAR(t.date) = YEAR(CURRENT_DATE())
+          AND t.amount > 0
+          AND t.date >= ?2
+          AND t.date < ?3
         """,
       nativeQuery = true)
-  BigDecimal getTotalDebitThisMonth(@Param("userId") Long userId);
+  BigDecimal getSpendingCreditBetween(
+      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
 
   /**
-   * Calculates the total debit amount for a user within a date range.
+   * Calculates the total debit amount for a user's spending account transactions within a half-open
+   * date range, such as a calendar month resolved in the user's time zone.
    *
    * @param userId the ID of the user
-   * @param startDate the start date of the range
-   * @param endDate the end date of the range
+   * @param start the first date of the range, inclusive
+   * @param end the end of the range, exclusive
    * @return the sum of debit amounts, or null if none exist
    */
   @Query(
@@ -168,30 +230,35 @@ public interface TransactionRepo extends JpaRepository<Transaction, Long> {
           """
         SELECT SUM(t.amount)
         FROM transactions t
+        JOIN accounts a ON t.account_id = a.id
         WHERE t.user_id = ?1
+          AND a.type = 'SPENDING'
           AND t.amount < 0
-          AND t.date BETWEEN ?2 AND ?3
+          AND t.date >= ?2
+          AND t.date < ?3
         """,
       nativeQuery = true)
-  BigDecimal getTotalDebitBetween(
-      @Param("userId") Long userId,
-      @Param("startDate") LocalDate startDate,
-      @Param("endDate") LocalDate endDate);
+  BigDecimal getSpendingDebitBetween(
+      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
 
   /**
-   * Retrieves monthly income totals for a user in a given year.
+   * Retrieves monthly income totals for a user within a half-open date range, such as a calendar
+   * year resolved in the user's time zone. The range should not span more than twelve months, as
+   * rows are grouped by month number.
    *
    * @param userId the ID of the user
-   * @param year the year for which to retrieve income
+   * @param start the first date of the range, inclusive
+   * @param end the end of the range, exclusive
    * @return a list of objects containing month and total income
    */
   @Query(
       "SELECT MONTH(t.date) as month, SUM(t.amount) as income "
           + "FROM Transaction t "
-          + "WHERE t.amount > 0 AND t.user.id = ?1 AND YEAR(t.date) = ?2 "
+          + "WHERE t.amount > 0 AND t.user.id = ?1 AND t.date >= ?2 AND t.date < ?3 "
           + "GROUP BY MONTH(t.date) "
           + "ORDER BY MONTH(t.date)")
-  List<Object[]> getMonthlyIncomeForYear(@Param("userId") Long userId, @Param("year") int year);
+  List<Object[]> getMonthlyIncomeBetween(
+      @Param("userId") Long userId, @Param("start") LocalDate start, @Param("end") LocalDate end);
 
   /**
    * Retrieves the top 5 expense categories by total amount for a user, excluding transfers.
@@ -241,6 +308,83 @@ public interface TransactionRepo extends JpaRepository<Transaction, Long> {
    */
   Optional<Transaction> findTransactionByUserAndId(@Param("user") User user, @Param("id") long id);
 
+  /**
+   * Finds the transactions with the given IDs that belong to a user.
+   *
+   * @param user the user entity
+   * @param ids the transaction IDs
+   * @return the matching transactions, in no particular order
+   */
+  List<Transaction> findAllByUserAndIdIn(
+      @Param("user") User user, @Param("ids") Collection<Long> ids);
+
+  /**
+   * Finds a view of a transaction by its ID and owning user.
+   *
+   * @param userId the ID of the user
+   * @param id the transaction ID
+   * @return an {@code Optional} containing the transaction view, or empty if not found
+   */
+  @Query(VIEW_SELECT + " WHERE t.user.id = :userId AND t.id = :id")
+  Optional<TransactionView> findViewByUserIdAndId(
+      @Param("userId") Long userId, @Param("id") Long id);
+
+  /**
+   * Finds the most recent transaction posted to an account, resolved with a single-row query on the
+   * (account_id, date) index. Transactions on the same date are ordered by insertion, matching the
+   * order of a newest-first bank export.
+   *
+   * @param account the account entity
+   * @return an {@code Optional} containing the latest transaction, or empty if none exist
+   */
+  Optional<Transaction> findFirstByAccountOrderByDateDescIdAsc(Account account);
+
+  /**
+   * Sums the amounts of the given transactions per account, for applying the balance change of a
+   * bulk delete.
+   *
+   * @param ids the transaction IDs
+   * @param user the user entity
+   * @return rows of [Account, BigDecimal sum]
+   */
+  @Query(
+      "SELECT t.account, SUM(t.amount) FROM Transaction t WHERE t.user = :user AND t.id IN :ids"
+          + " AND t.account IS NOT NULL GROUP BY t.account")
+  List<Object[]> sumAmountsByAccountForIds(
+      @Param("ids") Collection<Long> ids, @Param("user") User user);
+
+  /**
+   * Summarizes the given transactions per calendar month, category and account type, for removing
+   * them from the monthly rollups before a bulk delete.
+   *
+   * @param ids the transaction IDs
+   * @param user the user entity
+   * @return rows of [year, month, category, AccountType, credit sum, debit sum, count]
+   */
+  @Query(
+      "SELECT YEAR(t.date), MONTH(t.date), t.category, a.type,"
+          + " SUM(CASE WHEN t.amount > 0 THEN t.amount ELSE 0 END),"
+          + " SUM(CASE WHEN t.amount < 0 THEN t.amount ELSE 0 END), COUNT(t)"
+          + " FROM Transaction t LEFT JOIN t.account a WHERE t.user = :user AND t.id IN :ids"
+          + " GROUP BY YEAR(t.date), MONTH(t.date), t.category, a.type")
+  List<Object[]> summarizeByMonthForIds(
+      @Param("ids") Collection<Long> ids, @Param("user") User user);
+
+  /**
+   * Summarizes all of a user's transactions per calendar month, category and account type, for
+   * rebuilding the user's monthly rollups.
+   *
+   * @param userId the ID of the user
+   * @return rows of [year, month, category, AccountType, credit sum, debit sum, count]
+   */
+  @Query(
+      "SELECT YEAR(t.date), MONTH(t.date), t.category, a.type,"
+          + " SUM(CASE WHEN t.amount > 0 THEN t.amount ELSE 0 END),"
+          + " SUM(CASE WHEN t.amount < 0 THEN t.amount ELSE 0 END), COUNT(t)"
+          + " FROM Transaction t LEFT JOIN t.account a WHERE t.user.id = :userId"
+          + " GROUP BY YEAR(t.date), MONTH(t.date), t.category, a.type")
+  List<Object[]> summarizeByMonthForUser(@Param("userId") Long userId);
+
   /**
    * Calculates the total amount of transactions for an account.
    *
@@ -251,10 +395,27 @@ public interface TransactionRepo extends JpaRepository<Transaction, Long> {
   BigDecimal sumAmountsByAccount(@Param("account") Account account);
 
   /**
-   * Deletes multiple transactions by their IDs and associated user.
+   * Deletes multiple transactions by their IDs and associated user with a single statement, without
+   * loading them.
    *
-   * @param ids the list of transaction IDs
+   * @param ids the transaction IDs
    * @param user the user entity
+   * @return the number of transactions deleted
    */
-  void deleteAllByIdInAndUser(@Param("ids") List<Long> ids, @Param("user") User user);
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("DELETE FROM Transaction t WHERE t.user = :user AND t.id IN :ids")
+  int deleteAllByIdInAndUser(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+  /**
+   * Returns which of the given fingerprints already exist among a user's transactions.
+   *
+   * @param user the user entity
+   * @param fingerprints the fingerprints to look up
+   * @return the subset of fingerprints that are already stored
+   */
+  @Query(
+      "SELECT t.fingerprint FROM Transaction t WHERE t.user = :user AND t.fingerprint IN"
+          + " :fingerprints")
+  Set<String> findExistingFingerprints(
+      @Param("user") User user, @Param("fingerprints") Collection<String> fingerprints);
 }
@@ -0,0 +1,59 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for {@link Transaction} operations that bypass the persistence
+ * context, such as JDBC batch inserts for bulk CSV imports and batched API writes, and streaming
+ * reads for exports.
+ */
+public interface TransactionRepoCustom {
+
+  /**
+   * Inserts the given transactions using a single JDBC batch. The transactions are not attached to
+   * the persistence context and their IDs are not populated.
+   *
+   * @param transactions the transactions to insert
+   * @return the number of transactions inserted
+   */
+  int batchInsert(List<Transaction> transactions);
+
+  /**
+   * Inserts the given transactions using a single JDBC batch and sets each transaction's generated
+   * ID. The transactions are not attached to the persistence context.
+   *
+   * @param transactions the transactions to insert
+   * @return the number of transactions inserted
+   */
+  int batchInsertReturningIds(List<Transaction> transactions);
+
+  /**
+   * Streams views of all transactions for a user in no particular order. Rows are fetched from the
+   * database as the stream is consumed, so the caller must hold a transaction open and close the
+   * stream. Views are not managed entities, so the persistence context does not grow as the stream
+   * is read.
+   *
+   * @param userId the ID of the user
+   * @return a stream of transaction views
+   */
+  Stream<TransactionView> streamByUserId(Long userId);
+
+  /**
+   * Streams all transactions for a user, oldest first. See {@link #streamByUserId(Long)}.
+   *
+   * @param userId the ID of the user
+   * @return a stream of transaction views
+   */
+  Stream<TransactionView> streamByUserIdOldestFirst(Long userId);
+
+  /**
+   * Streams all transactions for a user, newest first. See {@link #streamByUserId(Long)}.
+   *
+   * @param userId the ID of the user
+   * @return a stream of transaction views
+   */
+  Stream<TransactionView> streamByUserIdNewestFirst(Long userId);
+}
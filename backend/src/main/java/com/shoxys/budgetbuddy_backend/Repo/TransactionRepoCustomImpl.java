@@ -0,0 +1,131 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC-backed implementation of {@link TransactionRepoCustom}. Runs inside the caller's
+ * transaction, so batch inserts commit or roll back together with the surrounding JPA work.
+ *
+ * <p>Streaming reads set the JDBC fetch size from {@code transaction.stream.fetch-size} on their
+ * own statement only. On MySQL Connector/J a fetch size of {@link Integer#MIN_VALUE} streams rows
+ * one at a time over the connection without needing {@code useCursorFetch}, which would otherwise
+ * switch every statement in the application to server-side prepared statements.
+ */
+public class TransactionRepoCustomImpl implements TransactionRepoCustom {
+  private static final Logger logger = LoggerFactory.getLogger(TransactionRepoCustomImpl.class);
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO transactions
+        (date, amount, description, category, merchant, balance_at_transaction, source,
+         fingerprint, account_id, user_id)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String STREAM_BY_USER =
+      TransactionRepo.VIEW_SELECT + " WHERE t.user.id = :userId";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int streamFetchSize;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public TransactionRepoCustomImpl(
+      JdbcTemplate jdbcTemplate,
+      @Value("${transaction.stream.fetch-size:500}") int streamFetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.streamFetchSize = streamFetchSize;
+  }
+
+  @Override
+  public int batchInsert(List<Transaction> transactions) {
+    if (transactions == null || transactions.isEmpty()) {
+      return 0;
+    }
+    logger.debug("Batch inserting {} transactions", transactions.size());
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL, transactions, transactions.size(), TransactionRepoCustomImpl::bind);
+    logger.debug("Batch inserted {} transactions", transactions.size());
+    return transactions.size();
+  }
+
+  @Override
+  public int batchInsertReturningIds(List<Transaction> transactions) {
+    if (transactions == null || transactions.isEmpty()) {
+      return 0;
+    }
+    logger.debug("Batch inserting {} transactions with generated IDs", transactions.size());
+    return jdbcTemplate.execute(
+        (ConnectionCallback<Integer>)
+            connection -> {
+              try (PreparedStatement ps =
+                  connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Transaction transaction : transactions) {
+                  bind(ps, transaction);
+                  ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                  for (Transaction transaction : transactions) {
+                    if (!keys.next()) {
+                      throw new SQLException("Missing generated key for batch insert");
+                    }
+                    transaction.setId(keys.getLong(1));
+                  }
+                }
+              }
+              return transactions.size();
+            });
+  }
+
+  @Override
+  public Stream<TransactionView> streamByUserId(Long userId) {
+    return stream(STREAM_BY_USER, userId);
+  }
+
+  @Override
+  public Stream<TransactionView> streamByUserIdOldestFirst(Long userId) {
+    return stream(STREAM_BY_USER + " ORDER BY t.date ASC, t.id ASC", userId);
+  }
+
+  @Override
+  public Stream<TransactionView> streamByUserIdNewestFirst(Long userId) {
+    return stream(STREAM_BY_USER + " ORDER BY t.date DESC, t.id DESC", userId);
+  }
+
+  private Stream<TransactionView> stream(String jpql, Long userId) {
+    logger.debug("Streaming transactions for user {} with fetch size {}", userId, streamFetchSize);
+    return entityManager
+        .createQuery(jpql, TransactionView.class)
+        .setParameter("userId", userId)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+        .getResultStream();
+  }
+
+  private static void bind(PreparedStatement ps, Transaction transaction) throws SQLException {
+    ps.setDate(1, Date.valueOf(transaction.getDate()));
+    ps.setBigDecimal(2, transaction.getAmount());
+    ps.setString(3, transaction.getDescription());
+    ps.setString(4, transaction.getCategory());
+    ps.setString(5, transaction.getMerchant());
+    ps.setBigDecimal(6, transaction.getBalanceAtTransaction());
+    ps.setString(7, transaction.getSource().name());
+    ps.setString(8, transaction.getFingerprint());
+    ps.setObject(9, transaction.getAccount() != null ? transaction.getAccount().getId() : null);
+    ps.setObject(10, transaction.getUser() != null ? transaction.getUser().getId() : null);
+  }
+}
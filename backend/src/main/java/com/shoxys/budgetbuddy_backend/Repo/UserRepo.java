@@ -1,8 +1,10 @@
 package com.shoxys.budgetbuddy_backend.Repo;
 
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +21,7 @@ public interface UserRepo extends JpaRepository<User, Long> {
    * @param email the user's email
    * @return the user ID, or null if not found
    */
+  @Query("SELECT u.id FROM User u WHERE u.email = :email")
   Long getUserIdByEmail(@Param("email") String email);
 
   /**
@@ -44,4 +47,21 @@ public interface UserRepo extends JpaRepository<User, Long> {
    * @return an {@code Optional} containing the user, or empty if not found
    */
   Optional<User> getUserByEmail(@Param("email") String email);
+
+  /**
+   * Retrieves a user's configured time zone without loading the user entity.
+   *
+   * @param userId the ID of the user
+   * @return an {@code Optional} containing the IANA zone ID, or empty if none is set
+   */
+  @Query("SELECT u.timeZone FROM User u WHERE u.id = :userId")
+  Optional<String> findTimeZoneById(@Param("userId") Long userId);
+
+  /**
+   * Retrieves the IDs of all users in ascending order.
+   *
+   * @return the list of user IDs
+   */
+  @Query("SELECT u.id FROM User u ORDER BY u.id")
+  List<Long> findAllIds();
 }
@@ -0,0 +1,35 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+/**
+ * Lightweight reference to the user making the current request, resolved from the authenticated
+ * principal. Controllers receive it as a handler argument and pass the ID to services, so no
+ * request has to look the user up by email.
+ */
+public final class AuthenticatedUser {
+  private final long id;
+  private final String email;
+
+  /**
+   * Constructs an {@code AuthenticatedUser} with the specified ID and email.
+   *
+   * @param id the user's ID
+   * @param email the user's email
+   */
+  public AuthenticatedUser(long id, String email) {
+    this.id = id;
+    this.email = email;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  @Override
+  public String toString() {
+    return email;
+  }
+}
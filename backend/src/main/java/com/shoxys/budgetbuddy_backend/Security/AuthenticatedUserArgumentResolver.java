@@ -0,0 +1,48 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link AuthenticatedUser} handler arguments from the principal placed in the security
+ * context by {@link JwtAuthFilter}. The principal already carries the user's ID, so resolution
+ * needs no database access. Like {@code @AuthenticationPrincipal}, the argument is null when the
+ * request is not authenticated, leaving the response to the controller.
+ */
+public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
+  private static final Logger logger =
+      LoggerFactory.getLogger(AuthenticatedUserArgumentResolver.class);
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return AuthenticatedUser.class.equals(parameter.getParameterType());
+  }
+
+  /**
+   * Resolves the authenticated user of the current request.
+   *
+   * @return the authenticated user, or null if the request is not authenticated
+   */
+  @Override
+  public AuthenticatedUser resolveArgument(
+      MethodParameter parameter,
+      ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest,
+      WebDataBinderFactory binderFactory) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof AppUserDetails userDetails
+        && userDetails.getId() != null) {
+      return new AuthenticatedUser(userDetails.getId(), userDetails.getUsername());
+    }
+    logger.debug("No authenticated user for {}", parameter.getExecutable().getName());
+    return null;
+  }
+}
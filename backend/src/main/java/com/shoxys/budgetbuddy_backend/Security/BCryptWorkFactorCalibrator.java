@@ -0,0 +1,54 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt strength for this machine: the highest strength within the configured bounds
+ * whose hash time stays within the target. Each strength step doubles the cost, so calibration
+ * takes roughly twice the target in total. Stored hashes record their own strength, so existing
+ * passwords still verify after the chosen strength changes.
+ */
+public final class BCryptWorkFactorCalibrator {
+  private static final Logger logger = LoggerFactory.getLogger(BCryptWorkFactorCalibrator.class);
+  private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+  private BCryptWorkFactorCalibrator() {}
+
+  /**
+   * Measures BCrypt hash times and returns the strength to use.
+   *
+   * @param target the target time per hash
+   * @param minStrength the lowest strength to use, even if it exceeds the target
+   * @param maxStrength the highest strength to use
+   * @return the calibrated strength
+   * @throws IllegalArgumentException if the bounds are outside BCrypt's 4 to 31 range or reversed
+   */
+  public static int calibrate(Duration target, int minStrength, int maxStrength) {
+    if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+      throw new IllegalArgumentException(
+          "BCrypt strength bounds must satisfy 4 <= min <= max <= 31");
+    }
+    int strength = minStrength;
+    long elapsedNanos = time(strength);
+    while (strength < maxStrength && elapsedNanos * 2 <= target.toNanos()) {
+      strength++;
+      elapsedNanos = time(strength);
+    }
+    logger.info(
+        "Calibrated BCrypt strength {} ({} ms per hash, target {} ms)",
+        strength,
+        elapsedNanos / 1_000_000,
+        target.toMillis());
+    return strength;
+  }
+
+  private static long time(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long start = System.nanoTime();
+    encoder.encode(SAMPLE_PASSWORD);
+    return System.nanoTime() - start;
+  }
+}
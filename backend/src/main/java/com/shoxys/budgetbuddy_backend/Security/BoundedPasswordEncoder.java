@@ -0,0 +1,161 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import com.shoxys.budgetbuddy_backend.Exceptions.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that runs hashing and verification on a dedicated, bounded executor instead of
+ * the calling request thread, so a burst of logins or signups cannot occupy more CPU than the
+ * executor's threads. When the executor's queue is full, or a queued hash does not finish within
+ * the maximum wait, the call fails fast with a {@link PasswordHashingBusyException}, which is
+ * returned to the client as 503 with a Retry-After header.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+  private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final Duration maxWait;
+  private final long retryAfterSeconds;
+
+  private final LongAdder hashCount = new LongAdder();
+  private final LongAdder hashNanos = new LongAdder();
+  private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+  private final LongAdder rejectedCount = new LongAdder();
+
+  /**
+   * Constructs a BoundedPasswordEncoder.
+   *
+   * @param delegate the encoder that performs the hashing
+   * @param executor the bounded executor hashing runs on; its queue should have a fixed capacity
+   * @param maxWait how long a caller waits for a queued hash before giving up
+   * @param retryAfterSeconds the Retry-After value suggested to rejected clients
+   */
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      ThreadPoolExecutor executor,
+      Duration maxWait,
+      long retryAfterSeconds) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.maxWait = maxWait;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /** Returns the number of hashes waiting for a free hashing thread. */
+  public int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  /** Returns the number of hashes and verifications completed. */
+  public long getHashCount() {
+    return hashCount.sum();
+  }
+
+  /** Returns the number of hashes rejected because the executor was saturated. */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /** Returns the mean time spent hashing, excluding time queued, in milliseconds. */
+  public double getAverageHashMillis() {
+    long count = hashCount.sum();
+    return count == 0 ? 0 : hashNanos.sum() / (double) count / 1_000_000;
+  }
+
+  /** Returns the longest time spent on a single hash, in milliseconds. */
+  public double getMaxHashMillis() {
+    return maxHashNanos.get() / 1_000_000.0;
+  }
+
+  /** Logs hashing statistics periodically, when there has been any hashing activity. */
+  @Scheduled(fixedDelayString = "${password.hashing.stats-log-interval-ms:60000}")
+  public void logStats() {
+    if (getHashCount() == 0 && getRejectedCount() == 0) {
+      return;
+    }
+    logger.info(
+        "Password hashing: {} completed, {} rejected, queue depth {}, active {}, avg {} ms, max {}"
+            + " ms",
+        getHashCount(),
+        getRejectedCount(),
+        getQueueDepth(),
+        executor.getActiveCount(),
+        String.format("%.1f", getAverageHashMillis()),
+        String.format("%.1f", getMaxHashMillis()));
+  }
+
+  private <T> T submit(Callable<T> hash) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> timed(hash));
+    } catch (RejectedExecutionException e) {
+      rejectedCount.increment();
+      logger.warn("Password hashing queue full, rejecting request");
+      throw busy();
+    }
+
+    try {
+      return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejectedCount.increment();
+      logger.warn("Password hashing did not complete within {}", maxWait);
+      throw busy();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw busy();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private <T> T timed(Callable<T> hash) throws Exception {
+    long start = System.nanoTime();
+    try {
+      return hash.call();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      hashCount.increment();
+      hashNanos.add(elapsed);
+      maxHashNanos.accumulate(elapsed);
+    }
+  }
+
+  private PasswordHashingBusyException busy() {
+    return new PasswordHashingBusyException(
+        "Too many sign-in attempts in progress, please retry shortly", retryAfterSeconds);
+  }
+}
@@ -4,12 +4,17 @@ import static com.shoxys.budgetbuddy_backend.Config.Constants.JWT_HEADER;
 import static com.shoxys.budgetbuddy_backend.Config.Constants.JWT_PREFIX;
 
 import com.shoxys.budgetbuddy_backend.Config.Constants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,23 +25,32 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /** Filter for authenticating requests using JWT tokens from cookies or Authorization headers. */
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
+  private static final Logger logger = LoggerFactory.getLogger(JwtAuthFilter.class);
 
   private final JwtUtil jwtUtil;
   private final AppUserDetailsService userDetailsService;
+  private final PrincipalCache principalCache;
 
   /**
-   * Constructs a {@code JwtAuthFilter} with the specified JWT utility and user details service.
+   * Constructs a {@code JwtAuthFilter} with the specified JWT utility, user details service and
+   * principal cache.
    *
    * @param jwtUtil the JWT utility for token operations
    * @param userDetailsService the service for loading user details
+   * @param principalCache the cache of principals already resolved from a token
    */
-  public JwtAuthFilter(JwtUtil jwtUtil, AppUserDetailsService userDetailsService) {
+  public JwtAuthFilter(
+      JwtUtil jwtUtil, AppUserDetailsService userDetailsService, PrincipalCache principalCache) {
     this.jwtUtil = jwtUtil;
     this.userDetailsService = userDetailsService;
+    this.principalCache = principalCache;
   }
 
   /**
-   * Filters requests to authenticate using JWT tokens from cookies or Authorization headers.
+   * Filters requests to authenticate using JWT tokens from cookies or Authorization headers. A
+   * token seen recently is resolved from the principal cache; otherwise it is parsed and verified
+   * once and the user is loaded and cached. An invalid or expired token leaves the request
+   * unauthenticated.
    *
    * @param request the HTTP request
    * @param response the HTTP response
@@ -69,19 +83,44 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     }
 
     if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      String email = jwtUtil.extractUsername(jwt);
-      if (email != null) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        if (jwtUtil.validateToken(jwt, userDetails)) {
-          UsernamePasswordAuthenticationToken authToken =
-              new UsernamePasswordAuthenticationToken(
-                  userDetails, null, userDetails.getAuthorities());
-          authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(authToken);
-        }
+      UserDetails userDetails = resolvePrincipal(jwt);
+      if (userDetails != null) {
+        UsernamePasswordAuthenticationToken authToken =
+            new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
       }
     }
 
     filterChain.doFilter(request, response);
   }
+
+  private UserDetails resolvePrincipal(String jwt) {
+    String digest = principalCache.digest(jwt);
+    AppUserDetails cached = principalCache.get(digest);
+    if (cached != null) {
+      return cached;
+    }
+    Claims claims;
+    try {
+      claims = jwtUtil.parseClaims(jwt);
+    } catch (JwtException e) {
+      logger.debug("Rejected JWT: {}", e.getMessage());
+      return null;
+    }
+    if (claims.getSubject() == null) {
+      return null;
+    }
+    UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+    if (!jwtUtil.validateClaims(claims, userDetails)) {
+      return null;
+    }
+    if (userDetails instanceof AppUserDetails appUserDetails) {
+      Date expiration = claims.getExpiration();
+      principalCache.put(
+          digest, appUserDetails, expiration != null ? expiration.toInstant() : null);
+    }
+    return userDetails;
+  }
 }
@@ -0,0 +1,98 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.SignatureException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * The HMAC keys used to sign and verify JWTs, each identified by a key ID derived from its secret.
+ * Tokens are signed with the current key and verified with the key named by their {@code kid}
+ * header, so the secret can be rotated while tokens signed with a previous secret stay valid until
+ * they expire. Secrets are decoded once, when the ring is built.
+ */
+public final class JwtKeyRing {
+  private static final int KEY_ID_LENGTH = 16;
+
+  private final String currentKeyId;
+  private final SecretKey currentKey;
+  private final Map<String, SecretKey> keys = new LinkedHashMap<>();
+
+  /**
+   * Constructs a key ring from Base64-encoded secrets.
+   *
+   * @param currentSecret the secret new tokens are signed with
+   * @param previousSecrets retired secrets still accepted for verification; blank entries are
+   *     ignored
+   * @throws IllegalArgumentException if the current secret is empty
+   */
+  public JwtKeyRing(String currentSecret, Collection<String> previousSecrets) {
+    this.currentKeyId = keyId(currentSecret);
+    this.currentKey = decode(currentSecret);
+    keys.put(currentKeyId, currentKey);
+    for (String secret : previousSecrets) {
+      if (secret != null && !secret.isBlank()) {
+        keys.putIfAbsent(keyId(secret.trim()), decode(secret.trim()));
+      }
+    }
+  }
+
+  /**
+   * Derives the key ID of a secret, a prefix of its SHA-256 digest, so the ID changes whenever the
+   * secret does without revealing it.
+   *
+   * @param secret the Base64-encoded secret
+   * @return the key ID
+   */
+  public static String keyId(String secret) {
+    requireSecret(secret);
+    return Utils.sha256Hex(secret).substring(0, KEY_ID_LENGTH);
+  }
+
+  public String getCurrentKeyId() {
+    return currentKeyId;
+  }
+
+  public SecretKey getCurrentKey() {
+    return currentKey;
+  }
+
+  /**
+   * Returns the verification key for a token's key ID. Tokens issued before key IDs were added
+   * carry none and are verified with the current key.
+   *
+   * @param keyId the token's {@code kid} header, or null
+   * @return the key to verify the token with
+   * @throws SignatureException if the key ID is not in the ring
+   */
+  public SecretKey resolve(String keyId) {
+    if (keyId == null) {
+      return currentKey;
+    }
+    SecretKey key = keys.get(keyId);
+    if (key == null) {
+      throw new SignatureException("Unknown JWT key ID: " + keyId);
+    }
+    return key;
+  }
+
+  int size() {
+    return keys.size();
+  }
+
+  private static SecretKey decode(String secret) {
+    requireSecret(secret);
+    return new SecretKeySpec(Decoders.BASE64.decode(secret), SignatureAlgorithm.HS256.getJcaName());
+  }
+
+  private static void requireSecret(String secret) {
+    if (secret == null || secret.isBlank()) {
+      throw new IllegalArgumentException("JWT secret must not be null or empty");
+    }
+  }
+}
@@ -1,36 +1,91 @@
 package com.shoxys.budgetbuddy_backend.Security;
 
 import static com.shoxys.budgetbuddy_backend.Config.Constants.JWT_EXPIRATION_DAYS;
+import static com.shoxys.budgetbuddy_backend.Config.Constants.JWT_ISSUER;
+import static com.shoxys.budgetbuddy_backend.Config.Constants.JWT_USER_ID_CLAIM;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import java.security.Key;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Date;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-/** Utility class for generating, parsing, and validating JWT tokens. */
+/**
+ * Utility class for generating, parsing, and validating JWT tokens. Signing keys are decoded once
+ * at startup into a {@link JwtKeyRing}, and a single immutable parser, safe to share between
+ * threads, verifies the signature, expiry and issuer of every token in one pass.
+ */
 @Component
 public class JwtUtil {
+  private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-  @Value("${jwt.secret}")
-  private String jwtSecret;
+  private final JwtKeyRing keyRing;
+  private final JwtParser parser;
 
   /**
-   * Generates a JWT token for the specified user.
+   * Constructs a JwtUtil from configuration.
+   *
+   * @param jwtSecret the Base64-encoded secret new tokens are signed with
+   * @param previousSecrets retired secrets whose tokens are still accepted until they expire
+   */
+  @Autowired
+  public JwtUtil(
+      @Value("${jwt.secret}") String jwtSecret,
+      @Value("${jwt.previous-secrets:}") String[] previousSecrets) {
+    this(new JwtKeyRing(jwtSecret, Arrays.asList(previousSecrets)));
+  }
+
+  JwtUtil(JwtKeyRing keyRing) {
+    this.keyRing = keyRing;
+    this.parser =
+        Jwts.parserBuilder()
+            .setSigningKeyResolver(
+                new SigningKeyResolverAdapter() {
+                  @Override
+                  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    return keyRing.resolve(header.getKeyId());
+                  }
+                })
+            .requireIssuer(JWT_ISSUER)
+            .build();
+    logger.info(
+        "JWT signing key {} loaded, {} keys accepted for verification",
+        keyRing.getCurrentKeyId(),
+        keyRing.size());
+  }
+
+  /**
+   * Generates a JWT token for the specified user. When the user ID is known it is embedded as the
+   * {@code uid} claim, so requests can be attributed to the user without looking up the email.
    *
    * @param userDetails the user details
    * @return the generated JWT token
    */
   public String generateToken(UserDetails userDetails) {
-    return Jwts.builder()
-        .setSubject(userDetails.getUsername())
-        .setIssuedAt(new Date())
-        .setExpiration(Date.from(Instant.now().plus(JWT_EXPIRATION_DAYS, ChronoUnit.DAYS)))
-        .signWith(SignatureAlgorithm.HS256, jwtSecret)
-        .compact();
+    JwtBuilder builder =
+        Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, keyRing.getCurrentKeyId())
+            .setIssuer(JWT_ISSUER)
+            .setSubject(userDetails.getUsername())
+            .setIssuedAt(new Date())
+            .setExpiration(Date.from(Instant.now().plus(JWT_EXPIRATION_DAYS, ChronoUnit.DAYS)));
+    if (userDetails instanceof AppUserDetails appUserDetails && appUserDetails.getId() != null) {
+      builder.claim(JWT_USER_ID_CLAIM, appUserDetails.getId());
+    }
+    return builder.signWith(keyRing.getCurrentKey(), SignatureAlgorithm.HS256).compact();
   }
 
   /**
@@ -40,7 +95,30 @@ public class JwtUtil {
    * @return the username (email) from the token
    */
   public String extractUsername(String token) {
-    return Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody().getSubject();
+    return parseClaims(token).getSubject();
+  }
+
+  /**
+   * Extracts the user ID claim from verified claims.
+   *
+   * @param claims the verified claims
+   * @return the user ID, or null if the token was issued without one
+   */
+  public Long extractUserId(Claims claims) {
+    Number userId = claims.get(JWT_USER_ID_CLAIM, Number.class);
+    return userId != null ? userId.longValue() : null;
+  }
+
+  /**
+   * Verifies a JWT token's signature, expiry and issuer and returns its claims.
+   *
+   * @param token the JWT token
+   * @return the verified claims
+   * @throws io.jsonwebtoken.JwtException if the token is malformed, expired, from another issuer or
+   *     not signed with a known key
+   */
+  public Claims parseClaims(String token) {
+    return parser.parseClaimsJws(token).getBody();
   }
 
   /**
@@ -51,7 +129,25 @@ public class JwtUtil {
    * @return true if the token is valid and matches the user, false otherwise
    */
   public boolean validateToken(String token, UserDetails userDetails) {
-    final String username = extractUsername(token);
-    return username.equals(userDetails.getUsername());
+    return validateClaims(parseClaims(token), userDetails);
+  }
+
+  /**
+   * Validates already verified claims against user details, without parsing the token again. A
+   * token carrying a user ID only matches the user with that ID, so a token issued to a deleted
+   * account is not accepted for a new account registered with the same email.
+   *
+   * @param claims the verified claims
+   * @param userDetails the user details
+   * @return true if the claims belong to the user, false otherwise
+   */
+  public boolean validateClaims(Claims claims, UserDetails userDetails) {
+    if (claims.getSubject() == null || !claims.getSubject().equals(userDetails.getUsername())) {
+      return false;
+    }
+    Long userId = extractUserId(claims);
+    return userId == null
+        || !(userDetails instanceof AppUserDetails appUserDetails)
+        || userId.equals(appUserDetails.getId());
   }
 }
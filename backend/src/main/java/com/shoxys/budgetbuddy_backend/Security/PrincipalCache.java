@@ -0,0 +1,177 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import com.shoxys.budgetbuddy_backend.Events.UserCredentialsChangedEvent;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded cache of authenticated principals, keyed by the SHA-256 digest of the JWT they were
+ * resolved from, so repeat requests with the same token skip signature verification and the user
+ * lookup. Entries expire after {@code jwt.principal-cache.ttl-seconds} or when the token expires,
+ * whichever is sooner, and are dropped once a change to the user's email, password or account
+ * commits. Raw tokens are never stored.
+ */
+@Component
+public class PrincipalCache {
+  private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+  private static final int EVICTION_BATCH_PERCENT = 10;
+
+  private final Map<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final int maxEntries;
+  private final int evictionBatch;
+  private final Clock clock;
+
+  /**
+   * Constructs a PrincipalCache from configuration.
+   *
+   * @param ttlSeconds how long a principal stays cached, at most
+   * @param maxEntries the maximum number of cached principals
+   */
+  @Autowired
+  public PrincipalCache(
+      @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds,
+      @Value("${jwt.principal-cache.max-entries:10000}") int maxEntries) {
+    this(Duration.ofSeconds(ttlSeconds), maxEntries, Clock.systemUTC());
+  }
+
+  PrincipalCache(Duration ttl, int maxEntries, Clock clock) {
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+    this.evictionBatch = Math.max(1, maxEntries * EVICTION_BATCH_PERCENT / 100);
+    this.clock = clock;
+    logger.info("Principal cache configured with ttl {} and {} max entries", ttl, maxEntries);
+  }
+
+  /**
+   * Computes the cache key of a token.
+   *
+   * @param token the raw JWT
+   * @return the hex-encoded SHA-256 digest of the token
+   */
+  public String digest(String token) {
+    return Utils.sha256Hex(token);
+  }
+
+  /**
+   * Returns the principal cached for a token digest, if present and not expired.
+   *
+   * @param digest the token digest
+   * @return the cached user details, or null if there is no live entry
+   */
+  public AppUserDetails get(String digest) {
+    CachedPrincipal entry = entries.get(digest);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.expiresAt.isAfter(clock.instant())) {
+      entries.remove(digest, entry);
+      return null;
+    }
+    return entry.userDetails;
+  }
+
+  /**
+   * Caches the principal resolved from a verified token.
+   *
+   * @param digest the token digest
+   * @param userDetails the user the token authenticates
+   * @param tokenExpiresAt when the token expires, or null if it does not
+   */
+  public void put(String digest, AppUserDetails userDetails, Instant tokenExpiresAt) {
+    if (maxEntries <= 0 || ttl.isZero() || ttl.isNegative()) {
+      return;
+    }
+    Instant now = clock.instant();
+    Instant expiresAt = now.plus(ttl);
+    if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+      expiresAt = tokenExpiresAt;
+    }
+    if (!expiresAt.isAfter(now)) {
+      return;
+    }
+    if (entries.size() >= maxEntries) {
+      evict(now);
+    }
+    entries.put(digest, new CachedPrincipal(userDetails, expiresAt));
+  }
+
+  /**
+   * Drops every cached principal of a user, for use after the user's email, password or account
+   * changes.
+   *
+   * @param email the user's email at the time the tokens were issued
+   */
+  public void invalidateUser(String email) {
+    if (email == null) {
+      return;
+    }
+    boolean removed =
+        entries.values().removeIf(entry -> email.equals(entry.userDetails.getUsername()));
+    if (removed) {
+      logger.debug("Invalidated cached principals for user: {}", email);
+    }
+  }
+
+  /**
+   * Drops a user's cached principals once their credential change has committed. Dropping them
+   * earlier would let a request that still reads the old row cache it again for the whole TTL.
+   *
+   * @param event the change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+    invalidateUser(event.getEmail());
+  }
+
+  /** Drops every cached principal. */
+  public void clear() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Makes room for new entries by removing expired entries and, if the cache is still full, the
+   * entries closest to expiry until a tenth of the capacity is free. Freeing a batch at a time
+   * means the entries are sorted once per batch of puts rather than on every put to a full cache.
+   */
+  private synchronized void evict(Instant now) {
+    if (entries.size() < maxEntries) {
+      return;
+    }
+    entries.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+    int excess = entries.size() - (maxEntries - evictionBatch);
+    if (excess > 0) {
+      entries.entrySet().stream()
+          .sorted(Comparator.comparing(entry -> entry.getValue().expiresAt))
+          .limit(excess)
+          .map(Map.Entry::getKey)
+          .toList()
+          .forEach(entries::remove);
+    }
+  }
+
+  private static final class CachedPrincipal {
+    private final AppUserDetails userDetails;
+    private final Instant expiresAt;
+
+    private CachedPrincipal(AppUserDetails userDetails, Instant expiresAt) {
+      this.userDetails = userDetails;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
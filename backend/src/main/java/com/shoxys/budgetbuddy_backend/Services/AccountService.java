@@ -7,7 +7,6 @@ import com.shoxys.budgetbuddy_backend.Enums.AccountType;
 import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
-import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.Utils.Utils;
@@ -26,7 +25,6 @@ public class AccountService {
   private final AccountRepo accountRepo;
   private final UserRepo userRepo;
   private final TransactionRepo transactionRepo;
-  private final SavingGoalsRepo savingGoalsRepo;
 
   /**
    * Constructs an AccountService with required dependencies.
@@ -34,17 +32,12 @@ public class AccountService {
    * @param accountRepo Repository for account-related data access
    * @param userRepo Repository for user-related data access
    * @param transactionRepo Repository for transaction-related data access
-   * @param savingGoalsRepo Repository for saving goals data access
    */
   public AccountService(
-      AccountRepo accountRepo,
-      UserRepo userRepo,
-      TransactionRepo transactionRepo,
-      SavingGoalsRepo savingGoalsRepo) {
+      AccountRepo accountRepo, UserRepo userRepo, TransactionRepo transactionRepo) {
     this.accountRepo = accountRepo;
     this.userRepo = userRepo;
     this.transactionRepo = transactionRepo;
-    this.savingGoalsRepo = savingGoalsRepo;
     logger.info("Initializing AccountService");
   }
 
@@ -74,34 +67,26 @@ public class AccountService {
   }
 
   /**
-   * Creates or updates an account's balance for a user identified by email.
+   * Creates or updates an account's balance for a user.
    *
-   * @param email the email of the user
+   * @param userId the ID of the user
    * @param id the account ID (optional for updates)
    * @param name the account name
    * @param type the account type
    * @param newBalance the new balance for the account
    * @return the updated or created account
-   * @throws IllegalArgumentException if email, name, type, or balance is invalid
-   * @throws UserNotFoundException if the user is not found
+   * @throws IllegalArgumentException if the user ID, name, type, or balance is invalid
    */
   @Transactional
   public Account upsertAccountBalance(
-      String email, Long id, String name, AccountType type, BigDecimal newBalance) {
+      long userId, Long id, String name, AccountType type, BigDecimal newBalance) {
     logger.debug(
-        "Upserting account balance for user: {}, ID: {}, name: {}, type: {}",
-        email,
+        "Upserting account balance for user ID: {}, ID: {}, name: {}, type: {}",
+        userId,
         id,
         name,
         type);
-    if (Utils.nullOrEmpty(email)) {
-      logger.error("Email is null or empty");
-      throw new IllegalArgumentException("Email cannot be null or empty");
-    }
-    if (!Utils.isEmail(email)) {
-      logger.error("Invalid email format: {}", email);
-      throw new IllegalArgumentException("Invalid email format");
-    }
+    Utils.validatePositiveId(userId, "User ID must be positive");
     if (Utils.nullOrEmpty(name)) {
       logger.error("Account name is null or empty");
       throw new IllegalArgumentException("Name cannot be null or empty");
@@ -115,14 +100,7 @@ public class AccountService {
       throw new IllegalArgumentException("Balance cannot be null");
     }
 
-    User user =
-        userRepo
-            .findByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+    User user = userRepo.getReferenceById(userId);
 
     Optional<Account> optionalAccount =
         (id != null)
@@ -132,14 +110,14 @@ public class AccountService {
     Account account =
         optionalAccount.orElseGet(
             () -> {
-              logger.debug("Creating new account for user: {}", email);
+              logger.debug("Creating new account for user ID: {}", userId);
               return new Account(name, type, null, newBalance, true, user);
             });
 
-    account.setBalance(newBalance);
+    anchorBalance(account, newBalance);
     account.setName(name);
     Account savedAccount = accountRepo.save(account);
-    logger.info("Upserted account ID: {} for user: {}", savedAccount.getId(), email);
+    logger.info("Upserted account ID: {} for user ID: {}", savedAccount.getId(), userId);
     return savedAccount;
   }
 
@@ -226,12 +204,83 @@ public class AccountService {
     }
 
     BigDecimal oldAmount = Optional.ofNullable(transaction.getAmount()).orElse(BigDecimal.ZERO);
-    BigDecimal delta = newAmount.subtract(oldAmount);
-    account.setBalance(account.getBalance().add(delta));
-    Account savedAccount = accountRepo.save(account);
-    logger.info(
-        "Synced account ID: {} balance to: {}", savedAccount.getId(), savedAccount.getBalance());
-    return savedAccount;
+    applyBalanceDelta(account, newAmount.subtract(oldAmount));
+    logger.info("Synced account ID: {} balance to: {}", account.getId(), account.getBalance());
+    return account;
+  }
+
+  /**
+   * Applies the balance change of a mutation to an account with a single atomic update, so
+   * concurrent mutations of the same account cannot overwrite each other's changes.
+   *
+   * @param account the account to update
+   * @param delta the change in balance, negative for a decrease
+   * @return the account's balance after the update
+   * @throws IllegalArgumentException if account or delta is invalid
+   */
+  @Transactional
+  public BigDecimal applyBalanceDelta(Account account, BigDecimal delta) {
+    logger.debug(
+        "Applying balance delta: {} to account ID: {}",
+        delta,
+        account != null ? account.getId() : null);
+    if (account == null) {
+      logger.error("Account is null");
+      throw new IllegalArgumentException("Account cannot be null");
+    }
+    Utils.validatePositiveId(account.getId(), "Account ID must be positive");
+    if (delta == null) {
+      logger.error("Balance delta is null");
+      throw new IllegalArgumentException("Balance delta cannot be null");
+    }
+    if (delta.signum() == 0) {
+      logger.debug("Zero balance delta for account ID: {}, skipping update", account.getId());
+      return account.getBalance();
+    }
+    BigDecimal balance = accountRepo.applyBalanceDelta(account, delta);
+    logger.info("Applied balance delta: {} to account ID: {}", delta, account.getId());
+    return balance;
+  }
+
+  /**
+   * Applies the balance change of a mutation to an account with a single atomic update, rejecting
+   * it if the balance would become negative. The check is part of the update, so two concurrent
+   * debits cannot both pass it.
+   *
+   * @param account the account to update
+   * @param delta the change in balance, negative for a decrease
+   * @return the account's balance after the update
+   * @throws IllegalArgumentException if account or delta is invalid, or the resulting balance would
+   *     be negative
+   */
+  @Transactional
+  public BigDecimal applyNonNegativeBalanceDelta(Account account, BigDecimal delta) {
+    logger.debug(
+        "Applying non-negative balance delta: {} to account ID: {}",
+        delta,
+        account != null ? account.getId() : null);
+    if (account == null) {
+      logger.error("Account is null");
+      throw new IllegalArgumentException("Account cannot be null");
+    }
+    Utils.validatePositiveId(account.getId(), "Account ID must be positive");
+    if (delta == null) {
+      logger.error("Balance delta is null");
+      throw new IllegalArgumentException("Balance delta cannot be null");
+    }
+    BigDecimal balance =
+        accountRepo
+            .applyNonNegativeBalanceDelta(account, delta)
+            .orElseThrow(
+                () -> {
+                  logger.error(
+                      "Balance delta: {} would make account ID: {} negative",
+                      delta,
+                      account.getId());
+                  return new IllegalArgumentException("Balance cannot be null or negative");
+                });
+    logger.info("Applied balance delta: {} to account ID: {}", delta, account.getId());
+    return balance;
   }
 
   /**
@@ -254,32 +303,25 @@ public class AccountService {
       logger.error("Invalid balance: {}", newBalance);
       throw new IllegalArgumentException("Balance cannot be null or negative");
     }
-    account.setBalance(newBalance);
+    anchorBalance(account, newBalance);
     accountRepo.save(account);
     logger.info("Updated account ID: {} balance to: {}", account.getId(), newBalance);
   }
 
   /**
-   * Retrieves the balance of an account by user email, name, and type.
+   * Retrieves the balance of an account by user ID, name, and type.
    *
-   * @param email the email of the user
+   * @param userId the ID of the user
    * @param name the account name
    * @param type the account type
    * @return the account balance, or null if the account is not found
-   * @throws IllegalArgumentException if email, name, or type is invalid
-   * @throws UserNotFoundException if the user is not found
+   * @throws IllegalArgumentException if the user ID, name, or type is invalid
    */
   @Transactional
-  public BigDecimal getAccountBalance(String email, String name, AccountType type) {
-    logger.debug("Fetching account balance for user: {}, name: {}, type: {}", email, name, type);
-    if (Utils.nullOrEmpty(email)) {
-      logger.error("Email is null or empty");
-      throw new IllegalArgumentException("Email cannot be null or empty");
-    }
-    if (!Utils.isEmail(email)) {
-      logger.error("Invalid email format: {}", email);
-      throw new IllegalArgumentException("Invalid email format");
-    }
+  public BigDecimal getAccountBalance(long userId, String name, AccountType type) {
+    logger.debug(
+        "Fetching account balance for user ID: {}, name: {}, type: {}", userId, name, type);
+    Utils.validatePositiveId(userId, "User ID must be positive");
     if (Utils.nullOrEmpty(name)) {
       logger.error("Account name is null or empty");
       throw new IllegalArgumentException("Name cannot be null or empty");
@@ -288,32 +330,29 @@ public class AccountService {
       logger.error("Account type is null");
       throw new IllegalArgumentException("Type cannot be null");
     }
-    User user =
-        userRepo
-            .findByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+    User user = userRepo.getReferenceById(userId);
     BigDecimal balance =
         accountRepo
             .findByUserAndNameAndType(user, name, type)
             .map(Account::getBalance)
             .orElse(null);
     logger.info(
-        "Retrieved balance: {} for user: {}, name: {}, type: {}", balance, email, name, type);
+        "Retrieved balance: {} for user ID: {}, name: {}, type: {}", balance, userId, name, type);
     return balance;
   }
 
   /**
-   * Recalculates the balance of a spending account based on the latest transaction.
+   * Recalculates the balance of a spending account based on the latest transaction. The latest
+   * transaction is looked up with a single-row indexed query rather than by loading the account's
+   * history.
    *
    * @param account the account to recalculate
-   * @throws IllegalArgumentException if account is invalid
+   * @param writtenAmount the total amount of transactions written to the account without a balance
+   *     delta, such as rows inserted by a CSV import
+   * @throws IllegalArgumentException if account or written amount is invalid
    */
   @Transactional
-  public void recalculateBalanceForSpendingAccount(Account account) {
+  public void recalculateBalanceForSpendingAccount(Account account, BigDecimal writtenAmount) {
     logger.debug(
         "Recalculating balance for spending account ID: {}",
         account != null ? account.getId() : null);
@@ -322,8 +361,12 @@ public class AccountService {
       throw new IllegalArgumentException("Account cannot be null");
     }
     Utils.validatePositiveId(account.getId(), "Account ID must be positive");
-    transactionRepo.findByAccountOrderByDateDesc(account).stream()
-        .findFirst()
+    if (writtenAmount == null) {
+      logger.error("Written amount is null");
+      throw new IllegalArgumentException("Written amount cannot be null");
+    }
+    transactionRepo
+        .findFirstByAccountOrderByDateDescIdAsc(account)
         .ifPresent(
             transaction -> {
               BigDecimal balance = transaction.getBalanceAtTransaction();
@@ -335,7 +378,7 @@ public class AccountService {
                 throw new IllegalArgumentException(
                     "Transaction balance cannot be null or negative");
               }
-              account.setBalance(balance);
+              anchorBalance(account, balance, writtenAmount);
               accountRepo.save(account);
               logger.info(
                   "Recalculated balance to: {} for account ID: {}", balance, account.getId());
@@ -343,42 +386,6 @@ public class AccountService {
     logger.debug("No balance update performed for account ID: {}", account.getId());
   }
 
-  /**
-   * Recalculates the balance of a goal savings account based on total contributions.
-   *
-   * @param user the user whose goal savings account to recalculate
-   * @throws IllegalArgumentException if user is invalid
-   * @throws AccountNotFoundException if no goal savings account is found
-   */
-  @Transactional
-  public void recalculateGoalSavingsBalance(User user) {
-    logger.debug(
-        "Recalculating goal savings balance for user ID: {}", user != null ? user.getId() : null);
-    if (user == null) {
-      logger.error("User is null");
-      throw new IllegalArgumentException("User cannot be null");
-    }
-    Utils.validatePositiveId(user.getId(), "User ID must be positive");
-    Account goalSavingsAccount =
-        accountRepo
-            .findAccountByUserAndType(user, AccountType.GOALSAVINGS)
-            .orElseThrow(
-                () -> {
-                  logger.error("Goal Savings account not found for user ID: {}", user.getId());
-                  return new AccountNotFoundException("Goal Savings account not found");
-                });
-    BigDecimal totalContributed =
-        Optional.ofNullable(savingGoalsRepo.sumContributionsByUser(user)).orElse(BigDecimal.ZERO);
-    if (Utils.nullOrNegative(totalContributed)) {
-      logger.warn("Invalid goal savings balance: {}", totalContributed);
-      throw new IllegalArgumentException("Goal savings balance cannot be negative");
-    }
-    goalSavingsAccount.setBalance(totalContributed);
-    accountRepo.save(goalSavingsAccount);
-    logger.info(
-        "Recalculated goal savings balance to: {} for user ID: {}", totalContributed, user.getId());
-  }
-
   /**
    * Fetches or creates a spending account for a user.
    *
@@ -411,4 +418,31 @@ public class AccountService {
         user.getId());
     return account;
   }
+
+  /**
+   * Sets an account's balance outright and re-anchors its opening balance, so the balance stays
+   * equal to the opening balance plus the sum of the account's transaction amounts. The opening
+   * balance moves by the same amount as the balance, so the account's history is not summed.
+   */
+  private void anchorBalance(Account account, BigDecimal balance) {
+    anchorBalance(account, balance, BigDecimal.ZERO);
+  }
+
+  /**
+   * Re-anchors an account whose transactions have grown by {@code writtenAmount} without the
+   * balance following: the written amount is first counted as if it had been applied as a delta,
+   * then the balance is set outright.
+   */
+  private void anchorBalance(Account account, BigDecimal balance, BigDecimal writtenAmount) {
+    if (account.getId() == null) {
+      account.setBalance(balance);
+      account.setOpeningBalance(balance);
+      return;
+    }
+    BigDecimal current =
+        Optional.ofNullable(account.getBalance()).orElse(BigDecimal.ZERO).add(writtenAmount);
+    BigDecimal opening = Optional.ofNullable(account.getOpeningBalance()).orElse(BigDecimal.ZERO);
+    account.setOpeningBalance(opening.add(balance.subtract(current)));
+    account.setBalance(balance);
+  }
 }
@@ -3,23 +3,24 @@ package com.shoxys.budgetbuddy_backend.Services;
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsight;
 import com.shoxys.budgetbuddy_backend.DTOs.Gemini.GeminiRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Gemini.GeminiResponse;
+import com.shoxys.budgetbuddy_backend.Exceptions.InsightUnavailableException;
 import com.shoxys.budgetbuddy_backend.Utils.Utils;
 import java.util.Arrays;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 /** Service for generating AI-based spending insights using the Gemini API. */
 @Service
 public class AiInsightService {
   private static final Logger logger = LoggerFactory.getLogger(AiInsightService.class);
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final GeminiClient geminiClient;
 
   @Value("${gemini.api.key}")
   private String apiKey;
@@ -30,6 +31,20 @@ public class AiInsightService {
   @Value("${gemini.model:gemini-2.0-flash}")
   private String model;
 
+  /**
+   * Constructs an AiInsightService with required dependencies.
+   *
+   * @param geminiClient Client making the calls to the Gemini API
+   */
+  @Autowired
+  public AiInsightService(GeminiClient geminiClient) {
+    if (geminiClient == null) {
+      logger.error("GeminiClient dependency is null");
+      throw new IllegalArgumentException("GeminiClient must be non-null");
+    }
+    this.geminiClient = geminiClient;
+  }
+
   /**
    * Fetches insights from the Gemini API based on a provided prompt.
    *
@@ -37,6 +52,8 @@ public class AiInsightService {
    * @return the extracted text response from the API
    * @throws IllegalArgumentException if promptText is null or empty
    * @throws IllegalStateException if the API key is not configured
+   * @throws InsightUnavailableException if the API is not being called after repeated failures, or
+   *     too many calls are already in flight
    * @throws RuntimeException if the API call fails or returns null
    */
   public String getInsightsFromText(String promptText) {
@@ -62,7 +79,7 @@ public class AiInsightService {
 
     try {
       GeminiResponse response =
-          restTemplate.postForObject(apiUrl, requestEntity, GeminiResponse.class, model);
+          geminiClient.post(apiUrl, requestEntity, GeminiResponse.class, model);
       if (response != null) {
         String result = response.extractText();
         if (Utils.nullOrEmpty(result)) {
@@ -74,12 +91,25 @@ public class AiInsightService {
       }
       logger.error("Received null response from Gemini API");
       throw new RuntimeException("No response from Gemini API");
+    } catch (InsightUnavailableException e) {
+      logger.warn("Gemini API call refused: {}", e.getMessage());
+      throw e;
     } catch (Exception e) {
       logger.error("Failed to call Gemini API: {}", e.getMessage(), e);
       throw new RuntimeException("Failed to fetch insights from Gemini API", e);
     }
   }
 
+  /**
+   * Returns whether the Gemini API is currently being called, that is, whether the circuit breaker
+   * guarding it is not open.
+   *
+   * @return true if insight requests will reach the API
+   */
+  public boolean isAvailable() {
+    return geminiClient.isAvailable();
+  }
+
   /**
    * Builds a strict prompt for the Gemini API based on transaction statistics.
    *
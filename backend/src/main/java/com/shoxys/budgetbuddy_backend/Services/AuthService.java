@@ -57,6 +57,7 @@ public class AuthService {
    * @throws InvalidEmailFormatException if email format is invalid
    * @throws InvalidCredentialsException if authentication fails
    * @throws UserNotFoundException if user is not found after authentication
+   * @throws PasswordHashingBusyException if password verification cannot be scheduled in time
    * @throws RuntimeException if a server error occurs
    */
   public AuthResponse authenticate(LoginRequest request) {
@@ -86,6 +87,9 @@ public class AuthService {
     } catch (BadCredentialsException e) {
       logger.error("Invalid credentials for: {}", request.getEmail());
       throw new InvalidCredentialsException("Invalid email or password");
+    } catch (PasswordHashingBusyException e) {
+      logger.warn("Password hashing saturated, rejecting login for: {}", request.getEmail());
+      throw e;
     } catch (Exception e) {
       logger.error("Authentication error for: {}: {}", request.getEmail(), e.getMessage(), e);
       throw new RuntimeException("Server error during authentication", e);
@@ -116,6 +120,7 @@ public class AuthService {
    * @throws PasswordMismatchException if passwords do not match
    * @throws InvalidPasswordException if password does not meet criteria
    * @throws EmailExistsException if email is already registered
+   * @throws PasswordHashingBusyException if password hashing cannot be scheduled in time
    */
   public void register(RegisterRequest request) {
     logger.debug("Registering user: {}", request != null ? request.getEmail() : null);
@@ -0,0 +1,105 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck;
+import com.shoxys.budgetbuddy_backend.DTOs.Account.BalanceCheckResult;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Verifies that incrementally maintained account balances still agree with the records they are
+ * derived from: the opening balance plus the sum of transaction amounts for transaction accounts,
+ * and the total contributed to saving goals for goal savings accounts. Accounts are read in pages,
+ * each with its expected balance computed by the database. Runs on a schedule in the background and
+ * only repairs mismatches when {@code balance.consistency.repair} is enabled.
+ */
+@Service
+public class BalanceConsistencyService {
+  private static final Logger logger = LoggerFactory.getLogger(BalanceConsistencyService.class);
+  static final int PAGE_SIZE = 500;
+  private final AccountRepo accountRepo;
+
+  @Value("${balance.consistency.repair:false}")
+  private boolean repairOnSchedule;
+
+  /**
+   * Constructs a BalanceConsistencyService with required dependencies.
+   *
+   * @param accountRepo Repository for account-related data access
+   */
+  public BalanceConsistencyService(AccountRepo accountRepo) {
+    this.accountRepo = accountRepo;
+    logger.info("Initializing BalanceConsistencyService");
+  }
+
+  /** Runs the consistency check on the configured schedule. */
+  @Scheduled(cron = "${balance.consistency.cron:0 30 3 * * *}")
+  public void scheduledCheck() {
+    logger.info("Running scheduled balance consistency check, repair: {}", repairOnSchedule);
+    checkBalances(repairOnSchedule);
+  }
+
+  /**
+   * Compares every account's stored balance with the balance derived from its records.
+   *
+   * @param repair whether to overwrite mismatched balances with the derived balance
+   * @return the number of accounts checked, mismatched and repaired
+   */
+  public BalanceCheckResult checkBalances(boolean repair) {
+    BalanceCheckResult result = new BalanceCheckResult(0, 0, 0);
+    checkPages(accountRepo::findTransactionBalanceChecks, repair, result);
+    checkPages(accountRepo::findGoalSavingsBalanceChecks, repair, result);
+    logger.info(
+        "Balance consistency check complete, checked: {}, mismatched: {}, repaired: {}",
+        result.getChecked(),
+        result.getMismatched(),
+        result.getRepaired());
+    return result;
+  }
+
+  private void checkPages(PageQuery query, boolean repair, BalanceCheckResult result) {
+    long afterId = 0;
+    List<AccountBalanceCheck> page;
+    do {
+      page = query.find(afterId, AccountType.GOALSAVINGS, PageRequest.of(0, PAGE_SIZE));
+      for (AccountBalanceCheck check : page) {
+        result.setChecked(result.getChecked() + 1);
+        if (!check.isConsistent()) {
+          result.setMismatched(result.getMismatched() + 1);
+          logger.warn(
+              "Balance mismatch for account ID: {}, stored: {}, expected: {}",
+              check.getAccountId(),
+              check.getBalance(),
+              check.getExpectedBalance());
+          if (repair) {
+            repair(check, result);
+          }
+        }
+        afterId = check.getAccountId();
+      }
+    } while (page.size() == PAGE_SIZE);
+  }
+
+  private void repair(AccountBalanceCheck check, BalanceCheckResult result) {
+    if (accountRepo.repairBalance(
+            check.getAccountId(), check.getBalance(), check.getExpectedBalance())
+        == 0) {
+      logger.warn(
+          "Balance of account ID: {} changed during the check, not repaired", check.getAccountId());
+      return;
+    }
+    result.setRepaired(result.getRepaired() + 1);
+  }
+
+  @FunctionalInterface
+  private interface PageQuery {
+    List<AccountBalanceCheck> find(Long afterId, AccountType goalSavings, Pageable pageable);
+  }
+}
@@ -0,0 +1,181 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the date column of a single CSV upload. The date format is detected once from a sample of
+ * the file's first rows and every row is then parsed with that format alone; the other supported
+ * formats are only tried for rows that do not match it. Fixed-width numeric formats such as
+ * dd/MM/yyyy and yyyy-MM-dd are read directly from the characters rather than through a
+ * DateTimeFormatter. Instances are immutable and can be shared by the import's worker threads.
+ */
+public class CsvDateParser {
+  private static final Logger logger = LoggerFactory.getLogger(CsvDateParser.class);
+  private static final Map<String, FixedWidthLayout> FIXED_WIDTH_LAYOUTS =
+      Map.of(
+          "dd/MM/yyyy", new FixedWidthLayout('/', 6, 3, 0),
+          "dd-MM-yyyy", new FixedWidthLayout('-', 6, 3, 0),
+          "yyyy-MM-dd", new FixedWidthLayout('-', 0, 5, 8),
+          "MM/dd/yyyy", new FixedWidthLayout('/', 6, 0, 3));
+
+  private final int detectedIndex;
+
+  private CsvDateParser(int detectedIndex) {
+    this.detectedIndex = detectedIndex;
+  }
+
+  /**
+   * Detects the date format of an upload from sampled date values. The supported format matching
+   * the most samples is chosen, with ties going to the earlier format in {@link
+   * Constants#CSV_DATE_PATTERNS}.
+   *
+   * @param sampleDates raw date values from the first rows of the file, may contain nulls
+   * @return a parser using the detected format
+   */
+  public static CsvDateParser detect(List<String> sampleDates) {
+    int bestIndex = 0;
+    int bestMatches = -1;
+    for (int i = 0; i < Constants.CSV_DATE_PATTERNS.size(); i++) {
+      int matches = 0;
+      for (String rawDate : sampleDates) {
+        if (rawDate != null && tryParse(i, rawDate.trim()) != null) {
+          matches++;
+        }
+      }
+      if (matches > bestMatches) {
+        bestIndex = i;
+        bestMatches = matches;
+      }
+    }
+    logger.debug(
+        "Detected CSV date format {} matching {} of {} sampled rows",
+        Constants.CSV_DATE_PATTERNS.get(bestIndex),
+        bestMatches,
+        sampleDates.size());
+    return new CsvDateParser(bestIndex);
+  }
+
+  /**
+   * Returns the pattern of the detected date format.
+   *
+   * @return the detected pattern
+   */
+  public String getPattern() {
+    return Constants.CSV_DATE_PATTERNS.get(detectedIndex);
+  }
+
+  /**
+   * Parses a raw date value, trying the detected format first and the other supported formats only
+   * if it does not match.
+   *
+   * @param rawDate the raw date value
+   * @return the parsed date
+   * @throws IllegalArgumentException if the value matches none of the supported formats
+   */
+  public LocalDate parse(String rawDate) {
+    if (rawDate != null) {
+      String value = rawDate.trim();
+      LocalDate date = tryParse(detectedIndex, value);
+      if (date != null) {
+        return date;
+      }
+      for (int i = 0; i < Constants.CSV_DATE_PATTERNS.size(); i++) {
+        if (i == detectedIndex) {
+          continue;
+        }
+        date = tryParse(i, value);
+        if (date != null) {
+          logger.debug(
+              "Date {} did not match detected format {}, parsed as {}",
+              rawDate,
+              getPattern(),
+              Constants.CSV_DATE_PATTERNS.get(i));
+          return date;
+        }
+      }
+    }
+    logger.warn("Invalid date format in CSV: {}", rawDate);
+    throw new IllegalArgumentException(
+        "Invalid date format in CSV: "
+            + rawDate
+            + ". Supported formats: "
+            + String.join(", ", Constants.CSV_DATE_PATTERNS));
+  }
+
+  private static LocalDate tryParse(int index, String value) {
+    String pattern = Constants.CSV_DATE_PATTERNS.get(index);
+    FixedWidthLayout layout = FIXED_WIDTH_LAYOUTS.get(pattern);
+    if (layout != null) {
+      return layout.parse(value);
+    }
+    try {
+      return LocalDate.parse(value, Constants.CSV_DATE_FORMATTERS.get(index));
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * A ten-character numeric date layout with a four-digit year, two-digit month and two-digit day.
+   * Resolves out-of-range days the same way as a smart DateTimeFormatter, clamping the 29th to 31st
+   * to the last day of the month.
+   */
+  private static final class FixedWidthLayout {
+    private static final int LENGTH = 10;
+
+    private final char separator;
+    private final int yearOffset;
+    private final int monthOffset;
+    private final int dayOffset;
+
+    private FixedWidthLayout(char separator, int yearOffset, int monthOffset, int dayOffset) {
+      this.separator = separator;
+      this.yearOffset = yearOffset;
+      this.monthOffset = monthOffset;
+      this.dayOffset = dayOffset;
+    }
+
+    private LocalDate parse(String value) {
+      if (value.length() != LENGTH) {
+        return null;
+      }
+      int year = digits(value, yearOffset, 4);
+      int month = digits(value, monthOffset, 2);
+      int day = digits(value, dayOffset, 2);
+      if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+        return null;
+      }
+      for (int i = 0; i < LENGTH; i++) {
+        boolean isField =
+            (i >= yearOffset && i < yearOffset + 4)
+                || (i >= monthOffset && i < monthOffset + 2)
+                || (i >= dayOffset && i < dayOffset + 2);
+        if (!isField && value.charAt(i) != separator) {
+          return null;
+        }
+      }
+      int lengthOfMonth = Month.of(month).length(Year.isLeap(year));
+      return LocalDate.of(year, month, Math.min(day, lengthOfMonth));
+    }
+
+    private static int digits(String value, int offset, int count) {
+      int result = 0;
+      for (int i = offset; i < offset + count; i++) {
+        int digit = value.charAt(i) - '0';
+        if (digit < 0 || digit > 9) {
+          return -1;
+        }
+        result = result * 10 + digit;
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-upload state shared by every row of a single CSV import. Resolves the account each row is
+ * posted to once per distinct account number, rather than once per row, totals the amounts written
+ * to each account so their balances can be recalculated after the import, and remembers the
+ * fingerprints of rows already seen so repeated rows within the upload are skipped.
+ */
+public class CsvImportContext {
+  private static final Logger logger = LoggerFactory.getLogger(CsvImportContext.class);
+  private static final String DEFAULT_ACCOUNT_KEY = "";
+
+  private final User user;
+  private final AccountService accountService;
+  private final AccountRepo accountRepo;
+  private final Map<String, Account> accountsByNumber = new HashMap<>();
+  private final Map<Account, BigDecimal> writtenAmounts = new LinkedHashMap<>();
+  private final Set<String> seenFingerprints = new HashSet<>();
+  private Account spendingAccount;
+
+  /**
+   * Constructs an import context for a single upload.
+   *
+   * @param user the user the transactions are imported for
+   * @param accountService service used to fetch or create the user's spending account
+   * @param accountRepo repository used to look up accounts by account number
+   */
+  public CsvImportContext(User user, AccountService accountService, AccountRepo accountRepo) {
+    this.user = user;
+    this.accountService = accountService;
+    this.accountRepo = accountRepo;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  /**
+   * Resolves the account for a CSV row. Rows whose account number matches one of the user's
+   * accounts are posted to that account; all other rows go to the user's spending account, which is
+   * created if it does not exist. Each distinct account number is looked up at most once.
+   *
+   * @param rawAccountNumber the value of the row's account number column, may be null or blank
+   * @return the resolved account
+   */
+  public Account resolveAccount(String rawAccountNumber) {
+    String key =
+        Utils.nullOrEmpty(rawAccountNumber) ? DEFAULT_ACCOUNT_KEY : rawAccountNumber.trim();
+    return accountsByNumber.computeIfAbsent(key, this::lookupAccount);
+  }
+
+  /**
+   * Returns the user's spending account, fetching or creating it on first use.
+   *
+   * @return the spending account
+   */
+  public Account getSpendingAccount() {
+    if (spendingAccount == null) {
+      spendingAccount = accountService.handleFetchAccount(user);
+    }
+    return spendingAccount;
+  }
+
+  /**
+   * Adds the amounts of written rows to their accounts' totals.
+   *
+   * @param transactions the rows written to the database
+   */
+  public void recordWritten(Collection<Transaction> transactions) {
+    for (Transaction transaction : transactions) {
+      writtenAmounts.merge(transaction.getAccount(), transaction.getAmount(), BigDecimal::add);
+    }
+  }
+
+  /**
+   * Returns the total amount written to each account that at least one row was written to, in
+   * first-write order.
+   *
+   * @return the written amounts by account
+   */
+  public Map<Account, BigDecimal> getWrittenAmounts() {
+    return Collections.unmodifiableMap(writtenAmounts);
+  }
+
+  /**
+   * Records a row fingerprint for this upload.
+   *
+   * @param fingerprint the row's fingerprint
+   * @return true if the fingerprint had not been seen earlier in this upload, false otherwise
+   */
+  public boolean markSeen(String fingerprint) {
+    return seenFingerprints.add(fingerprint);
+  }
+
+  private Account lookupAccount(String accountNumber) {
+    if (accountNumber.isEmpty()) {
+      return getSpendingAccount();
+    }
+    Integer accountNo;
+    try {
+      accountNo = Integer.valueOf(accountNumber);
+    } catch (NumberFormatException e) {
+      logger.debug("Unrecognised account number: {}, using spending account", accountNumber);
+      return getSpendingAccount();
+    }
+    return accountRepo
+        .findByUserAndAccountNo(user, accountNo)
+        .orElseGet(
+            () -> {
+              logger.debug("No account with number: {}, using spending account", accountNo);
+              return getSpendingAccount();
+            });
+  }
+}
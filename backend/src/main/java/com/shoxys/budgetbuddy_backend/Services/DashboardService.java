@@ -1,32 +1,44 @@
 package com.shoxys.budgetbuddy_backend.Services;
 
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.*;
-import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
-import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Exceptions.DashboardUnavailableException;
 import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.MonthlyRollupRepo;
 import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.Utils.Utils;
 import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Service for generating dashboard-related data, including account summaries, net worth, spending
  * insights, saving goals, income/expense summaries, income trends, expense analysis, and recent
- * transactions.
+ * transactions. Calendar aggregates are read from the monthly rollups rather than computed over the
+ * transactions table.
  */
 @Service
 public class DashboardService {
   private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
-  private static final int SPENDING_INSIGHT_DAYS = 30;
   private static final int TOP_SAVING_GOALS_LIMIT = 3;
   private static final int TOP_EXPENSE_CATEGORIES_LIMIT = 5;
   private static final int RECENT_TRANSACTIONS_LIMIT = 3;
@@ -34,8 +46,11 @@ public class DashboardService {
   private final AccountRepo accountRepo;
   private final SavingGoalsRepo savingGoalsRepo;
   private final TransactionRepo transactionRepo;
-  private final TransactionService transactionService;
-  private final AiInsightService aiInsightService;
+  private final MonthlyRollupRepo monthlyRollupRepo;
+  private final UserRepo userRepo;
+  private final SpendingInsightService spendingInsightService;
+  private final Executor dashboardExecutor;
+  private final Duration overviewTimeout;
 
   /**
    * Constructs a DashboardService with required dependencies.
@@ -43,21 +58,124 @@ public class DashboardService {
    * @param accountRepo Repository for account-related data access
    * @param savingGoalsRepo Repository for saving goals data access
    * @param transactionRepo Repository for transaction data access
-   * @param transactionService Service for transaction-related operations
-   * @param aiInsightService Service for generating AI-based spending insights
+   * @param monthlyRollupRepo Repository for monthly income, expense and category totals
+   * @param userRepo Repository for user data access, used to resolve the user's time zone
+   * @param spendingInsightService Service serving the stored spending insights
+   * @param dashboardExecutor Executor running the independent queries of a dashboard overview
+   * @param overviewTimeoutMillis how long an overview waits for all of its panels
    */
   @Autowired
   public DashboardService(
       AccountRepo accountRepo,
       SavingGoalsRepo savingGoalsRepo,
       TransactionRepo transactionRepo,
-      TransactionService transactionService,
-      AiInsightService aiInsightService) {
+      MonthlyRollupRepo monthlyRollupRepo,
+      UserRepo userRepo,
+      SpendingInsightService spendingInsightService,
+      @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+      @Value("${dashboard.overview.timeout-ms:5000}") long overviewTimeoutMillis) {
     this.accountRepo = accountRepo;
     this.savingGoalsRepo = savingGoalsRepo;
     this.transactionRepo = transactionRepo;
-    this.transactionService = transactionService;
-    this.aiInsightService = aiInsightService;
+    this.monthlyRollupRepo = monthlyRollupRepo;
+    this.userRepo = userRepo;
+    this.spendingInsightService = spendingInsightService;
+    this.dashboardExecutor =
+        Objects.requireNonNull(dashboardExecutor, "Dashboard executor must not be null");
+    this.overviewTimeout = Duration.ofMillis(overviewTimeoutMillis);
+  }
+
+  /**
+   * Builds every dashboard panel for a user in one call. Accounts are loaded once and shared by the
+   * total balance, account summary and net worth panels; the remaining panels are independent
+   * queries and run concurrently on the dashboard executor. A failure to generate spending insights
+   * is reported in the insights panel rather than failing the overview.
+   *
+   * @param userId the ID of the user
+   * @return the dashboard overview
+   * @throws IllegalArgumentException if userId is not positive
+   * @throws DashboardUnavailableException if the panels are not built within the overview timeout
+   */
+  public DashboardOverview getDashboardOverview(long userId) {
+    logger.debug("Building dashboard overview for userId: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    ZoneId zone = resolveTimeZone(userId);
+
+    CompletableFuture<List<AccountSummary>> accounts =
+        supplyPanel(() -> accountRepo.findAccountsTypeNameBalanceByUserId(userId));
+    CompletableFuture<List<SavingGoalSummary>> savingGoals =
+        supplyPanel(() -> getSavingGoalSummary(userId));
+    CompletableFuture<List<IncomeExpenseSummary>> incomeExpenseSummary =
+        supplyPanel(() -> buildIncomeExpenseSummary(userId, zone));
+    CompletableFuture<IncomeTrend> incomeTrend = supplyPanel(() -> buildIncomeTrend(userId, zone));
+    CompletableFuture<List<ExpenseAnalysis>> expenseAnalysis =
+        supplyPanel(() -> getExpenseAnalysis(userId));
+    CompletableFuture<List<RecentTransactions>> recentTransactions =
+        supplyPanel(() -> getRecentTransactions(userId));
+    CompletableFuture<List<SpendingInsight>> storedInsights =
+        supplyPanel(() -> getSpendingInsights(userId).getInsights());
+    CompletableFuture<List<SpendingInsight>> spendingInsights =
+        storedInsights.exceptionally(
+            e -> {
+              logger.warn(
+                  "Spending insights unavailable for userId {}: {}", userId, e.getMessage());
+              return List.of(new SpendingInsight("Spending insights are currently unavailable."));
+            });
+
+    List<CompletableFuture<?>> panels =
+        List.of(
+            accounts,
+            savingGoals,
+            incomeExpenseSummary,
+            incomeTrend,
+            expenseAnalysis,
+            recentTransactions,
+            storedInsights,
+            spendingInsights);
+    long deadline = System.nanoTime() + overviewTimeout.toNanos();
+
+    DashboardOverview overview = new DashboardOverview();
+    List<AccountSummary> userAccounts = await(accounts, deadline, panels);
+    BigDecimal totalBalance = sumBalances(userAccounts);
+    overview.setTotalBalance(totalBalance);
+    overview.setAccountsSummary(userAccounts);
+    overview.setNetworth(new NetworthResponse(totalBalance, toBreakdownItems(userAccounts)));
+    overview.setSavingGoals(await(savingGoals, deadline, panels));
+    overview.setIncomeExpenseSummary(await(incomeExpenseSummary, deadline, panels));
+    overview.setIncomeTrend(await(incomeTrend, deadline, panels));
+    overview.setExpenseAnalysis(await(expenseAnalysis, deadline, panels));
+    overview.setRecentTransactions(await(recentTransactions, deadline, panels));
+    overview.setSpendingInsights(await(spendingInsights, deadline, panels));
+    logger.info("Built dashboard overview for userId: {}", userId);
+    return overview;
+  }
+
+  private <T> CompletableFuture<T> supplyPanel(Supplier<T> panel) {
+    return CompletableFuture.supplyAsync(panel, dashboardExecutor);
+  }
+
+  /**
+   * Waits for a panel until the overview deadline. When the deadline passes, every panel of the
+   * overview is cancelled so queued panels are skipped rather than run for a response nobody reads.
+   */
+  private <T> T await(
+      CompletableFuture<T> panel, long deadline, List<CompletableFuture<?>> panels) {
+    try {
+      return panel.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      panels.forEach(other -> other.cancel(false));
+      logger.warn("Dashboard overview did not complete within {}", overviewTimeout);
+      throw new DashboardUnavailableException("Dashboard is taking too long to load, try again");
+    } catch (InterruptedException e) {
+      panels.forEach(other -> other.cancel(false));
+      Thread.currentThread().interrupt();
+      throw new DashboardUnavailableException("Dashboard loading was interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Dashboard panel failed", e.getCause());
+    }
   }
 
   /**
@@ -86,17 +204,7 @@ public class DashboardService {
   public List<AccountSummary> getAccountSummary(long userId) {
     logger.debug("Fetching account summary for userId: {}", userId);
     Utils.validatePositiveId(userId, "User ID must be positive");
-    List<Account> accounts = accountRepo.findAccountsTypeNameBalanceByUserId(userId);
-    List<AccountSummary> summaries =
-        accounts.stream()
-            .map(
-                account ->
-                    new AccountSummary(
-                        account.getId(),
-                        account.getType(),
-                        account.getName(),
-                        account.getBalance()))
-            .toList();
+    List<AccountSummary> summaries = accountRepo.findAccountsTypeNameBalanceByUserId(userId);
     logger.info("Retrieved {} account summaries for userId: {}", summaries.size(), userId);
     return summaries;
   }
@@ -112,11 +220,7 @@ public class DashboardService {
     logger.debug("Fetching net worth for userId: {}", userId);
     Utils.validatePositiveId(userId, "User ID must be positive");
     BigDecimal totalNetWorth = getTotalBalance(userId);
-    List<Account> accounts = accountRepo.findAccountsNameBalanceByUserId(userId);
-    List<BreakdownItem> breakdownItemList =
-        accounts.stream()
-            .map(account -> new BreakdownItem(account.getName(), account.getBalance()))
-            .toList();
+    List<BreakdownItem> breakdownItemList = accountRepo.findAccountsNameBalanceByUserId(userId);
     logger.info(
         "Net worth for userId {}: {} with {} breakdown items",
         userId,
@@ -125,65 +229,30 @@ public class DashboardService {
     return new NetworthResponse(totalNetWorth, breakdownItemList);
   }
 
-  /**
-   * Generates spending insights for a user based on transactions from the last 30 days.
-   *
-   * @param userId the ID of the user
-   * @return a list of spending insights, or a default message if no transactions exist
-   * @throws IllegalArgumentException if userId is not positive
-   */
-  public List<SpendingInsight> getSpendingInsights(long userId) {
-    logger.debug("Generating spending insights for userId: {}", userId);
-    Utils.validatePositiveId(userId, "User ID must be positive");
-    LocalDate endDate = LocalDate.now();
-    LocalDate startDate = endDate.minusDays(SPENDING_INSIGHT_DAYS);
-    List<Transaction> recentTransactions =
-        transactionService.getTransactionsByUserIdInTimeFrame(userId, startDate, endDate);
-
-    if (recentTransactions.isEmpty()) {
-      logger.warn(
-          "No transactions found for userId {} in the last {} days", userId, SPENDING_INSIGHT_DAYS);
-      return List.of(
-          new SpendingInsight(
-              "Not enough transaction data for the last "
-                  + SPENDING_INSIGHT_DAYS
-                  + " days to generate insights."));
-    }
+  private List<BreakdownItem> toBreakdownItems(List<AccountSummary> accounts) {
+    return accounts.stream()
+        .map(account -> new BreakdownItem(account.getName(), account.getBalance()))
+        .toList();
+  }
 
-    String transactionStats = createTransactionStats(recentTransactions);
-    String prompt = aiInsightService.buildStrictPrompt(transactionStats);
-    String rawInsights = aiInsightService.getInsightsFromText(prompt);
-    List<SpendingInsight> insights = aiInsightService.parseInsightsToList(rawInsights);
-    logger.info("Generated {} spending insights for userId: {}", insights.size(), userId);
-    return insights;
+  private BigDecimal sumBalances(List<AccountSummary> accounts) {
+    return accounts.stream()
+        .map(AccountSummary::getBalance)
+        .filter(Objects::nonNull)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
   }
 
   /**
-   * Creates a formatted string summarizing transactions by category for AI insight generation.
+   * Retrieves the stored spending insights for a user, based on transactions from the last 30 days.
+   * Stale or missing insights are refreshed in the background rather than on this call.
    *
-   * @param transactions the list of transactions to summarize
-   * @return a formatted string of spending by category
+   * @param userId the ID of the user
+   * @return the spending insights with their freshness
+   * @throws IllegalArgumentException if userId is not positive
    */
-  private String createTransactionStats(List<Transaction> transactions) {
-    logger.debug("Creating transaction stats for {} transactions", transactions.size());
-    Map<String, BigDecimal> spendingByCategory =
-        transactions.stream()
-            .filter(t -> t.getAmount() != null && t.getAmount().compareTo(BigDecimal.ZERO) < 0)
-            .collect(
-                Collectors.groupingBy(
-                    Transaction::getCategory,
-                    Collectors.reducing(BigDecimal.ZERO, Transaction::getAmount, BigDecimal::add)));
-
-    StringBuilder summary =
-        new StringBuilder("User's spending over the last " + SPENDING_INSIGHT_DAYS + " days:\n");
-    spendingByCategory.entrySet().stream()
-        .sorted(Map.Entry.comparingByKey())
-        .forEach(
-            entry ->
-                summary.append(
-                    String.format("- %s: $%.2f\n", entry.getKey(), entry.getValue().abs())));
-    logger.debug("Transaction stats created: {}", summary);
-    return summary.toString();
+  public SpendingInsightsResponse getSpendingInsights(long userId) {
+    logger.debug("Fetching spending insights for userId: {}", userId);
+    return spendingInsightService.getInsights(userId);
   }
 
   /**
@@ -208,7 +277,8 @@ public class DashboardService {
   }
 
   /**
-   * Retrieves income and expense summaries for the current and previous months.
+   * Retrieves income and expense summaries for the current and previous months, with the months
+   * resolved in the user's time zone.
    *
    * @param userId the ID of the user
    * @return a list of income and expense summaries for this month and last month
@@ -217,22 +287,36 @@ public class DashboardService {
   public List<IncomeExpenseSummary> getIncomeExpenseSummary(long userId) {
     logger.debug("Fetching income/expense summary for userId: {}", userId);
     Utils.validatePositiveId(userId, "User ID must be positive");
-    LocalDate lastMonthStart = LocalDate.now().minusMonths(1).withDayOfMonth(1);
-    LocalDate lastMonthEnd = lastMonthStart.withDayOfMonth(lastMonthStart.lengthOfMonth());
+    return buildIncomeExpenseSummary(userId, resolveTimeZone(userId));
+  }
+
+  private List<IncomeExpenseSummary> buildIncomeExpenseSummary(long userId, ZoneId zone) {
+    YearMonth currentMonth = YearMonth.now(zone);
+    LocalDate thisMonthStart = currentMonth.atDay(1);
+    LocalDate lastMonthStart = currentMonth.minusMonths(1).atDay(1);
 
-    BigDecimal incomeThisMonth =
-        Optional.ofNullable(transactionRepo.getTotalCreditThisMonth(userId))
-            .orElse(BigDecimal.ZERO);
-    BigDecimal expensesThisMonth =
-        Optional.ofNullable(transactionRepo.getTotalDebitThisMonth(userId)).orElse(BigDecimal.ZERO);
-    BigDecimal incomeLastMonth =
-        Optional.ofNullable(
-                transactionRepo.getTotalCreditBetween(userId, lastMonthStart, lastMonthEnd))
-            .orElse(BigDecimal.ZERO);
-    BigDecimal expensesLastMonth =
-        Optional.ofNullable(
-                transactionRepo.getTotalDebitBetween(userId, lastMonthStart, lastMonthEnd))
-            .orElse(BigDecimal.ZERO);
+    BigDecimal incomeThisMonth = BigDecimal.ZERO;
+    BigDecimal expensesThisMonth = BigDecimal.ZERO;
+    BigDecimal incomeLastMonth = BigDecimal.ZERO;
+    BigDecimal expensesLastMonth = BigDecimal.ZERO;
+    for (Object[] row :
+        monthlyRollupRepo.sumByMonthAndSpending(
+            userId, lastMonthStart, currentMonth.plusMonths(1).atDay(1))) {
+      LocalDate monthStart = (LocalDate) row[0];
+      boolean spending = (Boolean) row[1];
+      BigDecimal credit = Optional.ofNullable((BigDecimal) row[2]).orElse(BigDecimal.ZERO);
+      BigDecimal debit = Optional.ofNullable((BigDecimal) row[3]).orElse(BigDecimal.ZERO);
+      if (monthStart.equals(thisMonthStart)) {
+        // This month only counts the spending account, matching the live balance it is shown with.
+        if (spending) {
+          incomeThisMonth = incomeThisMonth.add(credit);
+          expensesThisMonth = expensesThisMonth.add(debit);
+        }
+      } else {
+        incomeLastMonth = incomeLastMonth.add(credit);
+        expensesLastMonth = expensesLastMonth.add(debit);
+      }
+    }
 
     IncomeExpenseSummary thisMonth =
         new IncomeExpenseSummary("This month", incomeThisMonth, expensesThisMonth);
@@ -243,7 +327,8 @@ public class DashboardService {
   }
 
   /**
-   * Retrieves the income trend for a user over the current and previous years.
+   * Retrieves the income trend for a user over the current and previous years, with the years
+   * resolved in the user's time zone.
    *
    * @param userId the ID of the user
    * @return an IncomeTrend containing monthly income data for the current and previous years
@@ -252,37 +337,62 @@ public class DashboardService {
   public IncomeTrend getIncomeTrend(Long userId) {
     logger.debug("Fetching income trend for userId: {}", userId);
     Utils.validatePositiveId(userId, "User ID must be positive");
+    return buildIncomeTrend(userId, resolveTimeZone(userId));
+  }
+
+  private IncomeTrend buildIncomeTrend(long userId, ZoneId zone) {
     List<String> months =
         List.of("Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec");
-    int currentYear = Year.now().getValue();
+    Year year = Year.now(zone);
+    int currentYear = year.getValue();
     int lastYear = currentYear - 1;
 
-    List<BigDecimal> incomeThisYear =
-        fillMissingMonthsWithZero(transactionRepo.getMonthlyIncomeForYear(userId, currentYear));
-    List<BigDecimal> incomeLastYear =
-        fillMissingMonthsWithZero(transactionRepo.getMonthlyIncomeForYear(userId, lastYear));
+    List<Object[]> monthlyIncome =
+        monthlyRollupRepo.sumCreditByMonth(
+            userId, year.minusYears(1).atDay(1), year.plusYears(1).atDay(1));
+    List<BigDecimal> incomeThisYear = fillMissingMonthsWithZero(monthlyIncome, currentYear);
+    List<BigDecimal> incomeLastYear = fillMissingMonthsWithZero(monthlyIncome, lastYear);
     logger.info(
         "Retrieved income trend for userId: {} for years {} and {}", userId, currentYear, lastYear);
     return new IncomeTrend(months, incomeThisYear, incomeLastYear);
   }
 
   /**
-   * Fills missing months with zero income for a yearly income data list.
+   * Resolves the time zone used to determine a user's current month and year, falling back to the
+   * server's zone when the user has none set or it is no longer a valid zone ID.
+   *
+   * @param userId the ID of the user
+   * @return the user's time zone
+   */
+  private ZoneId resolveTimeZone(long userId) {
+    Optional<String> timeZone = userRepo.findTimeZoneById(userId);
+    if (timeZone.isPresent()) {
+      try {
+        return ZoneId.of(timeZone.get());
+      } catch (DateTimeException e) {
+        logger.warn("Invalid time zone {} for userId: {}", timeZone.get(), userId);
+      }
+    }
+    return ZoneId.systemDefault();
+  }
+
+  /**
+   * Fills missing months with zero income for one year of monthly rollup totals.
    *
-   * @param monthlyDataFromRepo the raw monthly data from the repository
+   * @param monthlyIncome rows of month start and income, possibly spanning several years
+   * @param year the year to extract
    * @return a list of 12 BigDecimal values representing monthly income
    */
-  private List<BigDecimal> fillMissingMonthsWithZero(List<Object[]> monthlyDataFromRepo) {
-    logger.debug("Filling missing months for {} monthly data entries", monthlyDataFromRepo.size());
+  private List<BigDecimal> fillMissingMonthsWithZero(List<Object[]> monthlyIncome, int year) {
     List<BigDecimal> filledData = new ArrayList<>(Collections.nCopies(12, BigDecimal.ZERO));
-    for (Object[] row : monthlyDataFromRepo) {
-      Integer month = (Integer) row[0];
+    for (Object[] row : monthlyIncome) {
+      LocalDate monthStart = (LocalDate) row[0];
       BigDecimal income = (BigDecimal) row[1];
-      if (month != null && month >= 1 && month <= 12) {
-        filledData.set(month - 1, income != null ? income : BigDecimal.ZERO);
+      if (monthStart != null && monthStart.getYear() == year) {
+        filledData.set(monthStart.getMonthValue() - 1, income != null ? income : BigDecimal.ZERO);
       }
     }
-    logger.debug("Filled monthly data: {}", filledData);
+    logger.debug("Filled monthly data for {}: {}", year, filledData);
     return filledData;
   }
 
@@ -296,7 +406,7 @@ public class DashboardService {
   public List<ExpenseAnalysis> getExpenseAnalysis(long userId) {
     logger.debug("Fetching expense analysis for userId: {}", userId);
     Utils.validatePositiveId(userId, "User ID must be positive");
-    List<ExpenseAnalysis> analysis = transactionRepo.findTop5ExpenseCategoriesByAmount(userId);
+    List<ExpenseAnalysis> analysis = monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(userId);
     logger.info("Retrieved {} expense categories for userId: {}", analysis.size(), userId);
     return analysis;
   }
@@ -0,0 +1,213 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.Exceptions.InsightUnavailableException;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client for the Gemini API. Requests share one keep-alive connection pool with fixed connect
+ * and read timeouts, and at most a configured number of calls are in flight at once; callers that
+ * cannot get a slot within the acquire timeout are refused rather than queued. A circuit breaker
+ * stops calling the API after repeated failures, so an outage costs one fast refusal per call
+ * instead of a full read timeout.
+ */
+@Component
+public class GeminiClient {
+  private static final Logger logger = LoggerFactory.getLogger(GeminiClient.class);
+
+  private final RestTemplate restTemplate;
+  private final Semaphore bulkhead;
+  private final int maxConcurrent;
+  private final Duration acquireTimeout;
+  private final InsightCircuitBreaker circuitBreaker;
+
+  private final LongAdder callCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder shortCircuitCount = new LongAdder();
+  private final LongAdder callNanos = new LongAdder();
+  private final LongAccumulator maxCallNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Constructs a GeminiClient from configuration.
+   *
+   * @param connectTimeoutMs how long to wait for a connection to the API
+   * @param readTimeoutMs how long to wait for the API's response
+   * @param maxConcurrent the maximum number of calls in flight at once
+   * @param acquireTimeoutMs how long a caller waits for a free call slot
+   * @param failureThreshold the number of consecutive failures that opens the circuit
+   * @param openMs how long the circuit stays open before a trial call
+   */
+  @Autowired
+  public GeminiClient(
+      @Value("${gemini.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+      @Value("${gemini.client.read-timeout-ms:10000}") long readTimeoutMs,
+      @Value("${gemini.client.max-concurrent:4}") int maxConcurrent,
+      @Value("${gemini.client.acquire-timeout-ms:100}") long acquireTimeoutMs,
+      @Value("${gemini.client.circuit.failure-threshold:5}") int failureThreshold,
+      @Value("${gemini.client.circuit.open-ms:30000}") long openMs) {
+    this(
+        Duration.ofMillis(connectTimeoutMs),
+        Duration.ofMillis(readTimeoutMs),
+        maxConcurrent,
+        Duration.ofMillis(acquireTimeoutMs),
+        new InsightCircuitBreaker(
+            failureThreshold, Duration.ofMillis(openMs), Clock.systemDefaultZone()));
+  }
+
+  GeminiClient(
+      Duration connectTimeout,
+      Duration readTimeout,
+      int maxConcurrent,
+      Duration acquireTimeout,
+      InsightCircuitBreaker circuitBreaker) {
+    if (maxConcurrent < 1) {
+      logger.error("Invalid maximum concurrent Gemini calls: {}", maxConcurrent);
+      throw new IllegalArgumentException("Maximum concurrent calls must be positive");
+    }
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .build();
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(readTimeout);
+    this.restTemplate = new RestTemplate(requestFactory);
+    this.bulkhead = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.acquireTimeout = acquireTimeout;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  /**
+   * POSTs a request to the API and returns the converted response body.
+   *
+   * @param url the URL template
+   * @param request the request entity
+   * @param responseType the type of the response body
+   * @param uriVariables the values expanded into the URL template
+   * @return the converted response body
+   * @throws InsightUnavailableException if the circuit is open or all call slots are busy
+   * @throws RuntimeException if the call fails or times out, usually a {@link RestClientException}
+   */
+  public <T> T post(
+      String url, HttpEntity<?> request, Class<T> responseType, Object... uriVariables) {
+    if (!circuitBreaker.tryAcquire()) {
+      shortCircuitCount.increment();
+      logger.debug("Gemini circuit open, refusing call");
+      throw new InsightUnavailableException("Insight API is unavailable");
+    }
+    if (!acquireSlot()) {
+      circuitBreaker.release();
+      rejectedCount.increment();
+      logger.warn("All {} Gemini call slots busy, refusing call", maxConcurrent);
+      throw new InsightUnavailableException("Insight API is busy");
+    }
+
+    long start = System.nanoTime();
+    try {
+      T response = restTemplate.postForObject(url, request, responseType, uriVariables);
+      circuitBreaker.onSuccess();
+      return response;
+    } catch (RuntimeException e) {
+      failureCount.increment();
+      circuitBreaker.onFailure();
+      throw e;
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      callCount.increment();
+      callNanos.add(elapsed);
+      maxCallNanos.accumulate(elapsed);
+      bulkhead.release();
+    }
+  }
+
+  /** Returns whether the circuit currently lets calls through. */
+  public boolean isAvailable() {
+    return circuitBreaker.getState() != InsightCircuitBreaker.State.OPEN;
+  }
+
+  /** Returns the current state of the circuit. */
+  public InsightCircuitBreaker.State getCircuitState() {
+    return circuitBreaker.getState();
+  }
+
+  /** Returns the number of calls made to the API, successful or not. */
+  public long getCallCount() {
+    return callCount.sum();
+  }
+
+  /** Returns the number of calls that failed or timed out. */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  /** Returns the number of calls refused because all call slots were busy. */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  /** Returns the number of calls refused because the circuit was open. */
+  public long getShortCircuitCount() {
+    return shortCircuitCount.sum();
+  }
+
+  /** Returns the number of calls currently in flight. */
+  public int getInFlight() {
+    return maxConcurrent - bulkhead.availablePermits();
+  }
+
+  /** Returns the mean call latency in milliseconds. */
+  public double getAverageCallMillis() {
+    long count = callCount.sum();
+    return count == 0 ? 0 : callNanos.sum() / (double) count / 1_000_000;
+  }
+
+  /** Returns the longest single call latency in milliseconds. */
+  public double getMaxCallMillis() {
+    return maxCallNanos.get() / 1_000_000.0;
+  }
+
+  /** Logs client statistics periodically, when there has been any activity. */
+  @Scheduled(fixedDelayString = "${gemini.client.stats-log-interval-ms:60000}")
+  public void logStats() {
+    if (getCallCount() == 0 && getRejectedCount() == 0 && getShortCircuitCount() == 0) {
+      return;
+    }
+    logger.info(
+        "Gemini client: {} calls, {} failed, {} rejected, {} short-circuited, in flight {},"
+            + " circuit {}, avg {} ms, max {} ms",
+        getCallCount(),
+        getFailureCount(),
+        getRejectedCount(),
+        getShortCircuitCount(),
+        getInFlight(),
+        getCircuitState(),
+        String.format("%.1f", getAverageCallMillis()),
+        String.format("%.1f", getMaxCallMillis()));
+  }
+
+  private boolean acquireSlot() {
+    try {
+      return bulkhead.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionCheckResult;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionMismatch;
+import com.shoxys.budgetbuddy_backend.Entities.GoalContribution;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
+import com.shoxys.budgetbuddy_backend.Repo.GoalContributionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Verifies that each saving goal's contributed amount still equals the sum of its contribution
+ * ledger entries. Runs on a schedule in the background and only repairs mismatches, by appending an
+ * adjustment entry so the ledger stays append-only, when {@code
+ * goal.contributions.reconcile.repair} is enabled.
+ */
+@Service
+public class GoalContributionReconciler {
+  private static final Logger logger = LoggerFactory.getLogger(GoalContributionReconciler.class);
+  private final GoalContributionRepo goalContributionRepo;
+  private final SavingGoalsRepo savingGoalsRepo;
+
+  @Value("${goal.contributions.reconcile.repair:false}")
+  private boolean repairOnSchedule;
+
+  /**
+   * Constructs a GoalContributionReconciler with required dependencies.
+   *
+   * @param goalContributionRepo Repository for the goal contribution ledger
+   * @param savingGoalsRepo Repository for saving goals data access
+   */
+  public GoalContributionReconciler(
+      GoalContributionRepo goalContributionRepo, SavingGoalsRepo savingGoalsRepo) {
+    this.goalContributionRepo = goalContributionRepo;
+    this.savingGoalsRepo = savingGoalsRepo;
+    logger.info("Initializing GoalContributionReconciler");
+  }
+
+  /** Runs the ledger check on the configured schedule. */
+  @Scheduled(cron = "${goal.contributions.reconcile.cron:0 45 3 * * *}")
+  public void scheduledCheck() {
+    logger.info("Running scheduled goal contribution check, repair: {}", repairOnSchedule);
+    checkContributions(repairOnSchedule);
+  }
+
+  /**
+   * Compares every saving goal's contributed amount with the sum of its ledger entries.
+   *
+   * @param repair whether to append an adjustment entry that brings the ledger in line with the
+   *     goal
+   * @return the number of goals checked, mismatched and repaired
+   */
+  @Transactional
+  public ContributionCheckResult checkContributions(boolean repair) {
+    long checked = savingGoalsRepo.count();
+    List<ContributionMismatch> mismatches = goalContributionRepo.findContributionMismatches();
+    long repaired = 0;
+    for (ContributionMismatch mismatch : mismatches) {
+      logger.warn(
+          "Contribution mismatch for saving goal ID: {}, stored: {}, ledger: {}",
+          mismatch.getGoalId(),
+          mismatch.getContributed(),
+          mismatch.getLedgerTotal());
+      if (repair) {
+        goalContributionRepo.save(
+            new GoalContribution(
+                savingGoalsRepo.getReferenceById(mismatch.getGoalId()),
+                mismatch.getDifference(),
+                ContributionType.ADJUSTMENT,
+                Instant.now()));
+        repaired++;
+      }
+    }
+    logger.info(
+        "Goal contribution check complete, checked: {}, mismatched: {}, repaired: {}",
+        checked,
+        mismatches.size(),
+        repaired);
+    return new ContributionCheckResult(checked, mismatches.size(), repaired);
+  }
+}
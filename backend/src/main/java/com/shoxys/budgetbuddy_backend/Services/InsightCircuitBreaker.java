@@ -0,0 +1,95 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Circuit breaker guarding calls to the insight API. After a run of consecutive failures the
+ * circuit opens and calls are refused without contacting the API. Once the open duration has
+ * passed, a single trial call is let through: success closes the circuit, failure opens it again.
+ */
+public class InsightCircuitBreaker {
+
+  /** The states of the circuit. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Clock clock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private Instant openedAt;
+  private boolean trialInFlight;
+
+  /**
+   * Constructs an InsightCircuitBreaker.
+   *
+   * @param failureThreshold the number of consecutive failures that opens the circuit
+   * @param openDuration how long the circuit stays open before a trial call is allowed
+   * @param clock the clock measuring the open duration
+   */
+  public InsightCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDuration = openDuration;
+    this.clock = clock;
+  }
+
+  /**
+   * Asks to make a call. Every successful request must be followed by exactly one of {@link
+   * #onSuccess()}, {@link #onFailure()} or {@link #release()}.
+   *
+   * @return true if the call may proceed, false if the circuit refuses it
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+      state = State.HALF_OPEN;
+    }
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> {
+        if (trialInFlight) {
+          yield false;
+        }
+        trialInFlight = true;
+        yield true;
+      }
+    };
+  }
+
+  /** Records a successful call, closing the circuit. */
+  public synchronized void onSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  /** Records a failed call, opening the circuit if the failure threshold is reached. */
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = clock.instant();
+    }
+    trialInFlight = false;
+  }
+
+  /** Returns a permission that was granted but not used for a call. */
+  public synchronized void release() {
+    trialInFlight = false;
+  }
+
+  /** Returns the current state of the circuit. */
+  public synchronized State getState() {
+    if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+}
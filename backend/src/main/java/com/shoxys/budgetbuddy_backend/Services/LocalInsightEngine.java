@@ -0,0 +1,232 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsight;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingPeriodSummary;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates spending insights in-process from rules, without calling the insight API. It compares a
+ * user's spending per category with the previous period and renders the most notable findings
+ * through fixed templates: the change in total spending, the category that moved the most, the
+ * largest shift in category share, and the savings rate and its trend. When there is no previous
+ * period to compare with, it reports the largest category and the savings rate.
+ */
+@Component
+public class LocalInsightEngine {
+  private static final Logger logger = LoggerFactory.getLogger(LocalInsightEngine.class);
+
+  static final int MAX_INSIGHTS = 3;
+  static final int MIN_SPENDING_CHANGE_PERCENT = 5;
+  static final BigDecimal MIN_CATEGORY_CHANGE = BigDecimal.TEN;
+  static final int MIN_SHARE_SHIFT_POINTS = 5;
+
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+  private static final String SPENDING_UP =
+      "Your spending is up %d%% on the previous %d days, at $%.2f. Reviewing your largest"
+          + " categories could help bring it back in line.";
+  private static final String SPENDING_DOWN =
+      "Your spending is down %d%% on the previous %d days, at $%.2f. Keep up the good work!";
+  private static final String CATEGORY_UP =
+      "%s spending rose by $%.2f to $%.2f, the biggest change in any category.";
+  private static final String CATEGORY_DOWN =
+      "%s spending fell by $%.2f to $%.2f, the biggest change in any category.";
+  private static final String SHARE_UP = "%s now makes up %d%% of your spending, up from %d%%.";
+  private static final String SHARE_DOWN = "%s now makes up %d%% of your spending, down from %d%%.";
+  private static final String SAVINGS_UP =
+      "You saved %d%% of your income over the last %d days, up from %d%% the period before.";
+  private static final String SAVINGS_DOWN =
+      "You saved %d%% of your income over the last %d days, down from %d%% the period before."
+          + " A small savings goal can help you get back on track.";
+  private static final String SAVINGS = "You saved %d%% of your income over the last %d days.";
+  private static final String OVERSPENT =
+      "You spent $%.2f more than you earned over the last %d days. Trimming one category could"
+          + " close the gap.";
+  private static final String LARGEST_CATEGORY =
+      "%s was your largest expense at $%.2f, %d%% of your spending.";
+  private static final String NO_SPENDING = "You had no spending over the last %d days.";
+
+  /**
+   * Generates up to {@link #MAX_INSIGHTS} insights for a period, most notable first.
+   *
+   * @param current the summary of the period to report on
+   * @param previous the summary of the period before it, empty if there was no activity
+   * @param periodDays the length of each period in days, used in the rendered text
+   * @return the insights, never empty
+   * @throws IllegalArgumentException if a summary is null
+   */
+  public List<SpendingInsight> generate(
+      SpendingPeriodSummary current, SpendingPeriodSummary previous, int periodDays) {
+    if (current == null || previous == null) {
+      logger.error("Spending period summary is null");
+      throw new IllegalArgumentException("Spending period summaries cannot be null");
+    }
+    Map<String, BigDecimal> currentSpending = spendingOf(current);
+    Map<String, BigDecimal> previousSpending = spendingOf(previous);
+    BigDecimal currentTotal = current.getTotalSpending();
+    BigDecimal previousTotal = previous.getTotalSpending();
+
+    List<String> insights = new ArrayList<>();
+    if (currentTotal.signum() == 0) {
+      insights.add(NO_SPENDING.formatted(periodDays));
+    }
+    if (previousTotal.signum() > 0 && currentTotal.signum() > 0) {
+      addSpendingChange(insights, currentTotal, previousTotal, periodDays);
+      String mover = addTopMover(insights, currentSpending, previousSpending);
+      addShareShift(
+          insights, currentSpending, currentTotal, previousSpending, previousTotal, mover);
+    }
+    addSavingsRate(insights, current, previous, periodDays);
+    if (currentTotal.signum() > 0) {
+      addLargestCategory(insights, currentSpending, currentTotal);
+    }
+
+    List<SpendingInsight> result =
+        insights.stream().limit(MAX_INSIGHTS).map(SpendingInsight::new).toList();
+    logger.debug("Generated {} local insights", result.size());
+    return result;
+  }
+
+  private static void addSpendingChange(
+      List<String> insights, BigDecimal currentTotal, BigDecimal previousTotal, int periodDays) {
+    int change = percent(currentTotal.subtract(previousTotal), previousTotal);
+    if (Math.abs(change) < MIN_SPENDING_CHANGE_PERCENT) {
+      return;
+    }
+    insights.add(
+        (change > 0 ? SPENDING_UP : SPENDING_DOWN)
+            .formatted(Math.abs(change), periodDays, currentTotal));
+  }
+
+  /** Adds the category whose spending changed the most in amount, returning its name. */
+  private static String addTopMover(
+      List<String> insights,
+      Map<String, BigDecimal> currentSpending,
+      Map<String, BigDecimal> previousSpending) {
+    String mover = null;
+    BigDecimal moverChange = BigDecimal.ZERO;
+    for (String category : categories(currentSpending, previousSpending)) {
+      BigDecimal change =
+          amountOf(currentSpending, category).subtract(amountOf(previousSpending, category));
+      if (change.abs().compareTo(moverChange.abs()) > 0) {
+        mover = category;
+        moverChange = change;
+      }
+    }
+    if (mover == null || moverChange.abs().compareTo(MIN_CATEGORY_CHANGE) < 0) {
+      return null;
+    }
+    insights.add(
+        (moverChange.signum() > 0 ? CATEGORY_UP : CATEGORY_DOWN)
+            .formatted(mover, moverChange.abs(), amountOf(currentSpending, mover)));
+    return mover;
+  }
+
+  /** Adds the category whose share of spending shifted the most, other than the top mover. */
+  private static void addShareShift(
+      List<String> insights,
+      Map<String, BigDecimal> currentSpending,
+      BigDecimal currentTotal,
+      Map<String, BigDecimal> previousSpending,
+      BigDecimal previousTotal,
+      String mover) {
+    String shifted = null;
+    int shiftedFrom = 0;
+    int shiftedTo = 0;
+    for (String category : categories(currentSpending, previousSpending)) {
+      if (category.equals(mover)) {
+        continue;
+      }
+      int from = percent(amountOf(previousSpending, category), previousTotal);
+      int to = percent(amountOf(currentSpending, category), currentTotal);
+      if (Math.abs(to - from) > Math.abs(shiftedTo - shiftedFrom)) {
+        shifted = category;
+        shiftedFrom = from;
+        shiftedTo = to;
+      }
+    }
+    if (shifted == null || Math.abs(shiftedTo - shiftedFrom) < MIN_SHARE_SHIFT_POINTS) {
+      return;
+    }
+    insights.add(
+        (shiftedTo > shiftedFrom ? SHARE_UP : SHARE_DOWN)
+            .formatted(shifted, shiftedTo, shiftedFrom));
+  }
+
+  private static void addSavingsRate(
+      List<String> insights,
+      SpendingPeriodSummary current,
+      SpendingPeriodSummary previous,
+      int periodDays) {
+    BigDecimal income = incomeOf(current);
+    if (income.signum() <= 0) {
+      return;
+    }
+    BigDecimal saved = income.subtract(current.getTotalSpending());
+    if (saved.signum() < 0) {
+      insights.add(OVERSPENT.formatted(saved.negate(), periodDays));
+      return;
+    }
+    int rate = percent(saved, income);
+    BigDecimal previousIncome = incomeOf(previous);
+    if (previousIncome.signum() > 0) {
+      int previousRate =
+          percent(previousIncome.subtract(previous.getTotalSpending()), previousIncome);
+      if (Math.abs(rate - previousRate) >= MIN_SHARE_SHIFT_POINTS) {
+        insights.add(
+            (rate > previousRate ? SAVINGS_UP : SAVINGS_DOWN)
+                .formatted(rate, periodDays, previousRate));
+        return;
+      }
+    }
+    insights.add(SAVINGS.formatted(rate, periodDays));
+  }
+
+  private static void addLargestCategory(
+      List<String> insights, Map<String, BigDecimal> spending, BigDecimal total) {
+    Map.Entry<String, BigDecimal> largest = null;
+    for (Map.Entry<String, BigDecimal> entry : new TreeMap<>(spending).entrySet()) {
+      if (largest == null || entry.getValue().compareTo(largest.getValue()) > 0) {
+        largest = entry;
+      }
+    }
+    insights.add(
+        LARGEST_CATEGORY.formatted(
+            largest.getKey(), largest.getValue(), percent(largest.getValue(), total)));
+  }
+
+  /** Returns the categories of both periods in name order, so ties resolve the same way. */
+  private static Set<String> categories(
+      Map<String, BigDecimal> currentSpending, Map<String, BigDecimal> previousSpending) {
+    Set<String> categories = new TreeSet<>(currentSpending.keySet());
+    categories.addAll(previousSpending.keySet());
+    return categories;
+  }
+
+  private static Map<String, BigDecimal> spendingOf(SpendingPeriodSummary summary) {
+    return summary.getSpendingByCategory() == null ? Map.of() : summary.getSpendingByCategory();
+  }
+
+  private static BigDecimal incomeOf(SpendingPeriodSummary summary) {
+    return summary.getIncome() == null ? BigDecimal.ZERO : summary.getIncome();
+  }
+
+  private static BigDecimal amountOf(Map<String, BigDecimal> spending, String category) {
+    return spending.getOrDefault(category, BigDecimal.ZERO);
+  }
+
+  /** Returns part as a whole-number percentage of whole, which must be positive. */
+  private static int percent(BigDecimal part, BigDecimal whole) {
+    return part.multiply(HUNDRED).divide(whole, 0, RoundingMode.HALF_UP).intValue();
+  }
+}
@@ -0,0 +1,150 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Repo.MonthlyRollupRepo;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the monthly rollups in step with the transactions table. Transaction writes call into this
+ * service within their own database transaction, so a rollup change commits or rolls back together
+ * with the write it reflects. Rollups can also be rebuilt from scratch for a user.
+ */
+@Service
+public class MonthlyRollupService {
+  private static final Logger logger = LoggerFactory.getLogger(MonthlyRollupService.class);
+  private final MonthlyRollupRepo monthlyRollupRepo;
+  private final TransactionRepo transactionRepo;
+
+  /**
+   * Constructs a MonthlyRollupService with required dependencies.
+   *
+   * @param monthlyRollupRepo Repository for monthly rollup data access
+   * @param transactionRepo Repository for transaction-related data access
+   */
+  public MonthlyRollupService(
+      MonthlyRollupRepo monthlyRollupRepo, TransactionRepo transactionRepo) {
+    this.monthlyRollupRepo = monthlyRollupRepo;
+    this.transactionRepo = transactionRepo;
+  }
+
+  /**
+   * Adds transactions to their monthly rollups. Transactions falling into the same rollup row are
+   * merged so each row is written once.
+   *
+   * @param transactions the transactions that were written
+   */
+  public void recordAdded(Collection<Transaction> transactions) {
+    apply(merge(transactions.stream().map(this::toDelta).toList()));
+  }
+
+  /**
+   * Removes a transaction from its monthly rollup, using the values it had when it was added.
+   *
+   * @param transaction the transaction being removed or about to change
+   */
+  public void recordRemoved(Transaction transaction) {
+    apply(List.of(toDelta(transaction).negate()));
+  }
+
+  /**
+   * Removes a set of stored transactions from their monthly rollups. Must be called before the
+   * transactions are deleted, as their totals are read from the transactions table.
+   *
+   * @param ids the IDs of the transactions about to be deleted
+   * @param user the owning user
+   */
+  public void recordRemoved(Collection<Long> ids, User user) {
+    List<MonthlyRollupDelta> deltas =
+        toDeltas(user.getId(), transactionRepo.summarizeByMonthForIds(ids, user)).stream()
+            .map(MonthlyRollupDelta::negate)
+            .toList();
+    apply(deltas);
+  }
+
+  /**
+   * Replaces a user's monthly rollups with totals recomputed from the transactions table.
+   *
+   * @param userId the ID of the user
+   * @return the number of rollup rows written
+   */
+  @Transactional
+  public int rebuild(long userId) {
+    logger.debug("Rebuilding monthly rollups for userId: {}", userId);
+    monthlyRollupRepo.deleteAllByUserId(userId);
+    List<MonthlyRollupDelta> deltas =
+        toDeltas(userId, transactionRepo.summarizeByMonthForUser(userId));
+    int written = monthlyRollupRepo.applyDeltas(deltas);
+    logger.info("Rebuilt {} monthly rollup rows for userId: {}", written, userId);
+    return written;
+  }
+
+  private void apply(List<MonthlyRollupDelta> deltas) {
+    List<MonthlyRollupDelta> changes = deltas.stream().filter(d -> !d.isEmpty()).toList();
+    if (!changes.isEmpty()) {
+      monthlyRollupRepo.applyDeltas(changes);
+    }
+  }
+
+  private MonthlyRollupDelta toDelta(Transaction transaction) {
+    Account account = transaction.getAccount();
+    return MonthlyRollupDelta.of(
+        transaction.getUser().getId(),
+        transaction.getDate(),
+        transaction.getCategory(),
+        account != null && account.getType() == AccountType.SPENDING,
+        transaction.getAmount());
+  }
+
+  private List<MonthlyRollupDelta> merge(List<MonthlyRollupDelta> deltas) {
+    Map<List<Object>, MonthlyRollupDelta> merged = new LinkedHashMap<>();
+    for (MonthlyRollupDelta delta : deltas) {
+      MonthlyRollupDelta existing = merged.putIfAbsent(delta.rowKey(), delta);
+      if (existing != null) {
+        existing.merge(delta);
+      }
+    }
+    return new ArrayList<>(merged.values());
+  }
+
+  /**
+   * Converts summary rows of [year, month, category, AccountType, credit sum, debit sum, count]
+   * into deltas, merging rows whose account types map to the same account kind.
+   */
+  private List<MonthlyRollupDelta> toDeltas(long userId, List<Object[]> rows) {
+    List<MonthlyRollupDelta> deltas = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      deltas.add(
+          new MonthlyRollupDelta(
+              userId,
+              LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), 1),
+              (String) row[2],
+              row[3] == AccountType.SPENDING,
+              toBigDecimal(row[4]),
+              toBigDecimal(row[5]),
+              ((Number) row[6]).longValue()));
+    }
+    return merge(deltas);
+  }
+
+  private static BigDecimal toBigDecimal(Object value) {
+    if (value == null) {
+      return BigDecimal.ZERO;
+    }
+    return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+  }
+}
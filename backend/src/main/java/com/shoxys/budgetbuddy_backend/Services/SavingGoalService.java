@@ -1,17 +1,25 @@
 package com.shoxys.budgetbuddy_backend.Services;
 
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionPage;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStat;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsSummary;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.GoalContribution;
 import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
 import com.shoxys.budgetbuddy_backend.Enums.GoalType;
+import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
 import com.shoxys.budgetbuddy_backend.Exceptions.SavingGoalNotFoundException;
-import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.GoalContributionRepo;
 import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.Utils.Utils;
@@ -21,16 +29,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
  * Service for managing saving goals, including creation, updates, contributions, and statistics.
+ * Every change to a goal's contributed amount is appended to the contribution ledger and applied to
+ * the goal savings account as an increment, so no write re-sums the user's goals.
  */
 @Service
 public class SavingGoalService {
@@ -39,6 +51,7 @@ public class SavingGoalService {
   private final AccountRepo accountRepo;
   private final UserRepo userRepo;
   private final AccountService accountService;
+  private final GoalContributionRepo goalContributionRepo;
 
   /**
    * Constructs a SavingGoalService with required dependencies.
@@ -47,17 +60,20 @@ public class SavingGoalService {
    * @param accountRepo Repository for account data access
    * @param userRepo Repository for user data access
    * @param accountService Service for account-related operations
+   * @param goalContributionRepo Repository for the goal contribution ledger
    */
   public SavingGoalService(
       SavingGoalsRepo savingGoalsRepo,
       AccountRepo accountRepo,
       UserRepo userRepo,
-      AccountService accountService) {
+      AccountService accountService,
+      GoalContributionRepo goalContributionRepo) {
     logger.debug("Initializing SavingGoalService");
     if (savingGoalsRepo == null
         || accountRepo == null
         || userRepo == null
-        || accountService == null) {
+        || accountService == null
+        || goalContributionRepo == null) {
       logger.error("One or more dependencies are null");
       throw new IllegalArgumentException("All dependencies must be non-null");
     }
@@ -65,186 +81,144 @@ public class SavingGoalService {
     this.accountRepo = accountRepo;
     this.userRepo = userRepo;
     this.accountService = accountService;
+    this.goalContributionRepo = goalContributionRepo;
     logger.info("SavingGoalService initialized successfully");
   }
 
   /**
    * Retrieves the title of a saving goal by ID for a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the saving goal ID
    * @return the title of the saving goal
-   * @throws IllegalArgumentException if email is invalid or ID is not positive
-   * @throws UserNotFoundException if user is not found
+   * @throws IllegalArgumentException if the user ID or ID is not positive
    * @throws SavingGoalNotFoundException if saving goal is not found
    */
-  public String getSavingGoalTitleById(String email, long id) {
-    logger.debug("Fetching saving goal title for user: {}, ID: {}", email, id);
-    validateEmailAndId(email, id);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+  public String getSavingGoalTitleById(long userId, long id) {
+    logger.debug("Fetching saving goal title for user ID: {}, ID: {}", userId, id);
+    validateUserIdAndId(userId, id);
+    User user = userRepo.getReferenceById(userId);
     String title = savingGoalsRepo.findTitleForSavingGoalByIdAndUser(id, user);
     if (Utils.nullOrEmpty(title)) {
       logger.error("Saving goal not found for ID: {}", id);
       throw new SavingGoalNotFoundException("Goal not found with ID: " + id);
     }
-    logger.info("Retrieved saving goal title: {} for user: {}", title, email);
+    logger.info("Retrieved saving goal title: {} for user ID: {}", title, userId);
     return title;
   }
 
   /**
    * Retrieves a saving goal by ID for a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the saving goal ID
-   * @return the saving goal object
-   * @throws IllegalArgumentException if email is invalid or ID is not positive
-   * @throws UserNotFoundException if user is not found
+   * @return a view of the saving goal
+   * @throws IllegalArgumentException if the user ID or ID is not positive
    * @throws SavingGoalNotFoundException if saving goal is not found
    */
-  public SavingGoal getSavingGoalById(String email, long id) {
-    logger.debug("Fetching saving goal for user: {}, ID: {}", email, id);
-    validateEmailAndId(email, id);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
-    SavingGoal goal =
+  public SavingGoalView getSavingGoalById(long userId, long id) {
+    logger.debug("Fetching saving goal for user ID: {}, ID: {}", userId, id);
+    validateUserIdAndId(userId, id);
+    User user = userRepo.getReferenceById(userId);
+    SavingGoalView goal =
         savingGoalsRepo
-            .findSavingGoalByIdAndUser(id, user)
+            .findViewByIdAndUser(id, user)
             .orElseThrow(
                 () -> {
                   logger.error("Saving goal not found for ID: {}", id);
                   return new SavingGoalNotFoundException("Goal not found with ID: " + id);
                 });
-    logger.info("Retrieved saving goal ID: {} for user: {}", id, email);
+    logger.info("Retrieved saving goal ID: {} for user ID: {}", id, userId);
     return goal;
   }
 
   /**
    * Retrieves the total contribution for all saving goals of a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @return the total contribution amount
-   * @throws IllegalArgumentException if email is invalid
-   * @throws UserNotFoundException if user is not found
+   * @throws IllegalArgumentException if the user ID is not positive
    */
-  public BigDecimal getTotalContributionForUser(String email) {
-    logger.debug("Fetching total contribution for user: {}", email);
-    validateEmail(email);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+  public BigDecimal getTotalContributionForUser(long userId) {
+    logger.debug("Fetching total contribution for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
     BigDecimal total =
         Optional.ofNullable(savingGoalsRepo.sumContributionsByUser(user)).orElse(BigDecimal.ZERO);
-    logger.info("Total contribution: {} for user: {}", total, email);
+    logger.info("Total contribution: {} for user ID: {}", total, userId);
     return total;
   }
 
   /**
    * Retrieves all pending saving goals for a user.
    *
-   * @param email the user's email
-   * @return a list of pending saving goals
-   * @throws IllegalArgumentException if email is invalid
-   * @throws UserNotFoundException if user is not found
+   * @param userId the user's ID
+   * @return a list of pending saving goal views
+   * @throws IllegalArgumentException if the user ID is not positive
    */
-  public List<SavingGoal> getPendingSavingGoalsForUser(String email) {
-    logger.debug("Fetching pending saving goals for user: {}", email);
-    validateEmail(email);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
-    List<SavingGoal> goals = savingGoalsRepo.findPendingSavingGoalsForUser(user);
-    logger.info("Retrieved {} pending saving goals for user: {}", goals.size(), email);
+  public List<SavingGoalView> getPendingSavingGoalsForUser(long userId) {
+    logger.debug("Fetching pending saving goals for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
+    List<SavingGoalView> goals = savingGoalsRepo.findPendingSavingGoalsForUser(user);
+    logger.info("Retrieved {} pending saving goals for user ID: {}", goals.size(), userId);
     return goals == null ? List.of() : goals;
   }
 
   /**
    * Retrieves all completed saving goals for a user.
    *
-   * @param email the user's email
-   * @return a list of completed saving goals
-   * @throws IllegalArgumentException if email is invalid
-   * @throws UserNotFoundException if user is not found
+   * @param userId the user's ID
+   * @return a list of completed saving goal views
+   * @throws IllegalArgumentException if the user ID is not positive
    */
-  public List<SavingGoal> getCompleteSavingGoalsForUser(String email) {
-    logger.debug("Fetching completed saving goals for user: {}", email);
-    validateEmail(email);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
-    List<SavingGoal> goals = savingGoalsRepo.findCompletedSavingGoalsForUser(user);
-    logger.info("Retrieved {} completed saving goals for user: {}", goals.size(), email);
+  public List<SavingGoalView> getCompleteSavingGoalsForUser(long userId) {
+    logger.debug("Fetching completed saving goals for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
+    List<SavingGoalView> goals = savingGoalsRepo.findCompletedSavingGoalsForUser(user);
+    logger.info("Retrieved {} completed saving goals for user ID: {}", goals.size(), userId);
     return goals == null ? List.of() : goals;
   }
 
   /**
    * Retrieves statistics for a user's saving goals, including completed, in-progress, overdue, and
-   * total counts.
+   * total counts, the target and contributed totals, and the average progress. All figures come
+   * from a single aggregate query.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @return a GoalStatsResponse containing goal statistics
-   * @throws IllegalArgumentException if email is invalid
-   * @throws UserNotFoundException if user is not found
+   * @throws IllegalArgumentException if the user ID is not positive
    */
-  public GoalStatsResponse getGoalStatsForUser(String email) {
-    logger.debug("Fetching goal stats for user: {}", email);
-    validateEmail(email);
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+  public GoalStatsResponse getGoalStatsForUser(long userId) {
+    logger.debug("Fetching goal stats for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    GoalStatsSummary summary =
+        savingGoalsRepo.summarizeSavingGoalsByUser(userRepo.getReferenceById(userId));
     List<GoalStat> goalStatList =
         Arrays.asList(
-            getCompletedGoalStat(user),
-            getInProgressGoalStat(user),
-            getOverdueGoalStat(user),
-            getTotalGoalStat(user));
-    logger.info("Retrieved goal stats for user: {}", email);
-    return new GoalStatsResponse(goalStatList);
+            getCompletedGoalStat(summary),
+            getInProgressGoalStat(summary),
+            getOverdueGoalStat(summary),
+            getTotalGoalStat(summary));
+    logger.info("Retrieved goal stats for user ID: {}", userId);
+    return new GoalStatsResponse(
+        goalStatList,
+        summary.getTotalTarget(),
+        summary.getTotalContributed(),
+        (int) Math.round(summary.getAverageProgress() * 100));
   }
 
   /**
    * Generates statistics for completed saving goals.
    *
-   * @param user the user to analyze
+   * @param summary the summary of the user's goals
    * @return a GoalStat for completed goals
-   * @throws IllegalArgumentException if user is null
+   * @throws IllegalArgumentException if summary is null
    */
-  public GoalStat getCompletedGoalStat(User user) {
-    logger.debug("Generating completed goal stats for user ID: {}", user.getId());
-    validateUser(user);
-    int completedCount = savingGoalsRepo.findCountCompletedSavingGoalsByUser(user);
+  public GoalStat getCompletedGoalStat(GoalStatsSummary summary) {
+    validateSummary(summary);
+    int completedCount = (int) summary.getCompletedCount();
     String plurality = completedCount > 1 ? "goals" : "goal";
     String completedGoalInsight =
         String.format("You have completed %d %s", completedCount, plurality);
@@ -255,15 +229,14 @@ public class SavingGoalService {
   /**
    * Generates statistics for in-progress saving goals.
    *
-   * @param user the user to analyze
+   * @param summary the summary of the user's goals
    * @return a GoalStat for in-progress goals
-   * @throws IllegalArgumentException if user is null
+   * @throws IllegalArgumentException if summary is null
    */
-  public GoalStat getInProgressGoalStat(User user) {
-    logger.debug("Generating in-progress goal stats for user ID: {}", user.getId());
-    validateUser(user);
-    int inProgressCount = savingGoalsRepo.findCountInProgressSavingGoalsByUser(user);
-    int totalGoals = savingGoalsRepo.findCountSavingGoalsByUser(user);
+  public GoalStat getInProgressGoalStat(GoalStatsSummary summary) {
+    validateSummary(summary);
+    int inProgressCount = (int) summary.getInProgressCount();
+    long totalGoals = summary.getTotalCount();
     double inProgressPercent = totalGoals > 0 ? ((double) inProgressCount / totalGoals) * 100 : 0;
     String inProgressGoalInsight =
         String.format(
@@ -276,15 +249,14 @@ public class SavingGoalService {
   /**
    * Generates statistics for overdue saving goals.
    *
-   * @param user the user to analyze
+   * @param summary the summary of the user's goals
    * @return a GoalStat for overdue goals
-   * @throws IllegalArgumentException if user is null
+   * @throws IllegalArgumentException if summary is null
    */
-  public GoalStat getOverdueGoalStat(User user) {
-    logger.debug("Generating overdue goal stats for user ID: {}", user.getId());
-    validateUser(user);
-    int overdueCount = savingGoalsRepo.findCountOverdueSavingGoalsByUser(user);
-    int pendingCount = savingGoalsRepo.findCountInProgressSavingGoalsByUser(user);
+  public GoalStat getOverdueGoalStat(GoalStatsSummary summary) {
+    validateSummary(summary);
+    int overdueCount = (int) summary.getOverdueCount();
+    long pendingCount = summary.getInProgressCount();
     double overduePercent = pendingCount > 0 ? ((double) overdueCount / pendingCount) * 100 : 0;
     String overdueGoalInsight =
         String.format(
@@ -296,15 +268,14 @@ public class SavingGoalService {
   /**
    * Generates statistics for total saving goals.
    *
-   * @param user the user to analyze
+   * @param summary the summary of the user's goals
    * @return a GoalStat for total goals
-   * @throws IllegalArgumentException if user is null
+   * @throws IllegalArgumentException if summary is null
    */
-  public GoalStat getTotalGoalStat(User user) {
-    logger.debug("Generating total goal stats for user ID: {}", user.getId());
-    validateUser(user);
-    int totalCount = savingGoalsRepo.findCountSavingGoalsByUser(user);
-    int completedCount = savingGoalsRepo.findCountCompletedSavingGoalsByUser(user);
+  public GoalStat getTotalGoalStat(GoalStatsSummary summary) {
+    validateSummary(summary);
+    int totalCount = (int) summary.getTotalCount();
+    long completedCount = summary.getCompletedCount();
     int completionPercent = totalCount > 0 ? (int) ((double) completedCount / totalCount * 100) : 0;
     String completionInsight =
         String.format("You have completed %d%% of total goals", completionPercent);
@@ -313,20 +284,21 @@ public class SavingGoalService {
   }
 
   /**
-   * Updates the contribution amount for a saving goal and recalculates account balance.
+   * Adds a contribution to a saving goal, records it in the ledger and increments the goal savings
+   * account balance by the same amount.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the saving goal ID
    * @param request the contribution request
-   * @throws IllegalArgumentException if email, ID, or contribution is invalid
-   * @throws UserNotFoundException if user is not found
+   * @throws IllegalArgumentException if the user ID, ID, or contribution is invalid
    * @throws SavingGoalNotFoundException if saving goal is not found
+   * @throws AccountNotFoundException if the user has no goal savings account
    */
   @Transactional
   public void updateContributionForSavingGoal(
-      String email, long id, GoalContributionRequest request) {
-    logger.debug("Updating contribution for saving goal ID: {}, user: {}", id, email);
-    validateEmailAndId(email, id);
+      long userId, long id, GoalContributionRequest request) {
+    logger.debug("Updating contribution for saving goal ID: {}, user ID: {}", id, userId);
+    validateUserIdAndId(userId, id);
     if (request == null) {
       logger.error("Contribution request is null");
       throw new IllegalArgumentException("Contribution request must not be null");
@@ -335,40 +307,36 @@ public class SavingGoalService {
       logger.error("Invalid contribution amount: {}", request.getContribution());
       throw new IllegalArgumentException("Contribution amount must not be null or negative");
     }
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
-    if (!savingGoalsRepo.existsByIdAndUser(id, user)) {
+    User user = userRepo.getReferenceById(userId);
+    if (savingGoalsRepo.updateSavingGoalContribution(user, id, request.getContribution()) == 0) {
       logger.error("Saving goal not found for ID: {}", id);
       throw new SavingGoalNotFoundException("Goal not found with ID: " + id);
     }
-    savingGoalsRepo.updateSavingGoalContribution(user, id, request.getContribution());
-    accountService.recalculateGoalSavingsBalance(user);
+    recordContribution(
+        user,
+        savingGoalsRepo.getReferenceById(id),
+        request.getContribution(),
+        ContributionType.CONTRIBUTION);
     logger.info(
-        "Updated contribution: {} for saving goal ID: {}, user: {}",
+        "Updated contribution: {} for saving goal ID: {}, user ID: {}",
         request.getContribution(),
         id,
-        email);
+        userId);
   }
 
   /**
-   * Creates a new saving goal for a user and recalculates account balance.
+   * Creates a new saving goal for a user, recording its initial contribution in the ledger and
+   * adding it to the goal savings account.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param request the saving goal request
-   * @return the created saving goal
-   * @throws IllegalArgumentException if email or request fields are invalid
-   * @throws UserNotFoundException if user is not found
+   * @return a view of the created saving goal
+   * @throws IllegalArgumentException if the user ID or request fields are invalid
    */
   @Transactional
-  public SavingGoal createSavingGoal(String email, SavingGoalRequest request) {
-    logger.debug("Creating saving goal for user: {}", email);
-    validateEmail(email);
+  public SavingGoalView createSavingGoal(long userId, SavingGoalRequest request) {
+    logger.debug("Creating saving goal for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
     if (request == null) {
       logger.error("Saving goal request is null");
       throw new IllegalArgumentException("Saving goal request must not be null");
@@ -389,21 +357,15 @@ public class SavingGoalService {
       logger.error("Saving goal date is null");
       throw new IllegalArgumentException("Date must not be null");
     }
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+    User user = userRepo.getReferenceById(userId);
     Account savingGoalsAccount =
         accountRepo
             .findAccountByUserAndType(user, AccountType.GOALSAVINGS)
             .orElseGet(
                 () -> {
-                  logger.debug("No goal savings account found, creating new for user: {}", email);
-                  return accountService.createGoalSavingsAccount(user, request.getContributed());
+                  logger.debug(
+                      "No goal savings account found, creating new for user ID: {}", userId);
+                  return accountService.createGoalSavingsAccount(user, BigDecimal.ZERO);
                 });
     SavingGoal newSavingGoal =
         new SavingGoal(
@@ -415,26 +377,28 @@ public class SavingGoalService {
             savingGoalsAccount,
             user);
     SavingGoal savedGoal = savingGoalsRepo.save(newSavingGoal);
-    accountService.recalculateGoalSavingsBalance(user);
-    logger.info("Created saving goal ID: {} for user: {}", savedGoal.getId(), email);
-    return savedGoal;
+    recordContribution(
+        savingGoalsAccount, savedGoal, request.getContributed(), ContributionType.INITIAL);
+    logger.info("Created saving goal ID: {} for user ID: {}", savedGoal.getId(), userId);
+    return SavingGoalView.from(savedGoal);
   }
 
   /**
-   * Updates an existing saving goal and recalculates account balance.
+   * Updates an existing saving goal. Editing a completed goal resets its progress, which is
+   * recorded in the ledger and removed from the goal savings account. The goal is read under a row
+   * lock, so a concurrent contribution cannot land between reading the amount and resetting it.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the saving goal ID
    * @param request the saving goal request
-   * @return the updated saving goal
-   * @throws IllegalArgumentException if email, ID, or request fields are invalid
-   * @throws UserNotFoundException if user is not found
+   * @return a view of the updated saving goal
+   * @throws IllegalArgumentException if the user ID, ID, or request fields are invalid
    * @throws SavingGoalNotFoundException if saving goal is not found
    */
   @Transactional
-  public SavingGoal updateSavingGoal(String email, Long id, SavingGoalRequest request) {
-    logger.debug("Updating saving goal ID: {} for user: {}", id, email);
-    validateEmailAndId(email, id);
+  public SavingGoalView updateSavingGoal(long userId, Long id, SavingGoalRequest request) {
+    logger.debug("Updating saving goal ID: {} for user ID: {}", id, userId);
+    validateUserIdAndId(userId, id);
     if (request == null) {
       logger.error("Saving goal request is null");
       throw new IllegalArgumentException("Saving goal request must not be null");
@@ -454,23 +418,18 @@ public class SavingGoalService {
       logger.error("Saving goal date is null");
       throw new IllegalArgumentException("Date must not be null");
     }
-    User user =
-        userRepo
-            .getUserByEmail(email)
-            .orElseThrow(
-                () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
-                });
+    User user = userRepo.getReferenceById(userId);
     SavingGoal savingGoal =
         savingGoalsRepo
-            .findSavingGoalByIdAndUser(id, user)
+            .findLockedSavingGoalByIdAndUser(id, user)
             .orElseThrow(
                 () -> {
                   logger.error("Saving goal not found for ID: {}", id);
                   return new SavingGoalNotFoundException("Goal not found with ID: " + id);
                 });
     if (savingGoal.getContributed().compareTo(savingGoal.getTarget()) >= 0) {
+      recordContribution(
+          user, savingGoal, savingGoal.getContributed().negate(), ContributionType.RESET);
       savingGoal.setContributed(BigDecimal.ZERO);
     }
     savingGoal.setId(id);
@@ -479,39 +438,86 @@ public class SavingGoalService {
     savingGoal.setDate(request.getDate());
     savingGoal.setImageRef(request.getImageRef());
     SavingGoal updated = savingGoalsRepo.save(savingGoal);
-    accountService.recalculateGoalSavingsBalance(user);
-    logger.info("Updated saving goal ID: {} for user: {}", id, email);
-    return updated;
+    logger.info("Updated saving goal ID: {} for user ID: {}", id, userId);
+    return SavingGoalView.from(updated);
   }
 
   /**
-   * Deletes a saving goal and recalculates account balance.
+   * Deletes a saving goal and removes its contributed amount from the goal savings account. The
+   * goal is read under a row lock, so the amount removed is the one deleted. The goal's ledger
+   * entries are deleted with it by the database.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the saving goal ID
-   * @throws IllegalArgumentException if email is invalid or ID is not positive
-   * @throws UserNotFoundException if user is not found
+   * @throws IllegalArgumentException if the user ID or ID is not positive
    * @throws SavingGoalNotFoundException if saving goal is not found
    */
   @Transactional
-  public void deleteSavingGoal(String email, long id) {
-    logger.debug("Deleting saving goal ID: {} for user: {}", id, email);
-    validateEmailAndId(email, id);
-    User user =
-        userRepo
-            .getUserByEmail(email)
+  public void deleteSavingGoal(long userId, long id) {
+    logger.debug("Deleting saving goal ID: {} for user ID: {}", id, userId);
+    validateUserIdAndId(userId, id);
+    User user = userRepo.getReferenceById(userId);
+    SavingGoal savingGoal =
+        savingGoalsRepo
+            .findLockedSavingGoalByIdAndUser(id, user)
             .orElseThrow(
                 () -> {
-                  logger.error("User not found: {}", email);
-                  return new UserNotFoundException("User not found: " + email);
+                  logger.error("Saving goal not found for ID: {}", id);
+                  return new SavingGoalNotFoundException("Saving Goal not found with ID: " + id);
                 });
-    if (!savingGoalsRepo.existsByIdAndUser(id, user)) {
+    BigDecimal contributed = savingGoal.getContributed();
+    savingGoalsRepo.delete(savingGoal);
+    if (contributed != null && contributed.signum() != 0) {
+      accountService.applyBalanceDelta(goalSavingsAccount(user), contributed.negate());
+    }
+    logger.info("Deleted saving goal ID: {} for user ID: {}", id, userId);
+  }
+
+  /**
+   * Retrieves a page of a saving goal's contribution history, newest first. Pages are keyed on the
+   * ledger entry ID, so each page costs the same however far back it is.
+   *
+   * @param userId the user's ID
+   * @param id the saving goal ID
+   * @param cursor the ID of the last entry on the previous page, or null for the first page
+   * @param size the page size, between 1 and {@link Constants#MAX_PAGE_SIZE}
+   * @return the page of entries and the cursor for the next page
+   * @throws IllegalArgumentException if the user ID, ID, cursor or size is invalid
+   * @throws SavingGoalNotFoundException if saving goal is not found
+   */
+  public GoalContributionPage getContributionHistory(long userId, long id, Long cursor, int size) {
+    logger.debug(
+        "Fetching contribution history for saving goal ID: {}, user ID: {}, cursor: {}",
+        id,
+        userId,
+        cursor);
+    validateUserIdAndId(userId, id);
+    if (size < 1 || size > Constants.MAX_PAGE_SIZE) {
+      logger.error("Invalid page size: {}", size);
+      throw new IllegalArgumentException(
+          "Page size must be between 1 and " + Constants.MAX_PAGE_SIZE);
+    }
+    if (cursor != null) {
+      Utils.validatePositiveId(cursor, "Cursor must be positive");
+    }
+    if (!savingGoalsRepo.existsByIdAndUser(id, userRepo.getReferenceById(userId))) {
       logger.error("Saving goal not found for ID: {}", id);
-      throw new SavingGoalNotFoundException("Saving Goal not found with ID: " + id);
+      throw new SavingGoalNotFoundException("Goal not found with ID: " + id);
     }
-    savingGoalsRepo.deleteSavingGoalByIdAndUser(id, user);
-    accountService.recalculateGoalSavingsBalance(user);
-    logger.info("Deleted saving goal ID: {} for user: {}", id, email);
+    List<GoalContributionView> entries =
+        goalContributionRepo.findHistoryBefore(
+            id, cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+    Long nextCursor = null;
+    if (entries.size() > size) {
+      entries = entries.subList(0, size);
+      nextCursor = entries.get(size - 1).getId();
+    }
+    logger.info(
+        "Retrieved {} contribution entries for saving goal ID: {}, user ID: {}",
+        entries.size(),
+        id,
+        userId);
+    return new GoalContributionPage(entries, nextCursor);
   }
 
   /**
@@ -549,27 +555,47 @@ public class SavingGoalService {
     }
   }
 
-  private void validateEmail(String email) {
-    if (Utils.nullOrEmpty(email)) {
-      logger.error("Email is null or empty");
-      throw new IllegalArgumentException("Email must not be null or empty");
+  /**
+   * Appends a change to a goal's contributed amount to the ledger and applies it to the user's goal
+   * savings account. Zero amounts are not recorded.
+   */
+  private void recordContribution(
+      User user, SavingGoal goal, BigDecimal amount, ContributionType type) {
+    if (amount == null || amount.signum() == 0) {
+      return;
     }
-    if (!Utils.isEmail(email)) {
-      logger.error("Invalid email format: {}", email);
-      throw new IllegalArgumentException("Invalid email format");
+    recordContribution(goalSavingsAccount(user), goal, amount, type);
+  }
+
+  private void recordContribution(
+      Account account, SavingGoal goal, BigDecimal amount, ContributionType type) {
+    if (amount == null || amount.signum() == 0) {
+      return;
     }
+    goalContributionRepo.save(new GoalContribution(goal, amount, type, Instant.now()));
+    accountService.applyBalanceDelta(account, amount);
+    logger.debug("Recorded {} of {} for saving goal ID: {}", type, amount, goal.getId());
+  }
+
+  private Account goalSavingsAccount(User user) {
+    return accountRepo
+        .findAccountByUserAndType(user, AccountType.GOALSAVINGS)
+        .orElseThrow(
+            () -> {
+              logger.error("Goal Savings account not found for user ID: {}", user.getId());
+              return new AccountNotFoundException("Goal Savings account not found");
+            });
   }
 
-  private void validateEmailAndId(String email, long id) {
-    validateEmail(email);
+  private void validateUserIdAndId(long userId, long id) {
+    Utils.validatePositiveId(userId, "User ID must be positive");
     Utils.validatePositiveId(id, "Saving goal ID must be positive");
   }
 
-  private void validateUser(User user) {
-    if (user == null) {
-      logger.error("User is null");
-      throw new IllegalArgumentException("User must not be null");
+  private void validateSummary(GoalStatsSummary summary) {
+    if (summary == null) {
+      logger.error("Goal stats summary is null");
+      throw new IllegalArgumentException("Goal stats summary must not be null");
     }
-    Utils.validatePositiveId(user.getId(), "User ID must be positive");
   }
 }
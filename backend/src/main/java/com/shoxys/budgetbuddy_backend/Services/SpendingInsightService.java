@@ -0,0 +1,366 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsight;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsightsResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingPeriodSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.SpendingInsightCache;
+import com.shoxys.budgetbuddy_backend.Enums.InsightEngine;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
+import com.shoxys.budgetbuddy_backend.Repo.SpendingInsightCacheRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service serving AI spending insights from a per-user store. Stored insights are keyed by a hash
+ * of the spending summary they were generated from, so a dashboard load only compares hashes and
+ * never waits on the insight API. When the summary has changed, the stored insights are returned
+ * marked stale and a refresh runs on the insight refresh executor; concurrent refreshes for the
+ * same user share one upstream call. Transaction changes trigger a refresh once they commit.
+ *
+ * <p>The {@code insights.engine} property selects how insights are generated. With {@code local}
+ * they come from the in-process {@link LocalInsightEngine} on every load and the API is never
+ * called; with {@code hybrid} local insights are served until Gemini insights for the current
+ * summary are stored. Local insights are also served when the API is unavailable and nothing is
+ * stored.
+ */
+@Service
+public class SpendingInsightService {
+  private static final Logger logger = LoggerFactory.getLogger(SpendingInsightService.class);
+  static final int SPENDING_INSIGHT_DAYS = 30;
+
+  private final TransactionService transactionService;
+  private final AiInsightService aiInsightService;
+  private final LocalInsightEngine localInsightEngine;
+  private final InsightEngine engine;
+  private final SpendingInsightCacheRepo spendingInsightCacheRepo;
+  private final UserRepo userRepo;
+  private final Executor insightRefreshExecutor;
+  private final Clock clock;
+  private final Map<Long, CompletableFuture<Void>> refreshes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a SpendingInsightService with required dependencies.
+   *
+   * @param transactionService Service for transaction-related operations
+   * @param aiInsightService Service for generating AI-based spending insights
+   * @param localInsightEngine Engine generating rule-based insights in-process
+   * @param spendingInsightCacheRepo Repository for the stored insights of each user
+   * @param userRepo Repository for user-related data access
+   * @param insightRefreshExecutor Executor running insight refreshes in the background
+   * @param engine the configured insight engine: gemini, local or hybrid
+   */
+  @Autowired
+  public SpendingInsightService(
+      TransactionService transactionService,
+      AiInsightService aiInsightService,
+      LocalInsightEngine localInsightEngine,
+      SpendingInsightCacheRepo spendingInsightCacheRepo,
+      UserRepo userRepo,
+      @Qualifier("insightRefreshExecutor") Executor insightRefreshExecutor,
+      @Value("${insights.engine:gemini}") String engine) {
+    this(
+        transactionService,
+        aiInsightService,
+        localInsightEngine,
+        spendingInsightCacheRepo,
+        userRepo,
+        insightRefreshExecutor,
+        InsightEngine.fromString(engine),
+        Clock.systemDefaultZone());
+  }
+
+  SpendingInsightService(
+      TransactionService transactionService,
+      AiInsightService aiInsightService,
+      LocalInsightEngine localInsightEngine,
+      SpendingInsightCacheRepo spendingInsightCacheRepo,
+      UserRepo userRepo,
+      Executor insightRefreshExecutor,
+      InsightEngine engine,
+      Clock clock) {
+    if (transactionService == null
+        || aiInsightService == null
+        || localInsightEngine == null
+        || engine == null
+        || spendingInsightCacheRepo == null
+        || userRepo == null
+        || insightRefreshExecutor == null
+        || clock == null) {
+      logger.error("One or more dependencies are null");
+      throw new IllegalArgumentException("All dependencies must be non-null");
+    }
+    this.transactionService = transactionService;
+    this.aiInsightService = aiInsightService;
+    this.localInsightEngine = localInsightEngine;
+    this.engine = engine;
+    this.spendingInsightCacheRepo = spendingInsightCacheRepo;
+    this.userRepo = userRepo;
+    this.insightRefreshExecutor = insightRefreshExecutor;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the stored spending insights for a user without calling the insight API. If they were
+   * generated from a different spending summary than the user's current one, or none are stored
+   * yet, a background refresh is started and the response is marked as not fresh. While the insight
+   * API is unavailable no refresh is started, and local insights are served if none are stored.
+   * Depending on the configured engine, local insights are served instead of calling the API at
+   * all, or instead of stale insights while a refresh runs.
+   *
+   * @param userId the ID of the user
+   * @return the insights with their freshness
+   * @throws IllegalArgumentException if userId is not positive
+   */
+  public SpendingInsightsResponse getInsights(long userId) {
+    logger.debug("Fetching spending insights for userId: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    LocalDate endDate = LocalDate.now(clock);
+    List<TransactionView> recentTransactions = recentTransactions(userId, endDate);
+    if (recentTransactions.isEmpty()) {
+      logger.debug("No recent transactions for userId {}, skipping insights", userId);
+      return new SpendingInsightsResponse(
+          List.of(
+              new SpendingInsight(
+                  "Not enough transaction data for the last "
+                      + SPENDING_INSIGHT_DAYS
+                      + " days to generate insights.")),
+          true,
+          false,
+          null);
+    }
+    if (engine == InsightEngine.LOCAL) {
+      return localInsights(userId, endDate, recentTransactions, false);
+    }
+
+    String stats = createTransactionStats(recentTransactions);
+    Optional<SpendingInsightCache> cached = spendingInsightCacheRepo.findByUser_Id(userId);
+    if (cached.isPresent() && cached.get().getStatsHash().equals(Utils.sha256Hex(stats))) {
+      logger.info("Serving fresh spending insights for userId: {}", userId);
+      return new SpendingInsightsResponse(
+          toInsights(cached.get().getInsights()), true, false, cached.get().getGeneratedAt());
+    }
+
+    if (!aiInsightService.isAvailable()) {
+      logger.info("Insight API unavailable, serving fallback insights for userId: {}", userId);
+      return cached
+          .map(
+              entry ->
+                  new SpendingInsightsResponse(
+                      toInsights(entry.getInsights()), false, false, entry.getGeneratedAt()))
+          .orElseGet(() -> localInsights(userId, endDate, recentTransactions, false));
+    }
+
+    boolean refreshing = !refresh(userId).isDone();
+    if (engine == InsightEngine.HYBRID) {
+      logger.info("Gemini insights for userId: {} not ready, refresh started", userId);
+      return localInsights(userId, endDate, recentTransactions, refreshing);
+    }
+    if (cached.isEmpty()) {
+      logger.info("No stored spending insights for userId: {}, refresh started", userId);
+      return new SpendingInsightsResponse(
+          List.of(new SpendingInsight("Your spending insights are being prepared.")),
+          false,
+          refreshing,
+          null);
+    }
+    logger.info("Serving stale spending insights for userId: {}, refresh started", userId);
+    return new SpendingInsightsResponse(
+        toInsights(cached.get().getInsights()), false, refreshing, cached.get().getGeneratedAt());
+  }
+
+  /**
+   * Regenerates a user's stored insights in the background if their spending summary has changed.
+   * While a refresh for the user is running, further calls return the same refresh instead of
+   * starting another; a change made after the running refresh read the summary is picked up by the
+   * next dashboard load.
+   *
+   * @param userId the ID of the user
+   * @return a future completing when the refresh has finished, or exceptionally if it failed
+   */
+  public CompletableFuture<Void> refresh(long userId) {
+    CompletableFuture<Void> refresh = new CompletableFuture<>();
+    CompletableFuture<Void> running = refreshes.putIfAbsent(userId, refresh);
+    if (running != null) {
+      logger.debug("Joining running insight refresh for userId: {}", userId);
+      return running;
+    }
+    try {
+      insightRefreshExecutor.execute(
+          () -> {
+            try {
+              regenerate(userId);
+              refreshes.remove(userId, refresh);
+              refresh.complete(null);
+            } catch (RuntimeException e) {
+              logger.warn("Insight refresh failed for userId {}: {}", userId, e.getMessage());
+              refreshes.remove(userId, refresh);
+              refresh.completeExceptionally(e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      logger.warn("Insight refresh queue full, skipping refresh for userId: {}", userId);
+      refreshes.remove(userId, refresh);
+      refresh.completeExceptionally(e);
+    }
+    return refresh;
+  }
+
+  /**
+   * Refreshes a user's insights once a transaction change has committed.
+   *
+   * @param event the change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTransactionsChanged(TransactionsChangedEvent event) {
+    if (engine != InsightEngine.LOCAL) {
+      refresh(event.getUserId());
+    }
+  }
+
+  private void regenerate(long userId) {
+    String stats = currentStats(userId);
+    if (stats == null) {
+      return;
+    }
+    String hash = Utils.sha256Hex(stats);
+    Optional<SpendingInsightCache> cached = spendingInsightCacheRepo.findByUser_Id(userId);
+    if (cached.isPresent() && cached.get().getStatsHash().equals(hash)) {
+      logger.debug("Stored insights for userId {} are current", userId);
+      return;
+    }
+    String prompt = aiInsightService.buildStrictPrompt(stats);
+    List<SpendingInsight> insights =
+        aiInsightService.parseInsightsToList(aiInsightService.getInsightsFromText(prompt));
+    SpendingInsightCache entry =
+        cached.orElseGet(
+            () -> {
+              SpendingInsightCache created = new SpendingInsightCache();
+              created.setUser(userRepo.getReferenceById(userId));
+              return created;
+            });
+    entry.setStatsHash(hash);
+    entry.setInsights(fromInsights(insights));
+    entry.setGeneratedAt(clock.instant());
+    spendingInsightCacheRepo.save(entry);
+    logger.info("Stored {} spending insights for userId: {}", insights.size(), userId);
+  }
+
+  private String currentStats(long userId) {
+    List<TransactionView> recentTransactions = recentTransactions(userId, LocalDate.now(clock));
+    return recentTransactions.isEmpty() ? null : createTransactionStats(recentTransactions);
+  }
+
+  private List<TransactionView> recentTransactions(long userId, LocalDate endDate) {
+    return transactionService.getTransactionsByUserIdInTimeFrame(
+        userId, endDate.minusDays(SPENDING_INSIGHT_DAYS), endDate);
+  }
+
+  /**
+   * Generates insights with the local engine, comparing the recent transactions with those of the
+   * period of the same length before them.
+   */
+  private SpendingInsightsResponse localInsights(
+      long userId,
+      LocalDate endDate,
+      List<TransactionView> recentTransactions,
+      boolean refreshing) {
+    LocalDate previousEnd = endDate.minusDays(SPENDING_INSIGHT_DAYS + 1);
+    List<TransactionView> previousTransactions =
+        transactionService.getTransactionsByUserIdInTimeFrame(
+            userId, previousEnd.minusDays(SPENDING_INSIGHT_DAYS), previousEnd);
+    List<SpendingInsight> insights =
+        localInsightEngine.generate(
+            summarize(recentTransactions), summarize(previousTransactions), SPENDING_INSIGHT_DAYS);
+    logger.info("Serving local spending insights for userId: {}", userId);
+    return new SpendingInsightsResponse(insights, true, refreshing, clock.instant());
+  }
+
+  /**
+   * Creates a formatted string summarizing transactions by category for AI insight generation.
+   *
+   * @param transactions the list of transactions to summarize
+   * @return a formatted string of spending by category
+   */
+  String createTransactionStats(List<TransactionView> transactions) {
+    logger.debug("Creating transaction stats for {} transactions", transactions.size());
+    Map<String, BigDecimal> spendingByCategory = summarize(transactions).getSpendingByCategory();
+
+    StringBuilder summary =
+        new StringBuilder("User's spending over the last " + SPENDING_INSIGHT_DAYS + " days:\n");
+    spendingByCategory.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(
+            entry ->
+                summary.append(String.format("- %s: $%.2f\n", entry.getKey(), entry.getValue())));
+    logger.debug("Transaction stats created: {}", summary);
+    return summary.toString();
+  }
+
+  /**
+   * Sums transactions into spending per category, as positive amounts, and total income.
+   *
+   * @param transactions the transactions of one period
+   * @return the period summary
+   */
+  static SpendingPeriodSummary summarize(List<TransactionView> transactions) {
+    Map<String, BigDecimal> spendingByCategory =
+        transactions.stream()
+            .filter(t -> t.getAmount() != null && t.getAmount().signum() < 0)
+            .collect(
+                Collectors.groupingBy(
+                    TransactionView::getCategory,
+                    Collectors.reducing(
+                        BigDecimal.ZERO, t -> t.getAmount().negate(), BigDecimal::add)));
+    BigDecimal income =
+        transactions.stream()
+            .map(TransactionView::getAmount)
+            .filter(amount -> amount != null && amount.signum() > 0)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    return new SpendingPeriodSummary(spendingByCategory, income);
+  }
+
+  /** Joins insights one per line, dropping trailing insights that would not fit the column. */
+  private static String fromInsights(List<SpendingInsight> insights) {
+    StringBuilder text = new StringBuilder();
+    for (SpendingInsight insight : insights) {
+      String line = insight.getInsight().replace('\n', ' ');
+      int length = text.isEmpty() ? line.length() : text.length() + 1 + line.length();
+      if (length > Constants.MAX_SPENDING_INSIGHTS_LENGTH) {
+        break;
+      }
+      if (!text.isEmpty()) {
+        text.append('\n');
+      }
+      text.append(line);
+    }
+    return text.toString();
+  }
+
+  private static List<SpendingInsight> toInsights(String text) {
+    return Arrays.stream(text.split("\n"))
+        .filter(line -> !line.isBlank())
+        .map(SpendingInsight::new)
+        .toList();
+  }
+}
@@ -0,0 +1,392 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchItemResult;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchOperation;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.BatchOperationType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionType;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service applying batches of transaction creates, updates and deletes in one database transaction.
+ * Invalid operations are reported individually and skipped while the rest of the batch is applied.
+ */
+@Service
+public class TransactionBatchService {
+  private static final Logger logger = LoggerFactory.getLogger(TransactionBatchService.class);
+  private final TransactionRepo transactionRepo;
+  private final AccountRepo accountRepo;
+  private final UserRepo userRepo;
+  private final AccountService accountService;
+  private final MonthlyRollupService monthlyRollupService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Constructs a TransactionBatchService with required dependencies.
+   *
+   * @param transactionRepo Repository for transaction-related data access
+   * @param accountRepo Repository for account-related data access
+   * @param userRepo Repository for user-related data access
+   * @param accountService Service for account-related operations
+   * @param monthlyRollupService Service keeping the monthly rollups in step with transaction writes
+   * @param eventPublisher Publisher announcing committed changes to a user's transactions
+   */
+  public TransactionBatchService(
+      TransactionRepo transactionRepo,
+      AccountRepo accountRepo,
+      UserRepo userRepo,
+      AccountService accountService,
+      MonthlyRollupService monthlyRollupService,
+      ApplicationEventPublisher eventPublisher) {
+    logger.debug("Initializing TransactionBatchService");
+    if (transactionRepo == null
+        || accountRepo == null
+        || userRepo == null
+        || accountService == null
+        || monthlyRollupService == null
+        || eventPublisher == null) {
+      logger.error("One or more dependencies are null");
+      throw new IllegalArgumentException("All dependencies must be non-null");
+    }
+    this.transactionRepo = transactionRepo;
+    this.accountRepo = accountRepo;
+    this.userRepo = userRepo;
+    this.accountService = accountService;
+    this.monthlyRollupService = monthlyRollupService;
+    this.eventPublisher = eventPublisher;
+    logger.info("TransactionBatchService initialized successfully");
+  }
+
+  /**
+   * Applies a batch of operations for a user. The batch costs a fixed number of statements
+   * regardless of its size: one query loading the transactions being updated or deleted, one
+   * grouped summary removing them from the monthly rollups, one JDBC batch inserting the creates,
+   * one batched flush of the updates, one set-based delete and a single atomic balance update per
+   * affected account. Operations are applied in request order, so each written balance reflects the
+   * operations before it. An operation that is malformed, fails validation, targets a transaction
+   * the user does not own or repeats an ID used earlier in the batch fails on its own and is
+   * reported in the results; database errors roll back the whole batch.
+   *
+   * @param userId the user's ID
+   * @param operations the operations to apply, at most {@link
+   *     Constants#TRANSACTION_BATCH_MAX_OPERATIONS}
+   * @return the number of succeeded and failed operations with a result for each, in request order
+   * @throws IllegalArgumentException if the user ID or operation list is invalid
+   */
+  @Transactional
+  public TransactionBatchResponse applyBatch(
+      long userId, List<TransactionBatchOperation> operations) {
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    if (Utils.nullOrEmpty(operations)) {
+      logger.warn("Invalid transaction batch: null or empty");
+      throw new IllegalArgumentException("Operations must not be null or empty");
+    }
+    if (operations.size() > Constants.TRANSACTION_BATCH_MAX_OPERATIONS) {
+      logger.warn("Transaction batch of {} operations exceeds the limit", operations.size());
+      throw new IllegalArgumentException(
+          "A batch cannot contain more than "
+              + Constants.TRANSACTION_BATCH_MAX_OPERATIONS
+              + " operations");
+    }
+    logger.info("Applying batch of {} operations for user ID: {}", operations.size(), userId);
+    User user = userRepo.getReferenceById(userId);
+
+    TransactionBatchItemResult[] results = new TransactionBatchItemResult[operations.size()];
+    Set<Long> targetIds = new LinkedHashSet<>();
+    for (int i = 0; i < operations.size(); i++) {
+      String error = validate(operations.get(i), targetIds);
+      if (error != null) {
+        results[i] = failed(i, operations.get(i), error);
+      }
+    }
+
+    Map<Long, Transaction> existing = new HashMap<>();
+    if (!targetIds.isEmpty()) {
+      for (Transaction transaction : transactionRepo.findAllByUserAndIdIn(user, targetIds)) {
+        existing.put(transaction.getId(), transaction);
+      }
+    }
+    Set<Long> removedIds = new LinkedHashSet<>();
+    for (int i = 0; i < operations.size(); i++) {
+      TransactionBatchOperation operation = operations.get(i);
+      if (results[i] != null || operation.getOperation() == BatchOperationType.CREATE) {
+        continue;
+      }
+      Transaction transaction = existing.get(operation.getId());
+      if (transaction == null) {
+        results[i] = failed(i, operation, "Transaction not found with ID: " + operation.getId());
+      } else if (transaction.getAccount() == null) {
+        results[i] = failed(i, operation, "No account associated with transaction");
+      } else {
+        removedIds.add(transaction.getId());
+      }
+    }
+    if (!removedIds.isEmpty()) {
+      monthlyRollupService.recordRemoved(removedIds, user);
+    }
+
+    Map<Long, Account> accounts = new LinkedHashMap<>();
+    Map<Long, BigDecimal> balances = new HashMap<>();
+    Map<Long, BigDecimal> netDeltas = new HashMap<>();
+    Account spendingAccount = null;
+    List<Transaction> created = new ArrayList<>();
+    List<Transaction> written = new ArrayList<>();
+    Map<Integer, Transaction> writtenByIndex = new HashMap<>();
+    List<Long> deleteIds = new ArrayList<>();
+    for (int i = 0; i < operations.size(); i++) {
+      if (results[i] != null) {
+        continue;
+      }
+      TransactionBatchOperation operation = operations.get(i);
+      TransactionRequest request = operation.getTransaction();
+      switch (operation.getOperation()) {
+        case CREATE -> {
+          if (spendingAccount == null) {
+            spendingAccount = spendingAccount(user, request.getBalanceAtTransaction());
+          }
+          BigDecimal amount = signedAmount(request);
+          Transaction transaction =
+              new Transaction(
+                  request.getDate(),
+                  amount,
+                  request.getDescription(),
+                  request.getCategory(),
+                  request.getMerchant(),
+                  applyDelta(spendingAccount, amount, accounts, balances, netDeltas),
+                  SourceType.MANUAL,
+                  spendingAccount,
+                  user);
+          created.add(transaction);
+          written.add(transaction);
+          writtenByIndex.put(i, transaction);
+        }
+        case UPDATE -> {
+          Transaction transaction = existing.get(operation.getId());
+          BigDecimal amount = signedAmount(request);
+          BigDecimal balance =
+              applyDelta(
+                  transaction.getAccount(),
+                  amount.subtract(transaction.getAmount()),
+                  accounts,
+                  balances,
+                  netDeltas);
+          transaction.setDate(request.getDate());
+          transaction.setAmount(amount);
+          transaction.setDescription(request.getDescription());
+          transaction.setCategory(request.getCategory());
+          transaction.setMerchant(request.getMerchant());
+          transaction.setBalanceAtTransaction(balance);
+          written.add(transaction);
+          writtenByIndex.put(i, transaction);
+        }
+        case DELETE -> {
+          Transaction transaction = existing.get(operation.getId());
+          applyDelta(
+              transaction.getAccount(),
+              transaction.getAmount().negate(),
+              accounts,
+              balances,
+              netDeltas);
+          deleteIds.add(transaction.getId());
+          results[i] =
+              new TransactionBatchItemResult(
+                  i, BatchOperationType.DELETE, transaction.getId(), true, null, null);
+        }
+      }
+    }
+
+    transactionRepo.batchInsertReturningIds(created);
+    // Views are taken before the delete below clears the persistence context.
+    writtenByIndex.forEach(
+        (index, transaction) ->
+            results[index] =
+                new TransactionBatchItemResult(
+                    index,
+                    operations.get(index).getOperation(),
+                    transaction.getId(),
+                    true,
+                    null,
+                    TransactionView.from(transaction)));
+    if (!written.isEmpty()) {
+      monthlyRollupService.recordAdded(written);
+    }
+    if (!deleteIds.isEmpty()) {
+      transactionRepo.deleteAllByIdInAndUser(deleteIds, user);
+    } else if (!existing.isEmpty()) {
+      transactionRepo.flush();
+    }
+    accounts.forEach(
+        (accountId, account) ->
+            accountService.applyBalanceDelta(account, netDeltas.get(accountId)));
+
+    int failed = 0;
+    for (TransactionBatchItemResult result : results) {
+      if (!result.isSuccess()) {
+        failed++;
+      }
+    }
+    if (failed < results.length) {
+      eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    }
+    logger.info(
+        "Applied batch for user ID: {}: {} succeeded, {} failed",
+        userId,
+        results.length - failed,
+        failed);
+    return new TransactionBatchResponse(results.length - failed, failed, List.of(results));
+  }
+
+  /**
+   * Checks an operation's shape and request, recording the ID it targets.
+   *
+   * @return the error message, or null if the operation is valid
+   */
+  private String validate(TransactionBatchOperation operation, Set<Long> targetIds) {
+    if (operation == null || operation.getOperation() == null) {
+      return "Operation is required";
+    }
+    BatchOperationType type = operation.getOperation();
+    if (type != BatchOperationType.CREATE) {
+      if (operation.getId() == null || operation.getId() <= 0) {
+        return "Transaction ID must be positive";
+      }
+      if (!targetIds.add(operation.getId())) {
+        return "Transaction ID " + operation.getId() + " appears more than once in the batch";
+      }
+    }
+    if (type != BatchOperationType.DELETE) {
+      if (operation.getTransaction() == null) {
+        return "Transaction is required";
+      }
+      return validate(operation.getTransaction());
+    }
+    return null;
+  }
+
+  /**
+   * Checks a transaction request against the constraints declared on {@link TransactionRequest}.
+   *
+   * @return the first error message, or null if the request is valid
+   */
+  private static String validate(TransactionRequest request) {
+    if (request.getDate() == null) {
+      return "Date is required";
+    }
+    if (request.getAmount() == null) {
+      return "Amount is required";
+    }
+    if (!isMonetary(request.getAmount())) {
+      return "Amount must be a valid monetary value with up to "
+          + Constants.MAX_BALANCE_INTEGER_DIGITS
+          + " integer digits and "
+          + Constants.MAX_BALANCE_FRACTION_DIGITS
+          + " decimal places";
+    }
+    if (Utils.nullOrEmpty(request.getDescription()) || request.getDescription().isBlank()) {
+      return "Description is required";
+    }
+    if (request.getDescription().length() > Constants.MAX_DESCRIPTION_LENGTH) {
+      return "Description cannot exceed " + Constants.MAX_DESCRIPTION_LENGTH + " characters";
+    }
+    if (Utils.nullOrEmpty(request.getCategory()) || request.getCategory().isBlank()) {
+      return "Category is required";
+    }
+    if (request.getCategory().length() > Constants.MAX_CATEGORY_LENGTH) {
+      return "Category cannot exceed " + Constants.MAX_CATEGORY_LENGTH + " characters";
+    }
+    if (request.getType() == null) {
+      return "Type is required";
+    }
+    if (request.getBalanceAtTransaction() == null) {
+      return "Balance is required";
+    }
+    if (request.getBalanceAtTransaction().compareTo(new BigDecimal(Constants.MIN_BALANCE)) < 0) {
+      return "Balance must be at least " + Constants.MIN_BALANCE;
+    }
+    if (!isMonetary(request.getBalanceAtTransaction())) {
+      return "Balance must be a valid monetary value with up to "
+          + Constants.MAX_BALANCE_INTEGER_DIGITS
+          + " integer digits and "
+          + Constants.MAX_BALANCE_FRACTION_DIGITS
+          + " decimal places";
+    }
+    if (request.getSource() == null) {
+      return "Source is required";
+    }
+    return null;
+  }
+
+  private static boolean isMonetary(BigDecimal value) {
+    BigDecimal stripped = value.stripTrailingZeros();
+    return Math.max(stripped.scale(), 0) <= Constants.MAX_BALANCE_FRACTION_DIGITS
+        && stripped.precision() - stripped.scale() <= Constants.MAX_BALANCE_INTEGER_DIGITS;
+  }
+
+  private Account spendingAccount(User user, BigDecimal openingBalance) {
+    return accountRepo
+        .findAccountByUserAndType(user, AccountType.SPENDING)
+        .orElseGet(
+            () -> {
+              logger.info("No spending account found for user ID: {}, creating new", user.getId());
+              return accountService.createSpendingAccount(user, openingBalance);
+            });
+  }
+
+  /**
+   * Records a balance change against an account's running balance and its net change for the batch.
+   *
+   * @return the account's running balance after the change
+   */
+  private BigDecimal applyDelta(
+      Account account,
+      BigDecimal delta,
+      Map<Long, Account> accounts,
+      Map<Long, BigDecimal> balances,
+      Map<Long, BigDecimal> netDeltas) {
+    Long accountId = account.getId();
+    accounts.putIfAbsent(accountId, account);
+    netDeltas.merge(accountId, delta, BigDecimal::add);
+    return balances.merge(
+        accountId, account.getBalance().add(delta), (current, ignored) -> current.add(delta));
+  }
+
+  private static BigDecimal signedAmount(TransactionRequest request) {
+    return request.getType() == TransactionType.DEBIT
+        ? request.getAmount().negate()
+        : request.getAmount();
+  }
+
+  private static TransactionBatchItemResult failed(
+      int index, TransactionBatchOperation operation, String error) {
+    return TransactionBatchItemResult.failed(
+        index,
+        operation != null ? operation.getOperation() : null,
+        operation != null ? operation.getId() : null,
+        error);
+  }
+}
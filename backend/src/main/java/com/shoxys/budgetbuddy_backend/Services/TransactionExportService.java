@@ -0,0 +1,170 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Enums.ExportFormat;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionOrder;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes a user's full transaction history to an output stream as JSON, NDJSON or CSV. Rows are
+ * read as views through a forward-only database stream, so nothing accumulates in the persistence
+ * context and memory use stays constant however long the history is, and output is flushed in small
+ * batches so the first bytes reach the client before the last rows are read.
+ */
+@Service
+public class TransactionExportService {
+  private static final Logger logger = LoggerFactory.getLogger(TransactionExportService.class);
+  private static final String[] CSV_HEADERS = {
+    "id",
+    "date",
+    "amount",
+    "description",
+    "category",
+    "merchant",
+    "balanceAtTransaction",
+    "source",
+    "accountId",
+    "accountName"
+  };
+
+  private final TransactionRepo transactionRepo;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs a TransactionExportService with required dependencies.
+   *
+   * @param transactionRepo Repository for transaction-related data access
+   * @param transactionManager the transaction manager the read-only export transaction runs in
+   * @param objectMapper the application's JSON mapper, so exported JSON matches API responses
+   */
+  public TransactionExportService(
+      TransactionRepo transactionRepo,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper) {
+    this.transactionRepo = transactionRepo;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes all of a user's transactions to an output stream.
+   *
+   * @param userId the user's ID
+   * @param order the order to write transactions in
+   * @param format the output format
+   * @param out the stream to write to; it is flushed but not closed
+   * @return the number of transactions written
+   * @throws IllegalArgumentException if the user ID is not positive
+   * @throws UncheckedIOException if writing to the stream fails, such as when the client
+   *     disconnects
+   */
+  public long export(long userId, TransactionOrder order, ExportFormat format, OutputStream out) {
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    logger.info(
+        "Exporting transactions for user ID: {}, order: {}, format: {}", userId, order, format);
+    long start = System.nanoTime();
+    Long written =
+        readOnlyTransaction.execute(
+            status -> {
+              try (Stream<TransactionView> rows = stream(userId, order)) {
+                return switch (format) {
+                  case JSON -> writeJson(rows.iterator(), out, false);
+                  case NDJSON -> writeJson(rows.iterator(), out, true);
+                  case CSV -> writeCsv(rows.iterator(), out);
+                };
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+    logger.info(
+        "Exported {} transactions for user ID: {} in {} ms",
+        written,
+        userId,
+        (System.nanoTime() - start) / 1_000_000);
+    return written;
+  }
+
+  private Stream<TransactionView> stream(long userId, TransactionOrder order) {
+    return switch (order) {
+      case OLDEST_FIRST -> transactionRepo.streamByUserIdOldestFirst(userId);
+      case NEWEST_FIRST -> transactionRepo.streamByUserIdNewestFirst(userId);
+      case UNSORTED -> transactionRepo.streamByUserId(userId);
+    };
+  }
+
+  /**
+   * Writes rows as a JSON array, or as newline-delimited JSON objects when {@code ndjson} is set.
+   */
+  private long writeJson(Iterator<TransactionView> rows, OutputStream out, boolean ndjson)
+      throws IOException {
+    long count = 0;
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      if (!ndjson) {
+        generator.writeStartArray();
+      }
+      while (rows.hasNext()) {
+        generator.writeObject(rows.next());
+        if (ndjson) {
+          generator.writeRaw('\n');
+        }
+        if (++count == 1 || count % Constants.TRANSACTION_EXPORT_FLUSH_ROWS == 0) {
+          generator.flush();
+        }
+      }
+      if (!ndjson) {
+        generator.writeEndArray();
+      }
+    }
+    out.flush();
+    return count;
+  }
+
+  private long writeCsv(Iterator<TransactionView> rows, OutputStream out) throws IOException {
+    long count = 0;
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    CSVPrinter printer =
+        new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(CSV_HEADERS).build());
+    while (rows.hasNext()) {
+      TransactionView transaction = rows.next();
+      printer.printRecord(
+          transaction.getId(),
+          transaction.getDate(),
+          transaction.getAmount(),
+          transaction.getDescription(),
+          transaction.getCategory(),
+          transaction.getMerchant(),
+          transaction.getBalanceAtTransaction(),
+          transaction.getSource(),
+          transaction.getAccountId(),
+          transaction.getAccountName());
+      if (++count == 1 || count % Constants.TRANSACTION_EXPORT_FLUSH_ROWS == 0) {
+        printer.flush();
+      }
+    }
+    printer.flush();
+    return count;
+  }
+}
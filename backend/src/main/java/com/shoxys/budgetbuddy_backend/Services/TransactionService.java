@@ -1,16 +1,21 @@
 package com.shoxys.budgetbuddy_backend.Services;
 
 import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.CsvImportSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursor;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursorPage;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
 import com.shoxys.budgetbuddy_backend.Enums.BankCsvColumn;
 import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Enums.TimeFrame;
 import com.shoxys.budgetbuddy_backend.Enums.TransactionType;
-import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
 import com.shoxys.budgetbuddy_backend.Exceptions.InvalidDateRangeException;
 import com.shoxys.budgetbuddy_backend.Exceptions.TransactionNotFoundException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
@@ -24,17 +29,31 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -44,10 +63,20 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 public class TransactionService {
   private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
+  private static final List<BankCsvColumn> REQUIRED_CSV_COLUMNS =
+      List.of(
+          BankCsvColumn.DATE,
+          BankCsvColumn.AMOUNT,
+          BankCsvColumn.DETAILS,
+          BankCsvColumn.BALANCE,
+          BankCsvColumn.CATEGORY);
   private final TransactionRepo transactionRepo;
   private final AccountRepo accountRepo;
   private final UserRepo userRepo;
   private final AccountService accountService;
+  private final MonthlyRollupService monthlyRollupService;
+  private final Executor csvImportExecutor;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Constructs a TransactionService with required dependencies.
@@ -56,17 +85,26 @@ public class TransactionService {
    * @param accountRepo Repository for account-related data access
    * @param userRepo Repository for user-related data access
    * @param accountService Service for account-related operations
+   * @param monthlyRollupService Service keeping the monthly rollups in step with transaction writes
+   * @param csvImportExecutor Executor that converts CSV rows in parallel during imports
+   * @param eventPublisher Publisher announcing committed changes to a user's transactions
    */
   public TransactionService(
       TransactionRepo transactionRepo,
       AccountRepo accountRepo,
       UserRepo userRepo,
-      AccountService accountService) {
+      AccountService accountService,
+      MonthlyRollupService monthlyRollupService,
+      @Qualifier("csvImportExecutor") Executor csvImportExecutor,
+      ApplicationEventPublisher eventPublisher) {
     logger.debug("Initializing TransactionService");
     if (transactionRepo == null
         || accountRepo == null
         || userRepo == null
-        || accountService == null) {
+        || accountService == null
+        || monthlyRollupService == null
+        || csvImportExecutor == null
+        || eventPublisher == null) {
       logger.error("One or more dependencies are null");
       throw new IllegalArgumentException("All dependencies must be non-null");
     }
@@ -74,56 +112,41 @@ public class TransactionService {
     this.accountRepo = accountRepo;
     this.userRepo = userRepo;
     this.accountService = accountService;
+    this.monthlyRollupService = monthlyRollupService;
+    this.csvImportExecutor = csvImportExecutor;
+    this.eventPublisher = eventPublisher;
     logger.info("TransactionService initialized successfully");
   }
 
   /**
    * Retrieves a transaction by ID for the specified user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the transaction ID
-   * @return the transaction
+   * @return a view of the transaction
    * @throws TransactionNotFoundException if the transaction is not found
-   * @throws UserNotFoundException if the user is not found
    */
-  public Transaction getTransactionById(String email, Long id) {
-    logger.info("Fetching transaction for user: {}, ID: {}", email, id);
-    User user = validateUser(email);
+  public TransactionView getTransactionById(long userId, Long id) {
+    logger.info("Fetching transaction for user ID: {}, ID: {}", userId, id);
+    Utils.validatePositiveId(userId, "User ID must be positive");
     return transactionRepo
-        .findTransactionByUserAndId(user, id)
+        .findViewByUserIdAndId(userId, id)
         .orElseThrow(
             () -> {
-              logger.error("Transaction not found for user: {}, ID: {}", email, id);
+              logger.error("Transaction not found for user ID: {}, ID: {}", userId, id);
               return new TransactionNotFoundException(id);
             });
   }
 
-  /**
-   * Retrieves all transactions for a user.
-   *
-   * @param userId the user's ID
-   * @return a list of transactions
-   */
-  public List<Transaction> getAllTransactionsByUserId(long userId) {
-    logger.info("Fetching all transactions for user ID: {}", userId);
-    if (!userRepo.existsById(userId)) {
-      logger.error("User not found: {}", userId);
-      throw new UserNotFoundException(userId);
-    }
-    List<Transaction> transactions = transactionRepo.findByUser_Id(userId);
-    logger.info("Retrieved {} transactions for user ID: {}", transactions.size(), userId);
-    return transactions;
-  }
-
   /**
    * Retrieves transactions for a user within a date range.
    *
    * @param userId the user's ID
    * @param startDate the start date
    * @param endDate the end date
-   * @return a list of transactions
+   * @return a list of transaction views
    */
-  public List<Transaction> getTransactionsByUserIdInTimeFrame(
+  public List<TransactionView> getTransactionsByUserIdInTimeFrame(
       Long userId, LocalDate startDate, LocalDate endDate) {
     logger.info("Fetching transactions for user ID: {}, from {} to {}", userId, startDate, endDate);
     if (!userRepo.existsById(userId)) {
@@ -131,7 +154,7 @@ public class TransactionService {
       throw new UserNotFoundException(userId);
     }
     validateDateRange(startDate, endDate);
-    List<Transaction> transactions =
+    List<TransactionView> transactions =
         transactionRepo.findByUserIdAndDateBetween(userId, startDate, endDate);
     logger.info("Retrieved {} transactions for user ID: {}", transactions.size(), userId);
     return transactions;
@@ -144,9 +167,9 @@ public class TransactionService {
    * @param page the page number
    * @param size the page size
    * @param sort the sort order (e.g., "date,asc")
-   * @return a page of transactions
+   * @return a page of transaction views
    */
-  public Page<Transaction> getTransactionsByUserIdPaginated(
+  public Page<TransactionView> getTransactionsByUserIdPaginated(
       Long userId, int page, int size, String sort) {
     logger.info(
         "Fetching paginated transactions for user ID: {}, page: {}, size: {}, sort: {}",
@@ -167,7 +190,7 @@ public class TransactionService {
       throw new IllegalArgumentException("Size must be greater than 0");
     }
     PageRequest pageRequest = PageRequest.of(page, size);
-    Page<Transaction> transactions =
+    Page<TransactionView> transactions =
         "date,asc".equalsIgnoreCase(sort)
             ? transactionRepo.findByUser_IdOrderByDateAsc(userId, pageRequest)
             : transactionRepo.findByUser_IdOrderByDateDesc(userId, pageRequest);
@@ -177,171 +200,159 @@ public class TransactionService {
   }
 
   /**
-   * Retrieves all transactions for a user, sorted by oldest first.
+   * Retrieves a page of a user's transactions by keyset pagination on {@code (date, id)}. Each page
+   * seeks directly to its starting row, so deep pages cost the same as the first, and no count
+   * query runs unless the total is requested.
    *
    * @param userId the user's ID
-   * @return a list of transactions
+   * @param cursor the continuation token of the page to fetch, or null for the first page
+   * @param size the page size
+   * @param sort the sort order of the first page ("date,asc" or "date,desc"); later pages keep the
+   *     order encoded in their cursor
+   * @param includeTotal whether to count the user's transactions
+   * @return the page with the tokens of its neighbouring pages
+   * @throws IllegalArgumentException if the user ID, size or cursor is invalid
    */
-  public List<Transaction> getAllTransactionsByUserIdSortedOldest(Long userId) {
-    logger.info("Fetching oldest transactions for user ID: {}", userId);
-    if (!userRepo.existsById(userId)) {
-      logger.error("User not found: {}", userId);
-      throw new UserNotFoundException(userId);
+  public TransactionCursorPage getTransactionsByUserIdCursor(
+      long userId, String cursor, int size, String sort, boolean includeTotal) {
+    logger.info(
+        "Fetching transactions by cursor for user ID: {}, size: {}, sort: {}, includeTotal: {}",
+        userId,
+        size,
+        sort,
+        includeTotal);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    if (size <= 0 || size > Constants.MAX_PAGE_SIZE) {
+      logger.warn("Invalid page size: {}", size);
+      throw new IllegalArgumentException("Size must be between 1 and " + Constants.MAX_PAGE_SIZE);
     }
-    List<Transaction> transactions = transactionRepo.findByUser_IdOrderByDateAsc(userId);
-    logger.info("Retrieved {} oldest transactions for user ID: {}", transactions.size(), userId);
-    return transactions;
-  }
+    TransactionCursor position =
+        Utils.nullOrEmpty(cursor) ? null : TransactionCursor.decode(cursor);
+    boolean ascending =
+        position != null ? position.isAscending() : "date,asc".equalsIgnoreCase(sort);
+    boolean forward = position == null || position.isForward();
 
-  /**
-   * Retrieves all transactions for a user, sorted by newest first.
-   *
-   * @param userId the user's ID
-   * @return a list of transactions
-   */
-  public List<Transaction> getTransactionsByUserIdSortedNewest(Long userId) {
-    logger.info("Fetching newest transactions for user ID: {}", userId);
-    if (!userRepo.existsById(userId)) {
-      logger.error("User not found: {}", userId);
-      throw new UserNotFoundException(userId);
+    // Fetch one extra row to learn whether another page follows in the scan direction.
+    PageRequest limit = PageRequest.of(0, size + 1);
+    List<TransactionView> rows;
+    if (position == null) {
+      rows =
+          ascending
+              ? transactionRepo.findByUser_IdOrderByDateAscIdAsc(userId, limit)
+              : transactionRepo.findByUser_IdOrderByDateDescIdDesc(userId, limit);
+    } else if (ascending == forward) {
+      rows = transactionRepo.findPageAfter(userId, position.getDate(), position.getId(), limit);
+    } else {
+      rows = transactionRepo.findPageBefore(userId, position.getDate(), position.getId(), limit);
+    }
+    boolean hasMore = rows.size() > size;
+    List<TransactionView> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+    if (!forward) {
+      Collections.reverse(content);
     }
-    List<Transaction> transactions = transactionRepo.findByUser_IdOrderByDateDesc(userId);
-    logger.info("Retrieved {} newest transactions for user ID: {}", transactions.size(), userId);
-    return transactions;
-  }
 
-  /**
-   * Retrieves transactions for a user within a time frame (e.g., "7days").
-   *
-   * @param userId the user's ID
-   * @param timeFrame the time frame (e.g., "7days", "30days")
-   * @return a list of transactions
-   */
-  public List<Transaction> getAllTransactionsByUserIdTimeFrame(Long userId, String timeFrame) {
-    logger.info("Fetching transactions for user ID: {}, timeFrame: {}", userId, timeFrame);
-    if (!userRepo.existsById(userId)) {
-      logger.error("User not found: {}", userId);
-      throw new UserNotFoundException(userId);
+    boolean hasNext = forward ? hasMore : true;
+    boolean hasPrev = forward ? position != null : hasMore;
+    String nextCursor = null;
+    String prevCursor = null;
+    if (!content.isEmpty()) {
+      TransactionView first = content.get(0);
+      TransactionView last = content.get(content.size() - 1);
+      nextCursor =
+          hasNext
+              ? new TransactionCursor(last.getDate(), last.getId(), ascending, true).encode()
+              : null;
+      prevCursor =
+          hasPrev
+              ? new TransactionCursor(first.getDate(), first.getId(), ascending, false).encode()
+              : null;
     }
-    if (timeFrame == null || timeFrame.isEmpty()) {
-      logger.warn("Invalid timeFrame: {}", timeFrame);
-      throw new IllegalArgumentException("TimeFrame must be valid");
-    }
-    LocalDate startDate;
-    LocalDate endDate = LocalDate.now();
-    switch (timeFrame.toLowerCase()) {
-      case "weekly":
-        startDate = Utils.getStartOfWeek();
-        endDate = Utils.getEndOfWeek();
-        break;
-      case "7days":
-        startDate = LocalDate.now().minusDays(7);
-        break;
-      case "30days":
-        startDate = LocalDate.now().minusDays(30);
-        break;
-      case "60days":
-        startDate = LocalDate.now().minusDays(60);
-        break;
-      case "90days":
-        startDate = LocalDate.now().minusDays(90);
-        break;
-      default:
-        startDate = LocalDate.MIN; // "all time"
-    }
-    List<Transaction> transactions =
-        transactionRepo.findByUserIdAndDateBetween(userId, startDate, endDate);
-    logger.info("Retrieved {} transactions for user ID: {}", transactions.size(), userId);
-    return transactions;
+    Long total = includeTotal ? transactionRepo.countByUser_Id(userId) : null;
+    logger.info("Retrieved {} transactions by cursor for user ID: {}", content.size(), userId);
+    return new TransactionCursorPage(content, nextCursor, prevCursor, total);
   }
 
   /**
-   * Retrieves a transaction summary for a user by time frame.
+   * Retrieves a transaction summary for a user by time frame. The count, date range and totals are
+   * aggregated by the database in a single query, so the cost does not grow with the number of
+   * transactions returned.
    *
    * @param userId the user's ID
-   * @param timeFrame the time frame (e.g., "7days")
+   * @param timeFrame the time frame
    * @return the transaction summary
    */
   public TransactionSummaryResponse getTransactionSummaryByTimeFrame(
-      Long userId, String timeFrame) {
+      Long userId, TimeFrame timeFrame) {
     logger.info("Fetching transaction summary for user ID: {}, timeFrame: {}", userId, timeFrame);
     Utils.validatePositiveId(userId, "User ID must be positive");
-    if (Utils.nullOrEmpty(timeFrame)) {
-      logger.error("Invalid timeFrame: null or empty");
-      throw new IllegalArgumentException("TimeFrame must not be null or empty");
+    if (timeFrame == null) {
+      logger.error("Invalid timeFrame: null");
+      throw new IllegalArgumentException("TimeFrame must not be null");
     }
     if (!userRepo.existsById(userId)) {
       logger.error("User not found: {}", userId);
       throw new UserNotFoundException("User not found: " + userId);
     }
-    List<Transaction> transactions = getAllTransactionsByUserIdTimeFrame(userId, timeFrame);
-    if (Utils.nullOrEmpty(transactions)) {
-      logger.info("No transactions found for user ID: {}, timeFrame: {}", userId, timeFrame);
-      return new TransactionSummaryResponse(null, null, null);
-    }
-    LocalDate earliest =
-        transactions.stream()
-            .map(Transaction::getDate)
-            .filter(Objects::nonNull)
-            .min(LocalDate::compareTo)
-            .orElse(null);
-    LocalDate latest =
-        transactions.stream()
-            .map(Transaction::getDate)
-            .filter(Objects::nonNull)
-            .max(LocalDate::compareTo)
-            .orElse(null);
+    LocalDate today = LocalDate.now();
+    LocalDate startDate = timeFrame.getStartDate(today);
+    TransactionSummaryResponse summary =
+        startDate != null
+            ? transactionRepo.summarizeByUserIdAndDateBetween(
+                userId, startDate, timeFrame.getEndDate(today))
+            : transactionRepo.summarizeByUserIdUpTo(userId, timeFrame.getEndDate(today));
     logger.info(
-        "Retrieved transaction summary for user ID: {}, count: {}", userId, transactions.size());
-    return new TransactionSummaryResponse(transactions.size(), earliest, latest);
+        "Retrieved transaction summary for user ID: {}, count: {}", userId, summary.getCount());
+    return summary;
   }
 
   /**
    * Retrieves the current balance for a user's spending account.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @return the current balance
    */
-  public BigDecimal getCurrentBalanceByUser(String email) {
-    logger.info("Fetching current balance for user: {}", email);
-    User user = validateUser(email);
+  public BigDecimal getCurrentBalanceByUser(long userId) {
+    logger.info("Fetching current balance for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
     Account spendingAccount =
         accountRepo
             .findAccountByUserAndType(user, AccountType.SPENDING)
             .orElseGet(
                 () -> {
-                  logger.info("No spending account found for user: {}, creating new", email);
+                  logger.info("No spending account found for user ID: {}, creating new", userId);
                   return accountService.createSpendingAccount(user, BigDecimal.ZERO);
                 });
-    logger.info("Retrieved balance for user: {}", email);
+    logger.info("Retrieved balance for user ID: {}", userId);
     return spendingAccount.getBalance();
   }
 
   /**
    * Adds a new transaction for a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param request the transaction request
-   * @return the created transaction
+   * @return a view of the created transaction
+   * @throws IllegalArgumentException if the transaction would make the spending account negative
    */
   @Transactional
-  public Transaction addTransaction(String email, TransactionRequest request) {
-    logger.info("Adding transaction for user: {}", email);
-    User user = validateUser(email);
+  public TransactionView addTransaction(long userId, TransactionRequest request) {
+    logger.info("Adding transaction for user ID: {}", userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
     Account spendingAccount =
         accountRepo
             .findAccountByUserAndType(user, AccountType.SPENDING)
             .orElseGet(
                 () -> {
-                  logger.info("No spending account found for user: {}, creating new", email);
+                  logger.info("No spending account found for user ID: {}, creating new", userId);
                   return accountService.createSpendingAccount(
                       user, request.getBalanceAtTransaction());
                 });
     TransactionType type = request.getType();
     BigDecimal amount =
         type == TransactionType.DEBIT ? request.getAmount().negate() : request.getAmount();
-    BigDecimal newBalance = spendingAccount.getBalance().add(amount);
-    accountService.updateAccountBalance(spendingAccount, newBalance);
+    BigDecimal newBalance = accountService.applyNonNegativeBalanceDelta(spendingAccount, amount);
     Transaction newTransaction =
         new Transaction(
             request.getDate(),
@@ -354,33 +365,37 @@ public class TransactionService {
             spendingAccount,
             user);
     Transaction savedTransaction = transactionRepo.save(newTransaction);
-    logger.info("Added transaction for user: {}, ID: {}", email, savedTransaction.getId());
-    return savedTransaction;
+    monthlyRollupService.recordAdded(List.of(savedTransaction));
+    eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    logger.info("Added transaction for user ID: {}, ID: {}", userId, savedTransaction.getId());
+    return TransactionView.from(savedTransaction);
   }
 
   /**
    * Updates an existing transaction for a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the transaction ID
    * @param request the transaction request
-   * @return the updated transaction
+   * @return a view of the updated transaction
    */
   @Transactional
-  public Transaction updateTransaction(String email, long id, TransactionRequest request) {
-    logger.info("Updating transaction for user: {}, ID: {}", email, id);
-    User user = validateUser(email);
+  public TransactionView updateTransaction(long userId, long id, TransactionRequest request) {
+    logger.info("Updating transaction for user ID: {}, ID: {}", userId, id);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
     Transaction transaction =
         transactionRepo
             .findTransactionByUserAndId(user, id)
             .orElseThrow(
                 () -> {
-                  logger.error("Transaction not found for user: {}, ID: {}", email, id);
+                  logger.error("Transaction not found for user ID: {}, ID: {}", userId, id);
                   return new TransactionNotFoundException(id);
                 });
     TransactionType type = request.getType();
     BigDecimal newAmount =
         type == TransactionType.DEBIT ? request.getAmount().negate() : request.getAmount();
+    monthlyRollupService.recordRemoved(transaction);
     Account account = accountService.syncSpendingAccountBalance(transaction, newAmount);
     transaction.setDate(request.getDate());
     transaction.setAmount(newAmount);
@@ -389,95 +404,130 @@ public class TransactionService {
     transaction.setMerchant(request.getMerchant());
     transaction.setBalanceAtTransaction(account.getBalance());
     Transaction updatedTransaction = transactionRepo.save(transaction);
-    logger.info("Updated transaction for user: {}, ID: {}", email, id);
-    return updatedTransaction;
+    monthlyRollupService.recordAdded(List.of(updatedTransaction));
+    eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    logger.info("Updated transaction for user ID: {}, ID: {}", userId, id);
+    return TransactionView.from(updatedTransaction);
   }
 
   /**
    * Deletes a transaction for a user.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param id the transaction ID
    */
   @Transactional
-  public void deleteTransaction(String email, Long id) {
-    logger.info("Deleting transaction for user: {}, ID: {}", email, id);
-    User user = validateUser(email);
+  public void deleteTransaction(long userId, Long id) {
+    logger.info("Deleting transaction for user ID: {}, ID: {}", userId, id);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
     Transaction transaction =
         transactionRepo
             .findTransactionByUserAndId(user, id)
             .orElseThrow(
                 () -> {
-                  logger.error("Transaction not found for user: {}, ID: {}", email, id);
+                  logger.error("Transaction not found for user ID: {}, ID: {}", userId, id);
                   return new TransactionNotFoundException(id);
                 });
     Account account = transaction.getAccount();
-    account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-    accountRepo.save(account);
+    if (account != null) {
+      accountService.applyBalanceDelta(account, transaction.getAmount().negate());
+    }
+    monthlyRollupService.recordRemoved(transaction);
     transactionRepo.delete(transaction);
-    logger.info("Deleted transaction for user: {}, ID: {}", email, id);
+    eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    logger.info("Deleted transaction for user ID: {}, ID: {}", userId, id);
   }
 
   /**
-   * Deletes multiple transactions for a user.
+   * Deletes multiple transactions for a user in chunks of {@link
+   * Constants#TRANSACTION_DELETE_CHUNK_SIZE}. Each chunk costs a fixed number of statements: one
+   * query summing the deleted amounts per account, one grouped summary for the monthly rollups and
+   * one set-based delete scoped to the user. The per-account totals of all chunks are then applied
+   * with a single atomic update per affected account. IDs that do not exist or belong to another
+   * user are ignored.
    *
-   * @param email the user's email
+   * @param userId the user's ID
    * @param ids the list of transaction IDs
+   * @return the number of transactions deleted
    */
   @Transactional
-  public void deleteTransactionsById(String email, List<Long> ids) {
-    logger.info("Deleting {} transactions for user: {}", ids.size(), email);
+  public int deleteTransactionsById(long userId, List<Long> ids) {
     if (Utils.nullOrEmpty(ids)) {
       logger.warn("Invalid transaction IDs: null or empty");
       throw new IllegalArgumentException("IDs must not be null or empty");
     }
-    User user = validateUser(email);
-    Account account =
-        accountRepo
-            .findAccountByUserAndType(user, AccountType.SPENDING)
-            .orElseThrow(
-                () -> {
-                  logger.error("No spending account found for user: {}", email);
-                  return new AccountNotFoundException();
-                });
-    transactionRepo.deleteAllByIdInAndUser(ids, user);
-    accountService.recalculateBalanceForSpendingAccount(account);
-    logger.info("Deleted {} transactions for user: {}", ids.size(), email);
+    logger.info("Deleting {} transactions for user ID: {}", ids.size(), userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
+    List<Long> distinctIds = ids.stream().distinct().toList();
+    Map<Long, Account> accounts = new LinkedHashMap<>();
+    Map<Long, BigDecimal> deletedAmounts = new HashMap<>();
+    int deleted = 0;
+    for (int from = 0; from < distinctIds.size(); from += Constants.TRANSACTION_DELETE_CHUNK_SIZE) {
+      List<Long> chunk =
+          distinctIds.subList(
+              from, Math.min(from + Constants.TRANSACTION_DELETE_CHUNK_SIZE, distinctIds.size()));
+      for (Object[] row : transactionRepo.sumAmountsByAccountForIds(chunk, user)) {
+        Account account = (Account) row[0];
+        accounts.putIfAbsent(account.getId(), account);
+        deletedAmounts.merge(account.getId(), (BigDecimal) row[1], BigDecimal::add);
+      }
+      monthlyRollupService.recordRemoved(chunk, user);
+      deleted += transactionRepo.deleteAllByIdInAndUser(chunk, user);
+    }
+    accounts.forEach(
+        (accountId, account) ->
+            accountService.applyBalanceDelta(account, deletedAmounts.get(accountId).negate()));
+    if (deleted > 0) {
+      eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
+    }
+    logger.info(
+        "Deleted {} of {} requested transactions for user ID: {}", deleted, ids.size(), userId);
+    return deleted;
   }
 
   /**
-   * Imports transactions from a CSV file for a user.
+   * Imports transactions from a CSV file for a user. Rows are streamed from the file, converted in
+   * parallel on the CSV import executor and written in fixed-size JDBC batches in file order, so
+   * memory use is bounded by the in-flight window rather than the file size. Rows that cannot be
+   * parsed are skipped and counted as rejected. Rows already imported for the user, or repeating an
+   * earlier row of the same file, are skipped and counted as duplicates.
    *
    * @param userId the user's ID
    * @param file the CSV file
-   * @return the list of imported transactions
-   * @throws IllegalArgumentException if the file is invalid
+   * @return a summary of rows read, inserted, rejected and skipped as duplicates
+   * @throws IllegalArgumentException if the file is invalid or userId is not positive
    * @throws RuntimeException if CSV parsing fails
    */
   @Transactional
-  public List<Transaction> importMultipleCSVs(long userId, MultipartFile file) {
+  public CsvImportSummary importMultipleCSVs(long userId, MultipartFile file) {
     validateFile(file);
     logger.info("Importing CSV file for user ID: {}, file: {}", userId, file.getOriginalFilename());
-    User user = validateUserById(userId);
+    Utils.validatePositiveId(userId, "User ID must be positive");
+    User user = userRepo.getReferenceById(userId);
+    long startNanos = System.nanoTime();
     try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
       String[] headers = parseHeaders(reader);
       CSVFormat format = CSVFormat.DEFAULT.withHeader(headers);
       CSVParser csvParser = new CSVParser(reader, format);
-      List<Transaction> transactions = parseTransactions(csvParser, user);
-      transactionRepo.saveAll(transactions);
-      if (!transactions.isEmpty()) {
-        Account account =
-            accountRepo
-                .findAccountByUserAndType(user, AccountType.SPENDING)
-                .orElseThrow(
-                    () -> {
-                      logger.error("No spending account found for user ID: {}", userId);
-                      return new AccountNotFoundException();
-                    });
-        accountService.recalculateBalanceForSpendingAccount(account);
+      CsvImportContext context = new CsvImportContext(user, accountService, accountRepo);
+      CsvImportSummary summary = streamTransactions(csvParser, context);
+      if (summary.getInserted() > 0) {
+        context.getWrittenAmounts().forEach(accountService::recalculateBalanceForSpendingAccount);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(userId));
       }
-      logger.info("Imported {} transactions for user ID: {}", transactions.size(), userId);
-      return transactions;
+      summary.setElapsedMillis((System.nanoTime() - startNanos) / 1_000_000);
+      logger.info(
+          "Imported CSV for user ID: {}, read: {}, inserted: {}, rejected: {}, duplicates: {},"
+              + " elapsed: {} ms",
+          userId,
+          summary.getRowsRead(),
+          summary.getInserted(),
+          summary.getRejected(),
+          summary.getDuplicatesSkipped(),
+          summary.getElapsedMillis());
+      return summary;
     } catch (IOException e) {
       logger.error("Failed to read CSV file for user ID: {}: {}", userId, e.getMessage(), e);
       throw new RuntimeException("Failed to read CSV file: " + file.getOriginalFilename(), e);
@@ -511,108 +561,221 @@ public class TransactionService {
         headers[i] = BankCsvColumn.UNUSED.getStr() + i;
       }
     }
+    List<String> headerList = Arrays.asList(headers);
+    for (BankCsvColumn column : REQUIRED_CSV_COLUMNS) {
+      if (!headerList.contains(column.getStr())) {
+        logger.warn("CSV file is missing required column: {}", column.getStr());
+        throw new IllegalArgumentException(
+            "CSV file is missing required column: " + column.getStr());
+      }
+    }
     logger.debug("Parsed CSV headers: {}", String.join(", ", headers));
     return headers;
   }
 
-  private LocalDate parseDate(String rawDate) {
-    logger.debug("Parsing date: {}", rawDate);
-    for (DateTimeFormatter formatter : Constants.CSV_DATE_FORMATTERS) {
+  /**
+   * Converts a CSV record into an unsaved transaction. Runs on the CSV import executor, so it only
+   * touches the record itself; the account and user are attached later by the writer.
+   */
+  private ParsedCsvRow parseCsvRow(CSVRecord record, CsvDateParser dateParser) {
+    logger.debug("Creating transaction from CSV record: {}", record);
+    try {
+      LocalDate date = dateParser.parse(record.get(BankCsvColumn.DATE.getStr()));
+      String merchant =
+          record.isSet(BankCsvColumn.MERCHANT.getStr())
+                  && !record.get(BankCsvColumn.MERCHANT.getStr()).isEmpty()
+              ? record.get(BankCsvColumn.MERCHANT.getStr()).trim()
+              : null;
+      BigDecimal amount;
       try {
-        LocalDate date = LocalDate.parse(rawDate, formatter);
-        logger.debug("Parsed date: {} as {}", rawDate, date);
-        return date;
-      } catch (DateTimeParseException e) {
-        // Continue to try next formatter
+        amount = new BigDecimal(record.get(BankCsvColumn.AMOUNT.getStr()).trim());
+        logger.debug("Parsed amount: {}", amount);
+      } catch (NumberFormatException e) {
+        logger.warn("Invalid amount format in CSV: {}", record.get(BankCsvColumn.AMOUNT.getStr()));
+        throw new IllegalArgumentException(
+            "Invalid amount format in CSV: " + record.get(BankCsvColumn.AMOUNT.getStr()));
       }
+      BigDecimal balanceAtTransaction;
+      try {
+        balanceAtTransaction = new BigDecimal(record.get(BankCsvColumn.BALANCE.getStr()).trim());
+        logger.debug("Parsed balance: {}", balanceAtTransaction);
+      } catch (NumberFormatException e) {
+        logger.warn(
+            "Invalid balance format in CSV: {}", record.get(BankCsvColumn.BALANCE.getStr()));
+        throw new IllegalArgumentException(
+            "Invalid balance format in CSV: " + record.get(BankCsvColumn.BALANCE.getStr()));
+      }
+      String accountNumber =
+          record.isSet(BankCsvColumn.ACCOUNT_NUMBER.getStr())
+              ? record.get(BankCsvColumn.ACCOUNT_NUMBER.getStr())
+              : null;
+      Transaction transaction = new Transaction();
+      transaction.setDate(date);
+      transaction.setAmount(amount);
+      transaction.setDescription(record.get(BankCsvColumn.DETAILS.getStr()).trim());
+      transaction.setBalanceAtTransaction(balanceAtTransaction);
+      transaction.setCategory(record.get(BankCsvColumn.CATEGORY.getStr()).trim());
+      transaction.setMerchant(merchant);
+      transaction.setSource(SourceType.CSV);
+      logger.debug("Created transaction: date={}, amount={}, merchant={}", date, amount, merchant);
+      return ParsedCsvRow.parsed(record.getRecordNumber(), transaction, accountNumber);
+    } catch (IllegalArgumentException e) {
+      return ParsedCsvRow.rejected(record.getRecordNumber(), e.getMessage());
     }
-    logger.warn("Invalid date format in CSV: {}", rawDate);
-    throw new IllegalArgumentException(
-        "Invalid date format in CSV: "
-            + rawDate
-            + ". Supported formats: "
-            + Constants.CSV_DATE_FORMATTERS.stream()
-                .map(DateTimeFormatter::toString)
-                .collect(Collectors.joining(", ")));
   }
 
-  private Transaction createTransactionForCsv(CSVRecord record, User user) {
-    logger.debug("Creating transaction from CSV record: {}", record);
-    Account account = accountService.handleFetchAccount(user);
-    LocalDate date = parseDate(record.get(BankCsvColumn.DATE.getStr()));
-    String merchant =
-        record.isSet(BankCsvColumn.MERCHANT.getStr())
-                && !record.get(BankCsvColumn.MERCHANT.getStr()).isEmpty()
-            ? record.get(BankCsvColumn.MERCHANT.getStr()).trim()
-            : null;
-    BigDecimal amount;
-    try {
-      amount = new BigDecimal(record.get(BankCsvColumn.AMOUNT.getStr()).trim());
-      logger.debug("Parsed amount: {}", amount);
-    } catch (NumberFormatException e) {
-      logger.warn("Invalid amount format in CSV: {}", record.get(BankCsvColumn.AMOUNT.getStr()));
-      throw new IllegalArgumentException(
-          "Invalid amount format in CSV: " + record.get(BankCsvColumn.AMOUNT.getStr()));
-    }
-    BigDecimal balanceAtTransaction;
+  /**
+   * Pipelines a CSV import. The date format is detected from the first {@link
+   * Constants#CSV_DATE_SAMPLE_ROWS} records, then the calling thread reads records and hands each
+   * one to the CSV import executor, keeping the resulting futures in a bounded window in file
+   * order. Once the window is full, the oldest row is taken off the head and written before the
+   * next record is read, so conversion runs ahead on the worker threads while batches are written,
+   * rows reach the database in file order, and at most {@link Constants#CSV_IMPORT_QUEUE_CAPACITY}
+   * rows are in flight.
+   *
+   * <p>Reading and writing stay on the calling thread because the parser is sequential and the
+   * batch inserts must join the caller's transaction.
+   */
+  private CsvImportSummary streamTransactions(CSVParser csvParser, CsvImportContext context) {
+    logger.debug("Streaming CSV transactions for user ID: {}", context.getUser().getId());
+    CsvImportSummary summary = new CsvImportSummary();
+    List<Transaction> chunk = new ArrayList<>(Constants.CSV_IMPORT_BATCH_SIZE);
+    Deque<CompletableFuture<ParsedCsvRow>> inFlight =
+        new ArrayDeque<>(Constants.CSV_IMPORT_QUEUE_CAPACITY);
+    Iterator<CSVRecord> parsedRecords = csvParser.iterator();
+    List<CSVRecord> sample = new ArrayList<>(Constants.CSV_DATE_SAMPLE_ROWS);
+    while (sample.size() < Constants.CSV_DATE_SAMPLE_ROWS && parsedRecords.hasNext()) {
+      sample.add(parsedRecords.next());
+    }
+    CsvDateParser dateParser =
+        CsvDateParser.detect(
+            sample.stream()
+                .map(
+                    record ->
+                        record.isSet(BankCsvColumn.DATE.getStr())
+                            ? record.get(BankCsvColumn.DATE.getStr())
+                            : null)
+                .toList());
+    Iterator<CSVRecord> records =
+        Stream.concat(
+                sample.stream(),
+                StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(parsedRecords, Spliterator.ORDERED), false))
+            .iterator();
     try {
-      balanceAtTransaction = new BigDecimal(record.get(BankCsvColumn.BALANCE.getStr()).trim());
-      logger.debug("Parsed balance: {}", balanceAtTransaction);
-    } catch (NumberFormatException e) {
-      logger.warn("Invalid balance format in CSV: {}", record.get(BankCsvColumn.BALANCE.getStr()));
-      throw new IllegalArgumentException(
-          "Invalid balance format in CSV: " + record.get(BankCsvColumn.BALANCE.getStr()));
-    }
-    Transaction transaction = new Transaction();
-    transaction.setDate(date);
-    transaction.setAmount(amount);
-    transaction.setAccount(account);
-    transaction.setDescription(record.get(BankCsvColumn.DETAILS.getStr()).trim());
-    transaction.setBalanceAtTransaction(balanceAtTransaction);
-    transaction.setCategory(record.get(BankCsvColumn.CATEGORY.getStr()).trim());
-    transaction.setMerchant(merchant);
-    transaction.setUser(user);
-    transaction.setSource(SourceType.CSV);
-    logger.debug("Created transaction: date={}, amount={}, merchant={}", date, amount, merchant);
-    return transaction;
+      while (records.hasNext()) {
+        CSVRecord record = records.next();
+        summary.setRowsRead(summary.getRowsRead() + 1);
+        inFlight.addLast(
+            CompletableFuture.supplyAsync(
+                () -> parseCsvRow(record, dateParser), csvImportExecutor));
+        if (inFlight.size() >= Constants.CSV_IMPORT_QUEUE_CAPACITY) {
+          writeParsedRow(inFlight.removeFirst().join(), context, chunk, summary);
+        }
+      }
+      while (!inFlight.isEmpty()) {
+        writeParsedRow(inFlight.removeFirst().join(), context, chunk, summary);
+      }
+    } catch (CompletionException e) {
+      inFlight.forEach(future -> future.cancel(true));
+      logger.error("CSV row conversion failed: {}", e.getCause().getMessage(), e.getCause());
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } catch (RuntimeException e) {
+      inFlight.forEach(future -> future.cancel(true));
+      throw e;
+    }
+    if (!chunk.isEmpty()) {
+      flushChunk(chunk, context, summary);
+    }
+    logger.debug(
+        "Streamed {} CSV rows, {} rejected, {} duplicates skipped",
+        summary.getRowsRead(),
+        summary.getRejected(),
+        summary.getDuplicatesSkipped());
+    return summary;
   }
 
-  private List<Transaction> parseTransactions(CSVParser csvParser, User user) {
-    logger.debug("Parsing CSV transactions for user ID: {}", user.getId());
-    List<Transaction> transactions = new ArrayList<>();
-    for (CSVRecord record : csvParser) {
-      transactions.add(createTransactionForCsv(record, user));
+  private void writeParsedRow(
+      ParsedCsvRow row,
+      CsvImportContext context,
+      List<Transaction> chunk,
+      CsvImportSummary summary) {
+    if (row.rejection != null) {
+      summary.setRejected(summary.getRejected() + 1);
+      logger.warn("Rejected CSV row {}: {}", row.recordNumber, row.rejection);
+      return;
+    }
+    Transaction transaction = row.transaction;
+    Account account = context.resolveAccount(row.accountNumber);
+    transaction.setAccount(account);
+    transaction.setUser(context.getUser());
+    transaction.setFingerprint(
+        Utils.transactionFingerprint(
+            transaction.getDate(),
+            transaction.getAmount(),
+            transaction.getDescription(),
+            transaction.getBalanceAtTransaction(),
+            account.getId()));
+    if (!context.markSeen(transaction.getFingerprint())) {
+      summary.setDuplicatesSkipped(summary.getDuplicatesSkipped() + 1);
+      logger.debug("Skipped CSV row {}: repeated earlier in the file", row.recordNumber);
+      return;
+    }
+    chunk.add(transaction);
+    if (chunk.size() >= Constants.CSV_IMPORT_BATCH_SIZE) {
+      flushChunk(chunk, context, summary);
     }
-    logger.debug("Parsed {} transactions from CSV", transactions.size());
-    return transactions;
   }
 
-  private User validateUser(String email) {
-    if (Utils.nullOrEmpty(email)) {
-      logger.warn("Invalid email: null or empty");
-      throw new IllegalArgumentException("Email must not be null or empty");
+  /**
+   * Writes a chunk of converted rows, first dropping rows whose fingerprint is already stored for
+   * the user. The lookup is a single indexed query per chunk, and the written rows are added to the
+   * monthly rollups as one merged batch.
+   */
+  private void flushChunk(
+      List<Transaction> chunk, CsvImportContext context, CsvImportSummary summary) {
+    Set<String> existing =
+        transactionRepo.findExistingFingerprints(
+            context.getUser(), chunk.stream().map(Transaction::getFingerprint).toList());
+    if (!existing.isEmpty()) {
+      int before = chunk.size();
+      chunk.removeIf(transaction -> existing.contains(transaction.getFingerprint()));
+      summary.setDuplicatesSkipped(summary.getDuplicatesSkipped() + before - chunk.size());
+      logger.debug("Skipped {} CSV rows already imported", before - chunk.size());
     }
-    return userRepo
-        .getUserByEmail(email)
-        .orElseThrow(
-            () -> {
-              logger.error("User not found: {}", email);
-              return new UserNotFoundException(email);
-            });
+    summary.setInserted(summary.getInserted() + transactionRepo.batchInsert(chunk));
+    context.recordWritten(chunk);
+    monthlyRollupService.recordAdded(chunk);
+    chunk.clear();
   }
 
-  private User validateUserById(Long userId) {
-    if (userId == null) {
-      logger.warn("Invalid user ID: null");
-      throw new IllegalArgumentException("User ID must not be null");
+  /**
+   * Result of converting a single CSV record: either a transaction or the reason it was rejected.
+   */
+  private static final class ParsedCsvRow {
+    private final long recordNumber;
+    private final Transaction transaction;
+    private final String accountNumber;
+    private final String rejection;
+
+    private ParsedCsvRow(
+        long recordNumber, Transaction transaction, String accountNumber, String rejection) {
+      this.recordNumber = recordNumber;
+      this.transaction = transaction;
+      this.accountNumber = accountNumber;
+      this.rejection = rejection;
+    }
+
+    static ParsedCsvRow parsed(long recordNumber, Transaction transaction, String accountNumber) {
+      return new ParsedCsvRow(recordNumber, transaction, accountNumber, null);
+    }
+
+    static ParsedCsvRow rejected(long recordNumber, String rejection) {
+      return new ParsedCsvRow(recordNumber, null, null, rejection);
     }
-    return userRepo
-        .findById(userId)
-        .orElseThrow(
-            () -> {
-              logger.error("User not found: {}", userId);
-              return new UserNotFoundException(userId);
-            });
   }
 
   private void validateDateRange(LocalDate startDate, LocalDate endDate) {
@@ -3,14 +3,20 @@ package com.shoxys.budgetbuddy_backend.Services;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.AuthResponse;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.ChangePasswordRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateEmailRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateTimeZoneRequest;
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Events.UserCredentialsChangedEvent;
 import com.shoxys.budgetbuddy_backend.Exceptions.EmailExistsException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
 import com.shoxys.budgetbuddy_backend.Security.JwtUtil;
 import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import jakarta.transaction.Transactional;
+import java.time.DateTimeException;
+import java.time.ZoneId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -20,17 +26,20 @@ public class UserService {
   private final AuthService authService;
   private final JwtUtil jwtUtil;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Autowired
   public UserService(
       UserRepo userRepo,
       AuthService authService,
       JwtUtil jwtUtil,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      ApplicationEventPublisher eventPublisher) {
     this.userRepo = userRepo;
     this.authService = authService;
     this.jwtUtil = jwtUtil;
     this.passwordEncoder = passwordEncoder;
+    this.eventPublisher = eventPublisher;
   }
 
   public long getUserIdByEmail(String email) {
@@ -43,6 +52,7 @@ public class UserService {
         .orElseThrow(() -> new UserNotFoundException("User not found"));
   }
 
+  @Transactional
   public void changePassword(String email, ChangePasswordRequest request) {
     User user =
         userRepo
@@ -59,8 +69,10 @@ public class UserService {
 
     user.setHashedPassword(passwordEncoder.encode(request.getNewPassword()));
     userRepo.save(user);
+    eventPublisher.publishEvent(new UserCredentialsChangedEvent(email));
   }
 
+  @Transactional
   public AuthResponse updateEmail(String email, UpdateEmailRequest request) {
     User user =
         userRepo
@@ -85,17 +97,37 @@ public class UserService {
 
     user.setEmail(request.getNewEmail());
     userRepo.save(user);
+    eventPublisher.publishEvent(new UserCredentialsChangedEvent(email));
 
     AppUserDetails userDetails = new AppUserDetails(user);
     String newToken = jwtUtil.generateToken(userDetails);
     return new AuthResponse(newToken, "Email updated successfully");
   }
 
+  public void updateTimeZone(String email, UpdateTimeZoneRequest request) {
+    User user =
+        userRepo
+            .getUserByEmail(email)
+            .orElseThrow(() -> new UserNotFoundException("Incorrect account details"));
+
+    String timeZone;
+    try {
+      timeZone = ZoneId.of(request.getTimeZone().trim()).getId();
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("Unknown time zone: " + request.getTimeZone());
+    }
+
+    user.setTimeZone(timeZone);
+    userRepo.save(user);
+  }
+
+  @Transactional
   public void deleteAccount(String email) {
     User user =
         userRepo
             .getUserByEmail(email)
             .orElseThrow(() -> new UserNotFoundException("User doesn't exist"));
     userRepo.delete(user);
+    eventPublisher.publishEvent(new UserCredentialsChangedEvent(email));
   }
 }
@@ -1,9 +1,13 @@
 package com.shoxys.budgetbuddy_backend.Utils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
+import java.util.HexFormat;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +17,8 @@ public final class Utils {
   private static final Logger logger = LoggerFactory.getLogger(Utils.class);
   private static final String EMAIL_REGEX =
       "^(?=.{1,64}@)[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+  private static final String FINGERPRINT_SEPARATOR = "\u001F";
 
   private Utils() {
     logger.error("Attempted to instantiate Utils class");
@@ -125,4 +131,49 @@ public final class Utils {
     }
     logger.debug("ID validation passed for: {}", id);
   }
+
+  /**
+   * Computes a content fingerprint for a transaction, used to recognise rows that have already been
+   * imported. Amounts are compared by value, so 12.5 and 12.50 produce the same fingerprint.
+   *
+   * @param date the transaction date
+   * @param amount the transaction amount
+   * @param description the transaction description
+   * @param balanceAtTransaction the account balance after the transaction
+   * @param accountId the ID of the account the transaction is posted to, may be null
+   * @return the hex-encoded SHA-256 fingerprint
+   */
+  public static String transactionFingerprint(
+      LocalDate date,
+      BigDecimal amount,
+      String description,
+      BigDecimal balanceAtTransaction,
+      Long accountId) {
+    String content =
+        String.join(
+            FINGERPRINT_SEPARATOR,
+            String.valueOf(date),
+            amount != null ? amount.stripTrailingZeros().toPlainString() : "",
+            description != null ? description : "",
+            balanceAtTransaction != null
+                ? balanceAtTransaction.stripTrailingZeros().toPlainString()
+                : "",
+            accountId != null ? accountId.toString() : "");
+    return sha256Hex(content);
+  }
+
+  /**
+   * Computes the hex-encoded SHA-256 digest of a string's UTF-8 bytes.
+   *
+   * @param content the string to digest
+   * @return the hex-encoded digest
+   */
+  public static String sha256Hex(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", e);
+    }
+  }
 }
@@ -0,0 +1,52 @@
+-- Baseline schema as previously created by Hibernate (ddl-auto=update). Uses IF NOT EXISTS so
+-- databases created before migrations were introduced are adopted without changes.
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    hashed_password VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS accounts (
+    account_no INTEGER,
+    balance DECIMAL(12,2) NOT NULL,
+    is_manual BIT NOT NULL,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    name VARCHAR(255) NOT NULL,
+    type ENUM('SAVINGS','SPENDING','INVESTMENTS','GOALSAVINGS') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKnjuop33mo69pd79ctplkck40n FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS saving_goals (
+    contributed DECIMAL(12,2) NOT NULL,
+    date DATE NOT NULL,
+    target DECIMAL(12,2) NOT NULL,
+    account_id BIGINT,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    image_ref VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK4iekvolsg7ny9b1t06klaoami FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT FKbyejwc9iqtw4ckh0bcce6s0cg FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS transactions (
+    amount DECIMAL(12,2) NOT NULL,
+    balance_at_transaction DECIMAL(12,2) NOT NULL,
+    date DATE NOT NULL,
+    account_id BIGINT,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    category VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    merchant VARCHAR(255),
+    source ENUM('CSV','MANUAL') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK20w7wsg13u9srbq3bd7chfxdh FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT FKqwv7rmvc8va8rep7piikrojds FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,5 @@
+-- Content fingerprint used to skip re-imported CSV rows.
+
+ALTER TABLE transactions ADD COLUMN fingerprint VARCHAR(64);
+
+CREATE INDEX idx_transactions_user_fingerprint ON transactions (user_id, fingerprint);
@@ -0,0 +1,11 @@
+-- Composite indexes for the hot transaction access paths.
+
+-- Date-range filters and date ordering per user: findByUserIdAndDateBetween,
+-- findByUser_IdOrderByDate*, findLatest3TransactionSummaries and the monthly totals.
+CREATE INDEX idx_transactions_user_date ON transactions (user_id, date);
+
+-- Category breakdowns per user; covers findTop5ExpenseCategoriesByAmount.
+CREATE INDEX idx_transactions_user_category_amount ON transactions (user_id, category, amount);
+
+-- Latest balance lookup and per-account sums.
+CREATE INDEX idx_transactions_account_date ON transactions (account_id, date);
@@ -0,0 +1,3 @@
+-- IANA time zone used to resolve a user's calendar months; NULL falls back to the server zone.
+
+ALTER TABLE users ADD COLUMN time_zone VARCHAR(64);
@@ -0,0 +1,18 @@
+-- Per-user monthly totals by category, maintained incrementally alongside transaction writes and
+-- read by the dashboard instead of aggregating the transactions table. Existing data is backfilled
+-- on startup while the table is empty, or on demand with the --rebuild-rollups option.
+
+CREATE TABLE monthly_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    spending BIT NOT NULL,
+    credit_sum DECIMAL(15,2) NOT NULL,
+    debit_sum DECIMAL(15,2) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_rollups_user_month_category
+        UNIQUE (user_id, month_start, category, spending),
+    CONSTRAINT fk_monthly_rollups_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,14 @@
+-- Last generated spending insights per user, keyed by a hash of the spending summary they were
+-- generated from, so dashboard loads serve stored insights and only changed data triggers a new
+-- upstream call.
+
+CREATE TABLE spending_insight_cache (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    stats_hash VARCHAR(64) NOT NULL,
+    insights VARCHAR(4000) NOT NULL,
+    generated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_spending_insight_cache_user UNIQUE (user_id),
+    CONSTRAINT fk_spending_insight_cache_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,21 @@
+-- Append-only ledger of changes to each saving goal's contributed amount. Contributions update the
+-- goal and the goal savings account by increments instead of re-summing every goal, and the ledger
+-- keeps the history behind each goal's total. Existing goals get one entry for their current
+-- amount so the ledger starts out agreeing with the goal totals.
+
+CREATE TABLE goal_contributions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    goal_id BIGINT NOT NULL,
+    amount DECIMAL(12,2) NOT NULL,
+    type ENUM('INITIAL','CONTRIBUTION','RESET','ADJUSTMENT') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_goal_contributions_goal FOREIGN KEY (goal_id) REFERENCES saving_goals (id)
+        ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- Keyset pagination of a goal's history and per-goal sums.
+CREATE INDEX idx_goal_contributions_goal_id ON goal_contributions (goal_id, id);
+
+INSERT INTO goal_contributions (goal_id, amount, type, created_at)
+SELECT id, contributed, 'INITIAL', CURRENT_TIMESTAMP(6) FROM saving_goals WHERE contributed <> 0;
@@ -0,0 +1,8 @@
+-- Balance each account had before its transactions. Writes maintain balance as opening balance
+-- plus the sum of transaction amounts, which the balance consistency check verifies. Existing
+-- accounts are anchored to their current balance.
+
+ALTER TABLE accounts ADD COLUMN opening_balance DECIMAL(12,2) NOT NULL DEFAULT 0;
+
+UPDATE accounts SET opening_balance = balance - COALESCE(
+    (SELECT SUM(t.amount) FROM transactions t WHERE t.account_id = accounts.id), 0);
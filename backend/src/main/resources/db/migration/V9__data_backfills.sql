@@ -0,0 +1,11 @@
+-- Data backfills the application runs after the migration that needs them, starting with
+-- rebuilding the monthly rollups of V5 from existing transactions. A backfill stays pending until
+-- completed_on is set, so it runs once per database and is retried if startup stops part way.
+
+CREATE TABLE data_backfills (
+    name VARCHAR(100) NOT NULL,
+    completed_on TIMESTAMP NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+INSERT INTO data_backfills (name) VALUES ('monthly_rollups');
@@ -0,0 +1,89 @@
+package com.shoxys.budgetbuddy_backend.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Services.MonthlyRollupService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyRollupRebuildRunnerTest {
+  @Mock private MonthlyRollupService monthlyRollupService;
+  @Mock private UserRepo userRepo;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void run_shouldBackfillAndMarkCompletedWhenPending() {
+    when(jdbcTemplate.queryForObject(
+            anyString(), eq(Integer.class), eq(MonthlyRollupRebuildRunner.BACKFILL_NAME)))
+        .thenReturn(1);
+    when(userRepo.findAllIds()).thenReturn(List.of(1L, 2L));
+
+    runner(true).run(new DefaultApplicationArguments());
+
+    verify(monthlyRollupService).rebuild(1L);
+    verify(monthlyRollupService).rebuild(2L);
+    verify(jdbcTemplate)
+        .update(anyString(), any(Object.class), eq(MonthlyRollupRebuildRunner.BACKFILL_NAME));
+  }
+
+  @Test
+  void run_shouldSkipBackfillOnceCompleted() {
+    when(jdbcTemplate.queryForObject(
+            anyString(), eq(Integer.class), eq(MonthlyRollupRebuildRunner.BACKFILL_NAME)))
+        .thenReturn(0);
+
+    runner(true).run(new DefaultApplicationArguments());
+
+    verifyNoInteractions(monthlyRollupService, userRepo);
+    verify(jdbcTemplate)
+        .queryForObject(
+            anyString(), eq(Integer.class), eq(MonthlyRollupRebuildRunner.BACKFILL_NAME));
+    verifyNoMoreInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void run_shouldRebuildOnRequestWithoutMigrations() {
+    when(userRepo.findAllIds()).thenReturn(List.of(1L));
+
+    runner(false).run(new DefaultApplicationArguments("--rebuild-rollups"));
+
+    verify(monthlyRollupService).rebuild(1L);
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void run_shouldNotBackfillWithoutMigrations() {
+    runner(false).run(new DefaultApplicationArguments());
+
+    verify(monthlyRollupService, never()).rebuild(anyLong());
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void rebuildAll_shouldReturnNumberOfUsersRebuilt() {
+    when(userRepo.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+
+    assertEquals(3, runner(true).rebuildAll());
+  }
+
+  private MonthlyRollupRebuildRunner runner(boolean migrationsEnabled) {
+    return new MonthlyRollupRebuildRunner(
+        monthlyRollupService, userRepo, jdbcTemplate, migrationsEnabled);
+  }
+}
@@ -45,12 +45,14 @@ class AccountControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
+  private static final long USER_ID = 1L;
   private User mockUser;
   private AppUserDetails principal;
 
   @BeforeEach
   void setUp() {
     mockUser = new User();
+    mockUser.setId(USER_ID);
     mockUser.setEmail("test@example.com");
 
     principal = new AppUserDetails(mockUser);
@@ -76,7 +78,7 @@ class AccountControllerTest {
     mockAccount.setBalance(BigDecimal.valueOf(15000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(1L),
             eq("My Savings"),
             eq(AccountType.SAVINGS),
@@ -94,7 +96,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(1L),
             eq("My Savings"),
             eq(AccountType.SAVINGS),
@@ -115,7 +117,7 @@ class AccountControllerTest {
     mockAccount.setBalance(BigDecimal.valueOf(8000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(null),
             eq("New Investments"),
             eq(AccountType.INVESTMENTS),
@@ -133,7 +135,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(null),
             eq("New Investments"),
             eq(AccountType.INVESTMENTS),
@@ -150,11 +152,7 @@ class AccountControllerTest {
     request.setBalance(BigDecimal.valueOf(15000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq(null),
-            eq(AccountType.SAVINGS),
-            eq(BigDecimal.valueOf(15000))))
+            eq(USER_ID), eq(1L), eq(null), eq(AccountType.SAVINGS), eq(BigDecimal.valueOf(15000))))
         .thenThrow(new IllegalArgumentException("Name cannot be empty"));
 
     // Act & Assert
@@ -167,11 +165,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq(null),
-            eq(AccountType.SAVINGS),
-            eq(BigDecimal.valueOf(15000)));
+            eq(USER_ID), eq(1L), eq(null), eq(AccountType.SAVINGS), eq(BigDecimal.valueOf(15000)));
   }
 
   @Test
@@ -184,11 +178,7 @@ class AccountControllerTest {
     request.setBalance(BigDecimal.valueOf(15000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq(""),
-            eq(AccountType.SAVINGS),
-            eq(BigDecimal.valueOf(15000))))
+            eq(USER_ID), eq(1L), eq(""), eq(AccountType.SAVINGS), eq(BigDecimal.valueOf(15000))))
         .thenThrow(new IllegalArgumentException("Name cannot be empty"));
 
     // Act & Assert
@@ -201,11 +191,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq(""),
-            eq(AccountType.SAVINGS),
-            eq(BigDecimal.valueOf(15000)));
+            eq(USER_ID), eq(1L), eq(""), eq(AccountType.SAVINGS), eq(BigDecimal.valueOf(15000)));
   }
 
   @Test
@@ -218,11 +204,7 @@ class AccountControllerTest {
     request.setBalance(BigDecimal.valueOf(15000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq("My Savings"),
-            eq(null),
-            eq(BigDecimal.valueOf(15000))))
+            eq(USER_ID), eq(1L), eq("My Savings"), eq(null), eq(BigDecimal.valueOf(15000))))
         .thenThrow(new IllegalArgumentException("Type cannot be empty"));
 
     // Act & Assert
@@ -235,11 +217,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
-            eq(1L),
-            eq("My Savings"),
-            eq(null),
-            eq(BigDecimal.valueOf(15000)));
+            eq(USER_ID), eq(1L), eq("My Savings"), eq(null), eq(BigDecimal.valueOf(15000)));
   }
 
   @Test
@@ -252,7 +230,7 @@ class AccountControllerTest {
     request.setBalance(null); // Invalid: null balance
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"), eq(1L), eq("My Savings"), eq(AccountType.SAVINGS), eq(null)))
+            eq(USER_ID), eq(1L), eq("My Savings"), eq(AccountType.SAVINGS), eq(null)))
         .thenThrow(new IllegalArgumentException("New balance cannot be null"));
 
     // Act & Assert
@@ -265,7 +243,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"), eq(1L), eq("My Savings"), eq(AccountType.SAVINGS), eq(null));
+            eq(USER_ID), eq(1L), eq("My Savings"), eq(AccountType.SAVINGS), eq(null));
   }
 
   @Test
@@ -278,7 +256,7 @@ class AccountControllerTest {
     request.setBalance(BigDecimal.valueOf(15000));
 
     when(accountService.upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(1L),
             eq("My Savings"),
             eq(AccountType.SAVINGS),
@@ -295,7 +273,7 @@ class AccountControllerTest {
 
     verify(accountService, times(1))
         .upsertAccountBalance(
-            eq("test@example.com"),
+            eq(USER_ID),
             eq(1L),
             eq("My Savings"),
             eq(AccountType.SAVINGS),
@@ -320,7 +298,7 @@ class AccountControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
         .andExpect(status().isUnauthorized());
 
-    verify(accountService, never()).upsertAccountBalance(any(), any(), any(), any(), any());
+    verify(accountService, never()).upsertAccountBalance(anyLong(), any(), any(), any(), any());
   }
 
   @Test
@@ -330,7 +308,7 @@ class AccountControllerTest {
     AccountType accountType = AccountType.SAVINGS;
     BigDecimal balance = BigDecimal.valueOf(2500);
 
-    when(accountService.getAccountBalance(eq("test@example.com"), eq(name), eq(accountType)))
+    when(accountService.getAccountBalance(eq(USER_ID), eq(name), eq(accountType)))
         .thenReturn(balance);
 
     // Act & Assert
@@ -343,8 +321,7 @@ class AccountControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().json("2500"));
 
-    verify(accountService, times(1))
-        .getAccountBalance(eq("test@example.com"), eq(name), eq(accountType));
+    verify(accountService, times(1)).getAccountBalance(eq(USER_ID), eq(name), eq(accountType));
   }
 
   @Test
@@ -353,8 +330,7 @@ class AccountControllerTest {
     String name = "Savings Account";
     AccountType type = AccountType.SAVINGS;
 
-    when(accountService.getAccountBalance(eq("test@example.com"), eq(name), eq(type)))
-        .thenReturn(null);
+    when(accountService.getAccountBalance(eq(USER_ID), eq(name), eq(type))).thenReturn(null);
 
     // Act & Assert
     mockMvc
@@ -366,7 +342,7 @@ class AccountControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().json("0"));
 
-    verify(accountService, times(1)).getAccountBalance(eq("test@example.com"), eq(name), eq(type));
+    verify(accountService, times(1)).getAccountBalance(eq(USER_ID), eq(name), eq(type));
   }
 
   @Test
@@ -375,7 +351,7 @@ class AccountControllerTest {
     String name = "Savings Account";
     AccountType type = AccountType.SAVINGS;
 
-    when(accountService.getAccountBalance(eq("test@example.com"), eq(name), eq(type)))
+    when(accountService.getAccountBalance(eq(USER_ID), eq(name), eq(type)))
         .thenThrow(new UserNotFoundException("User not found"));
 
     // Act & Assert
@@ -387,7 +363,7 @@ class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isNotFound());
 
-    verify(accountService, times(1)).getAccountBalance(eq("test@example.com"), eq(name), eq(type));
+    verify(accountService, times(1)).getAccountBalance(eq(USER_ID), eq(name), eq(type));
   }
 
   @Test
@@ -406,6 +382,6 @@ class AccountControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isUnauthorized());
 
-    verify(accountService, never()).getAccountBalance(any(), any(), any());
+    verify(accountService, never()).getAccountBalance(anyLong(), any(), any());
   }
 }
@@ -242,6 +242,22 @@ class AuthControllerTest {
     verify(authService, times(1)).authenticate(any(LoginRequest.class));
   }
 
+  @Test
+  void testLogin_PasswordHashingBusy() throws Exception {
+    doThrow(new PasswordHashingBusyException("Too many sign-in attempts", 2))
+        .when(authService)
+        .authenticate(any(LoginRequest.class));
+
+    mockMvc
+        .perform(
+            post(Constants.AUTH_ENDPOINT + "/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+        .andExpect(jsonPath("$.message").value("Too many sign-in attempts"));
+  }
+
   @Test
   void testLogin_ServerError() throws Exception {
     doThrow(new RuntimeException("Server error"))
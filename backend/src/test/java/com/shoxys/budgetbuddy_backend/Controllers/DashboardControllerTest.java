@@ -1,11 +1,11 @@
 package com.shoxys.budgetbuddy_backend.Controllers;
 
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,7 +14,6 @@ import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
 import com.shoxys.budgetbuddy_backend.Services.DashboardService;
-import com.shoxys.budgetbuddy_backend.Services.UserService;
 import java.math.BigDecimal;
 import java.sql.Date;
 import java.util.Collections;
@@ -46,8 +45,6 @@ class DashboardControllerTest {
 
   @MockitoBean private DashboardService dashboardService;
 
-  @MockitoBean private UserService userService;
-
   @Autowired private ObjectMapper objectMapper;
 
   private User testUser;
@@ -74,7 +71,6 @@ class DashboardControllerTest {
   void getTotalBalance_ShouldReturnTotalBalance() throws Exception {
     // Mocking the service layer
     BigDecimal expectedBalance = new BigDecimal("15000.75");
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getTotalBalance(anyLong())).thenReturn(expectedBalance);
 
     // Performing the request and asserting the response
@@ -84,6 +80,19 @@ class DashboardControllerTest {
         .andExpect(content().string(expectedBalance.toString()));
   }
 
+  @Test
+  void getOverview_ShouldReturnEveryPanel() throws Exception {
+    DashboardOverview expectedOverview = new DashboardOverview();
+    expectedOverview.setTotalBalance(new BigDecimal("15000.75"));
+    expectedOverview.setSpendingInsights(List.of(new SpendingInsight("Cut down on eating out")));
+    when(dashboardService.getDashboardOverview(1L)).thenReturn(expectedOverview);
+
+    mockMvc
+        .perform(get("/api/dashboard/overview").with(user(testUserDetails)))
+        .andExpect(status().isOk())
+        .andExpect(content().json(objectMapper.writeValueAsString(expectedOverview)));
+  }
+
   @Test
   void getAccountsSummary_ShouldReturnAccountSummaries() throws Exception {
     // Mocking the service layer
@@ -91,7 +100,6 @@ class DashboardControllerTest {
         Collections.singletonList(
             new AccountSummary(
                 1, AccountType.SPENDING, "Saving Account", new BigDecimal("10000.00")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getAccountSummary(anyLong())).thenReturn(expectedSummary);
 
     // Performing the request and asserting the response
@@ -108,7 +116,6 @@ class DashboardControllerTest {
         new NetworthResponse(
             new BigDecimal("50000.00"),
             Collections.nCopies(5, new BreakdownItem("Savings", BigDecimal.valueOf(10000))));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getNetworthResponse(anyLong())).thenReturn(expectedNetworth);
 
     // Performing the request and asserting the response
@@ -121,16 +128,21 @@ class DashboardControllerTest {
   @Test
   void getSpendingInsights_ShouldReturnSpendingInsights() throws Exception {
     // Mocking the service layer
-    List<SpendingInsight> expectedInsights =
-        Collections.singletonList(new SpendingInsight("Cut down on eating out"));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
+    SpendingInsightsResponse expectedInsights =
+        new SpendingInsightsResponse(
+            Collections.singletonList(new SpendingInsight("Cut down on eating out")),
+            false,
+            true,
+            null);
     when(dashboardService.getSpendingInsights(anyLong())).thenReturn(expectedInsights);
 
     // Performing the request and asserting the response
     mockMvc
         .perform(get("/api/dashboard/spending-insights").with(user(testUserDetails)))
         .andExpect(status().isOk())
-        .andExpect(content().json(objectMapper.writeValueAsString(expectedInsights)));
+        .andExpect(jsonPath("$.insights[0].insight").value("Cut down on eating out"))
+        .andExpect(jsonPath("$.fresh").value(false))
+        .andExpect(jsonPath("$.refreshing").value(true));
   }
 
   @Test
@@ -139,7 +151,6 @@ class DashboardControllerTest {
     List<SavingGoalSummary> expectedGoals =
         Collections.singletonList(
             new SavingGoalSummary("Vacation", new BigDecimal("2000.00"), new BigDecimal("500.00")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getSavingGoalSummary(anyLong())).thenReturn(expectedGoals);
 
     // Performing the request and asserting the response
@@ -155,7 +166,6 @@ class DashboardControllerTest {
     List<IncomeExpenseSummary> expectedSummary =
         Collections.singletonList(
             new IncomeExpenseSummary("July", new BigDecimal("3000.00"), new BigDecimal("1500.00")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getIncomeExpenseSummary(anyLong())).thenReturn(expectedSummary);
 
     // Performing the request and asserting the response
@@ -173,7 +183,6 @@ class DashboardControllerTest {
             Collections.singletonList("Jan"),
             Collections.singletonList(new BigDecimal("3000")),
             Collections.singletonList(new BigDecimal("3000")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getIncomeTrend(anyLong())).thenReturn(expectedTrend);
 
     // Performing the request and asserting the response
@@ -188,7 +197,6 @@ class DashboardControllerTest {
     // Mocking the service layer
     List<ExpenseAnalysis> expectedAnalysis =
         Collections.singletonList(new ExpenseAnalysis("Food", new BigDecimal("400.00")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getExpenseAnalysis(anyLong())).thenReturn(expectedAnalysis);
 
     // Performing the request and asserting the response
@@ -205,7 +213,6 @@ class DashboardControllerTest {
         Collections.singletonList(
             new RecentTransactions(
                 new Date(2025, 05, 01), "Starbucks", "Shopping", new BigDecimal("-5.75")));
-    when(userService.getUserByEmail(anyString())).thenReturn(testUser);
     when(dashboardService.getRecentTransactions(anyLong())).thenReturn(expectedTransactions);
 
     // Performing the request and asserting the response
@@ -0,0 +1,189 @@
+package com.shoxys.budgetbuddy_backend.Controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Runs each list endpoint against a seeded database and counts the SQL statements it prepares, so a
+ * list that starts loading accounts or users one row at a time fails here rather than in
+ * production.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(
+    properties = {
+      "jwt.secret=c3RhdGVtZW50LWNvdW50LXRlc3Qtc2VjcmV0LWF0LWxlYXN0LTMyLWJ5dGVz",
+      "gemini.api.key=test",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@AutoConfigureMockMvc(addFilters = false)
+public class ListEndpointStatementCountTest {
+  private static final int TRANSACTIONS = 12;
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private UserRepo userRepo;
+  @Autowired private AccountRepo accountRepo;
+  @Autowired private TransactionRepo transactionRepo;
+  @Autowired private SavingGoalsRepo savingGoalsRepo;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepo.save(new User("statements@example.com", "hashedPassword"));
+    Account spending =
+        accountRepo.save(
+            new Account("Spending", AccountType.SPENDING, null, BigDecimal.ZERO, false, user));
+    Account savings =
+        accountRepo.save(
+            new Account(
+                "Goal Savings", AccountType.GOALSAVINGS, null, BigDecimal.ZERO, true, user));
+    for (int i = 1; i <= TRANSACTIONS; i++) {
+      transactionRepo.save(
+          new Transaction(
+              LocalDate.of(2025, 6, i),
+              BigDecimal.valueOf(-i),
+              "Row " + i,
+              "Food",
+              "Cafe",
+              BigDecimal.valueOf(100 - i),
+              SourceType.MANUAL,
+              spending,
+              user));
+    }
+    savingGoalsRepo.save(
+        new SavingGoal(
+            "Trip",
+            BigDecimal.valueOf(100),
+            BigDecimal.TEN,
+            LocalDate.of(2026, 1, 1),
+            null,
+            savings,
+            user));
+    savingGoalsRepo.save(
+        new SavingGoal(
+            "Laptop",
+            BigDecimal.valueOf(100),
+            BigDecimal.valueOf(100),
+            LocalDate.of(2026, 1, 1),
+            null,
+            savings,
+            user));
+
+    AppUserDetails principal = new AppUserDetails(user);
+    SecurityContext context = SecurityContextHolder.createEmptyContext();
+    context.setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    SecurityContextHolder.setContext(context);
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    savingGoalsRepo.deleteAll();
+    transactionRepo.deleteAll();
+    accountRepo.deleteAll();
+    userRepo.deleteAll();
+  }
+
+  @Test
+  void timeframe_shouldCheckUserAndSelectOnce() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/transactions/timeframe")
+                .param("startDate", "2025-06-01")
+                .param("endDate", "2025-06-30"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(TRANSACTIONS))
+        .andExpect(jsonPath("$[0].accountName").value("Spending"));
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void paginated_shouldCheckUserThenSelectAndCountPage() throws Exception {
+    mockMvc
+        .perform(get("/api/transactions/paginated").param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.transactionList.length()").value(5))
+        .andExpect(jsonPath("$.page.totalElements").value(TRANSACTIONS));
+
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void cursor_shouldSelectOncePerPage() throws Exception {
+    mockMvc
+        .perform(get("/api/transactions/cursor").param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$._embedded.transactionList.length()").value(5));
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void fullHistory_shouldStreamWithSingleSelect() throws Exception {
+    for (String path : new String[] {"/", "/oldest", "/newest", "/export"}) {
+      statistics.clear();
+
+      streamed("/api/transactions" + path).andExpect(status().isOk());
+
+      assertEquals(1, statistics.getPrepareStatementCount(), path);
+    }
+  }
+
+  @Test
+  void savingGoals_shouldSelectOncePerList() throws Exception {
+    for (String path : new String[] {"/pending", "/completed"}) {
+      statistics.clear();
+
+      mockMvc
+          .perform(get("/api/saving-goals" + path))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1));
+
+      assertEquals(1, statistics.getPrepareStatementCount(), path);
+    }
+  }
+
+  private ResultActions streamed(String path) throws Exception {
+    MvcResult result = mockMvc.perform(get(path)).andReturn();
+    return mockMvc.perform(asyncDispatch(result));
+  }
+}
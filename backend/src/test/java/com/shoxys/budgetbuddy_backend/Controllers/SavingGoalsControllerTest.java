@@ -6,16 +6,20 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionPage;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStat;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsResponse;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalRequest;
-import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
 import com.shoxys.budgetbuddy_backend.Enums.GoalType;
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
 import com.shoxys.budgetbuddy_backend.Services.SavingGoalService;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +51,7 @@ public class SavingGoalsControllerTest {
 
   @Autowired private ObjectMapper objectMapper;
 
+  private static final long USER_ID = 1L;
   private final String testEmail = "test@example.com";
   private AppUserDetails principal;
 
@@ -54,6 +59,7 @@ public class SavingGoalsControllerTest {
   void setUp() {
     // Setup AppUserDetails
     User mockUser = new User(testEmail, "testPassword");
+    mockUser.setId(USER_ID);
     principal = new AppUserDetails(mockUser);
 
     // Set up the security context
@@ -66,11 +72,11 @@ public class SavingGoalsControllerTest {
   @Test
   void testGetPendingGoals_Returns200AndGoalsList() throws Exception {
     // Arrange
-    SavingGoal goal = new SavingGoal();
+    SavingGoalView goal = new SavingGoalView();
     goal.setId(1L);
     goal.setTitle("Vacation Fund");
-    List<SavingGoal> goals = Collections.singletonList(goal);
-    when(savingGoalService.getPendingSavingGoalsForUser(eq(testEmail))).thenReturn(goals);
+    List<SavingGoalView> goals = Collections.singletonList(goal);
+    when(savingGoalService.getPendingSavingGoalsForUser(eq(USER_ID))).thenReturn(goals);
 
     // Act & Assert
     mockMvc
@@ -80,7 +86,7 @@ public class SavingGoalsControllerTest {
         .andExpect(jsonPath("$[0].id").value(1))
         .andExpect(jsonPath("$[0].title").value("Vacation Fund"));
 
-    verify(savingGoalService, times(1)).getPendingSavingGoalsForUser(eq(testEmail));
+    verify(savingGoalService, times(1)).getPendingSavingGoalsForUser(eq(USER_ID));
   }
 
   @Test
@@ -88,7 +94,7 @@ public class SavingGoalsControllerTest {
     // Arrange
     long goalId = 1L;
     String title = "Vacation Fund";
-    when(savingGoalService.getSavingGoalTitleById(eq(testEmail), eq(goalId))).thenReturn(title);
+    when(savingGoalService.getSavingGoalTitleById(eq(USER_ID), eq(goalId))).thenReturn(title);
 
     // Act & Assert
     mockMvc
@@ -98,7 +104,7 @@ public class SavingGoalsControllerTest {
         .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
         .andExpect(content().string("Vacation Fund"));
 
-    verify(savingGoalService, times(1)).getSavingGoalTitleById(eq(testEmail), eq(goalId));
+    verify(savingGoalService, times(1)).getSavingGoalTitleById(eq(USER_ID), eq(goalId));
   }
 
   @Test
@@ -109,7 +115,7 @@ public class SavingGoalsControllerTest {
             new GoalStat("20% Completed", GoalType.TOTAL, 4),
             new GoalStat("10% Overdue", GoalType.OVERDUE, 2));
     GoalStatsResponse stats = new GoalStatsResponse(goalStats);
-    when(savingGoalService.getGoalStatsForUser(eq(testEmail))).thenReturn(stats);
+    when(savingGoalService.getGoalStatsForUser(eq(USER_ID))).thenReturn(stats);
 
     // Act & Assert
     mockMvc
@@ -123,7 +129,40 @@ public class SavingGoalsControllerTest {
         .andExpect(jsonPath("$.goalStats[1].goalType").value("OVERDUE"))
         .andExpect(jsonPath("$.goalStats[1].amount").value(2));
 
-    verify(savingGoalService, times(1)).getGoalStatsForUser(eq(testEmail));
+    verify(savingGoalService, times(1)).getGoalStatsForUser(eq(USER_ID));
+  }
+
+  @Test
+  void testGetContributionHistory_Returns200AndPage() throws Exception {
+    // Arrange
+    long goalId = 1L;
+    GoalContributionPage page =
+        new GoalContributionPage(
+            List.of(
+                new GoalContributionView(
+                    8L,
+                    BigDecimal.valueOf(50),
+                    ContributionType.CONTRIBUTION,
+                    Instant.parse("2025-06-30T10:00:00Z"))),
+            8L);
+    when(savingGoalService.getContributionHistory(eq(USER_ID), eq(goalId), eq(12L), eq(1)))
+        .thenReturn(page);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/api/saving-goals/{id}/contributions", goalId)
+                .param("cursor", "12")
+                .param("size", "1"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.content[0].id").value(8))
+        .andExpect(jsonPath("$.content[0].amount").value(50))
+        .andExpect(jsonPath("$.content[0].type").value("CONTRIBUTION"))
+        .andExpect(jsonPath("$.nextCursor").value(8));
+
+    verify(savingGoalService, times(1))
+        .getContributionHistory(eq(USER_ID), eq(goalId), eq(12L), eq(1));
   }
 
   @Test
@@ -135,7 +174,7 @@ public class SavingGoalsControllerTest {
     doNothing()
         .when(savingGoalService)
         .updateContributionForSavingGoal(
-            eq(testEmail), eq(goalId), any(GoalContributionRequest.class));
+            eq(USER_ID), eq(goalId), any(GoalContributionRequest.class));
 
     // Act & Assert
     mockMvc
@@ -149,7 +188,7 @@ public class SavingGoalsControllerTest {
 
     verify(savingGoalService, times(1))
         .updateContributionForSavingGoal(
-            eq(testEmail), eq(goalId), any(GoalContributionRequest.class));
+            eq(USER_ID), eq(goalId), any(GoalContributionRequest.class));
   }
 
   @Test
@@ -158,10 +197,10 @@ public class SavingGoalsControllerTest {
     SavingGoalRequest request = new SavingGoalRequest();
     request.setTitle("New Car");
     request.setTarget(BigDecimal.valueOf(20000));
-    SavingGoal goal = new SavingGoal();
+    SavingGoalView goal = new SavingGoalView();
     goal.setId(1L);
     goal.setTitle("New Car");
-    when(savingGoalService.createSavingGoal(eq(testEmail), any(SavingGoalRequest.class)))
+    when(savingGoalService.createSavingGoal(eq(USER_ID), any(SavingGoalRequest.class)))
         .thenReturn(goal);
 
     // Act & Assert
@@ -175,8 +214,7 @@ public class SavingGoalsControllerTest {
         .andExpect(jsonPath("$.id").value(1))
         .andExpect(jsonPath("$.title").value("New Car"));
 
-    verify(savingGoalService, times(1))
-        .createSavingGoal(eq(testEmail), any(SavingGoalRequest.class));
+    verify(savingGoalService, times(1)).createSavingGoal(eq(USER_ID), any(SavingGoalRequest.class));
   }
 
   @Test
@@ -185,11 +223,10 @@ public class SavingGoalsControllerTest {
     long goalId = 1L;
     SavingGoalRequest request = new SavingGoalRequest();
     request.setTitle("Updated Car Fund");
-    SavingGoal goal = new SavingGoal();
+    SavingGoalView goal = new SavingGoalView();
     goal.setId(goalId);
     goal.setTitle("Updated Car Fund");
-    when(savingGoalService.updateSavingGoal(
-            eq(testEmail), eq(goalId), any(SavingGoalRequest.class)))
+    when(savingGoalService.updateSavingGoal(eq(USER_ID), eq(goalId), any(SavingGoalRequest.class)))
         .thenReturn(goal);
 
     // Act & Assert
@@ -204,18 +241,18 @@ public class SavingGoalsControllerTest {
         .andExpect(jsonPath("$.title").value("Updated Car Fund"));
 
     verify(savingGoalService, times(1))
-        .updateSavingGoal(eq(testEmail), eq(goalId), any(SavingGoalRequest.class));
+        .updateSavingGoal(eq(USER_ID), eq(goalId), any(SavingGoalRequest.class));
   }
 
   @Test
   void testDeleteGoal_Returns200() throws Exception {
     // Arrange
     long goalId = 1L;
-    doNothing().when(savingGoalService).deleteSavingGoal(eq(testEmail), eq(goalId));
+    doNothing().when(savingGoalService).deleteSavingGoal(eq(USER_ID), eq(goalId));
 
     // Act & Assert
     mockMvc.perform(delete("/api/saving-goals/{id}/delete", goalId)).andExpect(status().isOk());
 
-    verify(savingGoalService, times(1)).deleteSavingGoal(eq(testEmail), eq(goalId));
+    verify(savingGoalService, times(1)).deleteSavingGoal(eq(USER_ID), eq(goalId));
   }
 }
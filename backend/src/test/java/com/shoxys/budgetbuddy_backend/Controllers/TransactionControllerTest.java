@@ -1,5 +1,6 @@
 package com.shoxys.budgetbuddy_backend.Controllers;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -7,17 +8,31 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shoxys.budgetbuddy_backend.Assembler.TransactionModelAssembler;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.CsvImportSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchItemResult;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchOperation;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursorPage;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
-import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.BatchOperationType;
+import com.shoxys.budgetbuddy_backend.Enums.ExportFormat;
 import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Enums.TimeFrame;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionOrder;
 import com.shoxys.budgetbuddy_backend.Exceptions.TransactionNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
 import com.shoxys.budgetbuddy_backend.Security.AppUserDetails;
+import com.shoxys.budgetbuddy_backend.Services.TransactionBatchService;
+import com.shoxys.budgetbuddy_backend.Services.TransactionExportService;
 import com.shoxys.budgetbuddy_backend.Services.TransactionService;
 import com.shoxys.budgetbuddy_backend.Services.UserService;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +48,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -54,55 +70,98 @@ public class TransactionControllerTest {
 
   @Autowired private MockMvc mockMvc;
   @MockitoBean private TransactionService transactionService;
+  @MockitoBean private TransactionBatchService transactionBatchService;
+  @MockitoBean private TransactionExportService transactionExportService;
   @MockitoBean private UserService userService;
   @MockitoBean private TransactionRepo transactionRepo;
   @MockitoBean private TransactionModelAssembler transactionModelAssembler;
-  @MockitoBean private PagedResourcesAssembler<Transaction> pagedResourcesAssembler;
+  @MockitoBean private PagedResourcesAssembler<TransactionView> pagedResourcesAssembler;
   @Autowired private ObjectMapper objectMapper;
 
+  private static final long USER_ID = 1L;
   private final String testEmail = "test@example.com";
   private AppUserDetails principal;
 
   @BeforeEach
   void setUp() {
     User mockUser = new User(testEmail, "testPassword");
+    mockUser.setId(USER_ID);
     principal = new AppUserDetails(mockUser);
     SecurityContext context = SecurityContextHolder.createEmptyContext();
     context.setAuthentication(
         new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
     SecurityContextHolder.setContext(context);
-    when(userService.getUserIdByEmail(testEmail)).thenReturn(1L);
   }
 
   @Test
   void testGetAllTransactionsForUser_Returns200AndTransactionList() throws Exception {
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    List<Transaction> transactions = Collections.singletonList(transaction);
-    when(transactionService.getAllTransactionsByUserId(eq(1L))).thenReturn(transactions);
+    stubExport(
+        TransactionOrder.UNSORTED,
+        ExportFormat.JSON,
+        objectMapper.writeValueAsBytes(List.of(transaction)));
 
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/transactions/").contentType(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
     mockMvc
-        .perform(get("/api/transactions/").contentType(MediaType.APPLICATION_JSON))
+        .perform(asyncDispatch(result))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$[0].id").value(1))
         .andExpect(jsonPath("$[0].amount").value(100.0));
 
-    verify(transactionService, times(1)).getAllTransactionsByUserId(eq(1L));
-    verify(userService, times(1)).getUserIdByEmail(eq(testEmail));
+    verify(transactionExportService, times(1))
+        .export(eq(USER_ID), eq(TransactionOrder.UNSORTED), eq(ExportFormat.JSON), any());
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  void testExportTransactions_StreamsCsvAttachment() throws Exception {
+    stubExport(
+        TransactionOrder.OLDEST_FIRST,
+        ExportFormat.CSV,
+        "id,date\r\n1,2025-07-01\r\n".getBytes(StandardCharsets.UTF_8));
+
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/transactions/export").param("sort", "date,asc"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("text/csv"))
+        .andExpect(
+            header()
+                .string(
+                    HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.csv\""))
+        .andExpect(content().string("id,date\r\n1,2025-07-01\r\n"));
+  }
+
+  @Test
+  void testExportTransactions_Returns400ForUnsupportedFormat() throws Exception {
+    mockMvc
+        .perform(get("/api/transactions/export").param("format", "xml"))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(transactionExportService);
   }
 
   @Test
   void testGetTransactionsForUserInTimeFrame_Returns200AndTransactionList() throws Exception {
     LocalDate startDate = LocalDate.of(2025, 7, 1);
     LocalDate endDate = LocalDate.of(2025, 7, 15);
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    List<Transaction> transactions = Collections.singletonList(transaction);
+    List<TransactionView> transactions = Collections.singletonList(transaction);
     when(transactionService.getTransactionsByUserIdInTimeFrame(eq(1L), eq(startDate), eq(endDate)))
         .thenReturn(transactions);
 
@@ -119,67 +178,79 @@ public class TransactionControllerTest {
 
     verify(transactionService, times(1))
         .getTransactionsByUserIdInTimeFrame(eq(1L), eq(startDate), eq(endDate));
-    verify(userService, times(1)).getUserIdByEmail(eq(testEmail));
+    verifyNoInteractions(userService);
   }
 
   @Test
   void testGetAllOldestTransactionsForUser_Returns200AndTransactionList() throws Exception {
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    List<Transaction> transactions = Collections.singletonList(transaction);
-    when(transactionService.getAllTransactionsByUserIdSortedOldest(eq(1L)))
-        .thenReturn(transactions);
+    stubExport(
+        TransactionOrder.OLDEST_FIRST,
+        ExportFormat.JSON,
+        objectMapper.writeValueAsBytes(List.of(transaction)));
 
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/transactions/oldest").contentType(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
     mockMvc
-        .perform(get("/api/transactions/oldest").contentType(MediaType.APPLICATION_JSON))
+        .perform(asyncDispatch(result))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$[0].id").value(1))
         .andExpect(jsonPath("$[0].amount").value(100.0));
 
-    verify(transactionService, times(1)).getAllTransactionsByUserIdSortedOldest(eq(1L));
-    verify(userService, times(1)).getUserIdByEmail(eq(testEmail));
+    verify(transactionExportService, times(1))
+        .export(eq(USER_ID), eq(TransactionOrder.OLDEST_FIRST), eq(ExportFormat.JSON), any());
+    verifyNoInteractions(userService);
   }
 
   @Test
   void testGetAllNewestTransactionsForUser_Returns200AndTransactionList() throws Exception {
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    List<Transaction> transactions = Collections.singletonList(transaction);
-    when(transactionService.getTransactionsByUserIdSortedNewest(eq(1L))).thenReturn(transactions);
+    stubExport(
+        TransactionOrder.NEWEST_FIRST,
+        ExportFormat.JSON,
+        objectMapper.writeValueAsBytes(List.of(transaction)));
 
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/transactions/newest").contentType(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
     mockMvc
-        .perform(get("/api/transactions/newest").contentType(MediaType.APPLICATION_JSON))
+        .perform(asyncDispatch(result))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$[0].id").value(1))
         .andExpect(jsonPath("$[0].amount").value(100.0));
 
-    verify(transactionService, times(1)).getTransactionsByUserIdSortedNewest(eq(1L));
-    verify(userService, times(1)).getUserIdByEmail(eq(testEmail));
+    verify(transactionExportService, times(1))
+        .export(eq(USER_ID), eq(TransactionOrder.NEWEST_FIRST), eq(ExportFormat.JSON), any());
+    verifyNoInteractions(userService);
   }
 
   @Test
   void testGetPaginatedTransactionsForUser_Returns200AndPage() throws Exception {
     // Arrange
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    Page<Transaction> page = new PageImpl<>(Collections.singletonList(transaction));
-    User mockUser = new User(testEmail, "testPassword");
-    mockUser.setId(1L);
-    when(userService.getUserByEmail(testEmail)).thenReturn(mockUser);
+    Page<TransactionView> page = new PageImpl<>(Collections.singletonList(transaction));
     when(transactionService.getTransactionsByUserIdPaginated(
             eq(1L), eq(0), eq(20), eq("date,desc")))
         .thenReturn(page);
-    when(transactionModelAssembler.toModel(any(Transaction.class)))
+    when(transactionModelAssembler.toModel(any(TransactionView.class)))
         .thenReturn(EntityModel.of(transaction));
-    PagedModel<EntityModel<Transaction>> pagedModel =
+    PagedModel<EntityModel<TransactionView>> pagedModel =
         PagedModel.of(
             Collections.singletonList(EntityModel.of(transaction)),
             new PagedModel.PageMetadata(20, 0, 1, 1));
@@ -205,19 +276,70 @@ public class TransactionControllerTest {
 
     verify(transactionService, times(1))
         .getTransactionsByUserIdPaginated(eq(1L), eq(0), eq(20), eq("date,desc"));
-    verify(userService, times(1)).getUserByEmail(eq(testEmail));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  void testGetTransactionsByCursor_Returns200WithNextAndPrevLinks() throws Exception {
+    TransactionView transaction = new TransactionView();
+    transaction.setId(7L);
+    transaction.setDate(LocalDate.of(2025, 4, 16));
+    transaction.setAmount(BigDecimal.valueOf(100));
+    TransactionCursorPage page =
+        new TransactionCursorPage(List.of(transaction), "next-token", "prev-token", null);
+    when(transactionService.getTransactionsByUserIdCursor(
+            eq(USER_ID), eq("current-token"), eq(20), eq("date,desc"), eq(false)))
+        .thenReturn(page);
+    when(transactionModelAssembler.toModel(any(TransactionView.class)))
+        .thenAnswer(invocation -> EntityModel.of(invocation.<TransactionView>getArgument(0)));
+
+    mockMvc
+        .perform(
+            get("/api/transactions/cursor")
+                .param("cursor", "current-token")
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/hal+json"))
+        .andExpect(jsonPath("$._embedded.transactionList[0].id").value(7))
+        .andExpect(jsonPath("$._links.next.href").value(containsString("cursor=next-token")))
+        .andExpect(jsonPath("$._links.prev.href").value(containsString("cursor=prev-token")))
+        .andExpect(jsonPath("$.page").doesNotExist());
+  }
+
+  @Test
+  void testGetTransactionsByCursor_IncludesTotalWhenRequested() throws Exception {
+    when(transactionService.getTransactionsByUserIdCursor(
+            eq(USER_ID), isNull(), eq(20), eq("date,desc"), eq(true)))
+        .thenReturn(new TransactionCursorPage(List.of(), null, null, 42L));
+
+    mockMvc
+        .perform(get("/api/transactions/cursor").param("includeTotal", "true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.page.totalElements").value(42))
+        .andExpect(jsonPath("$._links.next").doesNotExist());
+  }
+
+  @Test
+  void testGetTransactionsByCursor_Returns400ForInvalidCursor() throws Exception {
+    when(transactionService.getTransactionsByUserIdCursor(
+            eq(USER_ID), eq("bad"), anyInt(), anyString(), anyBoolean()))
+        .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+    mockMvc
+        .perform(get("/api/transactions/cursor").param("cursor", "bad"))
+        .andExpect(status().isBadRequest());
   }
 
   @Test
   void testGetTransactionById_Returns200AndTransaction() throws Exception {
     // Arrange
     Long id = 1L;
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(id);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    EntityModel<Transaction> transactionModel = EntityModel.of(transaction);
-    when(transactionService.getTransactionById(eq(testEmail), eq(id))).thenReturn(transaction);
+    EntityModel<TransactionView> transactionModel = EntityModel.of(transaction);
+    when(transactionService.getTransactionById(eq(USER_ID), eq(id))).thenReturn(transaction);
     when(transactionModelAssembler.toModel(transaction)).thenReturn(transactionModel);
 
     // Act & Assert
@@ -228,7 +350,7 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.id").value(id))
         .andExpect(jsonPath("$.amount").value(100.0));
 
-    verify(transactionService, times(1)).getTransactionById(eq(testEmail), eq(id));
+    verify(transactionService, times(1)).getTransactionById(eq(USER_ID), eq(id));
     verify(transactionModelAssembler, times(1)).toModel(eq(transaction));
   }
 
@@ -236,7 +358,7 @@ public class TransactionControllerTest {
   void testGetTransactionById_Returns404WhenNotFound() throws Exception {
     // Arrange
     Long id = 1L;
-    when(transactionService.getTransactionById(eq(testEmail), eq(id)))
+    when(transactionService.getTransactionById(eq(USER_ID), eq(id)))
         .thenThrow(new TransactionNotFoundException(id));
 
     // Act & Assert
@@ -244,17 +366,17 @@ public class TransactionControllerTest {
         .perform(get("/api/transactions/{id}", id).contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isNotFound());
 
-    verify(transactionService, times(1)).getTransactionById(eq(testEmail), eq(id));
+    verify(transactionService, times(1)).getTransactionById(eq(USER_ID), eq(id));
     verify(transactionModelAssembler, never()).toModel(any());
   }
 
   @Test
   void testGetUserTransactionSummary_Returns200AndSummary() throws Exception {
     TransactionSummaryResponse summary = new TransactionSummaryResponse();
-    summary.setCount(23);
+    summary.setCount(23L);
     summary.setEarliest(LocalDate.of(2025, 1, 1));
     summary.setLatest(LocalDate.of(2025, 1, 10));
-    when(transactionService.getTransactionSummaryByTimeFrame(eq(1L), eq("30days")))
+    when(transactionService.getTransactionSummaryByTimeFrame(eq(1L), eq(TimeFrame.LAST_30_DAYS)))
         .thenReturn(summary);
 
     mockMvc
@@ -268,13 +390,23 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.earliest").value("2025-01-01"))
         .andExpect(jsonPath("$.latest").value("2025-01-10"));
 
-    verify(transactionService, times(1)).getTransactionSummaryByTimeFrame(eq(1L), eq("30days"));
-    verify(userService, times(1)).getUserIdByEmail(eq(testEmail));
+    verify(transactionService, times(1))
+        .getTransactionSummaryByTimeFrame(eq(1L), eq(TimeFrame.LAST_30_DAYS));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  void testGetUserTransactionSummary_Returns400ForUnknownTimeFrame() throws Exception {
+    mockMvc
+        .perform(get("/api/transactions/summary").param("timeFrame", "fortnight"))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(transactionService);
   }
 
   @Test
   void testGetCurrentBalance_Returns200AndBalance() throws Exception {
-    when(transactionService.getCurrentBalanceByUser(testEmail))
+    when(transactionService.getCurrentBalanceByUser(USER_ID))
         .thenReturn(BigDecimal.valueOf(1000.0));
 
     mockMvc
@@ -283,7 +415,7 @@ public class TransactionControllerTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$").value(1000.0));
 
-    verify(transactionService, times(1)).getCurrentBalanceByUser(testEmail);
+    verify(transactionService, times(1)).getCurrentBalanceByUser(USER_ID);
   }
 
   @Test
@@ -292,11 +424,11 @@ public class TransactionControllerTest {
     request.setDate(LocalDate.now());
     request.setAmount(BigDecimal.valueOf(100));
     request.setSource(SourceType.MANUAL);
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(1L);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(100));
-    when(transactionService.addTransaction(eq(testEmail), any(TransactionRequest.class)))
+    when(transactionService.addTransaction(eq(USER_ID), any(TransactionRequest.class)))
         .thenReturn(transaction);
 
     mockMvc
@@ -309,8 +441,7 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.id").value(1))
         .andExpect(jsonPath("$.amount").value(100.0));
 
-    verify(transactionService, times(1))
-        .addTransaction(eq(testEmail), any(TransactionRequest.class));
+    verify(transactionService, times(1)).addTransaction(eq(USER_ID), any(TransactionRequest.class));
   }
 
   @Test
@@ -320,11 +451,11 @@ public class TransactionControllerTest {
     request.setDate(LocalDate.now());
     request.setAmount(BigDecimal.valueOf(200));
     request.setSource(SourceType.MANUAL);
-    Transaction transaction = new Transaction();
+    TransactionView transaction = new TransactionView();
     transaction.setId(id);
     transaction.setDate(LocalDate.now());
     transaction.setAmount(BigDecimal.valueOf(200));
-    when(transactionService.updateTransaction(eq(testEmail), eq(id), any(TransactionRequest.class)))
+    when(transactionService.updateTransaction(eq(USER_ID), eq(id), any(TransactionRequest.class)))
         .thenReturn(transaction);
 
     mockMvc
@@ -338,13 +469,13 @@ public class TransactionControllerTest {
         .andExpect(jsonPath("$.amount").value(200.0));
 
     verify(transactionService, times(1))
-        .updateTransaction(eq(testEmail), eq(id), any(TransactionRequest.class));
+        .updateTransaction(eq(USER_ID), eq(id), any(TransactionRequest.class));
   }
 
   @Test
   void testDeleteTransaction_Returns200AndMessage() throws Exception {
     long id = 1L;
-    doNothing().when(transactionService).deleteTransaction(eq(testEmail), eq(id));
+    doNothing().when(transactionService).deleteTransaction(eq(USER_ID), eq(id));
 
     mockMvc
         .perform(delete("/api/transactions/{id}", id))
@@ -352,13 +483,13 @@ public class TransactionControllerTest {
         .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
         .andExpect(content().string("Successfully deleted transaction"));
 
-    verify(transactionService, times(1)).deleteTransaction(eq(testEmail), eq(id));
+    verify(transactionService, times(1)).deleteTransaction(eq(USER_ID), eq(id));
   }
 
   @Test
   void testDeleteMultipleTransactions_Returns200AndMessage() throws Exception {
     List<Long> ids = List.of(1L, 2L);
-    doNothing().when(transactionService).deleteTransactionsById(eq(testEmail), eq(ids));
+    when(transactionService.deleteTransactionsById(eq(USER_ID), eq(ids))).thenReturn(2);
 
     mockMvc
         .perform(
@@ -369,22 +500,59 @@ public class TransactionControllerTest {
         .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
         .andExpect(content().string("Deleted 2 transactions"));
 
-    verify(transactionService, times(1)).deleteTransactionsById(eq(testEmail), eq(ids));
+    verify(transactionService, times(1)).deleteTransactionsById(eq(USER_ID), eq(ids));
+  }
+
+  @Test
+  void testApplyBatch_Returns200AndPerItemResults() throws Exception {
+    TransactionBatchRequest request =
+        new TransactionBatchRequest(
+            List.of(
+                new TransactionBatchOperation(BatchOperationType.DELETE, 5L, null),
+                new TransactionBatchOperation(BatchOperationType.DELETE, 6L, null)));
+    TransactionBatchResponse response =
+        new TransactionBatchResponse(
+            1,
+            1,
+            List.of(
+                new TransactionBatchItemResult(0, BatchOperationType.DELETE, 5L, true, null, null),
+                TransactionBatchItemResult.failed(
+                    1, BatchOperationType.DELETE, 6L, "Transaction not found with ID: 6")));
+    when(transactionBatchService.applyBatch(eq(USER_ID), anyList())).thenReturn(response);
+
+    mockMvc
+        .perform(
+            post("/api/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.results[0].success").value(true))
+        .andExpect(jsonPath("$.results[1].error").value("Transaction not found with ID: 6"));
+
+    verify(transactionBatchService, times(1)).applyBatch(eq(USER_ID), anyList());
+  }
+
+  @Test
+  void testApplyBatch_EmptyOperations_Returns400() throws Exception {
+    when(transactionBatchService.applyBatch(eq(USER_ID), anyList()))
+        .thenThrow(new IllegalArgumentException("Operations must not be null or empty"));
+
+    mockMvc
+        .perform(
+            post("/api/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TransactionBatchRequest(List.of()))))
+        .andExpect(status().isBadRequest());
   }
 
   @Test
   void testImportTransactions_Returns200AndMessage() throws Exception {
     // Arrange
-    Transaction transaction = new Transaction();
-    transaction.setId(1L);
-    transaction.setDate(LocalDate.now());
-    transaction.setAmount(BigDecimal.valueOf(100));
-    List<Transaction> mockTransactions = Collections.singletonList(transaction);
-    User mockUser = new User(testEmail, "testPassword");
-    mockUser.setId(1L);
-    when(userService.getUserByEmail(testEmail)).thenReturn(mockUser);
+    CsvImportSummary mockSummary = new CsvImportSummary(1, 1, 0, 0, 5);
     when(transactionService.importMultipleCSVs(eq(1L), any(MultipartFile.class)))
-        .thenReturn(mockTransactions);
+        .thenReturn(mockSummary);
 
     MockMultipartFile file =
         new MockMultipartFile("files", "test.csv", "text/csv", "sample content".getBytes());
@@ -400,6 +568,15 @@ public class TransactionControllerTest {
         .andExpect(content().string("All CSVs imported successfully"));
 
     verify(transactionService, times(1)).importMultipleCSVs(eq(1L), any(MultipartFile.class));
-    verify(userService, times(1)).getUserByEmail(eq(testEmail));
+    verifyNoInteractions(userService);
+  }
+
+  private void stubExport(TransactionOrder order, ExportFormat format, byte[] content) {
+    when(transactionExportService.export(eq(USER_ID), eq(order), eq(format), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<OutputStream>getArgument(3).write(content);
+              return 1L;
+            });
   }
 }
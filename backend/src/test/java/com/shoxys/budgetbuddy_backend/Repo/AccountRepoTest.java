@@ -2,14 +2,22 @@ package com.shoxys.budgetbuddy_backend.Repo;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -20,6 +28,10 @@ public class AccountRepoTest {
 
   @Autowired private UserRepo userRepo;
 
+  @Autowired private TransactionRepo transactionRepo;
+
+  @Autowired private SavingGoalsRepo savingGoalsRepo;
+
   @Test
   @DisplayName("Should return total balance for user")
   void testFindTotalBalanceByUserId() {
@@ -67,4 +79,189 @@ public class AccountRepoTest {
     // Assert
     assertThat(total).isEqualByComparingTo(BigDecimal.ZERO);
   }
+
+  @Test
+  @DisplayName("Should find account by user and account number")
+  void testFindByUserAndAccountNo() {
+    // Arrange
+    User user = new User();
+    user.setEmail("accno@example.com");
+    user.setHashedPassword("password");
+    userRepo.save(user);
+
+    Account account =
+        new Account(
+            "Everyday", AccountType.SPENDING, 898742253, new BigDecimal("50.00"), false, user);
+    accountRepo.save(account);
+
+    // Act & Assert
+    assertThat(accountRepo.findByUserAndAccountNo(user, 898742253))
+        .get()
+        .extracting(Account::getId)
+        .isEqualTo(account.getId());
+    assertThat(accountRepo.findByUserAndAccountNo(user, 123)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should apply balance delta atomically and refresh the entity")
+  void testApplyBalanceDelta() {
+    // Arrange
+    User user = new User();
+    user.setEmail("delta@example.com");
+    user.setHashedPassword("password");
+    userRepo.save(user);
+
+    Account account = new Account();
+    account.setUser(user);
+    account.setName("Spending Account");
+    account.setBalance(new BigDecimal("100.00"));
+    account.setType(AccountType.SPENDING);
+    accountRepo.save(account);
+
+    // Act
+    accountRepo.applyBalanceDelta(account, new BigDecimal("-30.00"));
+    BigDecimal balance = accountRepo.applyBalanceDelta(account, new BigDecimal("5.50"));
+
+    // Assert
+    assertThat(balance).isEqualByComparingTo(new BigDecimal("75.50"));
+    assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("75.50"));
+    assertThat(accountRepo.findById(account.getId()).orElseThrow().getBalance())
+        .isEqualByComparingTo(new BigDecimal("75.50"));
+  }
+
+  @Test
+  @DisplayName("Should reject a balance delta that would make the balance negative")
+  void testApplyNonNegativeBalanceDelta() {
+    // Arrange
+    User user = userRepo.save(new User("overdraw@example.com", "password"));
+    Account account =
+        accountRepo.save(
+            new Account(
+                "Spending", AccountType.SPENDING, null, new BigDecimal("40.00"), true, user));
+
+    // Act
+    Optional<BigDecimal> drained =
+        accountRepo.applyNonNegativeBalanceDelta(account, new BigDecimal("-40.00"));
+    Optional<BigDecimal> overdrawn =
+        accountRepo.applyNonNegativeBalanceDelta(account, new BigDecimal("-0.01"));
+
+    // Assert
+    assertThat(drained).hasValueSatisfying(b -> assertThat(b).isEqualByComparingTo("0.00"));
+    assertThat(overdrawn).isEmpty();
+    assertThat(accountRepo.findById(account.getId()).orElseThrow().getBalance())
+        .isEqualByComparingTo("0.00");
+  }
+
+  @Test
+  @DisplayName("Should keep balance checks consistent after back-dated adds and non-latest deletes")
+  void testFindTransactionBalanceChecksAfterDeltaWrites() {
+    // Arrange: an account anchored at 100 with three transactions written as deltas
+    User user = userRepo.save(new User("checks@example.com", "password"));
+    Account account =
+        accountRepo.save(
+            new Account(
+                "Spending", AccountType.SPENDING, null, new BigDecimal("100.00"), true, user));
+    Transaction first = addWithDelta(account, LocalDate.of(2025, 6, 1), "-20.00");
+    addWithDelta(account, LocalDate.of(2025, 6, 10), "50.00");
+    // Back-dated add: the latest row's balance snapshot no longer matches the account balance
+    addWithDelta(account, LocalDate.of(2025, 5, 15), "-5.00");
+    // Non-latest delete
+    transactionRepo.delete(first);
+    accountRepo.applyBalanceDelta(account, first.getAmount().negate());
+    Account unanchored =
+        accountRepo.save(
+            new Account("Savings", AccountType.SAVINGS, null, new BigDecimal("10.00"), true, user));
+    accountRepo.applyBalanceDelta(unanchored, new BigDecimal("1.00"));
+
+    // Act
+    List<AccountBalanceCheck> checks =
+        accountRepo.findTransactionBalanceChecks(
+            0L, AccountType.GOALSAVINGS, PageRequest.of(0, 10));
+
+    // Assert
+    assertThat(checks)
+        .extracting(AccountBalanceCheck::getAccountId)
+        .containsExactly(account.getId(), unanchored.getId());
+    assertThat(checks.get(0).isConsistent()).isTrue();
+    assertThat(checks.get(0).getExpectedBalance()).isEqualByComparingTo("145.00");
+    assertThat(checks.get(1).isConsistent()).isFalse();
+    assertThat(
+            accountRepo.findTransactionBalanceChecks(
+                account.getId(), AccountType.GOALSAVINGS, PageRequest.of(0, 10)))
+        .extracting(AccountBalanceCheck::getAccountId)
+        .containsExactly(unanchored.getId());
+  }
+
+  @Test
+  @DisplayName("Should derive goal savings balances from the owner's goals")
+  void testFindGoalSavingsBalanceChecks() {
+    // Arrange
+    User user = userRepo.save(new User("goalchecks@example.com", "password"));
+    Account goals =
+        accountRepo.save(
+            new Account(
+                "Goal Savings",
+                AccountType.GOALSAVINGS,
+                null,
+                new BigDecimal("70.00"),
+                true,
+                user));
+    for (String contributed : List.of("30.00", "40.00")) {
+      savingGoalsRepo.save(
+          new SavingGoal(
+              "Goal " + contributed,
+              new BigDecimal("100.00"),
+              new BigDecimal(contributed),
+              LocalDate.of(2026, 1, 1),
+              null,
+              goals,
+              user));
+    }
+
+    // Act
+    List<AccountBalanceCheck> checks =
+        accountRepo.findGoalSavingsBalanceChecks(
+            0L, AccountType.GOALSAVINGS, PageRequest.of(0, 10));
+
+    // Assert
+    assertThat(checks).hasSize(1);
+    assertThat(checks.get(0).getExpectedBalance()).isEqualByComparingTo("70.00");
+    assertThat(checks.get(0).isConsistent()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should repair a balance only if it is unchanged since the check")
+  void testRepairBalance() {
+    // Arrange
+    User user = userRepo.save(new User("repair@example.com", "password"));
+    Account account =
+        accountRepo.save(
+            new Account(
+                "Spending", AccountType.SPENDING, null, new BigDecimal("80.00"), true, user));
+
+    // Act & Assert
+    assertThat(
+            accountRepo.repairBalance(
+                account.getId(), new BigDecimal("75.00"), new BigDecimal("60.00")))
+        .isZero();
+    assertThat(
+            accountRepo.repairBalance(
+                account.getId(), new BigDecimal("80.00"), new BigDecimal("60.00")))
+        .isEqualTo(1);
+  }
+
+  private Transaction addWithDelta(Account account, LocalDate date, String amount) {
+    BigDecimal balance = accountRepo.applyBalanceDelta(account, new BigDecimal(amount));
+    return transactionRepo.save(
+        new Transaction(
+            date,
+            new BigDecimal(amount),
+            "Manual " + amount,
+            "Other",
+            null,
+            balance,
+            SourceType.MANUAL,
+            account,
+            account.getUser()));
+  }
 }
@@ -0,0 +1,131 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionMismatch;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.GoalContribution;
+import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+class GoalContributionRepoTest {
+
+  @Autowired private GoalContributionRepo goalContributionRepo;
+
+  @Autowired private SavingGoalsRepo savingGoalsRepo;
+
+  @Autowired private AccountRepo accountRepo;
+
+  @Autowired private UserRepo userRepo;
+
+  @Autowired private TestEntityManager entityManager;
+
+  private User user;
+  private Account account;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepo.save(new User("ledger@example.com", "secret123"));
+    account =
+        accountRepo.save(
+            new Account(
+                "Goal Savings", AccountType.GOALSAVINGS, null, BigDecimal.ZERO, true, user));
+  }
+
+  @Test
+  void testFindHistoryBeforePagesNewestFirst() {
+    SavingGoal goal = saveGoal("Car", 60);
+    SavingGoal other = saveGoal("Trip", 5);
+    GoalContribution first = saveEntry(goal, 10, ContributionType.INITIAL);
+    GoalContribution second = saveEntry(goal, 20, ContributionType.CONTRIBUTION);
+    GoalContribution third = saveEntry(goal, 30, ContributionType.CONTRIBUTION);
+    saveEntry(other, 5, ContributionType.INITIAL);
+
+    List<GoalContributionView> firstPage =
+        goalContributionRepo.findHistoryBefore(goal.getId(), Long.MAX_VALUE, PageRequest.of(0, 2));
+    List<GoalContributionView> secondPage =
+        goalContributionRepo.findHistoryBefore(
+            goal.getId(), firstPage.get(1).getId(), PageRequest.of(0, 2));
+
+    assertThat(firstPage)
+        .extracting(GoalContributionView::getId)
+        .containsExactly(third.getId(), second.getId());
+    assertThat(firstPage.get(0).getAmount()).isEqualByComparingTo("30");
+    assertThat(firstPage.get(0).getType()).isEqualTo(ContributionType.CONTRIBUTION);
+    assertThat(secondPage).extracting(GoalContributionView::getId).containsExactly(first.getId());
+    assertThat(secondPage.get(0).getType()).isEqualTo(ContributionType.INITIAL);
+  }
+
+  @Test
+  void testFindContributionMismatchesReturnsOnlyDisagreeingGoals() {
+    SavingGoal matching = saveGoal("Matching", 30);
+    saveEntry(matching, 50, ContributionType.INITIAL);
+    saveEntry(matching, -20, ContributionType.RESET);
+    SavingGoal drifted = saveGoal("Drifted", 75);
+    saveEntry(drifted, 50, ContributionType.INITIAL);
+    SavingGoal unrecorded = saveGoal("Unrecorded", 40);
+    saveGoal("Empty", 0);
+
+    List<ContributionMismatch> mismatches = goalContributionRepo.findContributionMismatches();
+
+    assertThat(mismatches)
+        .extracting(ContributionMismatch::getGoalId)
+        .containsExactlyInAnyOrder(drifted.getId(), unrecorded.getId());
+    ContributionMismatch driftedMismatch =
+        mismatches.stream().filter(m -> m.getGoalId().equals(drifted.getId())).findFirst().get();
+    assertThat(driftedMismatch.getDifference()).isEqualByComparingTo("25");
+    ContributionMismatch unrecordedMismatch =
+        mismatches.stream().filter(m -> m.getGoalId().equals(unrecorded.getId())).findFirst().get();
+    assertThat(unrecordedMismatch.getLedgerTotal()).isEqualByComparingTo("0");
+    assertThat(unrecordedMismatch.getDifference()).isEqualByComparingTo("40");
+  }
+
+  @Test
+  void testDeletingGoalDeletesItsEntries() {
+    SavingGoal goal = saveGoal("Car", 30);
+    SavingGoal other = saveGoal("Trip", 5);
+    saveEntry(goal, 10, ContributionType.INITIAL);
+    saveEntry(goal, 20, ContributionType.CONTRIBUTION);
+    saveEntry(other, 5, ContributionType.INITIAL);
+    entityManager.flush();
+    entityManager.clear();
+
+    savingGoalsRepo.deleteById(goal.getId());
+    entityManager.flush();
+
+    assertThat(goalContributionRepo.count()).isEqualTo(1);
+  }
+
+  private SavingGoal saveGoal(String title, int contributed) {
+    return savingGoalsRepo.save(
+        new SavingGoal(
+            title,
+            BigDecimal.valueOf(1000),
+            BigDecimal.valueOf(contributed),
+            LocalDate.now().plusMonths(6),
+            null,
+            account,
+            user));
+  }
+
+  private GoalContribution saveEntry(SavingGoal goal, int amount, ContributionType type) {
+    return goalContributionRepo.save(
+        new GoalContribution(goal, BigDecimal.valueOf(amount), type, Instant.now()));
+  }
+}
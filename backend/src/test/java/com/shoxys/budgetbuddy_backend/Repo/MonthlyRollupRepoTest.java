@@ -0,0 +1,157 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.ExpenseAnalysis;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.MonthlyRollup;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Services.MonthlyRollupService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MonthlyRollupService.class)
+public class MonthlyRollupRepoTest {
+
+  @Autowired private MonthlyRollupRepo monthlyRollupRepo;
+
+  @Autowired private MonthlyRollupService monthlyRollupService;
+
+  @Autowired private TransactionRepo transactionRepo;
+
+  @Autowired private UserRepo userRepo;
+
+  @Autowired private AccountRepo accountRepo;
+
+  private User user;
+  private Account spending;
+  private Account savings;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepo.save(new User("rollup@example.com", "secret123"));
+    spending =
+        accountRepo.save(
+            new Account("Spending", AccountType.SPENDING, null, BigDecimal.ZERO, true, user));
+    savings =
+        accountRepo.save(
+            new Account("Savings", AccountType.SAVINGS, null, BigDecimal.ZERO, true, user));
+  }
+
+  @Test
+  void testApplyDeltasAccumulatesAndRemovesEmptyRows() {
+    LocalDate march = LocalDate.of(2025, 3, 14);
+    monthlyRollupRepo.applyDeltas(
+        List.of(MonthlyRollupDelta.of(user.getId(), march, "Groceries", true, bd(-20))));
+    monthlyRollupRepo.applyDeltas(
+        List.of(
+            MonthlyRollupDelta.of(user.getId(), march.plusDays(3), "Groceries", true, bd(-5)),
+            MonthlyRollupDelta.of(user.getId(), march, "Salary", true, bd(100))));
+
+    List<MonthlyRollup> rows = rollupsByCategory();
+    assertEquals(2, rows.size());
+    assertEquals(LocalDate.of(2025, 3, 1), rows.get(0).getMonthStart());
+    assertThat(rows.get(0).getDebitSum()).isEqualByComparingTo(bd(-25));
+    assertEquals(2, rows.get(0).getTransactionCount());
+
+    monthlyRollupRepo.applyDeltas(
+        List.of(MonthlyRollupDelta.of(user.getId(), march, "Salary", true, bd(100)).negate()));
+
+    assertThat(rollupsByCategory())
+        .extracting(MonthlyRollup::getCategory)
+        .containsExactly("Groceries");
+  }
+
+  @Test
+  void testRebuildMatchesTransactionsAndServesDashboardReads() {
+    saveTransaction(LocalDate.of(2025, 3, 2), 500, "Salary", spending);
+    saveTransaction(LocalDate.of(2025, 3, 9), -40, "Groceries", spending);
+    saveTransaction(LocalDate.of(2025, 3, 31), -10, "Groceries", spending);
+    saveTransaction(LocalDate.of(2025, 3, 20), 200, "Interest", savings);
+    saveTransaction(LocalDate.of(2025, 4, 1), -300, "Internal Transfer", spending);
+    saveTransaction(LocalDate.of(2025, 4, 2), -60, "Dining", savings);
+
+    assertEquals(5, monthlyRollupService.rebuild(user.getId()));
+
+    List<Object[]> march =
+        monthlyRollupRepo.sumByMonthAndSpending(
+            user.getId(), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1));
+    assertEquals(2, march.size());
+    for (Object[] row : march) {
+      boolean isSpending = (Boolean) row[1];
+      assertThat((BigDecimal) row[2]).isEqualByComparingTo(bd(isSpending ? 500 : 200));
+      assertThat((BigDecimal) row[3]).isEqualByComparingTo(bd(isSpending ? -50 : 0));
+    }
+
+    List<Object[]> credits =
+        monthlyRollupRepo.sumCreditByMonth(
+            user.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+    assertEquals(2, credits.size());
+    assertEquals(LocalDate.of(2025, 3, 1), credits.get(0)[0]);
+    assertThat((BigDecimal) credits.get(0)[1]).isEqualByComparingTo(bd(700));
+
+    List<ExpenseAnalysis> expenses =
+        monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(user.getId());
+    assertThat(expenses)
+        .extracting(ExpenseAnalysis::getLabel)
+        .containsExactly("Dining", "Groceries");
+    assertThat(expenses.get(1).getValue()).isEqualByComparingTo(bd(-50));
+  }
+
+  @Test
+  void testRecordRemovedByIdsSubtractsDeletedTransactions() {
+    Transaction kept = saveTransaction(LocalDate.of(2025, 5, 3), -15, "Groceries", spending);
+    Transaction deleted = saveTransaction(LocalDate.of(2025, 5, 4), -35, "Groceries", spending);
+    Transaction other = saveTransaction(LocalDate.of(2025, 6, 4), -8, "Coffee", spending);
+    monthlyRollupService.recordAdded(List.of(kept, deleted, other));
+
+    monthlyRollupService.recordRemoved(List.of(deleted.getId(), other.getId()), user);
+
+    List<MonthlyRollup> rows = rollupsByCategory();
+    assertEquals(1, rows.size());
+    assertThat(rows.get(0).getDebitSum()).isEqualByComparingTo(bd(-15));
+    assertEquals(1, rows.get(0).getTransactionCount());
+  }
+
+  private Transaction saveTransaction(
+      LocalDate date, long amount, String category, Account account) {
+    return transactionRepo.save(
+        new Transaction(
+            date,
+            bd(amount),
+            category + " " + date,
+            category,
+            null,
+            BigDecimal.ZERO,
+            SourceType.MANUAL,
+            account,
+            user));
+  }
+
+  private List<MonthlyRollup> rollupsByCategory() {
+    return monthlyRollupRepo.findAll().stream()
+        .sorted(Comparator.comparing(MonthlyRollup::getCategory))
+        .toList();
+  }
+
+  private static BigDecimal bd(long value) {
+    return BigDecimal.valueOf(value);
+  }
+}
@@ -1,7 +1,10 @@
 package com.shoxys.budgetbuddy_backend.Repo;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
 import com.shoxys.budgetbuddy_backend.Entities.User;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +33,8 @@ class SavingGoalsRepoTest {
 
   @Autowired private AccountRepo accountRepo;
 
+  @Autowired private TestEntityManager entityManager;
+
   private User user;
   private Account account;
 
@@ -93,8 +99,9 @@ class SavingGoalsRepoTest {
             user);
     savingGoalsRepo.save(pending);
 
-    List<SavingGoal> result = savingGoalsRepo.findPendingSavingGoalsForUser(user);
-    assertThat(result).contains(pending);
+    List<SavingGoalView> result = savingGoalsRepo.findPendingSavingGoalsForUser(user);
+    assertThat(result).extracting(SavingGoalView::getId).containsExactly(pending.getId());
+    assertThat(result.getFirst().getAccountId()).isEqualTo(account.getId());
   }
 
   @Test
@@ -110,68 +117,58 @@ class SavingGoalsRepoTest {
             user);
     savingGoalsRepo.save(completed);
 
-    List<SavingGoal> result = savingGoalsRepo.findCompletedSavingGoalsForUser(user);
-    assertThat(result).contains(completed);
-  }
-
-  @Test
-  void testFindCountCompletedSavingGoalsByUser() {
-    SavingGoal g1 =
-        new SavingGoal(
-            "Done",
-            BigDecimal.valueOf(300),
-            BigDecimal.valueOf(300),
-            LocalDate.now(),
-            null,
-            account,
-            user);
-    SavingGoal g2 =
-        new SavingGoal(
-            "Not Done",
-            BigDecimal.valueOf(400),
-            BigDecimal.valueOf(100),
-            LocalDate.now(),
-            null,
-            account,
-            user);
-    savingGoalsRepo.saveAll(List.of(g1, g2));
-
-    int count = savingGoalsRepo.findCountCompletedSavingGoalsByUser(user);
-    assertThat(count).isEqualTo(1);
+    List<SavingGoalView> result = savingGoalsRepo.findCompletedSavingGoalsForUser(user);
+    assertThat(result).extracting(SavingGoalView::getId).containsExactly(completed.getId());
   }
 
   @Test
-  void testFindCountInProgressSavingGoalsByUser() {
-    SavingGoal g =
-        new SavingGoal(
-            "In Progress",
-            BigDecimal.valueOf(300),
-            BigDecimal.valueOf(100),
-            LocalDate.now(),
-            null,
-            account,
-            user);
-    savingGoalsRepo.save(g);
-
-    int count = savingGoalsRepo.findCountInProgressSavingGoalsByUser(user);
-    assertThat(count).isEqualTo(1);
+  void testSummarizeSavingGoalsByUser() {
+    savingGoalsRepo.saveAll(
+        List.of(
+            new SavingGoal(
+                "Completed",
+                BigDecimal.valueOf(200),
+                BigDecimal.valueOf(250),
+                LocalDate.now().minusDays(5),
+                null,
+                account,
+                user),
+            new SavingGoal(
+                "Overdue",
+                BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(200),
+                LocalDate.now().minusDays(10),
+                null,
+                account,
+                user),
+            new SavingGoal(
+                "In Progress",
+                BigDecimal.valueOf(400),
+                BigDecimal.valueOf(100),
+                LocalDate.now().plusDays(30),
+                null,
+                account,
+                user)));
+
+    GoalStatsSummary summary = savingGoalsRepo.summarizeSavingGoalsByUser(user);
+
+    assertThat(summary.getTotalCount()).isEqualTo(3);
+    assertThat(summary.getCompletedCount()).isEqualTo(1);
+    assertThat(summary.getInProgressCount()).isEqualTo(2);
+    assertThat(summary.getOverdueCount()).isEqualTo(1);
+    assertThat(summary.getTotalTarget()).isEqualByComparingTo("1600");
+    assertThat(summary.getTotalContributed()).isEqualByComparingTo("550");
+    assertThat(summary.getAverageProgress()).isCloseTo(0.483, within(0.001));
   }
 
   @Test
-  void testFindCountOverdueSavingGoalsByUser() {
-    SavingGoal overdue =
-        new SavingGoal(
-            "Overdue",
-            BigDecimal.valueOf(1000),
-            BigDecimal.valueOf(200),
-            LocalDate.now().minusDays(10),
-            null,
-            account,
-            user);
-    savingGoalsRepo.save(overdue);
+  void testSummarizeSavingGoalsByUserWithoutGoals() {
+    GoalStatsSummary summary = savingGoalsRepo.summarizeSavingGoalsByUser(user);
 
-    int count = savingGoalsRepo.findCountOverdueSavingGoalsByUser(user);
-    assertThat(count).isEqualTo(1);
+    assertThat(summary.getTotalCount()).isZero();
+    assertThat(summary.getCompletedCount()).isZero();
+    assertThat(summary.getTotalTarget()).isEqualByComparingTo("0");
+    assertThat(summary.getAverageProgress()).isZero();
   }
 
   @Test
@@ -215,30 +212,41 @@ class SavingGoalsRepoTest {
             user);
     savingGoalsRepo.save(goal);
 
-    savingGoalsRepo.updateSavingGoalContribution(user, goal.getId(), BigDecimal.valueOf(50));
+    int updatedCount =
+        savingGoalsRepo.updateSavingGoalContribution(user, goal.getId(), BigDecimal.valueOf(50));
+    entityManager.clear();
     Optional<SavingGoal> updated = savingGoalsRepo.findById(goal.getId());
 
     assertThat(updated).isPresent();
     assertThat(updated.get().getContributed()).isEqualByComparingTo("250");
+    assertThat(updatedCount).isEqualTo(1);
+    assertThat(
+            savingGoalsRepo.updateSavingGoalContribution(
+                user, goal.getId() + 1000, BigDecimal.valueOf(50)))
+        .isZero();
   }
 
   @Test
-  void testDeleteSavingGoalByIdAndUser() {
+  void testFindLockedSavingGoalByIdAndUser() {
     SavingGoal goal =
         new SavingGoal(
-            "To Delete",
+            "Lock Me",
             BigDecimal.valueOf(100),
-            BigDecimal.ZERO,
+            BigDecimal.valueOf(40),
             LocalDate.now(),
             null,
             account,
             user);
     savingGoalsRepo.save(goal);
+    entityManager.flush();
+    entityManager.clear();
 
-    savingGoalsRepo.deleteSavingGoalByIdAndUser(goal.getId(), user);
-    Optional<SavingGoal> deleted = savingGoalsRepo.findById(goal.getId());
-
-    assertThat(deleted).isEmpty();
+    Optional<SavingGoal> result =
+        savingGoalsRepo.findLockedSavingGoalByIdAndUser(goal.getId(), user);
+    assertThat(result).isPresent();
+    assertThat(result.get().getContributed()).isEqualByComparingTo("40");
+    assertThat(savingGoalsRepo.findLockedSavingGoalByIdAndUser(goal.getId() + 1000, user))
+        .isEmpty();
   }
 
   @Test
@@ -0,0 +1,517 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.shoxys.budgetbuddy_backend.Config.SchemaMigrationConfig;
+import com.shoxys.budgetbuddy_backend.Config.SchemaMigrator;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Builds the schema from the versioned migrations, lets Hibernate validate the entities against it,
+ * and checks that every repository query is served by an index on a seeded database. The plans are
+ * taken from the statements the repositories actually send, recorded at the data source.
+ */
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SchemaMigrationConfig.class, SchemaMigrationTest.StatementRecordingConfig.class})
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:migrationdb;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "schema.migration.enabled=true"
+    })
+public class SchemaMigrationTest {
+  private static final int SEEDED_TRANSACTIONS = 2000;
+  private static final LocalDate FEB = LocalDate.of(2024, 2, 1);
+  private static final LocalDate MARCH = LocalDate.of(2024, 3, 1);
+  private static final LocalDate APRIL = LocalDate.of(2024, 4, 1);
+  private static final List<Long> IDS = List.of(1L, 3L, 5L);
+
+  /** Batch writers that only insert, so they have no lookup to check. */
+  private static final Set<String> INSERT_ONLY = Set.of("batchInsert", "batchInsertReturningIds");
+
+  /**
+   * Queries that read every row by design: the rollup rebuild walks all users and the nightly
+   * reconciliation compares every goal with its ledger.
+   */
+  private static final Set<String> FULL_SCANS = Set.of("findAllIds", "findContributionMismatches");
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private SchemaMigrator schemaMigrator;
+  @Autowired private DataSource dataSource;
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private AccountRepo accountRepo;
+  @Autowired private GoalContributionRepo goalContributionRepo;
+  @Autowired private MonthlyRollupRepo monthlyRollupRepo;
+  @Autowired private SavingGoalsRepo savingGoalsRepo;
+  @Autowired private SpendingInsightCacheRepo spendingInsightCacheRepo;
+  @Autowired private TransactionRepo transactionRepo;
+  @Autowired private UserRepo userRepo;
+
+  @BeforeEach
+  void seed() {
+    if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class) > 0) {
+      return;
+    }
+    jdbcTemplate.update(
+        "INSERT INTO users (id, email, hashed_password) VALUES (1, 'a@example.com', 'x'),"
+            + " (2, 'b@example.com', 'x')");
+    jdbcTemplate.update(
+        "INSERT INTO accounts (id, account_no, balance, is_manual, user_id, name, type) VALUES"
+            + " (1, 1001, 100, 0, 1, 'Spending', 'SPENDING'),"
+            + " (2, 1002, 200, 0, 2, 'Spending', 'SPENDING'),"
+            + " (3, NULL, 50, 1, 1, 'Goal Savings', 'GOALSAVINGS')");
+    jdbcTemplate.update(
+        "INSERT INTO saving_goals (contributed, date, target, account_id, user_id, title) VALUES"
+            + " (10, DATE '2025-12-01', 100, 3, 1, 'Trip'),"
+            + " (40, DATE '2025-12-01', 100, 3, 1, 'Laptop')");
+    List<Object[]> rows = new ArrayList<>();
+    LocalDate start = LocalDate.of(2024, 1, 1);
+    for (int i = 0; i < SEEDED_TRANSACTIONS; i++) {
+      long user = i % 2 + 1;
+      rows.add(
+          new Object[] {
+            Date.valueOf(start.plusDays(i / 4)),
+            i % 3 == 0 ? 250 : -12.5,
+            "Row " + i,
+            "Category " + (i % 7),
+            1000 + i,
+            "CSV",
+            Integer.toHexString(i),
+            user,
+            user
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO transactions (date, amount, description, category, balance_at_transaction,"
+            + " source, fingerprint, account_id, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        rows);
+    List<Object[]> rollups = new ArrayList<>();
+    for (int month = 0; month < 18; month++) {
+      for (int category = 0; category < 7; category++) {
+        for (long user = 1; user <= 2; user++) {
+          rollups.add(
+              new Object[] {
+                user, Date.valueOf(start.plusMonths(month)), "Category " + category, true, 250, -50
+              });
+        }
+      }
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO monthly_rollups (user_id, month_start, category, spending, credit_sum,"
+            + " debit_sum, transaction_count) VALUES (?, ?, ?, ?, ?, ?, 10)",
+        rollups);
+    jdbcTemplate.execute("ANALYZE");
+  }
+
+  @Test
+  void migrationsAreRecordedAndNotReapplied() {
+    List<Integer> versions =
+        jdbcTemplate.queryForList(
+            "SELECT version FROM schema_version ORDER BY version", Integer.class);
+
+    assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9), versions);
+    assertEquals(0, schemaMigrator.migrate());
+  }
+
+  @Test
+  void migrationLeavesRollupBackfillPending() {
+    assertEquals(
+        1,
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM data_backfills WHERE name = 'monthly_rollups'"
+                + " AND completed_on IS NULL",
+            Integer.class));
+  }
+
+  @Test
+  void migrationAdoptsColumnsAndIndexesCreatedByHibernate() {
+    SimpleDriverDataSource dataSource =
+        new SimpleDriverDataSource(
+            new org.h2.Driver(), "jdbc:h2:mem:adoptdb;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate adoptTemplate = new JdbcTemplate(dataSource);
+    SchemaMigrator migrator = new SchemaMigrator(dataSource, "classpath:db/migration/");
+    migrator.migrate();
+    // A database that already has V2's column and index but has not recorded V2.
+    adoptTemplate.update("DELETE FROM schema_version WHERE version = 2");
+
+    assertEquals(1, migrator.migrate());
+    assertEquals(
+        1,
+        adoptTemplate.queryForObject(
+            "SELECT COUNT(*) FROM schema_version WHERE version = 2", Integer.class));
+  }
+
+  @Test
+  void explainReportsTableScanForUnindexedFilter() {
+    assertThat(explain("SELECT * FROM transactions WHERE description = ?")).contains("tableScan");
+  }
+
+  @Test
+  void calendarAggregatesSeekOnDateRange() {
+    String dateRangeSeek = "IDX_TRANSACTIONS_USER_DATE: DATE >= ?2";
+
+    assertThat(
+            explainAll(record(t -> t.transactionRepo.getSpendingCreditBetween(1L, MARCH, APRIL))))
+        .allSatisfy(plan -> assertThat(plan).contains(dateRangeSeek));
+    assertThat(
+            explainAll(
+                record(
+                    t ->
+                        t.transactionRepo.getMonthlyIncomeBetween(
+                            1L, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))))
+        .allSatisfy(plan -> assertThat(plan).contains(dateRangeSeek));
+    assertThat(
+            explain(
+                "SELECT MONTH(t.date), SUM(t.amount) FROM transactions t WHERE t.amount > 0"
+                    + " AND t.user_id = ? AND YEAR(t.date) = ? GROUP BY MONTH(t.date)"))
+        .doesNotContain("IDX_TRANSACTIONS_USER_DATE: DATE >=");
+  }
+
+  /**
+   * Runs a repository method on the seeded database and explains every statement it sent, so the
+   * plans checked are those of the SQL Hibernate and the JDBC fragments actually generate.
+   */
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("repositoryCalls")
+  void repositoryQueryUsesIndex(String name, RepositoryCall call) {
+    List<String> statements = record(call);
+    List<String> explained = statements.stream().filter(SchemaMigrationTest::isExplained).toList();
+
+    assertThat(explained).as(name + " sent no query; recorded: " + statements).isNotEmpty();
+    for (String sql : explained) {
+      String plan = explain(sql);
+      assertThat(plan).as(name + " plan:\n" + plan).isNotEmpty();
+      if (!FULL_SCANS.contains(name)) {
+        assertThat(plan).as(name + " plan:\n" + plan).doesNotContain("tableScan");
+      }
+    }
+  }
+
+  @Test
+  void everyRepositoryQueryMethodIsExplained() {
+    Set<String> covered =
+        repositoryCalls().map(call -> (String) call.get()[0]).collect(Collectors.toSet());
+
+    assertThat(covered).containsAll(repositoryQueryMethods());
+  }
+
+  private List<String> record(RepositoryCall call) {
+    entityManager.flush();
+    entityManager.clear();
+    recorder().drain();
+    call.run(this);
+    entityManager.flush();
+    return recorder().drain();
+  }
+
+  private List<String> explainAll(List<String> statements) {
+    return statements.stream().filter(SchemaMigrationTest::isExplained).map(this::explain).toList();
+  }
+
+  private String explain(String sql) {
+    return String.join(
+        "\n",
+        jdbcTemplate.query(
+            connection -> connection.prepareStatement("EXPLAIN " + sql),
+            (rs, rowNum) -> rs.getString(1)));
+  }
+
+  private StatementRecordingDataSource recorder() {
+    return (StatementRecordingDataSource) dataSource;
+  }
+
+  private static boolean isExplained(String sql) {
+    String verb = sql.stripLeading().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+    return verb.equals("select") || verb.equals("update") || verb.equals("delete");
+  }
+
+  /**
+   * Returns the name of every query method declared by the application's repositories and their
+   * custom fragments, apart from the insert-only batch writers.
+   */
+  private static Set<String> repositoryQueryMethods() {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false) {
+          @Override
+          protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+            return beanDefinition.getMetadata().isInterface();
+          }
+        };
+    scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+    Set<String> methods = new TreeSet<>();
+    for (BeanDefinition definition :
+        scanner.findCandidateComponents(TransactionRepo.class.getPackageName())) {
+      Class<?> repository =
+          ClassUtils.resolveClassName(
+              definition.getBeanClassName(), SchemaMigrationTest.class.getClassLoader());
+      Stream.concat(
+              Stream.of(repository),
+              Arrays.stream(repository.getInterfaces())
+                  .filter(type -> type.getPackage().equals(repository.getPackage())))
+          .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+          .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+          .map(Method::getName)
+          .filter(name -> !INSERT_ONLY.contains(name))
+          .forEach(methods::add);
+    }
+    return methods;
+  }
+
+  static Stream<Arguments> repositoryCalls() {
+    return Stream.of(
+        call("findTotalBalanceByUserId", t -> t.accountRepo.findTotalBalanceByUserId(1L)),
+        call(
+            "findAccountsTypeNameBalanceByUserId",
+            t -> t.accountRepo.findAccountsTypeNameBalanceByUserId(1L)),
+        call(
+            "findAccountsNameBalanceByUserId",
+            t -> t.accountRepo.findAccountsNameBalanceByUserId(1L)),
+        call("findAccountsByUser", t -> t.accountRepo.findAccountsByUser(t.user())),
+        call("findByIdAndUser", t -> t.accountRepo.findByIdAndUser(1L, t.user())),
+        call(
+            "findAccountByUserAndType",
+            t -> t.accountRepo.findAccountByUserAndType(t.user(), AccountType.SPENDING)),
+        call(
+            "findByUserAndNameAndType",
+            t ->
+                t.accountRepo.findByUserAndNameAndType(t.user(), "Spending", AccountType.SPENDING)),
+        call("findByUserAndAccountNo", t -> t.accountRepo.findByUserAndAccountNo(t.user(), 1001)),
+        call(
+            "findTransactionBalanceChecks",
+            t ->
+                t.accountRepo.findTransactionBalanceChecks(
+                    0L, AccountType.GOALSAVINGS, PageRequest.of(0, 500))),
+        call(
+            "findGoalSavingsBalanceChecks",
+            t ->
+                t.accountRepo.findGoalSavingsBalanceChecks(
+                    0L, AccountType.GOALSAVINGS, PageRequest.of(0, 500))),
+        call(
+            "repairBalance",
+            t -> t.accountRepo.repairBalance(1L, BigDecimal.valueOf(100), BigDecimal.TEN)),
+        call(
+            "applyBalanceDelta", t -> t.accountRepo.applyBalanceDelta(t.account(), BigDecimal.ONE)),
+        call(
+            "applyNonNegativeBalanceDelta",
+            t -> t.accountRepo.applyNonNegativeBalanceDelta(t.account(), BigDecimal.ONE.negate())),
+        call(
+            "findHistoryBefore",
+            t -> t.goalContributionRepo.findHistoryBefore(1L, 40L, PageRequest.of(0, 21))),
+        call(
+            "findContributionMismatches", t -> t.goalContributionRepo.findContributionMismatches()),
+        call(
+            "sumByMonthAndSpending",
+            t -> t.monthlyRollupRepo.sumByMonthAndSpending(1L, FEB, APRIL)),
+        call(
+            "sumCreditByMonth",
+            t ->
+                t.monthlyRollupRepo.sumCreditByMonth(
+                    1L, LocalDate.of(2024, 1, 1), LocalDate.of(2026, 1, 1))),
+        call(
+            "findTop5ExpenseCategoriesByAmount",
+            t -> t.monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(1L)),
+        call("deleteAllByUserId", t -> t.monthlyRollupRepo.deleteAllByUserId(1L)),
+        call(
+            "applyDeltas",
+            t ->
+                t.monthlyRollupRepo.applyDeltas(
+                    List.of(
+                        new MonthlyRollupDelta(
+                            1L,
+                            MARCH,
+                            "Category 0",
+                            true,
+                            BigDecimal.ZERO,
+                            BigDecimal.valueOf(-5),
+                            -1)))),
+        call(
+            "findTop3ByUser_IdOrderByTargetDesc",
+            t -> t.savingGoalsRepo.findTop3ByUser_IdOrderByTargetDesc(1L)),
+        call(
+            "findSavingGoalByIdAndUser",
+            t -> t.savingGoalsRepo.findSavingGoalByIdAndUser(1L, t.user())),
+        call(
+            "findTitleForSavingGoalByIdAndUser",
+            t -> t.savingGoalsRepo.findTitleForSavingGoalByIdAndUser(1L, t.user())),
+        call(
+            "findLockedSavingGoalByIdAndUser",
+            t -> t.savingGoalsRepo.findLockedSavingGoalByIdAndUser(1L, t.user())),
+        call(
+            "updateSavingGoalContribution",
+            t -> t.savingGoalsRepo.updateSavingGoalContribution(t.user(), 1L, BigDecimal.ONE)),
+        call("sumContributionsByUser", t -> t.savingGoalsRepo.sumContributionsByUser(t.user())),
+        call(
+            "summarizeSavingGoalsByUser",
+            t -> t.savingGoalsRepo.summarizeSavingGoalsByUser(t.user())),
+        call(
+            "findPendingSavingGoalsForUser",
+            t -> t.savingGoalsRepo.findPendingSavingGoalsForUser(t.user())),
+        call(
+            "findCompletedSavingGoalsForUser",
+            t -> t.savingGoalsRepo.findCompletedSavingGoalsForUser(t.user())),
+        call("findViewByIdAndUser", t -> t.savingGoalsRepo.findViewByIdAndUser(1L, t.user())),
+        call("existsByIdAndUser", t -> t.savingGoalsRepo.existsByIdAndUser(1L, t.user())),
+        call("findByUser_Id", t -> t.spendingInsightCacheRepo.findByUser_Id(1L)),
+        call(
+            "findByUserIdAndDateBetween",
+            t -> t.transactionRepo.findByUserIdAndDateBetween(1L, MARCH, MARCH.plusDays(30))),
+        call(
+            "summarizeByUserIdAndDateBetween",
+            t -> t.transactionRepo.summarizeByUserIdAndDateBetween(1L, MARCH, MARCH.plusDays(30))),
+        call("summarizeByUserIdUpTo", t -> t.transactionRepo.summarizeByUserIdUpTo(1L, MARCH)),
+        call(
+            "findByUser_IdOrderByDateAsc",
+            t -> t.transactionRepo.findByUser_IdOrderByDateAsc(1L, PageRequest.of(1, 20))),
+        call(
+            "findByUser_IdOrderByDateDesc",
+            t -> t.transactionRepo.findByUser_IdOrderByDateDesc(1L, PageRequest.of(1, 20))),
+        call(
+            "findByUser_IdOrderByDateDescIdDesc",
+            t -> t.transactionRepo.findByUser_IdOrderByDateDescIdDesc(1L, PageRequest.of(0, 21))),
+        call(
+            "findByUser_IdOrderByDateAscIdAsc",
+            t -> t.transactionRepo.findByUser_IdOrderByDateAscIdAsc(1L, PageRequest.of(0, 21))),
+        call(
+            "findPageBefore",
+            t -> t.transactionRepo.findPageBefore(1L, MARCH, 40L, PageRequest.of(0, 21))),
+        call(
+            "findPageAfter",
+            t -> t.transactionRepo.findPageAfter(1L, MARCH, 40L, PageRequest.of(0, 21))),
+        call("countByUser_Id", t -> t.transactionRepo.countByUser_Id(1L)),
+        call(
+            "getSpendingCreditBetween",
+            t -> t.transactionRepo.getSpendingCreditBetween(1L, MARCH, APRIL)),
+        call(
+            "getSpendingDebitBetween",
+            t -> t.transactionRepo.getSpendingDebitBetween(1L, MARCH, APRIL)),
+        call(
+            "getMonthlyIncomeBetween",
+            t ->
+                t.transactionRepo.getMonthlyIncomeBetween(
+                    1L, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1))),
+        call(
+            "findTop5ExpenseCategoriesByAmount",
+            t -> t.transactionRepo.findTop5ExpenseCategoriesByAmount(1L)),
+        call(
+            "findLatest3TransactionSummaries",
+            t -> t.transactionRepo.findLatest3TransactionSummaries(1L)),
+        call(
+            "findTransactionByUserAndId",
+            t -> t.transactionRepo.findTransactionByUserAndId(t.user(), 5L)),
+        call("findAllByUserAndIdIn", t -> t.transactionRepo.findAllByUserAndIdIn(t.user(), IDS)),
+        call("findViewByUserIdAndId", t -> t.transactionRepo.findViewByUserIdAndId(1L, 5L)),
+        call(
+            "findFirstByAccountOrderByDateDescIdAsc",
+            t -> t.transactionRepo.findFirstByAccountOrderByDateDescIdAsc(t.account())),
+        call(
+            "sumAmountsByAccountForIds",
+            t -> t.transactionRepo.sumAmountsByAccountForIds(IDS, t.user())),
+        call(
+            "summarizeByMonthForIds", t -> t.transactionRepo.summarizeByMonthForIds(IDS, t.user())),
+        call("summarizeByMonthForUser", t -> t.transactionRepo.summarizeByMonthForUser(1L)),
+        call("sumAmountsByAccount", t -> t.transactionRepo.sumAmountsByAccount(t.account())),
+        call(
+            "deleteAllByIdInAndUser", t -> t.transactionRepo.deleteAllByIdInAndUser(IDS, t.user())),
+        call(
+            "findExistingFingerprints",
+            t -> t.transactionRepo.findExistingFingerprints(t.user(), List.of("a", "b"))),
+        call("streamByUserId", t -> drain(t.transactionRepo.streamByUserId(1L))),
+        call(
+            "streamByUserIdOldestFirst",
+            t -> drain(t.transactionRepo.streamByUserIdOldestFirst(1L))),
+        call(
+            "streamByUserIdNewestFirst",
+            t -> drain(t.transactionRepo.streamByUserIdNewestFirst(1L))),
+        call("getUserIdByEmail", t -> t.userRepo.getUserIdByEmail("a@example.com")),
+        call("findByEmail", t -> t.userRepo.findByEmail("a@example.com")),
+        call("existsByEmail", t -> t.userRepo.existsByEmail("a@example.com")),
+        call("getUserByEmail", t -> t.userRepo.getUserByEmail("a@example.com")),
+        call("findTimeZoneById", t -> t.userRepo.findTimeZoneById(1L)),
+        call("findAllIds", t -> t.userRepo.findAllIds()));
+  }
+
+  private static Arguments call(String name, RepositoryCall call) {
+    return Arguments.of(name, call);
+  }
+
+  private static void drain(Stream<?> rows) {
+    try (rows) {
+      rows.forEach(row -> {});
+    }
+  }
+
+  private User user() {
+    return userRepo.getReferenceById(1L);
+  }
+
+  private Account account() {
+    return accountRepo.findById(1L).orElseThrow();
+  }
+
+  /** A repository method invocation against the seeded database. */
+  @FunctionalInterface
+  interface RepositoryCall {
+    void run(SchemaMigrationTest test);
+  }
+
+  @TestConfiguration
+  static class StatementRecordingConfig {
+    @Bean
+    static BeanPostProcessor statementRecordingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource dataSource
+                  && !(bean instanceof StatementRecordingDataSource)
+              ? new StatementRecordingDataSource(dataSource)
+              : bean;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.shoxys.budgetbuddy_backend.Entities.SpendingInsightCache;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class SpendingInsightCacheRepoTest {
+
+  @Autowired private SpendingInsightCacheRepo spendingInsightCacheRepo;
+
+  @Autowired private UserRepo userRepo;
+
+  @Test
+  void testFindByUserId() {
+    User user = userRepo.save(new User("insights@example.com", "secret123"));
+    User other = userRepo.save(new User("other@example.com", "secret123"));
+    Instant generatedAt = Instant.parse("2025-06-30T10:00:00Z");
+    spendingInsightCacheRepo.save(
+        new SpendingInsightCache(user, "a".repeat(64), "Cook at home\nCancel a plan", generatedAt));
+
+    SpendingInsightCache found = spendingInsightCacheRepo.findByUser_Id(user.getId()).orElseThrow();
+
+    assertEquals("a".repeat(64), found.getStatsHash());
+    assertEquals("Cook at home\nCancel a plan", found.getInsights());
+    assertEquals(generatedAt, found.getGeneratedAt());
+    assertTrue(spendingInsightCacheRepo.findByUser_Id(other.getId()).isEmpty());
+  }
+}
@@ -0,0 +1,66 @@
+package com.shoxys.budgetbuddy_backend.Repo;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Test data source that records the SQL of every statement prepared on its connections, whether by
+ * Hibernate or by a {@code JdbcTemplate}, so a test can inspect exactly what a repository call sent
+ * to the database.
+ */
+public class StatementRecordingDataSource extends DelegatingDataSource {
+  private final List<String> statements = new CopyOnWriteArrayList<>();
+
+  public StatementRecordingDataSource(DataSource target) {
+    super(target);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return recording(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return recording(super.getConnection(username, password));
+  }
+
+  /**
+   * Returns the statements prepared since the last call and starts a new recording.
+   *
+   * @return the SQL of each prepared statement, in order
+   */
+  public List<String> drain() {
+    List<String> recorded = List.copyOf(statements);
+    statements.clear();
+    return recorded;
+  }
+
+  private Connection recording(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "equals" -> proxy == args[0];
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  default -> {
+                    if (method.getName().startsWith("prepare") && args[0] instanceof String sql) {
+                      statements.add(sql);
+                    }
+                    try {
+                      yield method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                      throw e.getCause();
+                    }
+                  }
+                });
+  }
+}
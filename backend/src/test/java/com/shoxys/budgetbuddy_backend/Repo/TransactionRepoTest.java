@@ -2,9 +2,13 @@ package com.shoxys.budgetbuddy_backend.Repo;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.ExpenseAnalysis;
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.RecentTransactions;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
@@ -12,9 +16,12 @@ import com.shoxys.budgetbuddy_backend.Enums.AccountType;
 import com.shoxys.budgetbuddy_backend.Enums.SourceType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -87,7 +95,7 @@ public class TransactionRepoTest {
       transactionRepo.save(transaction);
     }
 
-    List<Transaction> dateRangedTxns =
+    List<TransactionView> dateRangedTxns =
         transactionRepo.findByUserIdAndDateBetween(user.getId(), startDate, endDate);
 
     assertThat(dateRangedTxns).hasSize(expectedDays.size());
@@ -97,9 +105,50 @@ public class TransactionRepoTest {
   }
 
   @Test
-  void testGetTotalCreditThisMonth() {
+  void testSummarizeByUserIdAndDateBetween() {
+    int[] amounts = {100, -40, 25, -10};
+    for (int i = 0; i < amounts.length; i++) {
+      transactionRepo.save(
+          new Transaction(
+              LocalDate.of(2025, 4, i + 1),
+              BigDecimal.valueOf(amounts[i]),
+              "desc",
+              "Groceries",
+              "Merchant",
+              BigDecimal.TEN,
+              SourceType.MANUAL,
+              account,
+              user));
+    }
+
+    TransactionSummaryResponse summary =
+        transactionRepo.summarizeByUserIdAndDateBetween(
+            user.getId(), LocalDate.of(2025, 4, 2), LocalDate.of(2025, 4, 30));
+
+    assertEquals(3L, summary.getCount());
+    assertEquals(LocalDate.of(2025, 4, 2), summary.getEarliest());
+    assertEquals(LocalDate.of(2025, 4, 4), summary.getLatest());
+    assertThat(summary.getCreditSum()).isEqualByComparingTo("25");
+    assertThat(summary.getDebitSum()).isEqualByComparingTo("-50");
+    assertThat(summary.getAverageAmount()).isEqualByComparingTo("25");
+
+    TransactionSummaryResponse allTime =
+        transactionRepo.summarizeByUserIdUpTo(user.getId(), LocalDate.of(2025, 4, 30));
+    assertEquals(4L, allTime.getCount());
+    assertThat(allTime.getCreditSum()).isEqualByComparingTo("125");
+
+    TransactionSummaryResponse empty =
+        transactionRepo.summarizeByUserIdUpTo(user.getId(), LocalDate.of(2025, 3, 31));
+    assertEquals(0L, empty.getCount());
+    assertNull(empty.getEarliest());
+    assertThat(empty.getDebitSum()).isEqualByComparingTo("0");
+  }
+
+  @Test
+  void testGetSpendingCreditBetween() {
     int thisMonth = 7; // Fixed month for consistency
     int lastMonth = 6;
+    LocalDate startThisMonth = LocalDate.of(2025, thisMonth, 1);
 
     // Debit transactions for this month
     for (int i = 0; i < 4; i++) {
@@ -146,55 +195,30 @@ public class TransactionRepoTest {
               user));
     }
 
-    BigDecimal totalCredit = transactionRepo.getTotalCreditThisMonth(user.getId());
-    assertThat(totalCredit).isEqualByComparingTo(BigDecimal.valueOf(400));
-  }
-
-  @Test
-  void testGetTotalCreditBetween() {
-    int lastMonth = 6;
-    LocalDate startLastMonth = LocalDate.of(2025, lastMonth, 1);
-    LocalDate endLastMonth = startLastMonth.withDayOfMonth(startLastMonth.lengthOfMonth());
-
-    // Credit transactions for last month
-    for (int i = 0; i < 5; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, lastMonth, 1 + i),
-              BigDecimal.valueOf(100),
-              "W4242 15/04",
-              "Salary",
-              "Employer",
-              BigDecimal.valueOf(1000),
-              SourceType.MANUAL,
-              account,
-              user));
-    }
-
-    // Debit transactions for last month
-    for (int i = 0; i < 4; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, lastMonth, 1 + i),
-              BigDecimal.valueOf(-100),
-              "W4242 15/04",
-              "Groceries",
-              "Woolworths Market",
-              BigDecimal.valueOf(1000),
-              SourceType.MANUAL,
-              account,
-              user));
-    }
+    // Credit transaction on the exclusive end of the range
+    transactionRepo.save(
+        new Transaction(
+            startThisMonth.plusMonths(1),
+            BigDecimal.valueOf(100),
+            "W4242 15/04",
+            "Salary",
+            "Employer",
+            BigDecimal.valueOf(1000),
+            SourceType.MANUAL,
+            account,
+            user));
 
     BigDecimal totalCredit =
-        transactionRepo.getTotalCreditBetween(user.getId(), startLastMonth, endLastMonth);
-    assertThat(totalCredit).isEqualByComparingTo(BigDecimal.valueOf(500));
+        transactionRepo.getSpendingCreditBetween(
+            user.getId(), startThisMonth, startThisMonth.plusMonths(1));
+    assertThat(totalCredit).isEqualByComparingTo(BigDecimal.valueOf(400));
   }
 
   @Test
-  void testGetTotalDebitThisMonth() {
+  void testGetSpendingDebitBetween() {
     int thisMonth = 7;
     int lastMonth = 6;
+    LocalDate startThisMonth = LocalDate.of(2025, thisMonth, 1);
 
     // Credit transactions for this month
     for (int i = 0; i < 2; i++) {
@@ -241,53 +265,14 @@ public class TransactionRepoTest {
               user));
     }
 
-    BigDecimal totalDebit = transactionRepo.getTotalDebitThisMonth(user.getId());
-    assertThat(totalDebit).isEqualByComparingTo(BigDecimal.valueOf(-300));
-  }
-
-  @Test
-  void testGetTotalDebitBetween() {
-    int lastMonth = 6;
-    LocalDate startLastMonth = LocalDate.of(2025, lastMonth, 1);
-    LocalDate endLastMonth = startLastMonth.withDayOfMonth(startLastMonth.lengthOfMonth());
-
-    // Credit transactions for last month
-    for (int i = 0; i < 2; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, lastMonth, 1 + i),
-              BigDecimal.valueOf(100),
-              "W4242 15/04",
-              "Salary",
-              "Employer",
-              BigDecimal.valueOf(1000),
-              SourceType.MANUAL,
-              account,
-              user));
-    }
-
-    // Debit transactions for last month
-    for (int i = 0; i < 3; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, lastMonth, 1 + i),
-              BigDecimal.valueOf(-100),
-              "W4242 15/04",
-              "Groceries",
-              "Woolworths Market",
-              BigDecimal.valueOf(1000),
-              SourceType.MANUAL,
-              account,
-              user));
-    }
-
     BigDecimal totalDebit =
-        transactionRepo.getTotalDebitBetween(user.getId(), startLastMonth, endLastMonth);
+        transactionRepo.getSpendingDebitBetween(
+            user.getId(), startThisMonth, startThisMonth.plusMonths(1));
     assertThat(totalDebit).isEqualByComparingTo(BigDecimal.valueOf(-300));
   }
 
   @Test
-  void testGetMonthlyIncomeForYear() {
+  void testGetMonthlyIncomeBetween() {
     int year = 2025;
 
     // Create transactions for specific months
@@ -324,7 +309,22 @@ public class TransactionRepoTest {
               user));
     }
 
-    List<Object[]> monthlyIncome = transactionRepo.getMonthlyIncomeForYear(user.getId(), year);
+    // Credit transaction on the exclusive end of the range
+    transactionRepo.save(
+        new Transaction(
+            LocalDate.of(year + 1, 1, 1),
+            BigDecimal.valueOf(999),
+            "W4242 15/04",
+            "Salary",
+            "Employer",
+            BigDecimal.valueOf(1000),
+            SourceType.MANUAL,
+            account,
+            user));
+
+    List<Object[]> monthlyIncome =
+        transactionRepo.getMonthlyIncomeBetween(
+            user.getId(), LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
     assertThat(monthlyIncome).hasSize(3);
 
     for (int i = 0; i < monthlyIncome.size(); i++) {
@@ -386,48 +386,6 @@ public class TransactionRepoTest {
     }
   }
 
-  @Test
-  void testFindByUserIdOrderByDateAsc() {
-    for (int i = 1; i <= 3; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, 7, i),
-              BigDecimal.valueOf(50),
-              "desc",
-              "Test Category",
-              "Merchant",
-              BigDecimal.TEN,
-              SourceType.MANUAL,
-              account,
-              user));
-    }
-
-    List<Transaction> result = transactionRepo.findByUser_IdOrderByDateAsc(user.getId());
-    assertThat(result).hasSize(3);
-    assertThat(result).isSortedAccordingTo(Comparator.comparing(Transaction::getDate));
-  }
-
-  @Test
-  void testFindByUserIdOrderByDateDesc() {
-    for (int i = 1; i <= 3; i++) {
-      transactionRepo.save(
-          new Transaction(
-              LocalDate.of(2025, 7, i),
-              BigDecimal.valueOf(50),
-              "desc",
-              "Test Category",
-              "Merchant",
-              BigDecimal.TEN,
-              SourceType.MANUAL,
-              account,
-              user));
-    }
-
-    List<Transaction> result = transactionRepo.findByUser_IdOrderByDateDesc(user.getId());
-    assertThat(result).hasSize(3);
-    assertThat(result).isSortedAccordingTo(Comparator.comparing(Transaction::getDate).reversed());
-  }
-
   @Test
   void testFindByUserIdOrderByDateAscPageable() {
     for (int i = 1; i <= 5; i++) {
@@ -445,10 +403,12 @@ public class TransactionRepoTest {
     }
 
     Pageable pageable = PageRequest.of(0, 3);
-    Page<Transaction> result = transactionRepo.findByUser_IdOrderByDateAsc(user.getId(), pageable);
+    Page<TransactionView> result =
+        transactionRepo.findByUser_IdOrderByDateAsc(user.getId(), pageable);
     assertThat(result.getContent()).hasSize(3);
     assertThat(result.getTotalElements()).isEqualTo(5);
-    assertThat(result.getContent()).isSortedAccordingTo(Comparator.comparing(Transaction::getDate));
+    assertThat(result.getContent())
+        .isSortedAccordingTo(Comparator.comparing(TransactionView::getDate));
   }
 
   @Test
@@ -468,19 +428,58 @@ public class TransactionRepoTest {
     }
 
     Pageable pageable = PageRequest.of(0, 3);
-    Page<Transaction> result = transactionRepo.findByUser_IdOrderByDateDesc(user.getId(), pageable);
+    Page<TransactionView> result =
+        transactionRepo.findByUser_IdOrderByDateDesc(user.getId(), pageable);
     assertThat(result.getContent()).hasSize(3);
     assertThat(result.getTotalElements()).isEqualTo(5);
     assertThat(result.getContent())
-        .isSortedAccordingTo(Comparator.comparing(Transaction::getDate).reversed());
+        .isSortedAccordingTo(Comparator.comparing(TransactionView::getDate).reversed());
   }
 
   @Test
-  void testFindByAccountOrderByDateDesc() {
-    for (int i = 1; i <= 3; i++) {
+  void testKeysetPagesVisitEveryTransactionOnceAcrossDateTies() {
+    List<Long> expected = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      Transaction saved =
+          transactionRepo.save(
+              new Transaction(
+                  LocalDate.of(2025, 8, (i + 1) / 2),
+                  BigDecimal.valueOf(i),
+                  "keyset",
+                  "Test Category",
+                  "Merchant",
+                  BigDecimal.TEN,
+                  SourceType.MANUAL,
+                  account,
+                  user));
+      expected.add(0, saved.getId());
+    }
+    Pageable pageable = PageRequest.of(0, 2);
+
+    List<TransactionView> page =
+        transactionRepo.findByUser_IdOrderByDateDescIdDesc(user.getId(), pageable);
+    List<Long> visited = new ArrayList<>();
+    while (!page.isEmpty()) {
+      page.forEach(t -> visited.add(t.getId()));
+      TransactionView last = page.get(page.size() - 1);
+      page = transactionRepo.findPageBefore(user.getId(), last.getDate(), last.getId(), pageable);
+    }
+    assertEquals(expected, visited);
+
+    Transaction oldest = transactionRepo.findById(expected.get(4)).orElseThrow();
+    assertThat(
+            transactionRepo.findPageAfter(user.getId(), oldest.getDate(), oldest.getId(), pageable))
+        .extracting(TransactionView::getId)
+        .containsExactly(expected.get(3), expected.get(2));
+    assertEquals(5, transactionRepo.countByUser_Id(user.getId()));
+  }
+
+  @Test
+  void testStreamByUserIdOrdersByDateThenId() {
+    for (int day : new int[] {3, 1, 3, 2}) {
       transactionRepo.save(
           new Transaction(
-              LocalDate.of(2025, 7, i),
+              LocalDate.of(2025, 7, day),
               BigDecimal.valueOf(50),
               "desc",
               "Test Category",
@@ -491,9 +490,26 @@ public class TransactionRepoTest {
               user));
     }
 
-    List<Transaction> result = transactionRepo.findByAccountOrderByDateDesc(account);
-    assertThat(result).hasSize(3);
-    assertThat(result).isSortedAccordingTo(Comparator.comparing(Transaction::getDate).reversed());
+    List<TransactionView> oldest;
+    try (Stream<TransactionView> rows = transactionRepo.streamByUserIdOldestFirst(user.getId())) {
+      oldest = rows.toList();
+    }
+    List<TransactionView> newest;
+    try (Stream<TransactionView> rows = transactionRepo.streamByUserIdNewestFirst(user.getId())) {
+      newest = rows.toList();
+    }
+
+    assertThat(oldest)
+        .hasSize(4)
+        .isSortedAccordingTo(
+            Comparator.comparing(TransactionView::getDate).thenComparing(TransactionView::getId));
+    assertThat(newest)
+        .extracting(TransactionView::getId)
+        .containsExactlyElementsOf(oldest.stream().map(TransactionView::getId).toList().reversed());
+    assertThat(newest.getFirst().getAccountName()).isEqualTo(account.getName());
+    try (Stream<TransactionView> rows = transactionRepo.streamByUserId(user.getId())) {
+      assertEquals(4, rows.count());
+    }
   }
 
   @Test
@@ -546,7 +562,7 @@ public class TransactionRepoTest {
     transaction2 = transactionRepo.save(transaction2);
 
     List<Long> idsToDelete = List.of(transaction1.getId(), transaction2.getId());
-    transactionRepo.deleteAllByIdInAndUser(idsToDelete, user);
+    assertEquals(2, transactionRepo.deleteAllByIdInAndUser(idsToDelete, user));
 
     assertThat(transactionRepo.findById(transaction1.getId())).isEmpty();
     assertThat(transactionRepo.findById(transaction2.getId())).isEmpty();
@@ -607,4 +623,177 @@ public class TransactionRepoTest {
     BigDecimal sum = transactionRepo.sumAmountsByAccount(account);
     assertThat(sum).isEqualByComparingTo(BigDecimal.valueOf(300));
   }
+
+  @Test
+  void testBatchInsert() {
+    List<Transaction> batch =
+        List.of(
+            new Transaction(
+                LocalDate.of(2025, 6, 1),
+                BigDecimal.valueOf(-20),
+                "W4242 01/06",
+                "Groceries",
+                null,
+                BigDecimal.valueOf(980),
+                SourceType.CSV,
+                account,
+                user),
+            new Transaction(
+                LocalDate.of(2025, 6, 2),
+                BigDecimal.valueOf(500),
+                "P1234 02/06",
+                "Salary",
+                "Employer",
+                BigDecimal.valueOf(1480),
+                SourceType.CSV,
+                account,
+                user));
+
+    int inserted = transactionRepo.batchInsert(batch);
+
+    assertEquals(2, inserted);
+    List<Transaction> saved = transactionRepo.findAll(Sort.by("date"));
+    assertEquals(2, saved.size());
+    assertThat(saved.get(0).getAmount()).isEqualByComparingTo(BigDecimal.valueOf(-20));
+    assertThat(saved.get(1).getBalanceAtTransaction())
+        .isEqualByComparingTo(BigDecimal.valueOf(1480));
+    assertEquals(SourceType.CSV, saved.get(1).getSource());
+    assertEquals(account.getId(), saved.get(1).getAccount().getId());
+  }
+
+  @Test
+  void testBatchInsertReturningIds() {
+    List<Transaction> batch =
+        List.of(
+            new Transaction(
+                LocalDate.of(2025, 6, 1),
+                BigDecimal.valueOf(-20),
+                "First",
+                "Groceries",
+                null,
+                BigDecimal.valueOf(980),
+                SourceType.MANUAL,
+                account,
+                user),
+            new Transaction(
+                LocalDate.of(2025, 6, 2),
+                BigDecimal.valueOf(500),
+                "Second",
+                "Salary",
+                null,
+                BigDecimal.valueOf(1480),
+                SourceType.MANUAL,
+                account,
+                user));
+
+    int inserted = transactionRepo.batchInsertReturningIds(batch);
+
+    assertEquals(2, inserted);
+    assertNotNull(batch.get(0).getId());
+    assertNotNull(batch.get(1).getId());
+    assertEquals(
+        "Second", transactionRepo.findById(batch.get(1).getId()).orElseThrow().getDescription());
+    assertThat(transactionRepo.findAllByUserAndIdIn(user, List.of(batch.get(0).getId(), -1L)))
+        .extracting(Transaction::getDescription)
+        .containsExactly("First");
+  }
+
+  @Test
+  void testFindExistingFingerprints() {
+    Transaction transaction =
+        new Transaction(
+            LocalDate.of(2025, 6, 1),
+            BigDecimal.valueOf(-20),
+            "W4242 01/06",
+            "Groceries",
+            null,
+            BigDecimal.valueOf(980),
+            SourceType.CSV,
+            account,
+            user);
+    transaction.setFingerprint("a".repeat(64));
+    transactionRepo.batchInsert(List.of(transaction));
+
+    Set<String> existing =
+        transactionRepo.findExistingFingerprints(user, List.of("a".repeat(64), "b".repeat(64)));
+
+    assertEquals(Set.of("a".repeat(64)), existing);
+  }
+
+  @Test
+  void testFindFirstByAccountOrderByDateDescIdAsc() {
+    transactionRepo.save(
+        new Transaction(
+            LocalDate.of(2025, 6, 1),
+            BigDecimal.valueOf(-20),
+            "Older",
+            "Groceries",
+            null,
+            BigDecimal.valueOf(980),
+            SourceType.CSV,
+            account,
+            user));
+    transactionRepo.save(
+        new Transaction(
+            LocalDate.of(2025, 6, 3),
+            BigDecimal.valueOf(-10),
+            "Latest",
+            "Groceries",
+            null,
+            BigDecimal.valueOf(1470),
+            SourceType.CSV,
+            account,
+            user));
+    transactionRepo.save(
+        new Transaction(
+            LocalDate.of(2025, 6, 3),
+            BigDecimal.valueOf(500),
+            "Same day, earlier in statement",
+            "Salary",
+            null,
+            BigDecimal.valueOf(1480),
+            SourceType.CSV,
+            account,
+            user));
+
+    Optional<Transaction> latest = transactionRepo.findFirstByAccountOrderByDateDescIdAsc(account);
+
+    assertThat(latest).isPresent();
+    assertEquals("Latest", latest.get().getDescription());
+  }
+
+  @Test
+  void testSumAmountsByAccountForIds() {
+    Transaction first =
+        transactionRepo.save(
+            new Transaction(
+                LocalDate.of(2025, 6, 1),
+                BigDecimal.valueOf(-20),
+                "W4242 01/06",
+                "Groceries",
+                null,
+                BigDecimal.valueOf(980),
+                SourceType.CSV,
+                account,
+                user));
+    Transaction second =
+        transactionRepo.save(
+            new Transaction(
+                LocalDate.of(2025, 6, 2),
+                BigDecimal.valueOf(500),
+                "P1234 02/06",
+                "Salary",
+                null,
+                BigDecimal.valueOf(1480),
+                SourceType.CSV,
+                account,
+                user));
+
+    List<Object[]> sums =
+        transactionRepo.sumAmountsByAccountForIds(List.of(first.getId(), second.getId()), user);
+
+    assertEquals(1, sums.size());
+    assertEquals(account.getId(), ((Account) sums.get(0)[0]).getId());
+    assertThat((BigDecimal) sums.get(0)[1]).isEqualByComparingTo(BigDecimal.valueOf(480));
+  }
 }
@@ -0,0 +1,115 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shoxys.budgetbuddy_backend.Exceptions.PasswordHashingBusyException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ThreadPoolExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            Thread.ofPlatform().daemon(true).factory());
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void encodeAndMatches_shouldRunOnExecutorAndRecordHashTimes() {
+    BoundedPasswordEncoder encoder =
+        new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(4), executor, Duration.ofSeconds(5), 2);
+
+    String hash = encoder.encode("password123");
+
+    assertTrue(encoder.matches("password123", hash));
+    assertFalse(encoder.matches("wrong-password", hash));
+    assertEquals(3, encoder.getHashCount());
+    assertEquals(0, encoder.getRejectedCount());
+    assertTrue(encoder.getMaxHashMillis() >= encoder.getAverageHashMillis());
+  }
+
+  @Test
+  void encode_shouldRejectWithRetryAfterWhenQueueIsFull() throws Exception {
+    BoundedPasswordEncoder encoder =
+        new BoundedPasswordEncoder(blockingEncoder(), executor, Duration.ofSeconds(5), 3);
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    while (encoder.getQueueDepth() == 0) {
+      Thread.onSpinWait();
+    }
+
+    PasswordHashingBusyException ex =
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+
+    assertEquals(3, ex.getRetryAfterSeconds());
+    assertEquals(1, encoder.getRejectedCount());
+    release.countDown();
+    assertEquals("hashed-a", running.get(5, TimeUnit.SECONDS));
+    assertEquals("hashed-b", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void encode_shouldGiveUpWhenHashDoesNotStartWithinMaxWait() throws Exception {
+    BoundedPasswordEncoder encoder =
+        new BoundedPasswordEncoder(blockingEncoder(), executor, Duration.ofMillis(50), 2);
+
+    assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("a"));
+    assertEquals(1, encoder.getRejectedCount());
+  }
+
+  @Test
+  void calibrate_shouldStayWithinBounds() {
+    assertEquals(4, BCryptWorkFactorCalibrator.calibrate(Duration.ZERO, 4, 6));
+    assertEquals(5, BCryptWorkFactorCalibrator.calibrate(Duration.ofMinutes(1), 4, 5));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> BCryptWorkFactorCalibrator.calibrate(Duration.ofMillis(100), 6, 5));
+  }
+
+  private PasswordEncoder blockingEncoder() {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return "hashed-" + rawPassword;
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encodedPassword.equals(encode(rawPassword));
+      }
+    };
+  }
+}
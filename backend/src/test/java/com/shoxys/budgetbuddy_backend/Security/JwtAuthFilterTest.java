@@ -0,0 +1,96 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthFilterTest {
+  private static final String TOKEN = "header.payload.signature";
+  private static final String EMAIL = "test@example.com";
+
+  @Mock private JwtUtil jwtUtil;
+  @Mock private AppUserDetailsService userDetailsService;
+
+  private JwtAuthFilter filter;
+  private AppUserDetails userDetails;
+
+  @BeforeEach
+  void setUp() {
+    PrincipalCache cache = new PrincipalCache(300, 100);
+    filter = new JwtAuthFilter(jwtUtil, userDetailsService, cache);
+    userDetails = new AppUserDetails(new User(EMAIL, "hashedPassword"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void doFilter_shouldParseTokenOnceAndServeRepeatsFromCache() throws Exception {
+    Claims claims =
+        Jwts.claims()
+            .setSubject(EMAIL)
+            .setExpiration(Date.from(Instant.now().plus(Duration.ofHours(1))));
+    when(jwtUtil.parseClaims(TOKEN)).thenReturn(claims);
+    when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+    when(jwtUtil.validateClaims(claims, userDetails)).thenReturn(true);
+
+    assertSame(userDetails, authenticate().getPrincipal());
+    assertSame(userDetails, authenticate().getPrincipal());
+
+    verify(jwtUtil, times(1)).parseClaims(TOKEN);
+    verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    verify(jwtUtil, never()).extractUsername(anyString());
+  }
+
+  @Test
+  void doFilter_shouldNotCacheRejectedToken() throws Exception {
+    Claims claims = Jwts.claims().setSubject(EMAIL);
+    when(jwtUtil.parseClaims(TOKEN)).thenReturn(claims);
+    when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+    when(jwtUtil.validateClaims(claims, userDetails)).thenReturn(false);
+
+    assertNull(authenticate());
+    assertNull(authenticate());
+
+    verify(jwtUtil, times(2)).parseClaims(TOKEN);
+  }
+
+  @Test
+  void doFilter_shouldLeaveRequestUnauthenticatedWhenTokenIsInvalid() throws Exception {
+    when(jwtUtil.parseClaims(TOKEN)).thenThrow(new MalformedJwtException("Invalid token"));
+
+    assertNull(authenticate());
+
+    verifyNoInteractions(userDetailsService);
+  }
+
+  private Authentication authenticate() throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + TOKEN);
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+}
@@ -0,0 +1,126 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTest {
+  private static final String SECRET =
+      "535041ca1f18c2c55c27cd8dff9f80e577eb088a52ac7e33de7ea4bf013695de";
+  private static final String OLD_SECRET =
+      "0c6d1e7f6a0f4b0fa9a3f0d7c7c1b3e2a4e5f6a7b8c9d0e1f2a3b4c5d6e7f8a9";
+  private static final String EMAIL = "test@example.com";
+
+  private JwtUtil jwtUtil;
+  private AppUserDetails userDetails;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil(SECRET, new String[0]);
+    userDetails = userDetails(42L);
+  }
+
+  @Test
+  void generateToken_shouldEmbedUserIdIssuerAndKeyId() {
+    String token = jwtUtil.generateToken(userDetails);
+    Claims claims = jwtUtil.parseClaims(token);
+
+    assertEquals(EMAIL, claims.getSubject());
+    assertEquals(Constants.JWT_ISSUER, claims.getIssuer());
+    assertEquals(42L, jwtUtil.extractUserId(claims));
+    assertEquals(JwtKeyRing.keyId(SECRET), keyIdOf(token));
+    assertTrue(jwtUtil.validateClaims(claims, userDetails));
+  }
+
+  @Test
+  void validateClaims_shouldRejectTokenIssuedToAnotherUserWithSameEmail() {
+    Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(userDetails));
+
+    assertFalse(jwtUtil.validateClaims(claims, userDetails(43L)));
+  }
+
+  @Test
+  void validateClaims_shouldAcceptTokenIssuedWithoutUserId() {
+    Claims claims =
+        jwtUtil.parseClaims(
+            token(SECRET, null, Constants.JWT_ISSUER, Instant.now().plusSeconds(60)));
+
+    assertNull(jwtUtil.extractUserId(claims));
+    assertTrue(jwtUtil.validateClaims(claims, userDetails));
+  }
+
+  @Test
+  void parseClaims_shouldAcceptTokensSignedWithPreviousSecretAfterRotation() {
+    String oldToken = new JwtUtil(OLD_SECRET, new String[0]).generateToken(userDetails);
+    JwtUtil rotated = new JwtUtil(SECRET, new String[] {OLD_SECRET, ""});
+
+    assertEquals(EMAIL, rotated.parseClaims(oldToken).getSubject());
+    assertThrows(SignatureException.class, () -> jwtUtil.parseClaims(oldToken));
+    assertEquals(JwtKeyRing.keyId(SECRET), keyIdOf(rotated.generateToken(userDetails)));
+  }
+
+  @Test
+  void parseClaims_shouldRejectWrongIssuerMissingIssuerAndExpiry() {
+    Instant later = Instant.now().plusSeconds(60);
+
+    assertThrows(
+        IncorrectClaimException.class,
+        () -> jwtUtil.parseClaims(token(SECRET, JwtKeyRing.keyId(SECRET), "Other", later)));
+    assertThrows(
+        MissingClaimException.class, () -> jwtUtil.parseClaims(token(SECRET, null, null, later)));
+    assertThrows(
+        ExpiredJwtException.class,
+        () ->
+            jwtUtil.parseClaims(
+                token(SECRET, null, Constants.JWT_ISSUER, Instant.now().minusSeconds(60))));
+  }
+
+  @Test
+  void keyRing_shouldRejectEmptySecretAndUnknownKeyId() {
+    assertThrows(IllegalArgumentException.class, () -> new JwtKeyRing(" ", List.of()));
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, List.of(OLD_SECRET));
+
+    assertEquals(2, keyRing.size());
+    assertSame(keyRing.getCurrentKey(), keyRing.resolve(null));
+    assertThrows(SignatureException.class, () -> keyRing.resolve("unknown"));
+  }
+
+  private static String token(String secret, String keyId, String issuer, Instant expiresAt) {
+    return Jwts.builder()
+        .setHeaderParam(JwsHeader.KEY_ID, keyId)
+        .setIssuer(issuer)
+        .setSubject(EMAIL)
+        .setExpiration(Date.from(expiresAt))
+        .signWith(SignatureAlgorithm.HS256, secret)
+        .compact();
+  }
+
+  private static String keyIdOf(String token) {
+    return Jwts.parserBuilder()
+        .setSigningKey(new JwtKeyRing(SECRET, List.of()).getCurrentKey())
+        .build()
+        .parseClaimsJws(token)
+        .getHeader()
+        .getKeyId();
+  }
+
+  private static AppUserDetails userDetails(long id) {
+    User user = new User(EMAIL, "hashedPassword");
+    user.setId(id);
+    return new AppUserDetails(user);
+  }
+}
@@ -0,0 +1,149 @@
+package com.shoxys.budgetbuddy_backend.Security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Events.UserCredentialsChangedEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrincipalCacheTest {
+  private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+  private MutableClock clock;
+  private PrincipalCache cache;
+  private AppUserDetails alice;
+  private AppUserDetails bob;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(NOW);
+    cache = new PrincipalCache(Duration.ofMinutes(5), 2, clock);
+    alice = new AppUserDetails(new User("alice@example.com", "hashedPassword"));
+    bob = new AppUserDetails(new User("bob@example.com", "hashedPassword"));
+  }
+
+  @Test
+  void digest_shouldNotExposeToken() {
+    String digest = cache.digest("header.payload.signature");
+
+    assertEquals(64, digest.length());
+    assertFalse(digest.contains("payload"));
+    assertEquals(digest, cache.digest("header.payload.signature"));
+  }
+
+  @Test
+  void get_shouldExpireEntriesAfterTtl() {
+    cache.put("a", alice, null);
+
+    clock.advance(Duration.ofMinutes(4));
+    assertSame(alice, cache.get("a"));
+
+    clock.advance(Duration.ofMinutes(1));
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void get_shouldExpireEntriesWithTheirToken() {
+    cache.put("a", alice, NOW.plusSeconds(30));
+
+    clock.advance(Duration.ofSeconds(30));
+
+    assertNull(cache.get("a"));
+  }
+
+  @Test
+  void put_shouldSkipTokensThatAlreadyExpired() {
+    cache.put("a", alice, NOW.minusSeconds(1));
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void put_shouldEvictEntryClosestToExpiryWhenFull() {
+    cache.put("a", alice, NOW.plusSeconds(60));
+    cache.put("b", bob, null);
+    cache.put("c", alice, null);
+
+    assertEquals(2, cache.size());
+    assertNull(cache.get("a"));
+    assertSame(bob, cache.get("b"));
+    assertSame(alice, cache.get("c"));
+  }
+
+  @Test
+  void put_shouldEvictABatchOfEntriesWhenFull() {
+    PrincipalCache batchCache = new PrincipalCache(Duration.ofMinutes(5), 20, clock);
+    for (int i = 0; i < 20; i++) {
+      batchCache.put("token" + i, alice, NOW.plusSeconds(60 + i));
+    }
+
+    batchCache.put("token20", bob, null);
+
+    assertEquals(19, batchCache.size());
+    assertNull(batchCache.get("token0"));
+    assertNull(batchCache.get("token1"));
+    assertSame(alice, batchCache.get("token2"));
+    assertSame(bob, batchCache.get("token20"));
+
+    batchCache.put("token21", bob, null);
+
+    assertEquals(20, batchCache.size());
+    assertSame(alice, batchCache.get("token2"));
+  }
+
+  @Test
+  void invalidateUser_shouldDropEveryTokenOfThatUser() {
+    cache.put("a", alice, null);
+    cache.put("b", bob, null);
+
+    cache.invalidateUser("alice@example.com");
+
+    assertNull(cache.get("a"));
+    assertSame(bob, cache.get("b"));
+  }
+
+  @Test
+  void onUserCredentialsChanged_shouldDropEveryTokenOfThatUser() {
+    cache.put("a", alice, null);
+    cache.put("b", bob, null);
+
+    cache.onUserCredentialsChanged(new UserCredentialsChangedEvent("alice@example.com"));
+
+    assertNull(cache.get("a"));
+    assertSame(bob, cache.get("b"));
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -9,10 +9,8 @@ import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.AccountType;
-import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
-import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.TestUtils;
@@ -31,7 +29,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class AccountServiceTest {
 
-  @Mock private SavingGoalsRepo savingGoalsRepo;
   @Mock private AccountRepo accountRepo;
   @Mock private UserRepo userRepo;
   @Mock private TransactionRepo transactionRepo;
@@ -39,7 +36,6 @@ class AccountServiceTest {
   @InjectMocks private AccountService accountService;
 
   private final String VALID_EMAIL = "valid@example.com";
-  private final String INVALID_EMAIL = "invalid@example.com";
 
   private static final long GOAL_ACCOUNT_ID = 1L;
   private static final long SPENDING_ACCOUNT_ID = 2L;
@@ -101,7 +97,8 @@ class AccountServiceTest {
   public void upsertAccountBalance_shouldUpdateBalanceIfFoundById() {
     // Arrange
     BigDecimal expectedNewBalance = BigDecimal.valueOf(1000);
-    when(userRepo.findByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    spendingAccount.setOpeningBalance(BigDecimal.valueOf(-40));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findByIdAndUser(SPENDING_ACCOUNT_ID, mockUser))
         .thenReturn(Optional.of(spendingAccount));
     when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -109,16 +106,15 @@ class AccountServiceTest {
     // Act
     Account resultAccount =
         accountService.upsertAccountBalance(
-            VALID_EMAIL,
-            SPENDING_ACCOUNT_ID,
-            spendingAccount.getName(),
-            SPENDING,
-            expectedNewBalance);
+            USER_ID, SPENDING_ACCOUNT_ID, spendingAccount.getName(), SPENDING, expectedNewBalance);
 
     // Assert
     assertEquals(spendingAccount.getName(), resultAccount.getName());
     assertEquals(SPENDING, resultAccount.getType());
     assertEquals(0, expectedNewBalance.compareTo(resultAccount.getBalance()));
+    // The opening balance moves by the same 990 as the balance
+    assertEquals(0, BigDecimal.valueOf(950).compareTo(resultAccount.getOpeningBalance()));
+    verifyNoInteractions(transactionRepo);
     verify(accountRepo).save(spendingAccount);
   }
 
@@ -126,7 +122,7 @@ class AccountServiceTest {
   public void upsertAccountBalance_shouldUpdateBalanceIfFoundByNameAndType() {
     // Arrange
     BigDecimal expectedNewBalance = BigDecimal.valueOf(1000);
-    when(userRepo.findByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findByUserAndNameAndType(mockUser, spendingAccount.getName(), SPENDING))
         .thenReturn(Optional.of(spendingAccount));
     when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -134,7 +130,7 @@ class AccountServiceTest {
     // Act
     Account resultAccount =
         accountService.upsertAccountBalance(
-            VALID_EMAIL, null, spendingAccount.getName(), SPENDING, expectedNewBalance);
+            USER_ID, null, spendingAccount.getName(), SPENDING, expectedNewBalance);
 
     // Assert
     assertEquals(spendingAccount.getName(), resultAccount.getName());
@@ -147,7 +143,7 @@ class AccountServiceTest {
   public void upsertAccountBalance_shouldCreateAccountIfNotFound() {
     // Arrange
     BigDecimal expectedNewBalance = BigDecimal.valueOf(1000);
-    when(userRepo.findByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findByUserAndNameAndType(mockUser, spendingAccount.getName(), SPENDING))
         .thenReturn(Optional.empty());
     when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -155,7 +151,7 @@ class AccountServiceTest {
     // Act
     Account resultAccount =
         accountService.upsertAccountBalance(
-            VALID_EMAIL, null, spendingAccount.getName(), SPENDING, expectedNewBalance);
+            USER_ID, null, spendingAccount.getName(), SPENDING, expectedNewBalance);
 
     // Assert
     assertEquals(spendingAccount.getName(), resultAccount.getName());
@@ -168,17 +164,17 @@ class AccountServiceTest {
   }
 
   @Test
-  public void upsertAccountBalance_shouldThrowIfUserNotFound() {
+  public void upsertAccountBalance_shouldThrowIfUserIdNotPositive() {
     // Arrange
     BigDecimal mockNewBalance = BigDecimal.valueOf(1000);
-    when(userRepo.findByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
 
     // Act & Assert
     assertThrows(
-        UserNotFoundException.class,
+        IllegalArgumentException.class,
         () ->
             accountService.upsertAccountBalance(
-                INVALID_EMAIL, null, spendingAccount.getName(), SPENDING, mockNewBalance));
+                INVALID_USER_ID, null, spendingAccount.getName(), SPENDING, mockNewBalance));
+    verifyNoInteractions(userRepo, accountRepo);
   }
 
   @Test
@@ -189,8 +185,7 @@ class AccountServiceTest {
     // Act & Assert
     assertThrows(
         IllegalArgumentException.class,
-        () ->
-            accountService.upsertAccountBalance(VALID_EMAIL, null, null, SPENDING, mockNewBalance));
+        () -> accountService.upsertAccountBalance(USER_ID, null, null, SPENDING, mockNewBalance));
   }
 
   @Test
@@ -200,7 +195,7 @@ class AccountServiceTest {
     // Act & Assert
     assertThrows(
         IllegalArgumentException.class,
-        () -> accountService.upsertAccountBalance(VALID_EMAIL, null, "", SPENDING, mockNewBalance));
+        () -> accountService.upsertAccountBalance(USER_ID, null, "", SPENDING, mockNewBalance));
   }
 
   @Test
@@ -213,7 +208,7 @@ class AccountServiceTest {
         IllegalArgumentException.class,
         () ->
             accountService.upsertAccountBalance(
-                VALID_EMAIL, null, spendingAccount.getName(), null, mockNewBalance));
+                USER_ID, null, spendingAccount.getName(), null, mockNewBalance));
   }
 
   @Test
@@ -225,7 +220,7 @@ class AccountServiceTest {
         IllegalArgumentException.class,
         () ->
             accountService.upsertAccountBalance(
-                VALID_EMAIL, null, spendingAccount.getName(), SPENDING, null));
+                USER_ID, null, spendingAccount.getName(), SPENDING, null));
   }
 
   @Test
@@ -274,14 +269,79 @@ class AccountServiceTest {
     transaction.setId(1L);
     transaction.setAccount(spendingAccount);
     transaction.setAmount(oldAmount);
-    when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(accountRepo.applyBalanceDelta(eq(spendingAccount), any(BigDecimal.class)))
+        .thenAnswer(
+            invocation -> {
+              Account account = invocation.getArgument(0);
+              account.setBalance(account.getBalance().add(invocation.getArgument(1)));
+              return account.getBalance();
+            });
 
     // Act
     Account result = accountService.syncSpendingAccountBalance(transaction, newAmount);
 
     // Assert
     assertEquals(0, expectedBalance.compareTo(result.getBalance()));
-    verify(accountRepo).save(spendingAccount);
+    verify(accountRepo).applyBalanceDelta(spendingAccount, BigDecimal.valueOf(50));
+    verify(accountRepo, never()).save(any(Account.class));
+  }
+
+  @Test
+  public void applyBalanceDelta_shouldApplySingleUpdate() {
+    // Arrange
+    BigDecimal delta = BigDecimal.valueOf(-25);
+    when(accountRepo.applyBalanceDelta(spendingAccount, delta)).thenReturn(BigDecimal.valueOf(975));
+
+    // Act
+    BigDecimal result = accountService.applyBalanceDelta(spendingAccount, delta);
+
+    // Assert
+    assertEquals(0, BigDecimal.valueOf(975).compareTo(result));
+    verify(accountRepo).applyBalanceDelta(spendingAccount, delta);
+  }
+
+  @Test
+  public void applyBalanceDelta_shouldSkipUpdateForZeroDelta() {
+    // Act
+    BigDecimal result = accountService.applyBalanceDelta(spendingAccount, BigDecimal.ZERO);
+
+    // Assert
+    assertEquals(0, spendingAccount.getBalance().compareTo(result));
+    verify(accountRepo, never()).applyBalanceDelta(any(Account.class), any(BigDecimal.class));
+  }
+
+  @Test
+  public void applyBalanceDelta_shouldThrowIfAccountNull() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> accountService.applyBalanceDelta(null, BigDecimal.ONE));
+  }
+
+  @Test
+  public void applyNonNegativeBalanceDelta_shouldReturnUpdatedBalance() {
+    // Arrange
+    BigDecimal delta = BigDecimal.valueOf(-25);
+    when(accountRepo.applyNonNegativeBalanceDelta(spendingAccount, delta))
+        .thenReturn(Optional.of(BigDecimal.valueOf(975)));
+
+    // Act
+    BigDecimal result = accountService.applyNonNegativeBalanceDelta(spendingAccount, delta);
+
+    // Assert
+    assertEquals(0, BigDecimal.valueOf(975).compareTo(result));
+  }
+
+  @Test
+  public void applyNonNegativeBalanceDelta_shouldThrowIfBalanceWouldBeNegative() {
+    // Arrange
+    BigDecimal delta = BigDecimal.valueOf(-5000);
+    when(accountRepo.applyNonNegativeBalanceDelta(spendingAccount, delta))
+        .thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> accountService.applyNonNegativeBalanceDelta(spendingAccount, delta));
   }
 
   @Test
@@ -301,13 +361,13 @@ class AccountServiceTest {
   @Test
   public void getAccountBalance_shouldReturnBalanceIfFound() {
     // Arrange
-    when(userRepo.findByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findByUserAndNameAndType(mockUser, spendingAccount.getName(), SPENDING))
         .thenReturn(Optional.of(spendingAccount));
 
     // Act
     BigDecimal balance =
-        accountService.getAccountBalance(VALID_EMAIL, spendingAccount.getName(), SPENDING);
+        accountService.getAccountBalance(USER_ID, spendingAccount.getName(), SPENDING);
 
     // Assert
     assertEquals(0, BigDecimal.TEN.compareTo(balance));
@@ -316,27 +376,26 @@ class AccountServiceTest {
   @Test
   public void getAccountBalance_shouldReturnNullIfNotFound() {
     // Arrange
-    when(userRepo.findByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findByUserAndNameAndType(mockUser, spendingAccount.getName(), SPENDING))
         .thenReturn(Optional.empty());
 
     // Act
     BigDecimal balance =
-        accountService.getAccountBalance(VALID_EMAIL, spendingAccount.getName(), SPENDING);
+        accountService.getAccountBalance(USER_ID, spendingAccount.getName(), SPENDING);
 
     // Assert
     assertNull(balance);
   }
 
   @Test
-  public void getAccountBalance_shouldThrowIfUserNotFound() {
-    // Arrange
-    when(userRepo.findByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
-
+  public void getAccountBalance_shouldThrowIfUserIdNotPositive() {
     // Act & Assert
     assertThrows(
-        UserNotFoundException.class,
-        () -> accountService.getAccountBalance(INVALID_EMAIL, spendingAccount.getName(), SPENDING));
+        IllegalArgumentException.class,
+        () ->
+            accountService.getAccountBalance(INVALID_USER_ID, spendingAccount.getName(), SPENDING));
+    verifyNoInteractions(userRepo, accountRepo);
   }
 
   @Test
@@ -347,15 +406,16 @@ class AccountServiceTest {
     transaction.setAccount(spendingAccount);
     transaction.setBalanceAtTransaction(transactionBalance);
     transaction.setDate(LocalDate.of(2025, 7, 1));
-    when(transactionRepo.findByAccountOrderByDateDesc(spendingAccount))
-        .thenReturn(List.of(transaction));
+    when(transactionRepo.findFirstByAccountOrderByDateDescIdAsc(spendingAccount))
+        .thenReturn(Optional.of(transaction));
     when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     // Act
-    accountService.recalculateBalanceForSpendingAccount(spendingAccount);
+    accountService.recalculateBalanceForSpendingAccount(spendingAccount, BigDecimal.valueOf(120));
 
     // Assert
     assertEquals(0, transactionBalance.compareTo(spendingAccount.getBalance()));
+    assertEquals(0, BigDecimal.valueOf(380).compareTo(spendingAccount.getOpeningBalance()));
     verify(accountRepo).save(spendingAccount);
   }
 
@@ -363,45 +423,17 @@ class AccountServiceTest {
   public void recalculateBalanceForSpendingAccount_shouldNotUpdateBalanceIfNoTransactions() {
     // Arrange
     BigDecimal originalBalance = spendingAccount.getBalance();
-    when(transactionRepo.findByAccountOrderByDateDesc(spendingAccount)).thenReturn(List.of());
+    when(transactionRepo.findFirstByAccountOrderByDateDescIdAsc(spendingAccount))
+        .thenReturn(Optional.empty());
 
     // Act
-    accountService.recalculateBalanceForSpendingAccount(spendingAccount);
+    accountService.recalculateBalanceForSpendingAccount(spendingAccount, BigDecimal.TEN);
 
     // Assert
     assertEquals(0, originalBalance.compareTo(spendingAccount.getBalance()));
     verify(accountRepo, never()).save(any(Account.class));
   }
 
-  @Test
-  public void recalculateGoalSavingsBalance_shouldUpdateGoalAccountBalance() {
-    // Arrange
-    BigDecimal totalContributed = BigDecimal.valueOf(300);
-    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
-        .thenReturn(Optional.of(goalAccount));
-    when(savingGoalsRepo.sumContributionsByUser(mockUser)).thenReturn(totalContributed);
-    when(accountRepo.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-    // Act
-    accountService.recalculateGoalSavingsBalance(mockUser);
-
-    // Assert
-    assertEquals(0, totalContributed.compareTo(goalAccount.getBalance()));
-    verify(accountRepo).save(goalAccount);
-  }
-
-  @Test
-  public void recalculateGoalSavingsBalance_shouldThrowIfAccountNotFound() {
-    // Arrange
-    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
-        .thenReturn(Optional.empty());
-
-    // Act & Assert
-    assertThrows(
-        AccountNotFoundException.class,
-        () -> accountService.recalculateGoalSavingsBalance(mockUser));
-  }
-
   @Test
   public void handleFetchAccount_shouldReturnExistingAccount() {
     // Arrange
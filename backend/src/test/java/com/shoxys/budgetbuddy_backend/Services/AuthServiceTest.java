@@ -75,6 +75,13 @@ class AuthServiceTest {
     verify(authenticationManager, times(1)).authenticate(any());
   }
 
+  @Test
+  void testAuthenticate_PasswordHashingBusy() {
+    when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+        .thenThrow(new PasswordHashingBusyException("busy", 2));
+    assertThrows(PasswordHashingBusyException.class, () -> authService.authenticate(loginRequest));
+  }
+
   @Test
   void testRegister_Success() {
     when(userRepo.existsByEmail("test@example.com")).thenReturn(false);
@@ -0,0 +1,103 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Account.AccountBalanceCheck;
+import com.shoxys.budgetbuddy_backend.DTOs.Account.BalanceCheckResult;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceConsistencyServiceTest {
+  private static final PageRequest PAGE = PageRequest.of(0, BalanceConsistencyService.PAGE_SIZE);
+
+  @Mock private AccountRepo accountRepo;
+
+  @InjectMocks private BalanceConsistencyService balanceConsistencyService;
+
+  @Test
+  void checkBalances_shouldReportMismatchesWithoutRepairing() {
+    when(accountRepo.findTransactionBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(10L, 1000, 950), check(11L, 40, 40)));
+    when(accountRepo.findGoalSavingsBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(20L, 300, 300)));
+
+    BalanceCheckResult result = balanceConsistencyService.checkBalances(false);
+
+    assertEquals(3, result.getChecked());
+    assertEquals(1, result.getMismatched());
+    assertEquals(0, result.getRepaired());
+    verify(accountRepo, never()).repairBalance(anyLong(), any(), any());
+  }
+
+  @Test
+  void checkBalances_shouldRepairMismatchesWhenRequested() {
+    when(accountRepo.findTransactionBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(10L, 1000, 950)));
+    when(accountRepo.findGoalSavingsBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(20L, 300, 250)));
+    when(accountRepo.repairBalance(10L, BigDecimal.valueOf(1000), BigDecimal.valueOf(950)))
+        .thenReturn(1);
+    when(accountRepo.repairBalance(20L, BigDecimal.valueOf(300), BigDecimal.valueOf(250)))
+        .thenReturn(1);
+
+    BalanceCheckResult result = balanceConsistencyService.checkBalances(true);
+
+    assertEquals(2, result.getMismatched());
+    assertEquals(2, result.getRepaired());
+  }
+
+  @Test
+  void checkBalances_shouldNotCountRepairOfBalanceChangedDuringCheck() {
+    when(accountRepo.findTransactionBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(10L, 1000, 950)));
+    when(accountRepo.findGoalSavingsBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of());
+    when(accountRepo.repairBalance(10L, BigDecimal.valueOf(1000), BigDecimal.valueOf(950)))
+        .thenReturn(0);
+
+    BalanceCheckResult result = balanceConsistencyService.checkBalances(true);
+
+    assertEquals(1, result.getMismatched());
+    assertEquals(0, result.getRepaired());
+  }
+
+  @Test
+  void checkBalances_shouldPageThroughAccountsByIdCursor() {
+    List<AccountBalanceCheck> firstPage = new ArrayList<>();
+    for (long id = 1; id <= BalanceConsistencyService.PAGE_SIZE; id++) {
+      firstPage.add(check(id, 10, 10));
+    }
+    long lastId = BalanceConsistencyService.PAGE_SIZE;
+    when(accountRepo.findTransactionBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(firstPage);
+    when(accountRepo.findTransactionBalanceChecks(lastId, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of(check(lastId + 1, 10, 5)));
+    when(accountRepo.findGoalSavingsBalanceChecks(0L, AccountType.GOALSAVINGS, PAGE))
+        .thenReturn(List.of());
+
+    BalanceCheckResult result = balanceConsistencyService.checkBalances(false);
+
+    assertEquals(BalanceConsistencyService.PAGE_SIZE + 1, result.getChecked());
+    assertEquals(1, result.getMismatched());
+    verify(accountRepo, times(2))
+        .findTransactionBalanceChecks(anyLong(), eq(AccountType.GOALSAVINGS), eq(PAGE));
+  }
+
+  private static AccountBalanceCheck check(long id, int balance, int expected) {
+    return new AccountBalanceCheck(id, BigDecimal.valueOf(balance), BigDecimal.valueOf(expected));
+  }
+}
@@ -0,0 +1,68 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvDateParserTest {
+
+  @Test
+  void detect_shouldPickDayFirstFormatForAustralianDates() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("15/04/2025", "01/05/2025"));
+
+    assertEquals("dd/MM/yyyy", parser.getPattern());
+    assertEquals(LocalDate.of(2025, 4, 15), parser.parse("15/04/2025"));
+  }
+
+  @Test
+  void detect_shouldPickMonthFirstFormatForUsDates() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("04/15/2025", "04/16/2025", "05/01/2025"));
+
+    assertEquals("MM/dd/yyyy", parser.getPattern());
+    assertEquals(LocalDate.of(2025, 5, 1), parser.parse("05/01/2025"));
+  }
+
+  @Test
+  void detect_shouldPickTextMonthFormat() {
+    CsvDateParser parser = CsvDateParser.detect(Arrays.asList("15 Apr 25", null, "16 Apr 25"));
+
+    assertEquals("d MMM yy", parser.getPattern());
+    assertEquals(LocalDate.of(2025, 4, 16), parser.parse(" 16 Apr 25 "));
+  }
+
+  @Test
+  void parse_shouldUseIsoFastPath() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("2025-04-15"));
+
+    assertEquals("yyyy-MM-dd", parser.getPattern());
+    assertEquals(LocalDate.of(2024, 2, 29), parser.parse("2024-02-29"));
+  }
+
+  @Test
+  void parse_shouldClampDayToEndOfMonthLikeFormatter() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("15/04/2025"));
+
+    assertEquals(LocalDate.of(2025, 4, 30), parser.parse("31/04/2025"));
+    assertEquals(LocalDate.of(2025, 2, 28), parser.parse("29/02/2025"));
+  }
+
+  @Test
+  void parse_shouldFallBackToOtherFormatsOnMiss() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("15/04/2025"));
+
+    assertEquals(LocalDate.of(2025, 4, 15), parser.parse("2025-04-15"));
+    assertEquals(LocalDate.of(2025, 4, 15), parser.parse("15 Apr 25"));
+  }
+
+  @Test
+  void parse_shouldThrowForUnsupportedDate() {
+    CsvDateParser parser = CsvDateParser.detect(List.of("15/04/2025"));
+
+    assertThrows(IllegalArgumentException.class, () -> parser.parse("not a date"));
+    assertThrows(IllegalArgumentException.class, () -> parser.parse("15.04.2025"));
+    assertThrows(IllegalArgumentException.class, () -> parser.parse(null));
+  }
+}
@@ -1,13 +1,20 @@
 package com.shoxys.budgetbuddy_backend.Services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.*;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
-import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Exceptions.DashboardUnavailableException;
 import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.MonthlyRollupRepo;
 import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
@@ -15,14 +22,16 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,11 +40,11 @@ class DashboardServiceTest {
   @Mock private AccountRepo accountRepo;
   @Mock private SavingGoalsRepo savingGoalsRepo;
   @Mock private TransactionRepo transactionRepo;
+  @Mock private MonthlyRollupRepo monthlyRollupRepo;
   @Mock private UserRepo userRepo;
-  @Mock private TransactionService transactionService;
-  @Mock private AiInsightService aiInsightService;
+  @Mock private SpendingInsightService spendingInsightService;
 
-  @InjectMocks private DashboardService dashboardService;
+  private DashboardService dashboardService;
 
   private final long userId = 1L;
 
@@ -45,6 +54,16 @@ class DashboardServiceTest {
 
   @BeforeEach
   void setup() {
+    dashboardService =
+        new DashboardService(
+            accountRepo,
+            savingGoalsRepo,
+            transactionRepo,
+            monthlyRollupRepo,
+            userRepo,
+            spendingInsightService,
+            Runnable::run,
+            5000);
     mockAccount.setId(1L);
     mockAccount.setName("Main");
     mockAccount.setBalance(BigDecimal.valueOf(1000));
@@ -63,7 +82,7 @@ class DashboardServiceTest {
   void getAccountSummary_shouldMapCorrectly() {
     mockAccount.setType(null);
     when(accountRepo.findAccountsTypeNameBalanceByUserId(userId))
-        .thenReturn(Collections.singletonList(mockAccount));
+        .thenReturn(Collections.singletonList(summaryOf(mockAccount)));
     List<AccountSummary> summaries = dashboardService.getAccountSummary(userId);
 
     assertEquals(1, summaries.size());
@@ -76,7 +95,9 @@ class DashboardServiceTest {
     when(dashboardService.getTotalBalance(userId)).thenReturn(mockAccount.getBalance());
 
     when(accountRepo.findAccountsNameBalanceByUserId(userId))
-        .thenReturn(Collections.singletonList(mockAccount));
+        .thenReturn(
+            Collections.singletonList(
+                new BreakdownItem(mockAccount.getName(), mockAccount.getBalance())));
 
     NetworthResponse response = dashboardService.getNetworthResponse(userId);
 
@@ -107,34 +128,133 @@ class DashboardServiceTest {
   @Test
   void getIncomeExpenseSummary_shouldReturnCorrectData() {
     BigDecimal incomeThisMonth = BigDecimal.valueOf(3000);
-    BigDecimal expenseThisMonth = BigDecimal.valueOf(1200);
+    BigDecimal expenseThisMonth = BigDecimal.valueOf(-1200);
     BigDecimal incomeLastMonth = BigDecimal.valueOf(2500);
-    BigDecimal expenseLastMonth = BigDecimal.valueOf(1000);
-
-    LocalDate lastMonthStart = LocalDate.now().minusMonths(1).withDayOfMonth(1);
-    LocalDate lastMonthEnd = lastMonthStart.withDayOfMonth(lastMonthStart.lengthOfMonth());
-
-    when(transactionRepo.getTotalCreditThisMonth(userId)).thenReturn(incomeThisMonth);
-    when(transactionRepo.getTotalDebitThisMonth(userId)).thenReturn(expenseThisMonth);
-    when(transactionRepo.getTotalCreditBetween(userId, lastMonthStart, lastMonthEnd))
-        .thenReturn(incomeLastMonth);
-    when(transactionRepo.getTotalDebitBetween(userId, lastMonthStart, lastMonthEnd))
-        .thenReturn(expenseLastMonth);
+    BigDecimal expenseLastMonth = BigDecimal.valueOf(-1000);
+
+    LocalDate thisMonthStart = LocalDate.now().withDayOfMonth(1);
+    LocalDate nextMonthStart = thisMonthStart.plusMonths(1);
+    LocalDate lastMonthStart = thisMonthStart.minusMonths(1);
+
+    when(monthlyRollupRepo.sumByMonthAndSpending(userId, lastMonthStart, nextMonthStart))
+        .thenReturn(
+            List.of(
+                new Object[] {thisMonthStart, true, incomeThisMonth, expenseThisMonth},
+                new Object[] {
+                  thisMonthStart, false, BigDecimal.valueOf(400), BigDecimal.valueOf(-50)
+                },
+                new Object[] {
+                  lastMonthStart, true, BigDecimal.valueOf(2000), BigDecimal.valueOf(-600)
+                },
+                new Object[] {
+                  lastMonthStart, false, BigDecimal.valueOf(500), BigDecimal.valueOf(-400)
+                }));
 
     List<IncomeExpenseSummary> result = dashboardService.getIncomeExpenseSummary(userId);
 
     assertEquals(2, result.size());
     assertEquals(incomeThisMonth, result.get(0).getIncome());
+    assertEquals(expenseThisMonth, result.get(0).getExpenses());
+    assertEquals(incomeLastMonth, result.get(1).getIncome());
     assertEquals(expenseLastMonth, result.get(1).getExpenses());
   }
 
+  @Test
+  void getIncomeExpenseSummary_shouldResolveMonthInUsersTimeZone() {
+    ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+    LocalDate thisMonthStart = LocalDate.now(zone).withDayOfMonth(1);
+    LocalDate nextMonthStart = thisMonthStart.plusMonths(1);
+    BigDecimal incomeThisMonth = BigDecimal.valueOf(3000);
+
+    when(userRepo.findTimeZoneById(userId)).thenReturn(Optional.of(zone.getId()));
+    when(monthlyRollupRepo.sumByMonthAndSpending(
+            userId, thisMonthStart.minusMonths(1), nextMonthStart))
+        .thenReturn(
+            Collections.singletonList(
+                new Object[] {thisMonthStart, true, incomeThisMonth, BigDecimal.ZERO}));
+
+    List<IncomeExpenseSummary> result = dashboardService.getIncomeExpenseSummary(userId);
+
+    assertEquals(incomeThisMonth, result.get(0).getIncome());
+    assertEquals(BigDecimal.ZERO, result.get(1).getIncome());
+  }
+
+  @Test
+  void getDashboardOverview_shouldBuildEveryPanelFromSharedAccounts() {
+    Account goalAccount = new Account();
+    goalAccount.setId(2L);
+    goalAccount.setName("Goal Savings");
+    goalAccount.setBalance(BigDecimal.valueOf(250));
+    mockAccount.setType(null);
+    when(accountRepo.findAccountsTypeNameBalanceByUserId(userId))
+        .thenReturn(List.of(summaryOf(mockAccount), summaryOf(goalAccount)));
+    when(savingGoalsRepo.findTop3ByUser_IdOrderByTargetDesc(userId)).thenReturn(List.of(mockGoal));
+    when(monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(userId)).thenReturn(List.of());
+    when(transactionRepo.findLatest3TransactionSummaries(userId)).thenReturn(List.of());
+    when(monthlyRollupRepo.sumCreditByMonth(eq(userId), any(), any())).thenReturn(List.of());
+    when(spendingInsightService.getInsights(userId))
+        .thenReturn(
+            new SpendingInsightsResponse(
+                List.of(new SpendingInsight("Spend less")), true, false, null));
+
+    DashboardOverview overview = dashboardService.getDashboardOverview(userId);
+
+    assertEquals(0, BigDecimal.valueOf(1250).compareTo(overview.getTotalBalance()));
+    assertEquals(2, overview.getAccountsSummary().size());
+    assertEquals(overview.getTotalBalance(), overview.getNetworth().getTotal());
+    assertEquals("Goal Savings", overview.getNetworth().getBreakdownItems().get(1).getName());
+    assertEquals(1, overview.getSavingGoals().size());
+    assertEquals(2, overview.getIncomeExpenseSummary().size());
+    assertEquals(12, overview.getIncomeTrend().getIncomeThisYear().size());
+    assertEquals(1, overview.getSpendingInsights().size());
+    verify(accountRepo, never()).findTotalBalanceByUserId(anyLong());
+    verify(accountRepo, never()).findAccountsNameBalanceByUserId(anyLong());
+    verify(userRepo).findTimeZoneById(userId);
+  }
+
+  @Test
+  void getDashboardOverview_shouldReportUnavailableInsightsWithoutFailing() {
+    when(accountRepo.findAccountsTypeNameBalanceByUserId(userId)).thenReturn(List.of());
+    when(savingGoalsRepo.findTop3ByUser_IdOrderByTargetDesc(userId)).thenReturn(List.of());
+    when(monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(userId)).thenReturn(List.of());
+    when(transactionRepo.findLatest3TransactionSummaries(userId)).thenReturn(List.of());
+    when(monthlyRollupRepo.sumCreditByMonth(eq(userId), any(), any())).thenReturn(List.of());
+    when(spendingInsightService.getInsights(userId))
+        .thenThrow(new IllegalStateException("Insight store unavailable"));
+
+    DashboardOverview overview = dashboardService.getDashboardOverview(userId);
+
+    assertEquals(BigDecimal.ZERO, overview.getTotalBalance());
+    assertEquals(
+        "Spending insights are currently unavailable.",
+        overview.getSpendingInsights().getFirst().getInsight());
+  }
+
+  @Test
+  void getDashboardOverview_shouldFailWhenPanelsMissTheTimeout() {
+    DashboardService stalledService =
+        new DashboardService(
+            accountRepo,
+            savingGoalsRepo,
+            transactionRepo,
+            monthlyRollupRepo,
+            userRepo,
+            spendingInsightService,
+            task -> {},
+            10);
+
+    assertThrows(
+        DashboardUnavailableException.class, () -> stalledService.getDashboardOverview(userId));
+    verify(accountRepo, never()).findAccountsTypeNameBalanceByUserId(anyLong());
+  }
+
   @Test
   void getExpenseAnalysis_shouldReturnExpectedList() {
     ExpenseAnalysis mockAnalysis = new ExpenseAnalysis();
     mockAnalysis.setLabel("Food");
     mockAnalysis.setValue(BigDecimal.valueOf(500));
 
-    when(transactionRepo.findTop5ExpenseCategoriesByAmount(userId))
+    when(monthlyRollupRepo.findTop5ExpenseCategoriesByAmount(userId))
         .thenReturn(Collections.singletonList(mockAnalysis));
 
     List<ExpenseAnalysis> result = dashboardService.getExpenseAnalysis(userId);
@@ -170,7 +290,7 @@ class DashboardServiceTest {
             .mapToObj(
                 i ->
                     new Object[] {
-                      i,
+                      LocalDate.of(currentYear, i, 1),
                       BigDecimal.valueOf(100.00 + (i - 1) * 100.00)
                           .setScale(2, RoundingMode.HALF_UP)
                     })
@@ -180,7 +300,7 @@ class DashboardServiceTest {
             .mapToObj(
                 i ->
                     new Object[] {
-                      i,
+                      LocalDate.of(lastYear, i, 1),
                       BigDecimal.valueOf(50.00 + (i - 1) * 100.00).setScale(2, RoundingMode.HALF_UP)
                     })
             .toList();
@@ -191,8 +311,11 @@ class DashboardServiceTest {
     List<BigDecimal> expectedLastYearIncome =
         lastYearIncome.stream().map(row -> (BigDecimal) row[1]).toList();
 
-    when(transactionRepo.getMonthlyIncomeForYear(userId, currentYear)).thenReturn(thisYearIncome);
-    when(transactionRepo.getMonthlyIncomeForYear(userId, lastYear)).thenReturn(lastYearIncome);
+    List<Object[]> monthlyIncome = new ArrayList<>(lastYearIncome);
+    monthlyIncome.addAll(thisYearIncome);
+    when(monthlyRollupRepo.sumCreditByMonth(
+            userId, LocalDate.of(lastYear, 1, 1), LocalDate.of(currentYear + 1, 1, 1)))
+        .thenReturn(monthlyIncome);
 
     // Act
     IncomeTrend trend = dashboardService.getIncomeTrend(userId);
@@ -206,51 +329,19 @@ class DashboardServiceTest {
   }
 
   @Test
-  void getSpendingInsights_shouldReturnInsights() {
-    // Arrange
-    LocalDate endDate = LocalDate.now();
-    LocalDate startDate = endDate.minusDays(30);
-
-    Transaction t1 = new Transaction();
-    t1.setAmount(BigDecimal.valueOf(-50.00));
-    t1.setCategory("Food");
-    Transaction t2 = new Transaction();
-    t2.setAmount(BigDecimal.valueOf(-25.00));
-    t2.setCategory("Subscription");
-    List<Transaction> mockTransactions = Arrays.asList(t1, t2);
-
-    String transactionStats =
-        "User's spending over the last 30 days:\n"
-            + "- Food: $50.00\n"
-            + "- Subscription: $25.00\n";
-    String rawInsights =
-        "Insight 1: Consider shifting just 1 meal/week to home cooking, you could save $120/month while still enjoying the occasional treat!\n"
-            + "Insight 2: Bundling or pausing just 1–2 rarely used ones could save around $25–$40/month, with no major impact on your routine!";
-    List<SpendingInsight> expectedInsights =
-        Arrays.asList(
-            new SpendingInsight(
-                "Consider shifting just 1 meal/week to home cooking, you could save $120/month while still enjoying the occasional treat!"),
-            new SpendingInsight(
-                "Bundling or pausing just 1–2 rarely used ones could save around $25–$40/month, with no major impact on your routine!"));
+  void getSpendingInsights_shouldServeStoredInsights() {
+    SpendingInsightsResponse stored =
+        new SpendingInsightsResponse(
+            List.of(new SpendingInsight("Cook at home more often")), false, true, null);
+    when(spendingInsightService.getInsights(userId)).thenReturn(stored);
 
-    when(transactionService.getTransactionsByUserIdInTimeFrame(userId, startDate, endDate))
-        .thenReturn(mockTransactions);
-    when(aiInsightService.buildStrictPrompt(transactionStats)).thenReturn("mocked prompt");
-    when(aiInsightService.getInsightsFromText("mocked prompt")).thenReturn(rawInsights);
-    when(aiInsightService.parseInsightsToList(rawInsights)).thenReturn(expectedInsights);
+    SpendingInsightsResponse insights = dashboardService.getSpendingInsights(userId);
 
-    // Act
-    List<SpendingInsight> insights = dashboardService.getSpendingInsights(userId);
+    assertEquals(stored, insights);
+  }
 
-    // Assert
-    assertEquals(2, insights.size(), "Should return 2 insights");
-    assertEquals(
-        expectedInsights.get(0).getInsight(),
-        insights.get(0).getInsight(),
-        "First insight should match");
-    assertEquals(
-        expectedInsights.get(1).getInsight(),
-        insights.get(1).getInsight(),
-        "Second insight should match");
+  private static AccountSummary summaryOf(Account account) {
+    return new AccountSummary(
+        account.getId(), account.getType(), account.getName(), account.getBalance());
   }
 }
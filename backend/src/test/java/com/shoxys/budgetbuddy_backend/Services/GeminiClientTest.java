@@ -0,0 +1,243 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shoxys.budgetbuddy_backend.Exceptions.InsightUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpServerErrorException;
+
+class GeminiClientTest {
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final CountDownLatch slowReleased = new CountDownLatch(1);
+  private volatile int status = 200;
+  private MutableClock clock;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    clock = new MutableClock(Instant.parse("2025-06-30T10:00:00Z"));
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/generate",
+        exchange -> {
+          hits.incrementAndGet();
+          clientPorts.add(exchange.getRemoteAddress().getPort());
+          respond(exchange, status, "{\"text\":\"ok\"}");
+        });
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            slowReleased.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200, "{\"text\":\"late\"}");
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    slowReleased.countDown();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void post_shouldReturnResponseAndRecordCall() {
+    GeminiClient client = client(Duration.ofSeconds(2), 4, 5);
+
+    Map<?, ?> response = client.post(url("/generate"), request(), Map.class);
+
+    assertEquals("ok", response.get("text"));
+    assertEquals(1, client.getCallCount());
+    assertEquals(0, client.getFailureCount());
+    assertEquals(0, client.getInFlight());
+    assertTrue(client.getMaxCallMillis() > 0);
+  }
+
+  @Test
+  void post_shouldReuseConnectionsAcrossCalls() {
+    GeminiClient client = client(Duration.ofSeconds(2), 4, 5);
+
+    for (int i = 0; i < 5; i++) {
+      client.post(url("/generate"), request(), Map.class);
+    }
+
+    assertEquals(5, hits.get());
+    assertEquals(1, clientPorts.size());
+  }
+
+  @Test
+  void post_shouldTimeOutSlowResponses() {
+    GeminiClient client = client(Duration.ofMillis(200), 4, 5);
+
+    assertThrows(RuntimeException.class, () -> client.post(url("/slow"), request(), Map.class));
+    assertEquals(1, client.getFailureCount());
+    assertEquals(0, client.getInFlight());
+  }
+
+  @Test
+  void post_shouldOpenCircuitAfterRepeatedFailures() {
+    GeminiClient client = client(Duration.ofSeconds(2), 4, 2);
+    status = 500;
+
+    assertThrows(
+        HttpServerErrorException.class, () -> client.post(url("/generate"), request(), Map.class));
+    assertThrows(
+        HttpServerErrorException.class, () -> client.post(url("/generate"), request(), Map.class));
+    assertFalse(client.isAvailable());
+    assertThrows(
+        InsightUnavailableException.class,
+        () -> client.post(url("/generate"), request(), Map.class));
+
+    assertEquals(2, hits.get());
+    assertEquals(1, client.getShortCircuitCount());
+  }
+
+  @Test
+  void post_shouldCloseCircuitAfterSuccessfulTrialCall() {
+    GeminiClient client = client(Duration.ofSeconds(2), 4, 1);
+    status = 500;
+    assertThrows(
+        HttpServerErrorException.class, () -> client.post(url("/generate"), request(), Map.class));
+    assertEquals(InsightCircuitBreaker.State.OPEN, client.getCircuitState());
+
+    clock.advance(OPEN_DURATION);
+    assertEquals(InsightCircuitBreaker.State.HALF_OPEN, client.getCircuitState());
+    status = 200;
+    client.post(url("/generate"), request(), Map.class);
+
+    assertEquals(InsightCircuitBreaker.State.CLOSED, client.getCircuitState());
+    assertEquals(2, hits.get());
+  }
+
+  @Test
+  void post_shouldReopenCircuitWhenTrialCallFails() {
+    GeminiClient client = client(Duration.ofSeconds(2), 4, 1);
+    status = 500;
+    assertThrows(
+        HttpServerErrorException.class, () -> client.post(url("/generate"), request(), Map.class));
+
+    clock.advance(OPEN_DURATION);
+    assertThrows(
+        HttpServerErrorException.class, () -> client.post(url("/generate"), request(), Map.class));
+
+    assertEquals(InsightCircuitBreaker.State.OPEN, client.getCircuitState());
+    assertThrows(
+        InsightUnavailableException.class,
+        () -> client.post(url("/generate"), request(), Map.class));
+  }
+
+  @Test
+  void post_shouldRefuseCallsWhenAllSlotsAreBusy() throws Exception {
+    GeminiClient client = client(Duration.ofSeconds(5), 1, 5);
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+    try {
+      Future<Map> slow = caller.submit(() -> client.post(url("/slow"), request(), Map.class));
+      while (client.getInFlight() == 0) {
+        Thread.sleep(10);
+      }
+
+      assertThrows(
+          InsightUnavailableException.class,
+          () -> client.post(url("/generate"), request(), Map.class));
+      assertEquals(1, client.getRejectedCount());
+      assertEquals(0, hits.get());
+
+      slowReleased.countDown();
+      assertEquals("late", slow.get(5, TimeUnit.SECONDS).get("text"));
+      assertEquals(InsightCircuitBreaker.State.CLOSED, client.getCircuitState());
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+
+  private GeminiClient client(Duration readTimeout, int maxConcurrent, int failureThreshold) {
+    return new GeminiClient(
+        Duration.ofSeconds(1),
+        readTimeout,
+        maxConcurrent,
+        Duration.ofMillis(50),
+        new InsightCircuitBreaker(failureThreshold, OPEN_DURATION, clock));
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  private static HttpEntity<Map<String, String>> request() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    return new HttpEntity<>(Map.of("prompt", "hello"), headers);
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionCheckResult;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.ContributionMismatch;
+import com.shoxys.budgetbuddy_backend.Entities.GoalContribution;
+import com.shoxys.budgetbuddy_backend.Entities.SavingGoal;
+import com.shoxys.budgetbuddy_backend.Enums.ContributionType;
+import com.shoxys.budgetbuddy_backend.Repo.GoalContributionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.SavingGoalsRepo;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GoalContributionReconcilerTest {
+
+  @Mock private GoalContributionRepo goalContributionRepo;
+  @Mock private SavingGoalsRepo savingGoalsRepo;
+
+  @InjectMocks private GoalContributionReconciler goalContributionReconciler;
+
+  @Test
+  void checkContributions_shouldReportMismatchesWithoutRepairing() {
+    when(savingGoalsRepo.count()).thenReturn(3L);
+    when(goalContributionRepo.findContributionMismatches())
+        .thenReturn(
+            List.of(new ContributionMismatch(5L, BigDecimal.valueOf(75), BigDecimal.valueOf(50))));
+
+    ContributionCheckResult result = goalContributionReconciler.checkContributions(false);
+
+    assertEquals(3, result.getChecked());
+    assertEquals(1, result.getMismatched());
+    assertEquals(0, result.getRepaired());
+    verify(goalContributionRepo, never()).save(any(GoalContribution.class));
+  }
+
+  @Test
+  void checkContributions_shouldAppendAdjustmentsWhenRequested() {
+    SavingGoal goal = new SavingGoal();
+    goal.setId(5L);
+    when(savingGoalsRepo.count()).thenReturn(3L);
+    when(savingGoalsRepo.getReferenceById(5L)).thenReturn(goal);
+    when(goalContributionRepo.findContributionMismatches())
+        .thenReturn(List.of(new ContributionMismatch(5L, BigDecimal.valueOf(30), null)));
+
+    ContributionCheckResult result = goalContributionReconciler.checkContributions(true);
+
+    assertEquals(1, result.getMismatched());
+    assertEquals(1, result.getRepaired());
+    ArgumentCaptor<GoalContribution> entry = ArgumentCaptor.forClass(GoalContribution.class);
+    verify(goalContributionRepo).save(entry.capture());
+    assertSame(goal, entry.getValue().getGoal());
+    assertEquals(ContributionType.ADJUSTMENT, entry.getValue().getType());
+    assertEquals(0, BigDecimal.valueOf(30).compareTo(entry.getValue().getAmount()));
+  }
+
+  @Test
+  void checkContributions_shouldReportNothingWhenLedgerAgrees() {
+    when(savingGoalsRepo.count()).thenReturn(2L);
+    when(goalContributionRepo.findContributionMismatches()).thenReturn(List.of());
+
+    ContributionCheckResult result = goalContributionReconciler.checkContributions(true);
+
+    assertEquals(2, result.getChecked());
+    assertEquals(0, result.getMismatched());
+    assertEquals(0, result.getRepaired());
+  }
+}
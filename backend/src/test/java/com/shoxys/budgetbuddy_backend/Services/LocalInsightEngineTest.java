@@ -0,0 +1,92 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsight;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingPeriodSummary;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class LocalInsightEngineTest {
+  private final LocalInsightEngine engine = new LocalInsightEngine();
+
+  @Test
+  void generate_shouldReportSpendingChangeTopMoverAndShareShift() {
+    SpendingPeriodSummary previous =
+        summary(Map.of("Food", 200, "Rent", 1000, "Subscription", 100), 2000);
+    SpendingPeriodSummary current =
+        summary(Map.of("Food", 500, "Rent", 1000, "Subscription", 100), 2000);
+
+    List<String> insights = texts(engine.generate(current, previous, 30));
+
+    assertEquals(
+        List.of(
+            "Your spending is up 23% on the previous 30 days, at $1600.00. Reviewing your largest"
+                + " categories could help bring it back in line.",
+            "Food spending rose by $300.00 to $500.00, the biggest change in any category.",
+            "Rent now makes up 63% of your spending, down from 77%."),
+        insights);
+  }
+
+  @Test
+  void generate_shouldReportSavingsTrendAndLargestCategoryWhenSpendingIsSteady() {
+    SpendingPeriodSummary previous = summary(Map.of("Food", 300), 1000);
+    SpendingPeriodSummary current = summary(Map.of("Food", 302), 2000);
+
+    List<String> insights = texts(engine.generate(current, previous, 30));
+
+    assertEquals(
+        List.of(
+            "You saved 85% of your income over the last 30 days, up from 70% the period before.",
+            "Food was your largest expense at $302.00, 100% of your spending."),
+        insights);
+  }
+
+  @Test
+  void generate_shouldReportOverspendingWithoutPreviousPeriod() {
+    SpendingPeriodSummary current = summary(Map.of("Food", 300, "Travel", 900), 1000);
+
+    List<String> insights = texts(engine.generate(current, summary(Map.of(), 0), 30));
+
+    assertEquals(
+        List.of(
+            "You spent $200.00 more than you earned over the last 30 days. Trimming one category"
+                + " could close the gap.",
+            "Travel was your largest expense at $900.00, 75% of your spending."),
+        insights);
+  }
+
+  @Test
+  void generate_shouldReportNoSpending() {
+    List<String> insights =
+        texts(engine.generate(summary(Map.of(), 500), summary(Map.of("Food", 40), 0), 30));
+
+    assertEquals(
+        List.of(
+            "You had no spending over the last 30 days.",
+            "You saved 100% of your income over the last 30 days."),
+        insights);
+  }
+
+  @Test
+  void generate_shouldRejectMissingSummary() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> engine.generate(summary(Map.of("Food", 10), 0), null, 30));
+  }
+
+  private static SpendingPeriodSummary summary(Map<String, Integer> spending, int income) {
+    return new SpendingPeriodSummary(
+        spending.entrySet().stream()
+            .collect(
+                Collectors.toMap(Map.Entry::getKey, entry -> BigDecimal.valueOf(entry.getValue()))),
+        BigDecimal.valueOf(income));
+  }
+
+  private static List<String> texts(List<SpendingInsight> insights) {
+    return insights.stream().map(SpendingInsight::getInsight).toList();
+  }
+}
@@ -0,0 +1,122 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.MonthlyRollupDelta;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Repo.MonthlyRollupRepo;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyRollupServiceTest {
+
+  @Mock private MonthlyRollupRepo monthlyRollupRepo;
+  @Mock private TransactionRepo transactionRepo;
+
+  @InjectMocks private MonthlyRollupService monthlyRollupService;
+
+  @Captor private ArgumentCaptor<List<MonthlyRollupDelta>> deltas;
+
+  private User user;
+  private Account spendingAccount;
+
+  @BeforeEach
+  void setUp() {
+    user = new User("test@example.com", "hashedPassword");
+    user.setId(1L);
+    spendingAccount =
+        new Account("Spending", AccountType.SPENDING, null, BigDecimal.ZERO, true, user);
+  }
+
+  @Test
+  void recordAdded_shouldMergeTransactionsInTheSameMonthAndCategory() {
+    monthlyRollupService.recordAdded(
+        List.of(
+            transaction(LocalDate.of(2025, 4, 2), -20, "Groceries"),
+            transaction(LocalDate.of(2025, 4, 28), -5, "Groceries"),
+            transaction(LocalDate.of(2025, 4, 28), 300, "Groceries"),
+            transaction(LocalDate.of(2025, 5, 1), -7, "Groceries")));
+
+    verify(monthlyRollupRepo).applyDeltas(deltas.capture());
+    List<MonthlyRollupDelta> applied = deltas.getValue();
+    assertEquals(2, applied.size());
+    MonthlyRollupDelta april = applied.getFirst();
+    assertEquals(LocalDate.of(2025, 4, 1), april.getMonthStart());
+    assertTrue(april.isSpending());
+    assertEquals(0, BigDecimal.valueOf(300).compareTo(april.getCreditSum()));
+    assertEquals(0, BigDecimal.valueOf(-25).compareTo(april.getDebitSum()));
+    assertEquals(3, april.getTransactionCount());
+  }
+
+  @Test
+  void recordRemoved_shouldApplyNegatedDelta() {
+    monthlyRollupService.recordRemoved(transaction(LocalDate.of(2025, 4, 2), -20, "Groceries"));
+
+    verify(monthlyRollupRepo).applyDeltas(deltas.capture());
+    MonthlyRollupDelta delta = deltas.getValue().getFirst();
+    assertEquals(0, BigDecimal.valueOf(20).compareTo(delta.getDebitSum()));
+    assertEquals(-1, delta.getTransactionCount());
+  }
+
+  @Test
+  void recordRemovedByIds_shouldSkipWhenNothingMatched() {
+    when(transactionRepo.summarizeByMonthForIds(List.of(9L), user)).thenReturn(List.of());
+
+    monthlyRollupService.recordRemoved(List.of(9L), user);
+
+    verify(monthlyRollupRepo, never()).applyDeltas(anyList());
+  }
+
+  @Test
+  void rebuild_shouldReplaceRowsFromTransactionSummary() {
+    when(transactionRepo.summarizeByMonthForUser(1L))
+        .thenReturn(
+            List.<Object[]>of(
+                new Object[] {
+                  2025, 4, "Groceries", AccountType.SAVINGS, BigDecimal.ZERO, BigDecimal.TEN, 2L
+                },
+                new Object[] {
+                  2025, 4, "Groceries", AccountType.INVESTMENTS, BigDecimal.ONE, null, 1L
+                }));
+    when(monthlyRollupRepo.applyDeltas(anyList()))
+        .thenAnswer(i -> i.<List<?>>getArgument(0).size());
+
+    assertEquals(1, monthlyRollupService.rebuild(1L));
+
+    verify(monthlyRollupRepo).deleteAllByUserId(1L);
+    verify(monthlyRollupRepo).applyDeltas(deltas.capture());
+    MonthlyRollupDelta delta = deltas.getValue().getFirst();
+    assertFalse(delta.isSpending());
+    assertEquals(3, delta.getTransactionCount());
+  }
+
+  private Transaction transaction(LocalDate date, long amount, String category) {
+    return new Transaction(
+        date,
+        BigDecimal.valueOf(amount),
+        "Description",
+        category,
+        null,
+        BigDecimal.ZERO,
+        SourceType.MANUAL,
+        spendingAccount,
+        user);
+  }
+}
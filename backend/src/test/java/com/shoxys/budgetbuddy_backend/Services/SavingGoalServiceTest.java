@@ -4,24 +4,32 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionPage;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalContributionView;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStat;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.GoalStatsSummary;
 import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.SavingGoal.SavingGoalView;
 import com.shoxys.budgetbuddy_backend.Entities.*;
 import com.shoxys.budgetbuddy_backend.Enums.*;
-import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
+import com.shoxys.budgetbuddy_backend.Exceptions.SavingGoalNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.*;
 import com.shoxys.budgetbuddy_backend.TestUtils;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class SavingGoalServiceTest {
@@ -30,11 +38,11 @@ class SavingGoalServiceTest {
   @Mock private AccountRepo accountRepo;
   @Mock private UserRepo userRepo;
   @Mock private AccountService accountService;
+  @Mock private GoalContributionRepo goalContributionRepo;
 
   @InjectMocks private SavingGoalService savingGoalService;
 
   private final String VALID_EMAIL = "valid@example.com";
-  private final String INVALID_EMAIL = "invalid@example.com";
   private final User mockUser = new User(VALID_EMAIL, "hashedpass");
   private final Account goalAccount =
       new Account("Goals", AccountType.GOALSAVINGS, null, BigDecimal.TEN, true, mockUser);
@@ -67,22 +75,21 @@ class SavingGoalServiceTest {
 
   @Test
   void getSavingGoalTitleById_shouldReturnTitle() {
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(savingGoalsRepo.findTitleForSavingGoalByIdAndUser(GOAL_ID, mockUser))
         .thenReturn("Save for Car");
 
-    String title = savingGoalService.getSavingGoalTitleById(VALID_EMAIL, GOAL_ID);
+    String title = savingGoalService.getSavingGoalTitleById(USER_ID, GOAL_ID);
 
     assertEquals("Save for Car", title);
   }
 
   @Test
-  void getSavingGoalTitleById_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.empty());
-
+  void getSavingGoalTitleById_shouldRejectNonPositiveUserId() {
     assertThrows(
-        UserNotFoundException.class,
-        () -> savingGoalService.getSavingGoalTitleById(VALID_EMAIL, USER_ID));
+        IllegalArgumentException.class,
+        () -> savingGoalService.getSavingGoalTitleById(0L, GOAL_ID));
+    verifyNoInteractions(userRepo, savingGoalsRepo);
   }
 
   @Test
@@ -90,17 +97,39 @@ class SavingGoalServiceTest {
     SavingGoalRequest req =
         new SavingGoalRequest(
             "Title", BigDecimal.valueOf(1000), BigDecimal.valueOf(0), LocalDate.now(), "img");
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
         .thenReturn(Optional.empty());
-    when(accountService.createGoalSavingsAccount(mockUser, req.getContributed()))
+    when(accountService.createGoalSavingsAccount(mockUser, BigDecimal.ZERO))
         .thenReturn(goalAccount);
     when(savingGoalsRepo.save(any(SavingGoal.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    SavingGoal result = savingGoalService.createSavingGoal(VALID_EMAIL, req);
+    SavingGoalView result = savingGoalService.createSavingGoal(USER_ID, req);
 
     assertEquals(req.getTitle(), result.getTitle());
-    verify(accountService).recalculateGoalSavingsBalance(mockUser);
+    verifyNoInteractions(goalContributionRepo);
+    verify(accountService, never()).applyBalanceDelta(any(), any());
+  }
+
+  @Test
+  void createSavingGoal_shouldRecordInitialContribution() {
+    SavingGoalRequest req =
+        new SavingGoalRequest(
+            "Title", BigDecimal.valueOf(1000), BigDecimal.valueOf(150), LocalDate.now(), "img");
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
+        .thenReturn(Optional.of(goalAccount));
+    when(savingGoalsRepo.save(any(SavingGoal.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    savingGoalService.createSavingGoal(USER_ID, req);
+
+    ArgumentCaptor<GoalContribution> entry = ArgumentCaptor.forClass(GoalContribution.class);
+    verify(goalContributionRepo).save(entry.capture());
+    assertEquals(ContributionType.INITIAL, entry.getValue().getType());
+    assertEquals(BigDecimal.valueOf(150), entry.getValue().getAmount());
+    assertEquals(req.getTitle(), entry.getValue().getGoal().getTitle());
+    verify(accountService).applyBalanceDelta(goalAccount, BigDecimal.valueOf(150));
+    verify(accountService, never()).createGoalSavingsAccount(any(), any());
   }
 
   @Test
@@ -113,38 +142,148 @@ class SavingGoalServiceTest {
             LocalDate.now(),
             "newimg.jpg");
 
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
-    when(savingGoalsRepo.findSavingGoalByIdAndUser(GOAL_ID, mockUser))
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.findLockedSavingGoalByIdAndUser(GOAL_ID, mockUser))
         .thenReturn(Optional.of(savingGoal));
     when(savingGoalsRepo.save(any(SavingGoal.class))).thenAnswer(inv -> inv.getArgument(0));
 
-    SavingGoal updated = savingGoalService.updateSavingGoal(VALID_EMAIL, GOAL_ID, req);
+    SavingGoalView updated = savingGoalService.updateSavingGoal(USER_ID, GOAL_ID, req);
 
     assertEquals("Updated Title", updated.getTitle());
-    verify(accountService).recalculateGoalSavingsBalance(mockUser);
+    assertEquals(BigDecimal.valueOf(200), updated.getContributed());
+    verifyNoInteractions(goalContributionRepo);
+    verify(accountService, never()).applyBalanceDelta(any(), any());
   }
 
   @Test
-  void deleteSavingGoal_shouldDeleteAndRecalculate() {
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
-    when(savingGoalsRepo.existsByIdAndUser(GOAL_ID, mockUser)).thenReturn(true);
+  void updateSavingGoal_shouldRecordResetOfCompletedGoal() {
+    savingGoal.setContributed(BigDecimal.valueOf(1000));
+    SavingGoalRequest req =
+        new SavingGoalRequest(
+            "Next Car", BigDecimal.valueOf(2000), null, LocalDate.now(), "img.jpg");
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.findLockedSavingGoalByIdAndUser(GOAL_ID, mockUser))
+        .thenReturn(Optional.of(savingGoal));
+    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
+        .thenReturn(Optional.of(goalAccount));
+    when(savingGoalsRepo.save(any(SavingGoal.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    SavingGoalView updated = savingGoalService.updateSavingGoal(USER_ID, GOAL_ID, req);
+
+    assertEquals(BigDecimal.ZERO, updated.getContributed());
+    ArgumentCaptor<GoalContribution> entry = ArgumentCaptor.forClass(GoalContribution.class);
+    verify(goalContributionRepo).save(entry.capture());
+    assertEquals(ContributionType.RESET, entry.getValue().getType());
+    assertEquals(BigDecimal.valueOf(-1000), entry.getValue().getAmount());
+    verify(accountService).applyBalanceDelta(goalAccount, BigDecimal.valueOf(-1000));
+  }
+
+  @Test
+  void deleteSavingGoal_shouldDeleteAndDecrementBalance() {
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.findLockedSavingGoalByIdAndUser(GOAL_ID, mockUser))
+        .thenReturn(Optional.of(savingGoal));
+    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
+        .thenReturn(Optional.of(goalAccount));
+
+    savingGoalService.deleteSavingGoal(USER_ID, GOAL_ID);
+
+    verify(savingGoalsRepo).delete(savingGoal);
+    verify(accountService).applyBalanceDelta(goalAccount, BigDecimal.valueOf(-200));
+  }
+
+  @Test
+  void deleteSavingGoal_shouldThrowWhenGoalNotFound() {
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.findLockedSavingGoalByIdAndUser(GOAL_ID, mockUser))
+        .thenReturn(Optional.empty());
+
+    assertThrows(
+        SavingGoalNotFoundException.class,
+        () -> savingGoalService.deleteSavingGoal(USER_ID, GOAL_ID));
+    verify(savingGoalsRepo, never()).delete(any());
+    verifyNoInteractions(accountService);
+  }
+
+  @Test
+  void updateContribution_shouldRecordContributionAndIncrementBalance() {
+    GoalContributionRequest req = new GoalContributionRequest(BigDecimal.valueOf(50));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.updateSavingGoalContribution(mockUser, GOAL_ID, req.getContribution()))
+        .thenReturn(1);
+    when(savingGoalsRepo.getReferenceById(GOAL_ID)).thenReturn(savingGoal);
+    when(accountRepo.findAccountByUserAndType(mockUser, AccountType.GOALSAVINGS))
+        .thenReturn(Optional.of(goalAccount));
 
-    savingGoalService.deleteSavingGoal(VALID_EMAIL, GOAL_ID);
+    savingGoalService.updateContributionForSavingGoal(USER_ID, GOAL_ID, req);
 
-    verify(savingGoalsRepo).deleteSavingGoalByIdAndUser(GOAL_ID, mockUser);
-    verify(accountService).recalculateGoalSavingsBalance(mockUser);
+    ArgumentCaptor<GoalContribution> entry = ArgumentCaptor.forClass(GoalContribution.class);
+    verify(goalContributionRepo).save(entry.capture());
+    assertSame(savingGoal, entry.getValue().getGoal());
+    assertEquals(ContributionType.CONTRIBUTION, entry.getValue().getType());
+    assertEquals(BigDecimal.valueOf(50), entry.getValue().getAmount());
+    assertNotNull(entry.getValue().getCreatedAt());
+    verify(accountService).applyBalanceDelta(goalAccount, BigDecimal.valueOf(50));
   }
 
   @Test
-  void updateContribution_shouldUpdateAndRecalculate() {
+  void updateContribution_shouldThrowWhenGoalNotFound() {
     GoalContributionRequest req = new GoalContributionRequest(BigDecimal.valueOf(50));
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.updateSavingGoalContribution(mockUser, GOAL_ID, req.getContribution()))
+        .thenReturn(0);
+
+    assertThrows(
+        SavingGoalNotFoundException.class,
+        () -> savingGoalService.updateContributionForSavingGoal(USER_ID, GOAL_ID, req));
+    verifyNoInteractions(goalContributionRepo, accountService);
+  }
+
+  @Test
+  void getContributionHistory_shouldReturnPageWithNextCursor() {
+    List<GoalContributionView> entries =
+        new ArrayList<>(
+            List.of(contributionView(9L, 30), contributionView(7L, 20), contributionView(4L, 10)));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.existsByIdAndUser(GOAL_ID, mockUser)).thenReturn(true);
+    when(goalContributionRepo.findHistoryBefore(GOAL_ID, Long.MAX_VALUE, PageRequest.of(0, 3)))
+        .thenReturn(entries);
+
+    GoalContributionPage page = savingGoalService.getContributionHistory(USER_ID, GOAL_ID, null, 2);
+
+    assertEquals(
+        List.of(9L, 7L), page.getContent().stream().map(GoalContributionView::getId).toList());
+    assertEquals(7L, page.getNextCursor());
+  }
+
+  @Test
+  void getContributionHistory_shouldEndOnLastPage() {
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(savingGoalsRepo.existsByIdAndUser(GOAL_ID, mockUser)).thenReturn(true);
+    when(goalContributionRepo.findHistoryBefore(GOAL_ID, 7L, PageRequest.of(0, 3)))
+        .thenReturn(List.of(contributionView(4L, 10)));
 
-    savingGoalService.updateContributionForSavingGoal(VALID_EMAIL, GOAL_ID, req);
+    GoalContributionPage page = savingGoalService.getContributionHistory(USER_ID, GOAL_ID, 7L, 2);
 
-    verify(savingGoalsRepo).updateSavingGoalContribution(mockUser, GOAL_ID, req.getContribution());
-    verify(accountService).recalculateGoalSavingsBalance(mockUser);
+    assertEquals(1, page.getContent().size());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void getContributionHistory_shouldRejectInvalidSizeAndUnknownGoal() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> savingGoalService.getContributionHistory(USER_ID, GOAL_ID, null, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> savingGoalService.getContributionHistory(USER_ID, GOAL_ID, null, 101));
+
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.existsByIdAndUser(GOAL_ID, mockUser)).thenReturn(false);
+    assertThrows(
+        SavingGoalNotFoundException.class,
+        () -> savingGoalService.getContributionHistory(USER_ID, GOAL_ID, null, 20));
+    verifyNoInteractions(goalContributionRepo);
   }
 
   // Additional simple tests can be added for getGoalStatsForUser and individual goal stat methods
@@ -152,31 +291,30 @@ class SavingGoalServiceTest {
   void getTotalContributionForUser_shouldReturnTotalContribution() {
     BigDecimal expectedTotalContribution = BigDecimal.valueOf(500);
 
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(savingGoalsRepo.sumContributionsByUser(mockUser)).thenReturn(expectedTotalContribution);
 
-    BigDecimal actualTotalContribution = savingGoalService.getTotalContributionForUser(VALID_EMAIL);
+    BigDecimal actualTotalContribution = savingGoalService.getTotalContributionForUser(USER_ID);
 
     assertEquals(expectedTotalContribution, actualTotalContribution);
   }
 
   @Test
-  void getTotalContributionForUser_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
-
+  void getTotalContributionForUser_shouldRejectNonPositiveUserId() {
     assertThrows(
-        UserNotFoundException.class,
-        () -> savingGoalService.getTotalContributionForUser(INVALID_EMAIL));
+        IllegalArgumentException.class, () -> savingGoalService.getTotalContributionForUser(0L));
+    verifyNoInteractions(userRepo, savingGoalsRepo);
   }
 
   @Test
   void getPendingSavingGoalsForUser_shouldReturnSavingGoals() {
-    List<SavingGoal> expectedPendingGoals = Arrays.asList(savingGoal, savingGoal2);
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    List<SavingGoalView> expectedPendingGoals =
+        Stream.of(savingGoal, savingGoal2).map(SavingGoalView::from).toList();
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(savingGoalsRepo.findPendingSavingGoalsForUser(mockUser)).thenReturn(expectedPendingGoals);
 
-    List<SavingGoal> actualPendingGoals =
-        savingGoalService.getPendingSavingGoalsForUser(VALID_EMAIL);
+    List<SavingGoalView> actualPendingGoals =
+        savingGoalService.getPendingSavingGoalsForUser(USER_ID);
 
     assertEquals(expectedPendingGoals.size(), actualPendingGoals.size());
     TestUtils.assertListElementsMatch(
@@ -187,29 +325,27 @@ class SavingGoalServiceTest {
           assertEquals(expected.getDate(), actual.getDate());
           assertEquals(expected.getContributed(), actual.getContributed());
           assertEquals(expected.getTarget(), actual.getTarget());
-          assertEquals(expected.getAccount(), actual.getAccount());
-          assertEquals(expected.getUser(), actual.getUser());
+          assertEquals(expected.getAccountId(), actual.getAccountId());
         });
   }
 
   @Test
-  void getPendingSavingGoalsForUser_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
-
+  void getPendingSavingGoalsForUser_shouldRejectNonPositiveUserId() {
     assertThrows(
-        UserNotFoundException.class,
-        () -> savingGoalService.getPendingSavingGoalsForUser(INVALID_EMAIL));
+        IllegalArgumentException.class, () -> savingGoalService.getPendingSavingGoalsForUser(0L));
+    verifyNoInteractions(userRepo, savingGoalsRepo);
   }
 
   @Test
   void getCompleteSavingGoalsForUser_shouldReturnSavingGoals() {
-    List<SavingGoal> expectedCompleteGoals = Arrays.asList(savingGoal, savingGoal2);
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+    List<SavingGoalView> expectedCompleteGoals =
+        Stream.of(savingGoal, savingGoal2).map(SavingGoalView::from).toList();
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(savingGoalsRepo.findCompletedSavingGoalsForUser(mockUser))
         .thenReturn(expectedCompleteGoals);
 
-    List<SavingGoal> actualCompleteGoals =
-        savingGoalService.getCompleteSavingGoalsForUser(VALID_EMAIL);
+    List<SavingGoalView> actualCompleteGoals =
+        savingGoalService.getCompleteSavingGoalsForUser(USER_ID);
 
     assertEquals(expectedCompleteGoals.size(), actualCompleteGoals.size());
     TestUtils.assertListElementsMatch(
@@ -220,34 +356,28 @@ class SavingGoalServiceTest {
           assertEquals(expected.getDate(), actual.getDate());
           assertEquals(expected.getContributed(), actual.getContributed());
           assertEquals(expected.getTarget(), actual.getTarget());
-          assertEquals(expected.getAccount(), actual.getAccount());
-          assertEquals(expected.getUser(), actual.getUser());
+          assertEquals(expected.getAccountId(), actual.getAccountId());
         });
   }
 
   @Test
-  void getCompleteSavingGoalsForUser_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
-
+  void getCompleteSavingGoalsForUser_shouldRejectNonPositiveUserId() {
     assertThrows(
-        UserNotFoundException.class,
-        () -> savingGoalService.getCompleteSavingGoalsForUser(INVALID_EMAIL));
+        IllegalArgumentException.class, () -> savingGoalService.getCompleteSavingGoalsForUser(0L));
+    verifyNoInteractions(userRepo, savingGoalsRepo);
   }
 
   @Test
   void getGoalStatsForUser_shouldReturnGoalStatResponse() {
     // Arrange
-    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
-    when(savingGoalsRepo.findCountCompletedSavingGoalsByUser(mockUser)).thenReturn(2);
-    when(savingGoalsRepo.findCountInProgressSavingGoalsByUser(mockUser)).thenReturn(3);
-    when(savingGoalsRepo.findCountSavingGoalsByUser(eq(mockUser))).thenReturn(6);
-    when(savingGoalsRepo.findCountOverdueSavingGoalsByUser(mockUser)).thenReturn(1);
-    when(savingGoalsRepo.findCountSavingGoalsByUser(mockUser)).thenReturn(4);
-    // called twice due to method reuse
-    when(savingGoalsRepo.findCountCompletedSavingGoalsByUser(mockUser)).thenReturn(2);
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.summarizeSavingGoalsByUser(mockUser))
+        .thenReturn(
+            new GoalStatsSummary(
+                4L, 2L, 3L, 1L, BigDecimal.valueOf(1000), BigDecimal.valueOf(650), 0.625));
 
     // Act
-    GoalStatsResponse actual = savingGoalService.getGoalStatsForUser(VALID_EMAIL);
+    GoalStatsResponse actual = savingGoalService.getGoalStatsForUser(USER_ID);
 
     // Assert
 
@@ -270,21 +400,36 @@ class SavingGoalServiceTest {
           assertEquals(expected.getGoalType(), actualStat.getGoalType());
           assertEquals(expected.getAmount(), actualStat.getAmount());
         });
+    assertEquals(BigDecimal.valueOf(1000), actual.getTotalTarget());
+    assertEquals(BigDecimal.valueOf(650), actual.getTotalContributed());
+    assertEquals(63, actual.getAverageProgressPercent());
+    verify(savingGoalsRepo, times(1)).summarizeSavingGoalsByUser(mockUser);
+    verifyNoMoreInteractions(savingGoalsRepo);
   }
 
   @Test
-  void getGoalStatsForUser_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
+  void getGoalStatsForUser_shouldReturnZeroStatsWithoutGoals() {
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(savingGoalsRepo.summarizeSavingGoalsByUser(mockUser))
+        .thenReturn(new GoalStatsSummary(0L, null, null, null, null, null, null));
 
-    assertThrows(
-        UserNotFoundException.class, () -> savingGoalService.getGoalStatsForUser(INVALID_EMAIL));
+    GoalStatsResponse actual = savingGoalService.getGoalStatsForUser(USER_ID);
+
+    assertEquals(4, actual.getGoalStats().size());
+    assertEquals("You have completed 0% of total goals", actual.getGoalStats().get(3).getInsight());
+    assertEquals(BigDecimal.ZERO, actual.getTotalTarget());
+    assertEquals(0, actual.getAverageProgressPercent());
   }
 
   @Test
-  void getCompletedGoalStat_shouldReturnCorrectStat() {
-    when(savingGoalsRepo.findCountCompletedSavingGoalsByUser(mockUser)).thenReturn(5);
+  void getGoalStatsForUser_shouldRejectNonPositiveUserId() {
+    assertThrows(IllegalArgumentException.class, () -> savingGoalService.getGoalStatsForUser(0L));
+    verifyNoInteractions(userRepo, savingGoalsRepo);
+  }
 
-    GoalStat stat = savingGoalService.getCompletedGoalStat(mockUser);
+  @Test
+  void getCompletedGoalStat_shouldReturnCorrectStat() {
+    GoalStat stat = savingGoalService.getCompletedGoalStat(summary(10, 5, 5, 0));
 
     assertEquals(GoalType.COMPLETED, stat.getGoalType());
     assertEquals(5, stat.getAmount());
@@ -293,10 +438,7 @@ class SavingGoalServiceTest {
 
   @Test
   void getInProgressGoalStat_shouldReturnCorrectStat() {
-    when(savingGoalsRepo.findCountInProgressSavingGoalsByUser(mockUser)).thenReturn(4);
-    when(savingGoalsRepo.findCountSavingGoalsByUser(mockUser)).thenReturn(10);
-
-    GoalStat stat = savingGoalService.getInProgressGoalStat(mockUser);
+    GoalStat stat = savingGoalService.getInProgressGoalStat(summary(10, 6, 4, 0));
 
     assertEquals(GoalType.IN_PROGRESS, stat.getGoalType());
     assertEquals(4, stat.getAmount());
@@ -305,10 +447,7 @@ class SavingGoalServiceTest {
 
   @Test
   void getOverdueGoalStat_shouldReturnCorrectStat() {
-    when(savingGoalsRepo.findCountOverdueSavingGoalsByUser(mockUser)).thenReturn(2);
-    when(savingGoalsRepo.findCountInProgressSavingGoalsByUser(mockUser)).thenReturn(6);
-
-    GoalStat stat = savingGoalService.getOverdueGoalStat(mockUser);
+    GoalStat stat = savingGoalService.getOverdueGoalStat(summary(8, 2, 6, 2));
 
     assertEquals(GoalType.OVERDUE, stat.getGoalType());
     assertEquals(2, stat.getAmount());
@@ -318,13 +457,21 @@ class SavingGoalServiceTest {
 
   @Test
   void getTotalGoalStat_shouldReturnCorrectStat() {
-    when(savingGoalsRepo.findCountSavingGoalsByUser(mockUser)).thenReturn(10);
-    when(savingGoalsRepo.findCountCompletedSavingGoalsByUser(mockUser)).thenReturn(2);
-
-    GoalStat stat = savingGoalService.getTotalGoalStat(mockUser);
+    GoalStat stat = savingGoalService.getTotalGoalStat(summary(10, 2, 8, 0));
 
     assertEquals(GoalType.TOTAL, stat.getGoalType());
     assertEquals(10, stat.getAmount());
     assertEquals("You have completed 20% of total goals", stat.getInsight());
   }
+
+  private static GoalStatsSummary summary(
+      long total, long completed, long inProgress, long overdue) {
+    return new GoalStatsSummary(
+        total, completed, inProgress, overdue, BigDecimal.ZERO, BigDecimal.ZERO, 0.0);
+  }
+
+  private static GoalContributionView contributionView(long id, int amount) {
+    return new GoalContributionView(
+        id, BigDecimal.valueOf(amount), ContributionType.CONTRIBUTION, Instant.now());
+  }
 }
@@ -0,0 +1,277 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsight;
+import com.shoxys.budgetbuddy_backend.DTOs.Dashboard.SpendingInsightsResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.SpendingInsightCache;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.InsightEngine;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
+import com.shoxys.budgetbuddy_backend.Repo.SpendingInsightCacheRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SpendingInsightServiceTest {
+  private static final long USER_ID = 1L;
+  private static final Instant NOW = Instant.parse("2025-06-30T10:00:00Z");
+  private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+  private static final String STATS =
+      "User's spending over the last 30 days:\n- Food: $50.00\n- Subscription: $25.00\n";
+
+  @Mock private TransactionService transactionService;
+  @Mock private AiInsightService aiInsightService;
+  @Mock private SpendingInsightCacheRepo spendingInsightCacheRepo;
+  @Mock private UserRepo userRepo;
+
+  private final List<Runnable> queuedRefreshes = new ArrayList<>();
+  private SpendingInsightService spendingInsightService;
+
+  @BeforeEach
+  void setUp() {
+    spendingInsightService = service(InsightEngine.GEMINI);
+  }
+
+  @Test
+  void getInsights_shouldServeStoredInsightsWhenSummaryIsUnchanged() {
+    stubRecentSpending();
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID))
+        .thenReturn(Optional.of(stored(Utils.sha256Hex(STATS), "Cook at home\nCancel a plan")));
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+
+    assertTrue(response.isFresh());
+    assertFalse(response.isRefreshing());
+    assertEquals(2, response.getInsights().size());
+    assertEquals("Cancel a plan", response.getInsights().get(1).getInsight());
+    assertEquals(NOW.minusSeconds(60), response.getGeneratedAt());
+    assertTrue(queuedRefreshes.isEmpty());
+    verifyNoInteractions(aiInsightService);
+  }
+
+  @Test
+  void getInsights_shouldServeStaleInsightsAndCoalesceRefreshes() {
+    stubRecentSpending();
+    SpendingInsightCache cached = stored("outdated", "Old insight");
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID)).thenReturn(Optional.of(cached));
+    when(aiInsightService.isAvailable()).thenReturn(true);
+
+    SpendingInsightsResponse first = spendingInsightService.getInsights(USER_ID);
+    SpendingInsightsResponse second = spendingInsightService.getInsights(USER_ID);
+
+    assertFalse(first.isFresh());
+    assertTrue(first.isRefreshing());
+    assertEquals("Old insight", first.getInsights().getFirst().getInsight());
+    assertTrue(second.isRefreshing());
+    assertEquals(1, queuedRefreshes.size());
+    verify(aiInsightService, never()).getInsightsFromText(any());
+
+    when(aiInsightService.buildStrictPrompt(STATS)).thenReturn("prompt");
+    when(aiInsightService.getInsightsFromText("prompt")).thenReturn("raw");
+    when(aiInsightService.parseInsightsToList("raw"))
+        .thenReturn(List.of(new SpendingInsight("New one"), new SpendingInsight("New two")));
+    queuedRefreshes.getFirst().run();
+
+    verify(spendingInsightCacheRepo).save(cached);
+    assertEquals(Utils.sha256Hex(STATS), cached.getStatsHash());
+    assertEquals("New one\nNew two", cached.getInsights());
+    assertEquals(NOW, cached.getGeneratedAt());
+    verify(aiInsightService, times(1)).getInsightsFromText(any());
+
+    spendingInsightService.refresh(USER_ID);
+    assertEquals(2, queuedRefreshes.size());
+  }
+
+  @Test
+  void getInsights_shouldStoreFirstInsightsForUser() {
+    stubRecentSpending();
+    User user = new User("test@example.com", "hash");
+    user.setId(USER_ID);
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID)).thenReturn(Optional.empty());
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(user);
+    when(aiInsightService.isAvailable()).thenReturn(true);
+    when(aiInsightService.buildStrictPrompt(STATS)).thenReturn("prompt");
+    when(aiInsightService.getInsightsFromText("prompt")).thenReturn("raw");
+    when(aiInsightService.parseInsightsToList("raw"))
+        .thenReturn(List.of(new SpendingInsight("First")));
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+    queuedRefreshes.getFirst().run();
+
+    assertFalse(response.isFresh());
+    assertNull(response.getGeneratedAt());
+    ArgumentCaptor<SpendingInsightCache> saved =
+        ArgumentCaptor.forClass(SpendingInsightCache.class);
+    verify(spendingInsightCacheRepo).save(saved.capture());
+    assertEquals(user, saved.getValue().getUser());
+    assertEquals("First", saved.getValue().getInsights());
+  }
+
+  @Test
+  void getInsights_shouldServeStoredInsightsWithoutRefreshWhenApiUnavailable() {
+    stubRecentSpending();
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID))
+        .thenReturn(Optional.of(stored("outdated", "Old insight")));
+    when(aiInsightService.isAvailable()).thenReturn(false);
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+
+    assertFalse(response.isFresh());
+    assertFalse(response.isRefreshing());
+    assertEquals("Old insight", response.getInsights().getFirst().getInsight());
+    assertTrue(queuedRefreshes.isEmpty());
+  }
+
+  @Test
+  void getInsights_shouldServeLocalInsightsWhenApiUnavailableAndNothingStored() {
+    stubRecentSpending();
+    stubPreviousSpending(List.of());
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID)).thenReturn(Optional.empty());
+    when(aiInsightService.isAvailable()).thenReturn(false);
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+
+    assertTrue(response.isFresh());
+    assertFalse(response.isRefreshing());
+    assertTrue(response.getInsights().getFirst().getInsight().startsWith("You saved 93%"));
+    assertTrue(queuedRefreshes.isEmpty());
+  }
+
+  @Test
+  void getInsights_shouldOnlyUseLocalEngineWhenConfigured() {
+    spendingInsightService = service(InsightEngine.LOCAL);
+    stubRecentSpending();
+    stubPreviousSpending(List.of(spending("Food", -100), spending("Subscription", -25)));
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+    spendingInsightService.onTransactionsChanged(new TransactionsChangedEvent(USER_ID));
+
+    assertTrue(response.isFresh());
+    assertFalse(response.isRefreshing());
+    assertEquals(NOW, response.getGeneratedAt());
+    assertEquals(
+        "Your spending is down 40% on the previous 30 days, at $75.00. Keep up the good work!",
+        response.getInsights().getFirst().getInsight());
+    assertTrue(queuedRefreshes.isEmpty());
+    verifyNoInteractions(aiInsightService, spendingInsightCacheRepo);
+  }
+
+  @Test
+  void getInsights_shouldServeLocalInsightsWhileHybridRefreshRuns() {
+    spendingInsightService = service(InsightEngine.HYBRID);
+    stubRecentSpending();
+    stubPreviousSpending(List.of());
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID))
+        .thenReturn(Optional.of(stored("outdated", "Old insight")));
+    when(aiInsightService.isAvailable()).thenReturn(true);
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+
+    assertTrue(response.isFresh());
+    assertTrue(response.isRefreshing());
+    assertNotEquals("Old insight", response.getInsights().getFirst().getInsight());
+    assertEquals(1, queuedRefreshes.size());
+  }
+
+  @Test
+  void refresh_shouldFailAndReleaseUserWhenUpstreamFails() {
+    stubRecentSpending();
+    when(spendingInsightCacheRepo.findByUser_Id(USER_ID)).thenReturn(Optional.empty());
+    when(aiInsightService.buildStrictPrompt(STATS)).thenReturn("prompt");
+    when(aiInsightService.getInsightsFromText("prompt"))
+        .thenThrow(new RuntimeException("Failed to fetch insights from Gemini API"));
+
+    CompletableFuture<Void> refresh = spendingInsightService.refresh(USER_ID);
+    queuedRefreshes.getFirst().run();
+
+    assertTrue(refresh.isCompletedExceptionally());
+    verify(spendingInsightCacheRepo, never()).save(any());
+    assertNotSame(refresh, spendingInsightService.refresh(USER_ID));
+  }
+
+  @Test
+  void getInsights_shouldReportMissingDataWithoutRefreshing() {
+    when(transactionService.getTransactionsByUserIdInTimeFrame(USER_ID, TODAY.minusDays(30), TODAY))
+        .thenReturn(List.of());
+
+    SpendingInsightsResponse response = spendingInsightService.getInsights(USER_ID);
+
+    assertTrue(response.isFresh());
+    assertEquals(
+        "Not enough transaction data for the last 30 days to generate insights.",
+        response.getInsights().getFirst().getInsight());
+    assertTrue(queuedRefreshes.isEmpty());
+    verifyNoInteractions(spendingInsightCacheRepo);
+  }
+
+  @Test
+  void onTransactionsChanged_shouldQueueRefresh() {
+    spendingInsightService.onTransactionsChanged(new TransactionsChangedEvent(USER_ID));
+
+    assertEquals(1, queuedRefreshes.size());
+  }
+
+  @Test
+  void createTransactionStats_shouldSumSpendingByCategory() {
+    assertEquals(STATS, spendingInsightService.createTransactionStats(recentSpending()));
+  }
+
+  private SpendingInsightService service(InsightEngine engine) {
+    return new SpendingInsightService(
+        transactionService,
+        aiInsightService,
+        new LocalInsightEngine(),
+        spendingInsightCacheRepo,
+        userRepo,
+        queuedRefreshes::add,
+        engine,
+        Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  private void stubPreviousSpending(List<TransactionView> transactions) {
+    when(transactionService.getTransactionsByUserIdInTimeFrame(
+            USER_ID, TODAY.minusDays(61), TODAY.minusDays(31)))
+        .thenReturn(transactions);
+  }
+
+  private void stubRecentSpending() {
+    when(transactionService.getTransactionsByUserIdInTimeFrame(USER_ID, TODAY.minusDays(30), TODAY))
+        .thenReturn(recentSpending());
+  }
+
+  private static List<TransactionView> recentSpending() {
+    return List.of(
+        spending("Food", -50.00), spending("Subscription", -25.00), spending("Salary", 1000));
+  }
+
+  private static TransactionView spending(String category, double amount) {
+    Transaction transaction = new Transaction();
+    transaction.setAmount(BigDecimal.valueOf(amount));
+    transaction.setCategory(category);
+    return TransactionView.from(transaction);
+  }
+
+  private static SpendingInsightCache stored(String hash, String insights) {
+    return new SpendingInsightCache(null, hash, insights, NOW.minusSeconds(60));
+  }
+}
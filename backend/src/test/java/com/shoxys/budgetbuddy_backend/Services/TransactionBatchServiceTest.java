@@ -0,0 +1,205 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchItemResult;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchOperation;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionBatchResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.BatchOperationType;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionType;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
+import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionBatchServiceTest {
+
+  @Mock private TransactionRepo transactionRepo;
+  @Mock private AccountRepo accountRepo;
+  @Mock private UserRepo userRepo;
+  @Mock private AccountService accountService;
+  @Mock private MonthlyRollupService monthlyRollupService;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private TransactionBatchService transactionBatchService;
+
+  private static final long USER_ID = 1L;
+
+  private User user;
+  private Account spending;
+
+  @BeforeEach
+  void setUp() {
+    transactionBatchService =
+        new TransactionBatchService(
+            transactionRepo,
+            accountRepo,
+            userRepo,
+            accountService,
+            monthlyRollupService,
+            eventPublisher);
+    user = new User("test@example.com", "PasswordHash123");
+    user.setId(USER_ID);
+    spending =
+        new Account("Spending", AccountType.SPENDING, null, BigDecimal.valueOf(100), true, user);
+    spending.setId(10L);
+  }
+
+  @Test
+  void testApplyBatch_MixedOperations_AppliesValidAndReportsFailures() {
+    Transaction toUpdate = stored(1L, BigDecimal.valueOf(-20));
+    Transaction toDelete = stored(2L, BigDecimal.valueOf(-5));
+    TransactionRequest invalid = request(TransactionType.DEBIT, BigDecimal.ONE);
+    invalid.setDescription(" ");
+    List<TransactionBatchOperation> operations =
+        List.of(
+            new TransactionBatchOperation(
+                BatchOperationType.CREATE, null, request(TransactionType.DEBIT, BigDecimal.TEN)),
+            new TransactionBatchOperation(
+                BatchOperationType.UPDATE,
+                1L,
+                request(TransactionType.DEBIT, BigDecimal.valueOf(30))),
+            new TransactionBatchOperation(BatchOperationType.DELETE, 2L, null),
+            new TransactionBatchOperation(BatchOperationType.CREATE, null, invalid),
+            new TransactionBatchOperation(BatchOperationType.DELETE, 99L, null),
+            new TransactionBatchOperation(BatchOperationType.DELETE, 1L, null));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(user);
+    when(transactionRepo.findAllByUserAndIdIn(user, Set.of(1L, 2L, 99L)))
+        .thenReturn(List.of(toUpdate, toDelete));
+    when(accountRepo.findAccountByUserAndType(user, AccountType.SPENDING))
+        .thenReturn(Optional.of(spending));
+    doAnswer(
+            invocation -> {
+              List<Transaction> inserted = invocation.getArgument(0);
+              inserted.get(0).setId(50L);
+              return inserted.size();
+            })
+        .when(transactionRepo)
+        .batchInsertReturningIds(any());
+
+    TransactionBatchResponse response = transactionBatchService.applyBatch(USER_ID, operations);
+
+    assertEquals(3, response.getSucceeded());
+    assertEquals(3, response.getFailed());
+    List<TransactionBatchItemResult> results = response.getResults();
+    assertEquals(50L, results.get(0).getId());
+    assertThat(results.get(0).getTransaction().getBalanceAtTransaction())
+        .isEqualByComparingTo(BigDecimal.valueOf(90));
+    assertThat(results.get(1).getTransaction().getAmount())
+        .isEqualByComparingTo(BigDecimal.valueOf(-30));
+    assertThat(results.get(1).getTransaction().getBalanceAtTransaction())
+        .isEqualByComparingTo(BigDecimal.valueOf(80));
+    assertTrue(results.get(2).isSuccess());
+    assertEquals("Description is required", results.get(3).getError());
+    assertEquals("Transaction not found with ID: 99", results.get(4).getError());
+    assertEquals("Transaction ID 1 appears more than once in the batch", results.get(5).getError());
+
+    verify(monthlyRollupService).recordRemoved(Set.of(1L, 2L), user);
+    verify(monthlyRollupService).recordAdded(any());
+    verify(transactionRepo).deleteAllByIdInAndUser(List.of(2L), user);
+    verify(accountService).applyBalanceDelta(spending, BigDecimal.valueOf(-15));
+    verifyNoMoreInteractions(accountService);
+    verify(eventPublisher).publishEvent(any(TransactionsChangedEvent.class));
+  }
+
+  @Test
+  void testApplyBatch_CreatesWithoutSpendingAccount_CreatesAccountOnce() {
+    List<TransactionBatchOperation> operations =
+        List.of(
+            new TransactionBatchOperation(
+                BatchOperationType.CREATE, null, request(TransactionType.CREDIT, BigDecimal.TEN)),
+            new TransactionBatchOperation(
+                BatchOperationType.CREATE, null, request(TransactionType.DEBIT, BigDecimal.ONE)));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(user);
+    when(accountRepo.findAccountByUserAndType(user, AccountType.SPENDING))
+        .thenReturn(Optional.empty());
+    when(accountService.createSpendingAccount(eq(user), any())).thenReturn(spending);
+
+    TransactionBatchResponse response = transactionBatchService.applyBatch(USER_ID, operations);
+
+    assertEquals(2, response.getSucceeded());
+    ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.captor();
+    verify(transactionRepo).batchInsertReturningIds(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(Transaction::getBalanceAtTransaction)
+        .usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(BigDecimal.valueOf(110), BigDecimal.valueOf(109));
+    verify(accountService, times(1)).createSpendingAccount(eq(user), any());
+    verify(accountService).applyBalanceDelta(spending, BigDecimal.valueOf(9));
+    verify(transactionRepo, never()).findAllByUserAndIdIn(any(), any());
+    verify(transactionRepo, never()).deleteAllByIdInAndUser(any(), any());
+  }
+
+  @Test
+  void testApplyBatch_TooManyOperations_ThrowsException() {
+    List<TransactionBatchOperation> operations =
+        Collections.nCopies(
+            Constants.TRANSACTION_BATCH_MAX_OPERATIONS + 1,
+            new TransactionBatchOperation(BatchOperationType.DELETE, 1L, null));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> transactionBatchService.applyBatch(USER_ID, operations));
+
+    verifyNoInteractions(transactionRepo, userRepo, accountService, monthlyRollupService);
+  }
+
+  @Test
+  void testApplyBatch_EmptyOperations_ThrowsException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> transactionBatchService.applyBatch(USER_ID, List.of()));
+  }
+
+  private Transaction stored(long id, BigDecimal amount) {
+    Transaction transaction =
+        new Transaction(
+            LocalDate.of(2025, 6, 1),
+            amount,
+            "Stored " + id,
+            "Groceries",
+            null,
+            BigDecimal.valueOf(100),
+            SourceType.MANUAL,
+            spending,
+            user);
+    transaction.setId(id);
+    return transaction;
+  }
+
+  private static TransactionRequest request(TransactionType type, BigDecimal amount) {
+    return new TransactionRequest(
+        LocalDate.of(2025, 6, 2),
+        amount,
+        "Coffee",
+        "Food",
+        type,
+        null,
+        BigDecimal.valueOf(100),
+        SourceType.MANUAL);
+  }
+}
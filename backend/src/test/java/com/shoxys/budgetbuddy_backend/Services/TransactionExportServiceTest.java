@@ -0,0 +1,163 @@
+package com.shoxys.budgetbuddy_backend.Services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
+import com.shoxys.budgetbuddy_backend.Entities.Account;
+import com.shoxys.budgetbuddy_backend.Entities.Transaction;
+import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Enums.AccountType;
+import com.shoxys.budgetbuddy_backend.Enums.ExportFormat;
+import com.shoxys.budgetbuddy_backend.Enums.SourceType;
+import com.shoxys.budgetbuddy_backend.Enums.TransactionOrder;
+import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+  private static final long USER_ID = 1L;
+
+  @Mock private TransactionRepo transactionRepo;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private TransactionExportService transactionExportService;
+  private TransactionView first;
+  private TransactionView second;
+
+  @BeforeEach
+  void setUp() {
+    transactionExportService =
+        new TransactionExportService(transactionRepo, transactionManager, objectMapper);
+    User user = new User("test@example.com", "hashedPassword");
+    user.setId(USER_ID);
+    Account account =
+        new Account("Spending", AccountType.SPENDING, null, BigDecimal.ZERO, true, user);
+    account.setId(7L);
+    first = transaction(1L, LocalDate.of(2025, 6, 1), "Coffee, large", account, user);
+    second = transaction(2L, LocalDate.of(2025, 6, 2), "Rent", account, user);
+  }
+
+  @Test
+  void export_shouldWriteJsonArray() throws Exception {
+    when(transactionRepo.streamByUserIdOldestFirst(USER_ID)).thenReturn(Stream.of(first, second));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    long written =
+        transactionExportService.export(
+            USER_ID, TransactionOrder.OLDEST_FIRST, ExportFormat.JSON, out);
+
+    assertEquals(2, written);
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertTrue(json.isArray());
+    assertEquals(2, json.size());
+    assertEquals(1, json.get(0).get("id").asLong());
+    assertEquals("Rent", json.get(1).get("description").asText());
+  }
+
+  @Test
+  void export_shouldWriteOneJsonObjectPerLineForNdjson() throws Exception {
+    when(transactionRepo.streamByUserIdNewestFirst(USER_ID)).thenReturn(Stream.of(second, first));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    transactionExportService.export(
+        USER_ID, TransactionOrder.NEWEST_FIRST, ExportFormat.NDJSON, out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertEquals(2, objectMapper.readTree(lines[0]).get("id").asLong());
+    assertEquals(1, objectMapper.readTree(lines[1]).get("id").asLong());
+  }
+
+  @Test
+  void export_shouldWriteCsvWithHeaderAndQuotedValues() {
+    when(transactionRepo.streamByUserId(USER_ID)).thenReturn(Stream.of(first));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    transactionExportService.export(USER_ID, TransactionOrder.UNSORTED, ExportFormat.CSV, out);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals(
+        "id,date,amount,description,category,merchant,balanceAtTransaction,source,accountId,accountName",
+        lines[0]);
+    assertEquals(
+        "1,2025-06-01,-4.50,\"Coffee, large\",Food,Cafe,95.50,MANUAL,7,Spending", lines[1]);
+  }
+
+  @Test
+  void export_shouldWriteEmptyArrayWhenUserHasNoTransactions() {
+    when(transactionRepo.streamByUserId(USER_ID)).thenReturn(Stream.empty());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    long written =
+        transactionExportService.export(USER_ID, TransactionOrder.UNSORTED, ExportFormat.JSON, out);
+
+    assertEquals(0, written);
+    assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void export_shouldCloseStreamWhenClientDisconnects() {
+    AtomicBoolean closed = new AtomicBoolean();
+    when(transactionRepo.streamByUserId(USER_ID))
+        .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+    OutputStream broken =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+        };
+
+    assertThrows(
+        UncheckedIOException.class,
+        () ->
+            transactionExportService.export(
+                USER_ID, TransactionOrder.UNSORTED, ExportFormat.CSV, broken));
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void export_shouldRejectNonPositiveUserId() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            transactionExportService.export(
+                0L, TransactionOrder.UNSORTED, ExportFormat.JSON, new ByteArrayOutputStream()));
+    verifyNoInteractions(transactionRepo);
+  }
+
+  private static TransactionView transaction(
+      long id, LocalDate date, String description, Account account, User user) {
+    Transaction transaction =
+        new Transaction(
+            date,
+            new BigDecimal("-4.50"),
+            description,
+            "Food",
+            "Cafe",
+            new BigDecimal("95.50"),
+            SourceType.MANUAL,
+            account,
+            user);
+    transaction.setId(id);
+    return TransactionView.from(transaction);
+  }
+}
@@ -8,13 +8,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.shoxys.budgetbuddy_backend.Config.Constants;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.CsvImportSummary;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursor;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionCursorPage;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionSummaryResponse;
+import com.shoxys.budgetbuddy_backend.DTOs.Transaction.TransactionView;
 import com.shoxys.budgetbuddy_backend.Entities.Account;
 import com.shoxys.budgetbuddy_backend.Entities.Transaction;
 import com.shoxys.budgetbuddy_backend.Entities.User;
 import com.shoxys.budgetbuddy_backend.Enums.SourceType;
-import com.shoxys.budgetbuddy_backend.Exceptions.AccountNotFoundException;
+import com.shoxys.budgetbuddy_backend.Enums.TimeFrame;
+import com.shoxys.budgetbuddy_backend.Events.TransactionsChangedEvent;
 import com.shoxys.budgetbuddy_backend.Exceptions.InvalidDateRangeException;
 import com.shoxys.budgetbuddy_backend.Exceptions.TransactionNotFoundException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
@@ -22,16 +28,22 @@ import com.shoxys.budgetbuddy_backend.Repo.AccountRepo;
 import com.shoxys.budgetbuddy_backend.Repo.TransactionRepo;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
 import com.shoxys.budgetbuddy_backend.TestUtils;
+import com.shoxys.budgetbuddy_backend.Utils.Utils;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -45,11 +57,13 @@ public class TransactionServiceTest {
   @Mock private AccountRepo accountRepo;
   @Mock private UserRepo userRepo;
   @Mock private AccountService accountService;
+  @Mock private MonthlyRollupService monthlyRollupService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
-  @InjectMocks private TransactionService transactionService;
+  private TransactionService transactionService;
 
-  private static final String VAlID_EMAIL = "valid@example.com";
-  private static final String INVALID_EMAIL = "invalid@example.com";
+  private static final long USER_ID = 1L;
+  private static final long INVALID_USER_ID = -1L;
   private static final long INVALID_ID = 999L;
 
   private static Account mockAccount;
@@ -59,9 +73,18 @@ public class TransactionServiceTest {
 
   @BeforeEach
   void setUp() {
+    transactionService =
+        new TransactionService(
+            transactionRepo,
+            accountRepo,
+            userRepo,
+            accountService,
+            monthlyRollupService,
+            Runnable::run,
+            eventPublisher);
     mockAccount = new Account();
     mockUser = new User("test@example.com", "PasswordHash123");
-    mockUser.setId(1L);
+    mockUser.setId(USER_ID);
 
     transactionMap.put(
         "Transaction1",
@@ -117,33 +140,70 @@ public class TransactionServiceTest {
             SourceType.MANUAL);
 
     Account mockAccount = new Account();
-    mockAccount.setBalance(BigDecimal.ZERO);
+    mockAccount.setBalance(BigDecimal.valueOf(155.67));
 
     BigDecimal expectedAmount =
         request.getType() == DEBIT
             ? request.getAmount().multiply(BigDecimal.valueOf(-1))
             : request.getAmount();
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findAccountByUserAndType(mockUser, SPENDING))
         .thenReturn(Optional.of(mockAccount));
+    when(accountService.applyNonNegativeBalanceDelta(mockAccount, expectedAmount))
+        .thenReturn(BigDecimal.valueOf(143.17));
     when(transactionRepo.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
 
     // Act
-    Transaction txn = transactionService.addTransaction(VAlID_EMAIL, request);
+    TransactionView txn = transactionService.addTransaction(USER_ID, request);
 
     // Assert
     assertEquals(expectedAmount, txn.getAmount());
-    verify(accountService).updateAccountBalance(mockAccount, txn.getBalanceAtTransaction());
+    assertEquals(BigDecimal.valueOf(143.17), txn.getBalanceAtTransaction());
+    verify(accountService).applyNonNegativeBalanceDelta(mockAccount, expectedAmount);
+    ArgumentCaptor<Transaction> saved = ArgumentCaptor.forClass(Transaction.class);
+    verify(transactionRepo).save(saved.capture());
+    verify(monthlyRollupService).recordAdded(List.of(saved.getValue()));
+    ArgumentCaptor<TransactionsChangedEvent> event =
+        ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(USER_ID, event.getValue().getUserId());
   }
 
   @Test
-  void addTransaction_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
+  void addTransaction_shouldRejectDebitThatOverdrawsSpendingAccount() {
+    // Arrange
+    TransactionRequest request =
+        new TransactionRequest(
+            LocalDate.of(2025, 4, 15),
+            BigDecimal.valueOf(200),
+            "Rent",
+            "Housing",
+            DEBIT,
+            "Landlord",
+            null,
+            SourceType.MANUAL);
+    Account mockAccount = new Account();
+    mockAccount.setBalance(BigDecimal.valueOf(150));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(accountRepo.findAccountByUserAndType(mockUser, SPENDING))
+        .thenReturn(Optional.of(mockAccount));
+    when(accountService.applyNonNegativeBalanceDelta(mockAccount, BigDecimal.valueOf(-200)))
+        .thenThrow(new IllegalArgumentException("Balance cannot be null or negative"));
 
+    // Act & Assert
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.addTransaction(INVALID_EMAIL, new TransactionRequest()));
+        IllegalArgumentException.class, () -> transactionService.addTransaction(USER_ID, request));
+    verify(transactionRepo, never()).save(any(Transaction.class));
+    verifyNoInteractions(monthlyRollupService, eventPublisher);
+  }
+
+  @Test
+  void addTransaction_shouldThrowIfUserIdNotPositive() {
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> transactionService.addTransaction(INVALID_USER_ID, new TransactionRequest()));
   }
 
   @Test
@@ -151,6 +211,8 @@ public class TransactionServiceTest {
     // Arrange
     BigDecimal mockTransactionBalance = BigDecimal.TEN;
     Account mockAccount = new Account();
+    mockAccount.setId(7L);
+    mockAccount.setName("Spending");
     mockAccount.setBalance(mockTransactionBalance);
 
     TransactionRequest request =
@@ -164,7 +226,7 @@ public class TransactionServiceTest {
             mockTransactionBalance,
             SourceType.MANUAL);
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findAccountByUserAndType(mockUser, SPENDING)).thenReturn(Optional.empty());
     when(accountService.createSpendingAccount(mockUser, mockTransactionBalance))
         .thenReturn(mockAccount);
@@ -172,48 +234,18 @@ public class TransactionServiceTest {
         .thenAnswer(invocation -> invocation.getArgument(0));
 
     // Act
-    Transaction txn = transactionService.addTransaction(VAlID_EMAIL, request);
+    TransactionView txn = transactionService.addTransaction(USER_ID, request);
 
     // Assert
-    assertEquals(mockAccount, txn.getAccount());
+    assertEquals(7L, txn.getAccountId());
+    assertEquals("Spending", txn.getAccountName());
     verify(accountService).createSpendingAccount(mockUser, mockTransactionBalance);
   }
 
-  @Test
-  void getAllTransactionsByUserId_shouldReturnAllTransactions() {
-    // Arrange
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
-    when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-    when(transactionRepo.findByUser_Id(mockUser.getId())).thenReturn(mockTransactions);
-
-    // Act
-    List<Transaction> result = transactionService.getAllTransactionsByUserId(mockUser.getId());
-
-    // Assert
-    assertEquals(mockTransactions, result);
-  }
-
-  @Test
-  void getAllTransactionsByUserId_shouldThrowIfUserNotFound() {
-    when(userRepo.existsById(INVALID_ID)).thenReturn(false);
-
-    assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.getAllTransactionsByUserId(INVALID_ID));
-  }
-
   @Test
   void getTransactionsByUserIdInTimeFrame_shouldReturnTransactions() {
     // Arrange
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
+    List<TransactionView> mockTransactions = views("Transaction1", "Transaction2", "Transaction3");
     LocalDate startDate = LocalDate.of(2025, 4, 15);
     LocalDate endDate = LocalDate.of(2025, 4, 16);
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
@@ -221,7 +253,7 @@ public class TransactionServiceTest {
         .thenReturn(mockTransactions);
 
     // Act
-    List<Transaction> result =
+    List<TransactionView> result =
         transactionService.getTransactionsByUserIdInTimeFrame(mockUser.getId(), startDate, endDate);
 
     // Assert
@@ -229,7 +261,7 @@ public class TransactionServiceTest {
   }
 
   @Test
-  void getTransactionsByUserIdInTimeFrame_shouldThrowIfUserNotFound() {
+  void getTransactionsByUserIdInTimeFrame_shouldThrowIfUserIdNotPositive() {
     LocalDate startDate = LocalDate.of(2025, 4, 15);
     LocalDate endDate = LocalDate.of(2025, 4, 16);
 
@@ -316,12 +348,8 @@ public class TransactionServiceTest {
     int size = 3;
     String sort = "date,desc"; // Default sort
     PageRequest pageRequest = PageRequest.of(page, size);
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction3"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction1"));
-    Page<Transaction> mockPage =
+    List<TransactionView> mockTransactions = views("Transaction3", "Transaction2", "Transaction1");
+    Page<TransactionView> mockPage =
         new PageImpl<>(mockTransactions, pageRequest, mockTransactions.size());
 
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
@@ -329,7 +357,7 @@ public class TransactionServiceTest {
         .thenReturn(mockPage);
 
     // Act
-    Page<Transaction> result =
+    Page<TransactionView> result =
         transactionService.getTransactionsByUserIdPaginated(mockUser.getId(), page, size, sort);
 
     // Assert
@@ -345,12 +373,8 @@ public class TransactionServiceTest {
     int size = 3;
     String sort = "date,asc";
     PageRequest pageRequest = PageRequest.of(page, size);
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
-    Page<Transaction> mockPage =
+    List<TransactionView> mockTransactions = views("Transaction1", "Transaction2", "Transaction3");
+    Page<TransactionView> mockPage =
         new PageImpl<>(mockTransactions, pageRequest, mockTransactions.size());
 
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
@@ -358,7 +382,7 @@ public class TransactionServiceTest {
         .thenReturn(mockPage);
 
     // Act
-    Page<Transaction> result =
+    Page<TransactionView> result =
         transactionService.getTransactionsByUserIdPaginated(mockUser.getId(), page, size, sort);
 
     // Assert
@@ -423,151 +447,160 @@ public class TransactionServiceTest {
   }
 
   @Test
-  void getAllTransactionsByUserIdSortedOldest_shouldReturnTransactions() {
-    // Arrange
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
-
-    when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-    when(transactionRepo.findByUser_IdOrderByDateAsc(mockUser.getId()))
-        .thenReturn(mockTransactions);
-
-    // Act
-    List<Transaction> result =
-        transactionService.getAllTransactionsByUserIdSortedOldest(mockUser.getId());
-    // Assert
-    assertEquals(mockTransactions, result);
+  void getTransactionsByUserIdCursor_shouldReturnFirstPageWithNextCursorOnly() {
+    List<TransactionView> rows = withIds("Transaction3", "Transaction2", "Transaction1");
+    when(transactionRepo.findByUser_IdOrderByDateDescIdDesc(USER_ID, PageRequest.of(0, 3)))
+        .thenReturn(rows);
+
+    TransactionCursorPage page =
+        transactionService.getTransactionsByUserIdCursor(USER_ID, null, 2, "date,desc", false);
+
+    assertEquals(rows.subList(0, 2), page.getContent());
+    assertNull(page.getPrevCursor());
+    assertNull(page.getTotalElements());
+    TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+    assertEquals(rows.get(1).getId(), next.getId());
+    assertEquals(rows.get(1).getDate(), next.getDate());
+    assertFalse(next.isAscending());
+    assertTrue(next.isForward());
+    verify(transactionRepo, never()).countByUser_Id(anyLong());
   }
 
   @Test
-  void getAllTransactionsByUserIdSortedOldest_shouldThrowIfUserIdNotFound() {
-    when(userRepo.existsById(INVALID_ID)).thenReturn(false);
-
-    assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.getAllTransactionsByUserIdSortedOldest(INVALID_ID));
+  void getTransactionsByUserIdCursor_shouldSeekFromNextCursorAndCountWhenRequested() {
+    List<TransactionView> rows = withIds("Transaction1");
+    LocalDate date = LocalDate.of(2025, 4, 16);
+    String cursor = new TransactionCursor(date, 2L, false, true).encode();
+    when(transactionRepo.findPageBefore(USER_ID, date, 2L, PageRequest.of(0, 3))).thenReturn(rows);
+    when(transactionRepo.countByUser_Id(USER_ID)).thenReturn(3L);
+
+    TransactionCursorPage page =
+        transactionService.getTransactionsByUserIdCursor(USER_ID, cursor, 2, "date,asc", true);
+
+    assertEquals(rows, page.getContent());
+    assertNull(page.getNextCursor());
+    assertEquals(1L, TransactionCursor.decode(page.getPrevCursor()).getId());
+    assertEquals(3L, page.getTotalElements());
   }
 
   @Test
-  void getTransactionsByUserIdSortedNewest_shouldReturnTransactions() {
-    // Arrange
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
-
-    when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-    when(transactionRepo.findByUser_IdOrderByDateDesc(mockUser.getId()))
-        .thenReturn(mockTransactions);
-
-    // Act
-    List<Transaction> result =
-        transactionService.getTransactionsByUserIdSortedNewest(mockUser.getId());
-    // Assert
-    assertEquals(mockTransactions, result);
+  void getTransactionsByUserIdCursor_shouldReverseRowsFetchedForPrevCursor() {
+    List<TransactionView> rows = withIds("Transaction2", "Transaction3");
+    LocalDate date = LocalDate.of(2025, 4, 15);
+    String cursor = new TransactionCursor(date, 1L, false, false).encode();
+    when(transactionRepo.findPageAfter(USER_ID, date, 1L, PageRequest.of(0, 3))).thenReturn(rows);
+
+    TransactionCursorPage page =
+        transactionService.getTransactionsByUserIdCursor(USER_ID, cursor, 2, "date,desc", false);
+
+    assertEquals(List.of(rows.get(1), rows.get(0)), page.getContent());
+    assertNull(page.getPrevCursor());
+    TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+    assertEquals(2L, next.getId());
+    assertTrue(next.isForward());
   }
 
   @Test
-  void getTransactionsByUserIdSortedNewest_shouldThrowIfUserIdNotFound() {
-    when(userRepo.existsById(INVALID_ID)).thenReturn(false);
-
+  void getTransactionsByUserIdCursor_shouldRejectInvalidSizeAndCursor() {
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.getTransactionsByUserIdSortedNewest(INVALID_ID));
+        IllegalArgumentException.class,
+        () ->
+            transactionService.getTransactionsByUserIdCursor(USER_ID, null, 0, "date,desc", false));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            transactionService.getTransactionsByUserIdCursor(
+                USER_ID, null, Constants.MAX_PAGE_SIZE + 1, "date,desc", false));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            transactionService.getTransactionsByUserIdCursor(
+                USER_ID, "not-a-cursor", 20, "date,desc", false));
+    verifyNoInteractions(transactionRepo);
   }
 
-  @Test
-  void getAllTransactionsByUserIdTimeFrame_shouldReturnTransactions() {
-    // Arrange
-    String timeFrame = "7days";
-    LocalDate startDate = LocalDate.now().minusDays(7);
+  private List<TransactionView> withIds(String... keys) {
+    List<TransactionView> transactions = new ArrayList<>();
+    for (String key : keys) {
+      Transaction transaction = transactionMap.get(key);
+      transaction.setId(Long.parseLong(key.substring("Transaction".length())));
+      transactions.add(TransactionView.from(transaction));
+    }
+    return transactions;
+  }
 
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
+  private List<TransactionView> views(String... keys) {
+    return Arrays.stream(keys).map(transactionMap::get).map(TransactionView::from).toList();
+  }
 
+  @Test
+  void getTransactionSummaryByTimeFrame_shouldReturnAggregatedSummary() {
+    // Arrange
+    LocalDate today = LocalDate.now();
+    TransactionSummaryResponse summary =
+        new TransactionSummaryResponse(
+            3L, today.minusDays(5), today, BigDecimal.valueOf(100), BigDecimal.valueOf(-50));
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-    when(transactionRepo.findByUserIdAndDateBetween(mockUser.getId(), startDate, LocalDate.now()))
-        .thenReturn(mockTransactions);
+    when(transactionRepo.summarizeByUserIdAndDateBetween(
+            mockUser.getId(), today.minusDays(7), today))
+        .thenReturn(summary);
 
     // Act
-    List<Transaction> result =
-        transactionService.getAllTransactionsByUserIdTimeFrame(mockUser.getId(), timeFrame);
-    // Assert
-    assertEquals(mockTransactions, result);
-  }
-
-  @Test
-  void getAllTransactionsByUserIdTimeFrame_shouldThrowIfUserIdNotFound() {
-    String timeFrame = "7days";
-    when(userRepo.existsById(INVALID_ID)).thenReturn(false);
+    TransactionSummaryResponse result =
+        transactionService.getTransactionSummaryByTimeFrame(
+            mockUser.getId(), TimeFrame.LAST_7_DAYS);
 
-    assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.getAllTransactionsByUserIdTimeFrame(INVALID_ID, timeFrame));
+    // Assert
+    assertEquals(3L, result.getCount());
+    assertEquals(today.minusDays(5), result.getEarliest());
+    assertEquals(today, result.getLatest());
+    assertEquals(new BigDecimal("50.00"), result.getAverageAmount());
+    verify(transactionRepo, never()).findByUserIdAndDateBetween(anyLong(), any(), any());
   }
 
   @Test
-  void getTransactionSummaryByTimeFrame_shouldReturnTransactionSummaryResponse() {
-    // Arrange
-    String timeFrame = "7days";
-
-    List<Transaction> mockTransactions =
-        Arrays.asList(
-            transactionMap.get("Transaction1"),
-            transactionMap.get("Transaction2"),
-            transactionMap.get("Transaction3"));
-    LocalDate earliestDate = mockTransactions.get(0).getDate();
-    LocalDate latestDate = mockTransactions.get(2).getDate();
-
+  void getTransactionSummaryByTimeFrame_shouldNotBoundStartForAllTime() {
+    LocalDate today = LocalDate.now();
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-    when(transactionRepo.findByUserIdAndDateBetween(anyLong(), any(), any()))
-        .thenReturn(mockTransactions);
+    when(transactionRepo.summarizeByUserIdUpTo(mockUser.getId(), today))
+        .thenReturn(
+            new TransactionSummaryResponse(1L, today, today, BigDecimal.TEN, BigDecimal.ZERO));
 
-    // Act
     TransactionSummaryResponse result =
-        transactionService.getTransactionSummaryByTimeFrame(mockUser.getId(), timeFrame);
+        transactionService.getTransactionSummaryByTimeFrame(mockUser.getId(), TimeFrame.ALL_TIME);
 
-    // Assert
-    assertEquals(mockTransactions.size(), result.getCount());
-    assertEquals(earliestDate, result.getEarliest());
-    assertEquals(latestDate, result.getLatest());
+    assertEquals(1L, result.getCount());
+    verify(transactionRepo, never()).summarizeByUserIdAndDateBetween(anyLong(), any(), any());
   }
 
   @Test
   void getTransactionSummaryByTimeFrame_shouldThrowIfUserIdNotFound() {
-    String timeFrame = "7days";
     when(userRepo.existsById(INVALID_ID)).thenReturn(false);
 
     assertThrows(
         UserNotFoundException.class,
-        () -> transactionService.getTransactionSummaryByTimeFrame(INVALID_ID, timeFrame));
+        () ->
+            transactionService.getTransactionSummaryByTimeFrame(INVALID_ID, TimeFrame.LAST_7_DAYS));
   }
 
   @Test
   void getTransactionSummaryByTimeFrame_returnsEmptySummary_whenNoTransactions() {
     // Arrange
-    String timeFrame = "7days";
     when(userRepo.existsById(mockUser.getId())).thenReturn(true);
-
-    // FIX: Return an empty list instead of null to represent no transactions.
-    when(transactionService.getAllTransactionsByUserIdTimeFrame(mockUser.getId(), timeFrame))
-        .thenReturn(Collections.emptyList());
+    when(transactionRepo.summarizeByUserIdAndDateBetween(anyLong(), any(), any()))
+        .thenReturn(
+            new TransactionSummaryResponse(0L, null, null, BigDecimal.ZERO, BigDecimal.ZERO));
 
     // Act
     TransactionSummaryResponse result =
-        transactionService.getTransactionSummaryByTimeFrame(mockUser.getId(), timeFrame);
+        transactionService.getTransactionSummaryByTimeFrame(
+            mockUser.getId(), TimeFrame.LAST_7_DAYS);
 
     // Assert
-    assertNull(result.getCount());
+    assertEquals(0L, result.getCount());
     assertNull(result.getEarliest());
     assertNull(result.getLatest());
+    assertNull(result.getAverageAmount());
   }
 
   @Test
@@ -577,24 +610,23 @@ public class TransactionServiceTest {
     BigDecimal balance = new BigDecimal(1000);
     mockAccount.setBalance(balance);
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findAccountByUserAndType(mockUser, SPENDING))
         .thenReturn(Optional.of(mockAccount));
 
     // Act
-    BigDecimal result = transactionService.getCurrentBalanceByUser(VAlID_EMAIL);
+    BigDecimal result = transactionService.getCurrentBalanceByUser(USER_ID);
 
     // Assert
     assertEquals(mockAccount.getBalance(), result);
   }
 
   @Test
-  void getCurrentBalanceByUser_shouldThrowIfUserNotFound() {
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
+  void getCurrentBalanceByUser_shouldThrowIfUserIdNotPositive() {
 
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.getCurrentBalanceByUser(INVALID_EMAIL));
+        IllegalArgumentException.class,
+        () -> transactionService.getCurrentBalanceByUser(INVALID_USER_ID));
   }
 
   @Test
@@ -603,12 +635,12 @@ public class TransactionServiceTest {
     Account mockAccount = new Account();
     mockAccount.setBalance(BigDecimal.ZERO);
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(accountRepo.findAccountByUserAndType(mockUser, SPENDING)).thenReturn(Optional.empty());
     when(accountService.createSpendingAccount(mockUser, BigDecimal.ZERO)).thenReturn(mockAccount);
 
     // Act
-    BigDecimal resultBalance = transactionService.getCurrentBalanceByUser(VAlID_EMAIL);
+    BigDecimal resultBalance = transactionService.getCurrentBalanceByUser(USER_ID);
 
     // Assert
     assertEquals(mockAccount.getBalance(), resultBalance);
@@ -639,7 +671,7 @@ public class TransactionServiceTest {
             ? request.getAmount().multiply(BigDecimal.valueOf(-1))
             : request.getAmount();
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(transactionRepo.findTransactionByUserAndId(mockUser, mockTransaction.getId()))
         .thenReturn(Optional.of(mockTransaction));
     when(accountService.syncSpendingAccountBalance(mockTransaction, expectedAmount))
@@ -647,8 +679,8 @@ public class TransactionServiceTest {
     when(transactionRepo.save(any(Transaction.class))).thenAnswer(i -> i.getArgument(0));
 
     // Act
-    Transaction txn =
-        transactionService.updateTransaction(VAlID_EMAIL, mockTransaction.getId(), request);
+    TransactionView txn =
+        transactionService.updateTransaction(USER_ID, mockTransaction.getId(), request);
 
     // Assert
     assertEquals(request.getDate(), txn.getDate());
@@ -657,21 +689,24 @@ public class TransactionServiceTest {
     assertEquals(request.getDescription(), txn.getDescription());
     assertEquals(request.getBalanceAtTransaction(), txn.getBalanceAtTransaction());
 
-    verify(accountService).syncSpendingAccountBalance(mockTransaction, expectedAmount);
-    verify(transactionRepo).save(mockTransaction);
+    InOrder inOrder = inOrder(monthlyRollupService, accountService, transactionRepo);
+    inOrder.verify(monthlyRollupService).recordRemoved(mockTransaction);
+    inOrder.verify(accountService).syncSpendingAccountBalance(mockTransaction, expectedAmount);
+    inOrder.verify(transactionRepo).save(mockTransaction);
+    inOrder.verify(monthlyRollupService).recordAdded(List.of(mockTransaction));
   }
 
   @Test
-  void updateTransaction_shouldThrowIfUserNotFound() {
+  void updateTransaction_shouldThrowIfUserIdNotPositive() {
     TransactionRequest mockRequest = new TransactionRequest();
     Transaction mockTransaction = new Transaction(transactionMap.get("Transaction1"));
     mockTransaction.setId(1L);
     long mockTransactionId = mockTransaction.getId();
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
 
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.updateTransaction(INVALID_EMAIL, mockTransactionId, mockRequest));
+        IllegalArgumentException.class,
+        () ->
+            transactionService.updateTransaction(INVALID_USER_ID, mockTransactionId, mockRequest));
   }
 
   @Test
@@ -680,13 +715,13 @@ public class TransactionServiceTest {
     Transaction mockTransaction = new Transaction(transactionMap.get("Transaction1"));
     mockTransaction.setId(1L);
     long mockTransactionId = mockTransaction.getId();
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(transactionRepo.findTransactionByUserAndId(mockUser, mockTransactionId))
         .thenReturn(Optional.empty());
 
     assertThrows(
         TransactionNotFoundException.class,
-        () -> transactionService.updateTransaction(VAlID_EMAIL, mockTransactionId, mockRequest));
+        () -> transactionService.updateTransaction(USER_ID, mockTransactionId, mockRequest));
   }
 
   @Test
@@ -699,31 +734,30 @@ public class TransactionServiceTest {
     mockAccount.setBalance(mockStartingBalance);
     mockTransaction.setAccount(mockAccount);
 
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(transactionRepo.findTransactionByUserAndId(mockUser, mockTransaction.getId()))
         .thenReturn(Optional.of(mockTransaction));
-    ;
-    when(accountRepo.save(any(Account.class))).thenAnswer(i -> i.getArgument(0));
+    when(accountService.applyBalanceDelta(mockAccount, mockTransaction.getAmount().negate()))
+        .thenReturn(mockStartingBalance.subtract(mockTransaction.getAmount()));
     // Act
-    transactionService.deleteTransaction(VAlID_EMAIL, mockTransaction.getId());
+    transactionService.deleteTransaction(USER_ID, mockTransaction.getId());
 
     // Assert
-
-    assertEquals(
-        mockStartingBalance.subtract(mockTransaction.getAmount()), mockAccount.getBalance());
+    verify(accountService).applyBalanceDelta(mockAccount, mockTransaction.getAmount().negate());
+    verify(accountRepo, never()).save(any(Account.class));
+    verify(monthlyRollupService).recordRemoved(mockTransaction);
     verify(transactionRepo).delete(mockTransaction);
   }
 
   @Test
-  void deleteTransaction_shouldThrowIfUserNotFound() {
+  void deleteTransaction_shouldThrowIfUserIdNotPositive() {
     Transaction mockTransaction = new Transaction(transactionMap.get("Transaction1"));
     mockTransaction.setId(1L);
     long mockTransactionId = mockTransaction.getId();
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
 
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.deleteTransaction(INVALID_EMAIL, mockTransactionId));
+        IllegalArgumentException.class,
+        () -> transactionService.deleteTransaction(INVALID_USER_ID, mockTransactionId));
   }
 
   @Test
@@ -731,56 +765,94 @@ public class TransactionServiceTest {
     Transaction mockTransaction = new Transaction();
     mockTransaction.setId(1L);
     long mockTransactionId = mockTransaction.getId();
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
     when(transactionRepo.findTransactionByUserAndId(mockUser, mockTransactionId))
         .thenReturn(Optional.empty());
 
     assertThrows(
         TransactionNotFoundException.class,
-        () -> transactionService.deleteTransaction(VAlID_EMAIL, mockTransactionId));
+        () -> transactionService.deleteTransaction(USER_ID, mockTransactionId));
   }
 
   @Test
   void deleteTransactionsById_DeleteAllTransactions() {
     // Arrange
-    List<Long> mocktransactionIdList =
-        transactionMap.values().stream().map(Transaction::getId).toList();
+    List<Long> mocktransactionIdList = List.of(1L, 2L, 3L);
 
     Account mockAccount = new Account();
-
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
-    when(accountRepo.findAccountByUserAndType(mockUser, SPENDING))
-        .thenReturn(Optional.of(mockAccount));
+    mockAccount.setId(1L);
+    Account savingsAccount = new Account();
+    savingsAccount.setId(2L);
+
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(transactionRepo.sumAmountsByAccountForIds(mocktransactionIdList, mockUser))
+        .thenReturn(
+            List.of(
+                new Object[] {mockAccount, BigDecimal.valueOf(-62.5)},
+                new Object[] {savingsAccount, BigDecimal.valueOf(1500)}));
+    when(transactionRepo.deleteAllByIdInAndUser(mocktransactionIdList, mockUser))
+        .thenReturn(mocktransactionIdList.size());
 
     // Act
-    transactionService.deleteTransactionsById(VAlID_EMAIL, mocktransactionIdList);
+    int deleted = transactionService.deleteTransactionsById(USER_ID, mocktransactionIdList);
 
     // Assert
-    verify(transactionRepo).deleteAllByIdInAndUser(mocktransactionIdList, mockUser);
-    verify(accountService).recalculateBalanceForSpendingAccount(mockAccount);
+    assertEquals(mocktransactionIdList.size(), deleted);
+    InOrder inOrder = inOrder(monthlyRollupService, transactionRepo);
+    inOrder.verify(monthlyRollupService).recordRemoved(mocktransactionIdList, mockUser);
+    inOrder.verify(transactionRepo).deleteAllByIdInAndUser(mocktransactionIdList, mockUser);
+    verify(accountService).applyBalanceDelta(mockAccount, BigDecimal.valueOf(62.5));
+    verify(accountService).applyBalanceDelta(savingsAccount, BigDecimal.valueOf(-1500));
+    verify(accountService, never())
+        .recalculateBalanceForSpendingAccount(any(Account.class), any(BigDecimal.class));
+  }
+
+  @Test
+  void deleteTransactionsById_shouldDeleteInChunksAndApplyOneDeltaPerAccount() {
+    int size = Constants.TRANSACTION_DELETE_CHUNK_SIZE * 2 + 1;
+    List<Long> ids = LongStream.rangeClosed(1, size).boxed().toList();
+    Account account = new Account();
+    account.setId(1L);
+    Account sameAccountReloaded = new Account();
+    sameAccountReloaded.setId(1L);
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(transactionRepo.sumAmountsByAccountForIds(anyList(), eq(mockUser)))
+        .thenReturn(List.<Object[]>of(new Object[] {account, BigDecimal.valueOf(-10)}))
+        .thenReturn(List.<Object[]>of(new Object[] {sameAccountReloaded, BigDecimal.valueOf(-5)}))
+        .thenReturn(List.of());
+    when(transactionRepo.deleteAllByIdInAndUser(anyList(), eq(mockUser)))
+        .thenReturn(
+            Constants.TRANSACTION_DELETE_CHUNK_SIZE, Constants.TRANSACTION_DELETE_CHUNK_SIZE, 0);
+
+    int deleted = transactionService.deleteTransactionsById(USER_ID, ids);
+
+    assertEquals(Constants.TRANSACTION_DELETE_CHUNK_SIZE * 2, deleted);
+    verify(transactionRepo).deleteAllByIdInAndUser(ids.subList(size - 1, size), mockUser);
+    verify(monthlyRollupService, times(3)).recordRemoved(anyList(), eq(mockUser));
+    verify(accountService).applyBalanceDelta(account, BigDecimal.valueOf(15));
+    verifyNoMoreInteractions(accountService);
   }
 
   @Test
-  void deleteTransactionsById_shouldThrowIfUserNotFound() {
+  void deleteTransactionsById_shouldThrowIfUserIdNotPositive() {
     List<Long> mocktransactionIdList =
         transactionMap.values().stream().map(Transaction::getId).toList();
-    when(userRepo.getUserByEmail(INVALID_EMAIL)).thenReturn(Optional.empty());
 
     assertThrows(
-        UserNotFoundException.class,
-        () -> transactionService.deleteTransactionsById(INVALID_EMAIL, mocktransactionIdList));
+        IllegalArgumentException.class,
+        () -> transactionService.deleteTransactionsById(INVALID_USER_ID, mocktransactionIdList));
   }
 
   @Test
-  void deleteTransactionsById_shouldThrowIfAccountNotFound() {
-    List<Long> mocktransactionIdList =
-        transactionMap.values().stream().map(Transaction::getId).toList();
-    when(userRepo.getUserByEmail(VAlID_EMAIL)).thenReturn(Optional.of(mockUser));
-    when(accountRepo.findAccountByUserAndType(mockUser, SPENDING)).thenReturn(Optional.empty());
+  void deleteTransactionsById_shouldNotUpdateBalancesIfNothingMatched() {
+    List<Long> mocktransactionIdList = List.of(INVALID_ID);
+    when(userRepo.getReferenceById(USER_ID)).thenReturn(mockUser);
+    when(transactionRepo.sumAmountsByAccountForIds(mocktransactionIdList, mockUser))
+        .thenReturn(List.of());
 
-    assertThrows(
-        AccountNotFoundException.class,
-        () -> transactionService.deleteTransactionsById(VAlID_EMAIL, mocktransactionIdList));
+    transactionService.deleteTransactionsById(USER_ID, mocktransactionIdList);
+
+    verify(accountService, never()).applyBalanceDelta(any(Account.class), any(BigDecimal.class));
   }
 
   @Test
@@ -795,16 +867,24 @@ public class TransactionServiceTest {
     MockMultipartFile file =
         new MockMultipartFile("file", "sample1.csv", "text/csv", resource.getInputStream());
 
-    when(userRepo.findById(mockUser.getId())).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
     when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
-    when(accountRepo.findAccountByUserAndType(mockUser, SPENDING))
-        .thenReturn(Optional.of(mockAccount));
+    List<Transaction> importedTransactions = new ArrayList<>();
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(
+            i -> {
+              List<Transaction> batch = i.getArgument(0);
+              importedTransactions.addAll(batch);
+              return batch.size();
+            });
 
     // Act
-    List<Transaction> importedTransactions =
-        transactionService.importMultipleCSVs(mockUser.getId(), file);
+    CsvImportSummary summary = transactionService.importMultipleCSVs(mockUser.getId(), file);
 
     // Assert
+    assertEquals(expectedTransactions.size(), summary.getRowsRead());
+    assertEquals(expectedTransactions.size(), summary.getInserted());
+    assertEquals(0, summary.getRejected());
     assertEquals(expectedTransactions.size(), importedTransactions.size());
 
     TestUtils.assertListElementsMatch(
@@ -822,34 +902,214 @@ public class TransactionServiceTest {
           assertEquals(expected.getUser(), actual.getUser());
         });
 
-    verify(transactionRepo).saveAll(anyList());
-    verify(accountService).recalculateBalanceForSpendingAccount(mockAccount);
+    verify(transactionRepo, times(1)).batchInsert(anyList());
+    verify(monthlyRollupService, times(1)).recordAdded(anyList());
+    verify(transactionRepo, never()).saveAll(anyList());
+    verify(accountService)
+        .recalculateBalanceForSpendingAccount(eq(mockAccount), any(BigDecimal.class));
+  }
+
+  @Test
+  void importMultipleCSVs_shouldRejectInvalidRowsAndImportTheRest() {
+    String csv =
+        "Date,Amount,Account Number,,Transaction Type,Transaction Details,Balance,Category,Merchant Name\n"
+            + "15 Apr 25,12.5,898742253, ,EFTPOS CREDIT,W4242 15/04,1200,Groceries,Woolworths\n"
+            + "not a date,-1500.00,898742253, ,EFTPOS DEBIT,P1234 16/04,2700,Salary,Payroll\n"
+            + "17 Apr 25,abc,898742253, ,EFTPOS DEBIT,T5678 17/04,2625,Transport,Uber Ride\n";
+    MockMultipartFile file = new MockMultipartFile("file", "mixed.csv", "text/csv", csv.getBytes());
+
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
+
+    CsvImportSummary summary = transactionService.importMultipleCSVs(mockUser.getId(), file);
+
+    assertEquals(3, summary.getRowsRead());
+    assertEquals(1, summary.getInserted());
+    assertEquals(2, summary.getRejected());
+  }
+
+  @Test
+  void importMultipleCSVs_shouldWriteRowsInFileOrderWhenConvertedInParallel() {
+    int rows = Constants.CSV_IMPORT_QUEUE_CAPACITY * 2 + 7;
+    StringBuilder csv = new StringBuilder("Date,Amount,Transaction Details,Balance,Category\n");
+    for (int i = 0; i < rows; i++) {
+      csv.append("15 Apr 25,1.00,Row ").append(i).append(',').append(i).append(",Misc\n");
+    }
+    MockMultipartFile file =
+        new MockMultipartFile("file", "large.csv", "text/csv", csv.toString().getBytes());
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
+    List<Transaction> written = new ArrayList<>();
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(
+            i -> {
+              List<Transaction> batch = i.getArgument(0);
+              written.addAll(batch);
+              return batch.size();
+            });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      TransactionService parallelService =
+          new TransactionService(
+              transactionRepo,
+              accountRepo,
+              userRepo,
+              accountService,
+              monthlyRollupService,
+              executor,
+              eventPublisher);
+
+      CsvImportSummary summary = parallelService.importMultipleCSVs(mockUser.getId(), file);
+
+      assertEquals(rows, summary.getInserted());
+      assertEquals(rows, written.size());
+      for (int i = 0; i < rows; i++) {
+        assertEquals(0, BigDecimal.valueOf(i).compareTo(written.get(i).getBalanceAtTransaction()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void importMultipleCSVs_shouldSkipRowsAlreadyImported() {
+    String csv =
+        "Date,Amount,Transaction Details,Balance,Category\n"
+            + "15 Apr 25,12.5,W4242 15/04,1200,Groceries\n"
+            + "16 Apr 25,-75,T5678 16/04,1125,Transport\n";
+    MockMultipartFile file =
+        new MockMultipartFile("file", "overlap.csv", "text/csv", csv.getBytes());
+    String existing =
+        Utils.transactionFingerprint(
+            LocalDate.of(2025, 4, 15),
+            new BigDecimal("12.50"),
+            "W4242 15/04",
+            new BigDecimal("1200.00"),
+            mockAccount.getId());
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
+    when(transactionRepo.findExistingFingerprints(eq(mockUser), anyList()))
+        .thenReturn(Set.of(existing));
+    List<Transaction> written = new ArrayList<>();
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(
+            i -> {
+              List<Transaction> batch = i.getArgument(0);
+              written.addAll(batch);
+              return batch.size();
+            });
+
+    CsvImportSummary summary = transactionService.importMultipleCSVs(mockUser.getId(), file);
+
+    assertEquals(2, summary.getRowsRead());
+    assertEquals(1, summary.getInserted());
+    assertEquals(1, summary.getDuplicatesSkipped());
+    assertEquals("T5678 16/04", written.get(0).getDescription());
+    assertNotNull(written.get(0).getFingerprint());
+  }
+
+  @Test
+  void importMultipleCSVs_shouldSkipRowsRepeatedWithinFile() {
+    String csv =
+        "Date,Amount,Transaction Details,Balance,Category\n"
+            + "15 Apr 25,12.5,W4242 15/04,1200,Groceries\n"
+            + "15 Apr 25,12.50,W4242 15/04,1200.00,Groceries\n";
+    MockMultipartFile file =
+        new MockMultipartFile("file", "repeated.csv", "text/csv", csv.getBytes());
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
+
+    CsvImportSummary summary = transactionService.importMultipleCSVs(mockUser.getId(), file);
+
+    assertEquals(2, summary.getRowsRead());
+    assertEquals(1, summary.getInserted());
+    assertEquals(1, summary.getDuplicatesSkipped());
   }
 
   @Test
-  void importMultipleCSVs_shouldThrowIfUserNotFound() throws IOException {
+  void importMultipleCSVs_shouldThrowIfRequiredColumnMissing() {
+    MockMultipartFile file =
+        new MockMultipartFile(
+            "file", "headers.csv", "text/csv", "Date,Amount\n15 Apr 25,12.5\n".getBytes());
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> transactionService.importMultipleCSVs(mockUser.getId(), file));
+    verify(transactionRepo, never()).batchInsert(anyList());
+  }
+
+  @Test
+  void importMultipleCSVs_shouldThrowIfUserIdNotPositive() throws IOException {
     ClassPathResource resource = new ClassPathResource("");
     MockMultipartFile file =
         new MockMultipartFile("file", "sample2.csv", "text/csv", resource.getInputStream());
-    when(userRepo.findById(INVALID_ID)).thenReturn(Optional.empty());
 
     assertThrows(
-        UserNotFoundException.class, () -> transactionService.importMultipleCSVs(INVALID_ID, file));
+        IllegalArgumentException.class,
+        () -> transactionService.importMultipleCSVs(INVALID_USER_ID, file));
   }
 
   @Test
-  void importMultipleCSVs_shouldThrowIfAccountNotFound() throws IOException {
+  void importMultipleCSVs_shouldResolveSpendingAccountOncePerImport() throws IOException {
     ClassPathResource resource = new ClassPathResource(VALID_SAMPLE.getPath());
     MockMultipartFile file =
         new MockMultipartFile("file", "sample1.csv", "text/csv", resource.getInputStream());
 
-    when(userRepo.findById(mockUser.getId())).thenReturn(Optional.of(mockUser));
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountRepo.findByUserAndAccountNo(mockUser, 898742253)).thenReturn(Optional.empty());
     when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
-    when(accountRepo.findAccountByUserAndType(mockUser, SPENDING)).thenReturn(Optional.empty());
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
 
-    assertThrows(
-        AccountNotFoundException.class,
-        () -> transactionService.importMultipleCSVs(mockUser.getId(), file));
+    transactionService.importMultipleCSVs(mockUser.getId(), file);
+
+    verify(accountRepo, times(1)).findByUserAndAccountNo(mockUser, 898742253);
+    verify(accountService, times(1)).handleFetchAccount(mockUser);
+    verify(accountService, times(1))
+        .recalculateBalanceForSpendingAccount(eq(mockAccount), any(BigDecimal.class));
+  }
+
+  @Test
+  void importMultipleCSVs_shouldPostRowsToAccountMatchingAccountNumber() {
+    String csv =
+        "Date,Amount,Account Number,,Transaction Type,Transaction Details,Balance,Category,Merchant Name\n"
+            + "15 Apr 25,12.5,111, ,EFTPOS CREDIT,W4242 15/04,1200,Groceries,Woolworths\n"
+            + "16 Apr 25,-15.00,222, ,EFTPOS DEBIT,P1234 16/04,2700,Dining,Cafe\n"
+            + "17 Apr 25,-75.00,111, ,EFTPOS DEBIT,T5678 17/04,1125,Transport,Uber Ride\n";
+    MockMultipartFile file = new MockMultipartFile("file", "multi.csv", "text/csv", csv.getBytes());
+    Account savingsAccount = new Account();
+    List<Transaction> importedTransactions = new ArrayList<>();
+
+    when(userRepo.getReferenceById(mockUser.getId())).thenReturn(mockUser);
+    when(accountRepo.findByUserAndAccountNo(mockUser, 111)).thenReturn(Optional.of(savingsAccount));
+    when(accountRepo.findByUserAndAccountNo(mockUser, 222)).thenReturn(Optional.empty());
+    when(accountService.handleFetchAccount(eq(mockUser))).thenReturn(mockAccount);
+    when(transactionRepo.batchInsert(anyList()))
+        .thenAnswer(
+            i -> {
+              List<Transaction> batch = i.getArgument(0);
+              importedTransactions.addAll(batch);
+              return batch.size();
+            });
+
+    transactionService.importMultipleCSVs(mockUser.getId(), file);
+
+    assertSame(savingsAccount, importedTransactions.get(0).getAccount());
+    assertSame(mockAccount, importedTransactions.get(1).getAccount());
+    assertSame(savingsAccount, importedTransactions.get(2).getAccount());
+    verify(accountRepo, times(1)).findByUserAndAccountNo(mockUser, 111);
+    verify(accountRepo, times(1)).findByUserAndAccountNo(mockUser, 222);
+    verify(accountService)
+        .recalculateBalanceForSpendingAccount(
+            eq(savingsAccount), argThat(sum -> sum.compareTo(new BigDecimal("-62.50")) == 0));
+    verify(accountService)
+        .recalculateBalanceForSpendingAccount(
+            eq(mockAccount), argThat(sum -> sum.compareTo(new BigDecimal("-15.00")) == 0));
   }
 
   @Test
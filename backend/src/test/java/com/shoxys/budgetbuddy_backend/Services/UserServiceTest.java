@@ -1,12 +1,15 @@
 package com.shoxys.budgetbuddy_backend.Services;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.AuthResponse;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.ChangePasswordRequest;
 import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateEmailRequest;
+import com.shoxys.budgetbuddy_backend.DTOs.Auth.UpdateTimeZoneRequest;
 import com.shoxys.budgetbuddy_backend.Entities.User;
+import com.shoxys.budgetbuddy_backend.Events.UserCredentialsChangedEvent;
 import com.shoxys.budgetbuddy_backend.Exceptions.EmailExistsException;
 import com.shoxys.budgetbuddy_backend.Exceptions.UserNotFoundException;
 import com.shoxys.budgetbuddy_backend.Repo.UserRepo;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +30,7 @@ class UserServiceTest {
   @Mock private UserRepo userRepo;
   @Mock private PasswordEncoder passwordEncoder;
   @Mock private JwtUtil jwtUtil;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private UserService userService;
 
@@ -62,6 +67,12 @@ class UserServiceTest {
 
     assertEquals("newHashed", mockUser.getHashedPassword());
     verify(userRepo).save(mockUser);
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof UserCredentialsChangedEvent changed
+                        && VALID_EMAIL.equals(changed.getEmail())));
   }
 
   @Test
@@ -98,6 +109,12 @@ class UserServiceTest {
     assertEquals("jwtToken", response.getToken());
     assertEquals("Email updated successfully", response.getMessage());
     verify(userRepo).save(mockUser);
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof UserCredentialsChangedEvent changed
+                        && VALID_EMAIL.equals(changed.getEmail())));
   }
 
   @Test
@@ -119,6 +136,26 @@ class UserServiceTest {
     assertThrows(EmailExistsException.class, () -> userService.updateEmail(VALID_EMAIL, request));
   }
 
+  @Test
+  void updateTimeZone_shouldStoreZoneId() {
+    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+
+    userService.updateTimeZone(VALID_EMAIL, new UpdateTimeZoneRequest(" Australia/Sydney "));
+
+    assertEquals("Australia/Sydney", mockUser.getTimeZone());
+    verify(userRepo).save(mockUser);
+  }
+
+  @Test
+  void updateTimeZone_shouldThrowIfZoneUnknown() {
+    when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> userService.updateTimeZone(VALID_EMAIL, new UpdateTimeZoneRequest("Mars/Base")));
+    verify(userRepo, never()).save(mockUser);
+  }
+
   @Test
   void deleteAccount_shouldDeleteUser() {
     when(userRepo.getUserByEmail(VALID_EMAIL)).thenReturn(Optional.of(mockUser));
@@ -126,6 +163,12 @@ class UserServiceTest {
     userService.deleteAccount(VALID_EMAIL);
 
     verify(userRepo).delete(mockUser);
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof UserCredentialsChangedEvent changed
+                        && VALID_EMAIL.equals(changed.getEmail())));
   }
 
   @Test
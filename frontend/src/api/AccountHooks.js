@@ -35,6 +35,7 @@ export const useUpdateAccountBalance = () => {
     },
     onSuccess: (_data, variables) => {
       queryClient.invalidateQueries({ queryKey: ['accountBalance', variables.name, variables.accountType], exact: true });
+      queryClient.invalidateQueries({ queryKey: ['dashboardOverview'] });
       queryClient.invalidateQueries({ queryKey: ['dashboardAccountsSummary'] });
       queryClient.invalidateQueries({ queryKey: ['dashboardTotalBalance'] });
       queryClient.invalidateQueries({ queryKey: ['dashboardNetworth'] });
@@ -14,6 +14,8 @@ const fetchData = async (endpoint) => {
   return response.data;
 };
 
+export const fetchDashboardOverview = () => fetchData('/overview');
+
 export const fetchTotalBalance = () => fetchData('/total-balance');
 
 export const fetchAccountsSummary = () => fetchData('/accounts-summary');
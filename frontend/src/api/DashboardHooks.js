@@ -3,6 +3,7 @@
  */
 import { useQuery } from '@tanstack/react-query';
 import {
+  fetchDashboardOverview,
   fetchTotalBalance,
   fetchAccountsSummary,
   fetchNetworth,
@@ -14,6 +15,19 @@ import {
   fetchRecentTransactions,
 } from './DashboardApi';
 
+/**
+ * Fetch every dashboard panel in a single request.
+ * @returns {object} React Query result object.
+ */
+export const useDashboardOverview = () => {
+  return useQuery({
+    queryKey: ['dashboardOverview'],
+    queryFn: fetchDashboardOverview,
+    staleTime: 5 * 60 * 1000,
+    refetchOnWindowFocus: true,
+  });
+};
+
 /**
  * Fetch total balance for the dashboard.
  * @returns {object} React Query result object.
@@ -20,6 +20,7 @@ const invalidateAllTransactionRelatedQueries = (queryClient) => {
   queryClient.invalidateQueries({ queryKey: ['transactions'] });
 
   // Invalidate all dashboard queries that depend on transaction data
+  queryClient.invalidateQueries({ queryKey: ['dashboardOverview'] });
   queryClient.invalidateQueries({ queryKey: ['dashboardTotalBalance'] });
   queryClient.invalidateQueries({ queryKey: ['dashboardAccountsSummary'] });
   queryClient.invalidateQueries({ queryKey: ['dashboardNetworth'] });
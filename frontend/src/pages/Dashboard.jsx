@@ -17,17 +17,7 @@ import {
   TransactionsCard,
   UpdateAccount,
 } from '../components/Dashboard';
-import {
-  useTotalBalance,
-  useAccountsSummary,
-  useNetworth,
-  useSpendingInsights,
-  useSavingGoals,
-  useIncomeExpenseSummary,
-  useIncomeTrend,
-  useExpenseAnalysis,
-  useRecentTransactions,
-} from '../api';
+import { useDashboardOverview } from '../api';
 
 /**
  * Main dashboard page for displaying financial data and managing accounts.
@@ -37,60 +27,27 @@ export default function Dashboard() {
   const [update, setUpdate] = useState(null);
   const [notification, setNotification] = useState({ isOpen: false, type: '', message: '' });
 
-  // Data fetching hooks
-  const { data: totalBalanceData, isLoading: isLoadingTotalBalance, error: errorTotalBalance } = useTotalBalance();
-  const { data: accountsSummaryData, isLoading: isLoadingAccountsSummary, error: errorAccountsSummary } = useAccountsSummary();
-  const { data: networthData, isLoading: isLoadingNetworth, error: errorNetworth } = useNetworth();
-  const { data: spendingInsightsData, isLoading: isLoadingSpendingInsights, error: errorSpendingInsights } = useSpendingInsights();
-  const { data: savingGoalsData, isLoading: isLoadingSavingGoals, error: errorSavingGoals } = useSavingGoals();
-  const { data: incomeExpenseSummaryData, isLoading: isLoadingIncomeExpenseSummary, error: errorIncomeExpenseSummary } = useIncomeExpenseSummary();
-  const { data: incomeTrendData, isLoading: isLoadingIncomeTrend, error: errorIncomeTrend } = useIncomeTrend();
-  const { data: expenseAnalysisData, isLoading: isLoadingExpenseAnalysis, error: errorExpenseAnalysis } = useExpenseAnalysis();
-  const { data: recentTransactionsData, isLoading: isLoadingRecentTransactions, error: errorRecentTransactions } = useRecentTransactions();
-
-  // Loading state
-  const isLoadingAny =
-    isLoadingTotalBalance ||
-    isLoadingAccountsSummary ||
-    isLoadingNetworth ||
-    isLoadingSpendingInsights ||
-    isLoadingSavingGoals ||
-    isLoadingIncomeExpenseSummary ||
-    isLoadingIncomeTrend ||
-    isLoadingExpenseAnalysis ||
-    isLoadingRecentTransactions;
+  // Data fetching hook, one request for every panel
+  const { data: overview, isLoading: isLoadingAny, error } = useDashboardOverview();
+  const {
+    totalBalance: totalBalanceData,
+    accountsSummary: accountsSummaryData,
+    networth: networthData,
+    spendingInsights: spendingInsightsData,
+    savingGoals: savingGoalsData,
+    incomeExpenseSummary: incomeExpenseSummaryData,
+    incomeTrend: incomeTrendData,
+    expenseAnalysis: expenseAnalysisData,
+    recentTransactions: recentTransactionsData,
+  } = overview ?? {};
 
   // Handle errors
   useEffect(() => {
-    const errors = [
-      errorTotalBalance,
-      errorAccountsSummary,
-      errorNetworth,
-      errorSpendingInsights,
-      errorSavingGoals,
-      errorIncomeExpenseSummary,
-      errorIncomeTrend,
-      errorExpenseAnalysis,
-      errorRecentTransactions,
-    ].filter(Boolean);
-
-    if (errors.length > 0) {
-      const message = errors
-        .map((err) => err.response?.data?.message || err.message || 'Unknown error')
-        .join('; ');
+    if (error) {
+      const message = error.response?.data?.message || error.message || 'Unknown error';
       setNotification({ isOpen: true, type: 'error', message: `Data loading failed: ${message}` });
     }
-  }, [
-    errorTotalBalance,
-    errorAccountsSummary,
-    errorNetworth,
-    errorSpendingInsights,
-    errorSavingGoals,
-    errorIncomeExpenseSummary,
-    errorIncomeTrend,
-    errorExpenseAnalysis,
-    errorRecentTransactions,
-  ]);
+  }, [error]);
 
   // Handlers
   const handleCloseNotification = () => setNotification({ ...notification, isOpen: false });